@@ -0,0 +1,96 @@
+package com.swcampus.api.security;
+
+import com.swcampus.domain.auth.TokenProvider;
+import com.swcampus.domain.member.Role;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 경로 벤치마크 (ns/op)
+ * - legacyFourParses: 기존 방식 (검증 + memberId/email/role 추출마다 파싱, 서명 검증 4회)
+ * - filterColdCache: 필터 1회 실행, 캐시 미스 (서명 검증 1회)
+ * - filterWarmCache: 필터 1회 실행, 검증 캐시 히트 (서명 검증 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-filter-32bytes!!";
+    private static final long ACCESS_TOKEN_VALIDITY = 3600L;
+    private static final long REFRESH_TOKEN_VALIDITY = 604800L;
+
+    private TokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenProvider = new TokenProvider(SECRET, ACCESS_TOKEN_VALIDITY, REFRESH_TOKEN_VALIDITY);
+        filter = new JwtAuthenticationFilter(tokenProvider);
+        accessToken = tokenProvider.createAccessToken(1L, "user@example.com", Role.USER);
+        // 검증 캐시 적재
+        tokenProvider.parseAccessToken(accessToken);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * 캐시 미스 측정용: 호출마다 빈 캐시를 가진 TokenProvider로 필터를 새로 만든다
+     */
+    @State(Scope.Thread)
+    public static class ColdCacheState {
+
+        private JwtAuthenticationFilter filter;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            filter = new JwtAuthenticationFilter(
+                    new TokenProvider(SECRET, ACCESS_TOKEN_VALIDITY, REFRESH_TOKEN_VALIDITY));
+        }
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole blackhole) {
+        blackhole.consume(tokenProvider.validateToken(accessToken));
+        blackhole.consume(tokenProvider.getMemberId(accessToken));
+        blackhole.consume(tokenProvider.getEmail(accessToken));
+        blackhole.consume(tokenProvider.getRole(accessToken));
+    }
+
+    @Benchmark
+    public Object filterColdCache(ColdCacheState state) throws ServletException, IOException {
+        return doFilter(state.filter);
+    }
+
+    @Benchmark
+    public Object filterWarmCache() throws ServletException, IOException {
+        return doFilter(filter);
+    }
+
+    private Object doFilter(JwtAuthenticationFilter target) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/mypage/profile");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        target.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
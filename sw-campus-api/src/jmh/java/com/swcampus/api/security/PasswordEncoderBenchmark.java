@@ -0,0 +1,67 @@
+package com.swcampus.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해싱 벤치마크 (ms/op, BCrypt 비용별)
+ * - PasswordService/AuthService가 호출하는 encode/matches 경로를 측정한다
+ * - directMatches: 요청 스레드에서 바로 해싱 (기존 방식)
+ * - boundedMatches: 전용 풀을 거쳐 해싱 (16개 스레드 동시 요청, 풀 크기는 CPU 코어 수)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "Password1!";
+
+    @Param({"10", "11", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private BoundedPasswordEncoder boundedEncoder;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        // 벤치마크 스레드 수만큼 큐를 둬 거절 없이 대기 시간까지 측정
+        boundedEncoder = new BoundedPasswordEncoder(encoder, new SimpleMeterRegistry(), 0, 16);
+        encodedPassword = encoder.encode(RAW_PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        boundedEncoder.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean directMatches() {
+        return encoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean boundedMatches() {
+        return boundedEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
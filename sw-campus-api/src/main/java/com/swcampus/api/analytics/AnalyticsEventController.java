@@ -0,0 +1,43 @@
+package com.swcampus.api.analytics;
+
+import com.swcampus.api.analytics.request.AnalyticsEventBatchRequest;
+import com.swcampus.api.ratelimit.RateLimited;
+import com.swcampus.domain.analytics.AnalyticsEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/analytics/events")
+@RequiredArgsConstructor
+@Tag(name = "Analytics Event", description = "자체 이벤트 수집 API")
+public class AnalyticsEventController {
+
+    private final AnalyticsEventService analyticsEventService;
+
+    @Operation(summary = "이벤트 일괄 수집",
+            description = "강의 조회, 강의 신청/공유 클릭, 배너 클릭, 검색 이벤트를 모아서 전송합니다. " +
+                    "이벤트는 버퍼에 쌓인 뒤 주기적으로 집계되며, 버퍼가 가득 찬 경우 버려질 수 있습니다. " +
+                    "없는 강의/배너 ID의 이벤트는 집계하지 않으며, IP당 1분에 30회까지 요청할 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "수신 완료"),
+            @ApiResponse(responseCode = "400", description = "이벤트가 없거나 50개 초과"),
+            @ApiResponse(responseCode = "429", description = "요청 횟수 초과")
+    })
+    @PostMapping
+    @RateLimited(key = "analytics-events", limit = 30, windowSeconds = 60)
+    public ResponseEntity<Void> collect(@Valid @RequestBody AnalyticsEventBatchRequest request) {
+        analyticsEventService.record(request.toDomain(LocalDateTime.now()));
+        return ResponseEntity.accepted().build();
+    }
+}
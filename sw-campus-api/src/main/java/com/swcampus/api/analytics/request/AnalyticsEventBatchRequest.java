@@ -0,0 +1,47 @@
+package com.swcampus.api.analytics.request;
+
+import com.swcampus.domain.analytics.AnalyticsEvent;
+import com.swcampus.domain.analytics.AnalyticsEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "이벤트 일괄 수집 요청")
+public record AnalyticsEventBatchRequest(
+        @Schema(description = "이벤트 목록")
+        @NotEmpty(message = "events는 비어있을 수 없습니다")
+        @Size(max = 50, message = "최대 50개까지 전송 가능합니다")
+        List<@Valid @NotNull Event> events
+) {
+
+    @Schema(description = "수집 이벤트")
+    public record Event(
+            @Schema(description = "이벤트 유형", example = "LECTURE_VIEW")
+            @NotNull(message = "type은 필수입니다")
+            AnalyticsEventType type,
+
+            @Schema(description = "강의 또는 배너 ID (검색 이벤트는 생략)", example = "12")
+            Long targetId,
+
+            @Schema(description = "검색어 (검색 이벤트만)", example = "자바")
+            @Size(max = 100, message = "검색어는 최대 100자입니다")
+            String term
+    ) {
+    }
+
+    /**
+     * 수신 시각 기준으로 변환 (클라이언트 시각은 신뢰하지 않음), 유형에 필요한 값이 없는 이벤트는 제외
+     */
+    public List<AnalyticsEvent> toDomain(LocalDateTime receivedAt) {
+        return events.stream()
+                .map(event -> AnalyticsEvent.of(event.type(), event.targetId(), event.term(), receivedAt))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -17,6 +17,7 @@ import com.swcampus.domain.auth.AuthService;
 import com.swcampus.domain.auth.EmailService;
 import com.swcampus.domain.auth.LoginResult;
 import com.swcampus.domain.auth.OrganizationSignupResult;
+import com.swcampus.domain.auth.TokenInfo;
 import com.swcampus.domain.auth.TokenProvider;
 import com.swcampus.domain.auth.exception.InvalidTokenException;
 import com.swcampus.domain.member.Member;
@@ -257,15 +258,16 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    @Operation(summary = "로그아웃", description = "로그아웃 처리 후 쿠키를 삭제합니다.")
+    @Operation(summary = "로그아웃", description = "현재 기기의 로그인 세션을 폐기하고 쿠키를 삭제합니다.")
     @SecurityRequirement(name = "cookieAuth")
     @ApiResponse(responseCode = "200", description = "로그아웃 성공")
     public ResponseEntity<Void> logout(
-            @CookieValue(name = "accessToken", required = false) String accessToken) {
+            @CookieValue(name = "accessToken", required = false) String accessToken,
+            @CookieValue(name = "refreshToken", required = false) String refreshToken) {
 
         if (accessToken != null && tokenProvider.validateToken(accessToken)) {
             Long memberId = tokenProvider.getMemberId(accessToken);
-            authService.logout(memberId);
+            authService.logout(memberId, refreshToken);
         }
 
         ResponseCookie deleteAccessCookie = cookieUtil.deleteAccessTokenCookie();
@@ -278,7 +280,7 @@ public class AuthController {
     }
 
     @PostMapping("/refresh")
-    @Operation(summary = "토큰 갱신", description = "Refresh Token으로 새 Access Token을 발급받습니다.")
+    @Operation(summary = "토큰 갱신", description = "Refresh Token으로 새 Access Token을 발급받고 Refresh Token을 회전합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "갱신 성공"),
         @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰",
@@ -291,13 +293,21 @@ public class AuthController {
             throw new InvalidTokenException();
         }
 
-        String newAccessToken = authService.refresh(refreshToken);
+        TokenInfo tokens = authService.refresh(refreshToken);
 
         ResponseCookie accessTokenCookie = cookieUtil.createAccessTokenCookie(
-                newAccessToken, tokenProvider.getAccessTokenValidity());
+                tokens.getAccessToken(), tokenProvider.getAccessTokenValidity());
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.SET_COOKIE, accessTokenCookie.toString())
-                .build();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, accessTokenCookie.toString());
+
+        // 동시 갱신 요청 중 회전을 맡지 않은 요청은 기존 Refresh Token 쿠키를 그대로 둔다
+        if (tokens.getRefreshToken() != null) {
+            ResponseCookie refreshTokenCookie = cookieUtil.createRefreshTokenCookie(
+                    tokens.getRefreshToken(), tokenProvider.getRefreshTokenValidity());
+            response.header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString());
+        }
+
+        return response.build();
     }
 }
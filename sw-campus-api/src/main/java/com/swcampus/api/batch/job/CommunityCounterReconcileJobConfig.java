@@ -0,0 +1,104 @@
+package com.swcampus.api.batch.job;
+
+import com.swcampus.domain.comment.CommentRepository;
+import com.swcampus.domain.post.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 커뮤니티 비정규화 카운터 정합성 보정
+ * - 목록/상세 조회는 posts.comment_count, posts.like_count, comments.comment_like_count를 그대로 사용하므로
+ *   증감 누락·중복(동시 요청, 직접 DB 수정 등)으로 어긋난 값을 원본 테이블 기준으로 다시 맞춘다
+ * - ID 구간(ID_RANGE)마다 별도 트랜잭션으로 처리해 한 번에 잡는 행 잠금을 줄인다
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class CommunityCounterReconcileJobConfig {
+
+    private static final long ID_RANGE = 1000;
+    private static final String LAST_ID_KEY = "lastId";
+    private static final String MAX_ID_KEY = "maxId";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public Job communityCounterReconcileJob() {
+        return new JobBuilder("communityCounterReconcileJob", jobRepository)
+            .start(postCounterReconcileStep())
+            .next(commentLikeCountReconcileStep())
+            .build();
+    }
+
+    @Bean
+    public Step postCounterReconcileStep() {
+        return new StepBuilder("postCounterReconcileStep", jobRepository)
+            .tasklet(rangeReconcileTasklet("post", postRepository::findMaxId, postRepository::reconcileCounters),
+                transactionManager)
+            .build();
+    }
+
+    @Bean
+    public Step commentLikeCountReconcileStep() {
+        return new StepBuilder("commentLikeCountReconcileStep", jobRepository)
+            .tasklet(rangeReconcileTasklet("comment", commentRepository::findMaxId, commentRepository::reconcileLikeCounts),
+                transactionManager)
+            .build();
+    }
+
+    /**
+     * (lastId, lastId + ID_RANGE] 구간을 보정하고, 시작 시점의 최대 ID에 닿을 때까지 반복한다
+     * - 진행 위치는 스텝 ExecutionContext에 저장되어 실패 후 재시작 시 이어서 처리된다
+     */
+    private Tasklet rangeReconcileTasklet(String target, LongSupplier maxIdSupplier, RangeReconciler reconciler) {
+        Counter reconciledCounter = Counter.builder("community.counter.reconciled")
+            .tag("target", target)
+            .register(meterRegistry);
+
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            if (!context.containsKey(MAX_ID_KEY)) {
+                context.putLong(MAX_ID_KEY, maxIdSupplier.getAsLong());
+            }
+            long maxId = context.getLong(MAX_ID_KEY);
+            long fromId = context.getLong(LAST_ID_KEY, 0L);
+            long toId = Math.min(fromId + ID_RANGE, maxId);
+
+            if (fromId < maxId) {
+                int reconciled = reconciler.reconcile(fromId, toId);
+                contribution.incrementWriteCount(reconciled);
+                if (reconciled > 0) {
+                    reconciledCounter.increment(reconciled);
+                    log.warn("Reconciled drifted {} counters for {} rows in id range ({}, {}].", target, reconciled, fromId, toId);
+                }
+                context.putLong(LAST_ID_KEY, toId);
+            }
+
+            return toId < maxId ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+        };
+    }
+
+    @FunctionalInterface
+    private interface RangeReconciler {
+        int reconcile(long fromId, long toId);
+    }
+}
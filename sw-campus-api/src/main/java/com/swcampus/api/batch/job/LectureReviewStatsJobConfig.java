@@ -0,0 +1,53 @@
+package com.swcampus.api.batch.job;
+
+import com.swcampus.domain.review.LectureReviewStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 강의 후기 통계(lecture_review_stats) 정합성 보정
+ * - 증분 갱신이 누락·중복된 경우(동시 승인, 직접 DB 수정 등)를 승인 후기 원본 기준으로 다시 맞춘다
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class LectureReviewStatsJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final LectureReviewStatsRepository lectureReviewStatsRepository;
+
+    @Bean
+    public Job lectureReviewStatsReconcileJob() {
+        return new JobBuilder("lectureReviewStatsReconcileJob", jobRepository)
+            .start(lectureReviewStatsReconcileStep())
+            .build();
+    }
+
+    @Bean
+    public Step lectureReviewStatsReconcileStep() {
+        return new StepBuilder("lectureReviewStatsReconcileStep", jobRepository)
+            .tasklet((contribution, chunkContext) -> {
+                log.info(">>>>> Start lectureReviewStatsReconcileStep");
+
+                int reconciledCount = lectureReviewStatsRepository.reconcile();
+                contribution.incrementWriteCount(reconciledCount);
+                if (reconciledCount > 0) {
+                    log.warn("Reconciled drifted review stats for {} lectures.", reconciledCount);
+                }
+
+                log.info(">>>>> End lectureReviewStatsReconcileStep");
+                return RepeatStatus.FINISHED;
+            }, transactionManager)
+            .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.swcampus.api.batch.job;
+
+import com.swcampus.domain.post.Post;
+import com.swcampus.domain.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * 게시글 미리보기/본문 텍스트 백필
+ * - 컬럼 추가(V19) 이전에 작성된 게시글의 post_preview, post_body_text를 채운다
+ * - 한 번 실행에 CHUNK_SIZE건씩 처리하고, 남은 게시글이 있으면 같은 스텝을 반복한다 (반복마다 별도 트랜잭션)
+ * - 일회성 작업이라 스케줄에 등록하지 않고, 배포 후 한 번 수동으로 실행한다
+ *   (--spring.batch.job.enabled=true --spring.batch.job.name=postTextBackfillJob)
+ *   백필 전 게시글도 조회 시 본문에서 추출한 값으로 대체되므로, 실행 시점은 급하지 않다
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PostTextBackfillJobConfig {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final PostRepository postRepository;
+
+    @Bean
+    public Job postTextBackfillJob() {
+        return new JobBuilder("postTextBackfillJob", jobRepository)
+            .incrementer(new RunIdIncrementer())   // 다시 실행해도 새 인스턴스로 시작
+            .start(postTextBackfillStep())
+            .build();
+    }
+
+    @Bean
+    public Step postTextBackfillStep() {
+        return new StepBuilder("postTextBackfillStep", jobRepository)
+            .tasklet((contribution, chunkContext) -> {
+                List<Post> posts = postRepository.findWithoutExtractedText(CHUNK_SIZE);
+
+                // 저장값이 없으면 getPreview()/getBodyText()가 본문에서 추출한 값을 돌려줌
+                for (Post post : posts) {
+                    postRepository.updateExtractedText(post.getId(), post.getPreview(), post.getBodyText());
+                }
+                contribution.incrementWriteCount(posts.size());
+
+                if (posts.size() < CHUNK_SIZE) {
+                    log.info(">>>>> End postTextBackfillStep (write count: {})",
+                        chunkContext.getStepContext().getStepExecution().getWriteCount());
+                    return RepeatStatus.FINISHED;
+                }
+                return RepeatStatus.CONTINUABLE;
+            }, transactionManager)
+            .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.swcampus.api.batch.scheduler;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.swcampus.domain.analytics.AnalyticsService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 대시보드 Analytics 캐시 예열
+ * - 자주 조회되는 기간(warm-days)과 화면 기본 limit 조합을 주기적으로 조회해 캐시를 채워 둔다
+ *   (캐시에 있으면 바로 반환되고, 갱신 주기가 지난 값이면 백그라운드 갱신이 시작된다)
+ * - GA4 조회는 블로킹이므로 스케줄러 스레드가 아닌 analyticsExecutor에서 수행한다
+ */
+@Slf4j
+@Component
+public class AnalyticsCacheWarmScheduler {
+
+    // AnalyticsController의 limit 기본값
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int POPULAR_LECTURES_LIMIT = 5;
+
+    private final AnalyticsService analyticsService;
+    private final ThreadPoolTaskExecutor analyticsExecutor;
+    private final int[] warmDays;
+
+    public AnalyticsCacheWarmScheduler(
+            AnalyticsService analyticsService,
+            @Qualifier("analyticsExecutor") ThreadPoolTaskExecutor analyticsExecutor,
+            @Value("${analytics.cache.warm-days:1,7,30}") int[] warmDays) {
+        this.analyticsService = analyticsService;
+        this.analyticsExecutor = analyticsExecutor;
+        this.warmDays = warmDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${analytics.cache.warm-interval-ms:300000}",
+            initialDelayString = "${analytics.cache.warm-interval-ms:300000}")
+    public void requestWarm() {
+        try {
+            analyticsExecutor.execute(this::warm);
+        } catch (TaskRejectedException e) {
+            log.warn("Analytics executor is saturated. Skipping cache warm-up.");
+        }
+    }
+
+    void warm() {
+        for (int days : warmDays) {
+            warm(() -> analyticsService.getReport(days));
+            warm(() -> analyticsService.getEventStats(days));
+            warm(() -> analyticsService.getTopBannersByClicks(days, DEFAULT_LIMIT));
+            warm(() -> analyticsService.getTopLecturesByClicks(days, DEFAULT_LIMIT));
+            warm(() -> analyticsService.getPopularLectures(days, POPULAR_LECTURES_LIMIT));
+            warm(() -> analyticsService.getPopularSearchTerms(days, DEFAULT_LIMIT));
+            warm(() -> analyticsService.getTrafficSources(days, DEFAULT_LIMIT));
+        }
+    }
+
+    private void warm(Runnable query) {
+        try {
+            query.run();
+        } catch (Exception e) {
+            // 다음 주기 또는 실제 조회에서 다시 불러옴
+            log.warn("Analytics cache warm-up query failed.", e);
+        }
+    }
+}
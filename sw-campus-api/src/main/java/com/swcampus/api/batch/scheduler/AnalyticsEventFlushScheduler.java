@@ -0,0 +1,76 @@
+package com.swcampus.api.batch.scheduler;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.swcampus.domain.analytics.AnalyticsEventService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class AnalyticsEventFlushScheduler {
+
+    private final AnalyticsEventService analyticsEventService;
+    private final int minuteRetentionHours;
+    private final int dailyRetentionDays;
+    private final Timer flushTimer;
+
+    public AnalyticsEventFlushScheduler(
+            AnalyticsEventService analyticsEventService,
+            MeterRegistry meterRegistry,
+            @Value("${analytics.events.minute-retention-hours:48}") int minuteRetentionHours,
+            @Value("${analytics.events.daily-retention-days:400}") int dailyRetentionDays) {
+        this.analyticsEventService = analyticsEventService;
+        this.minuteRetentionHours = minuteRetentionHours;
+        this.dailyRetentionDays = dailyRetentionDays;
+
+        Gauge.builder("analytics.events.buffered", analyticsEventService, AnalyticsEventService::getBufferedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("analytics.events.dropped", analyticsEventService, AnalyticsEventService::getDroppedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("analytics.events.rejected", analyticsEventService, AnalyticsEventService::getRejectedCount)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("analytics.events.flush").register(meterRegistry);
+    }
+
+    // 버퍼에 쌓인 이벤트를 주기적으로 집계 테이블에 반영 (노드마다 자기 버퍼만 반영)
+    @Scheduled(fixedDelayString = "${analytics.events.flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            flushTimer.record(() -> {
+                analyticsEventService.flush();
+            });
+        } catch (Exception e) {
+            log.error("Analytics event flush failed. Pending counts will be retried.", e);
+        }
+    }
+
+    // 분/일 단위 집계 보관 기간 정리
+    @Scheduled(fixedDelayString = "${analytics.events.prune-interval-ms:3600000}",
+            initialDelayString = "${analytics.events.prune-interval-ms:3600000}")
+    public void pruneCounts() {
+        try {
+            int deletedMinutes = analyticsEventService.pruneMinuteCounts(LocalDateTime.now().minusHours(minuteRetentionHours));
+            int deletedDays = analyticsEventService.pruneDailyCounts(LocalDate.now().minusDays(dailyRetentionDays));
+            log.debug("Pruned {} analytics minute counts and {} daily counts", deletedMinutes, deletedDays);
+        } catch (Exception e) {
+            log.error("Analytics count pruning failed.", e);
+        }
+    }
+
+    // 종료 전 남은 이벤트 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
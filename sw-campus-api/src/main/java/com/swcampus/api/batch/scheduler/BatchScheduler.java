@@ -20,6 +20,8 @@ public class BatchScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job lectureStatusUpdateJob;
+    private final Job lectureReviewStatsReconcileJob;
+    private final Job communityCounterReconcileJob;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
@@ -40,4 +42,34 @@ public class BatchScheduler {
             log.error("Lecture Status Update Batch Job Failed at {} (KST)", LocalDateTime.now(KST), e);
         }
     }
+
+    // 매일 새벽 4시 30분 실행 (KST)
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void runLectureReviewStatsReconcileJob() {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                .addString("datetime", LocalDateTime.now(KST).toString())
+                .toJobParameters();
+
+            jobLauncher.run(lectureReviewStatsReconcileJob, jobParameters);
+
+        } catch (Exception e) {
+            log.error("Lecture Review Stats Reconcile Batch Job Failed at {} (KST)", LocalDateTime.now(KST), e);
+        }
+    }
+
+    // 매일 새벽 4시 50분 실행 (KST)
+    @Scheduled(cron = "0 50 4 * * *", zone = "Asia/Seoul")
+    public void runCommunityCounterReconcileJob() {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                .addString("datetime", LocalDateTime.now(KST).toString())
+                .toJobParameters();
+
+            jobLauncher.run(communityCounterReconcileJob, jobParameters);
+
+        } catch (Exception e) {
+            log.error("Community Counter Reconcile Batch Job Failed at {} (KST)", LocalDateTime.now(KST), e);
+        }
+    }
 }
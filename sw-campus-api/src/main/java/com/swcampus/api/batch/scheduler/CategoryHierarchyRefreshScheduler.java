@@ -0,0 +1,34 @@
+package com.swcampus.api.batch.scheduler;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.swcampus.domain.board.BoardCategoryService;
+import com.swcampus.domain.category.CategoryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryHierarchyRefreshScheduler {
+
+    private final CategoryService categoryService;
+    private final BoardCategoryService boardCategoryService;
+
+    // 기동 시 카테고리 계층 적재, 이후 주기적으로 재적재 (카테고리는 마이그레이션/운영 SQL로만 변경됨)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${category.hierarchy.refresh-interval-ms:600000}",
+            initialDelayString = "${category.hierarchy.refresh-interval-ms:600000}")
+    public void refreshHierarchies() {
+        try {
+            categoryService.refreshHierarchy();
+            boardCategoryService.refreshHierarchy();
+        } catch (Exception e) {
+            log.error("Category hierarchy refresh failed. Keeping previous hierarchy.", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.swcampus.api.batch.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.swcampus.domain.post.PostViewCountService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountFlushScheduler {
+
+    private final PostViewCountService postViewCountService;
+
+    // 버퍼에 쌓인 조회수 증가분을 주기적으로 DB에 반영 (모든 노드에서 실행되지만 한 노드만 반영)
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:10000}")
+    public void flushPendingViewCounts() {
+        try {
+            postViewCountService.flushPendingViewCounts();
+        } catch (Exception e) {
+            log.error("Post view count flush failed. Pending counts will be retried.", e);
+        }
+    }
+}
@@ -3,17 +3,19 @@ package com.swcampus.api.comment;
 import com.swcampus.api.comment.request.CreateCommentRequest;
 import com.swcampus.api.comment.request.UpdateCommentRequest;
 import com.swcampus.api.comment.response.CommentResponse;
-import com.swcampus.api.notification.SseEmitterService;
+import com.swcampus.api.notification.NotificationOutboxDispatcher;
 import com.swcampus.api.security.CurrentMember;
 import com.swcampus.api.security.OptionalCurrentMember;
 import com.swcampus.domain.auth.MemberPrincipal;
 import com.swcampus.domain.comment.Comment;
-import com.swcampus.domain.comment.CommentNotificationResult;
 import com.swcampus.domain.comment.CommentService;
+import com.swcampus.domain.comment.CommentTree;
 import com.swcampus.domain.commentlike.CommentLikeService;
-import com.swcampus.domain.member.Member;
-import com.swcampus.domain.member.MemberService;
+import com.swcampus.domain.common.CursorPage;
+import com.swcampus.domain.member.MemberProfileCache;
+import com.swcampus.domain.member.ProfileSnapshot;
 import com.swcampus.domain.member.Role;
+import com.swcampus.domain.member.exception.MemberNotFoundException;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,11 +37,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final CommentService commentService;
-    private final MemberService memberService;
+    private final MemberProfileCache memberProfileCache;
     private final CommentLikeService commentLikeService;
     private final CommentResponseMapper commentResponseMapper;
-    private final SseEmitterService sseEmitterService;
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
 
     @Operation(summary = "댓글 작성", description = "게시글에 댓글을 작성합니다.")
     @SecurityRequirement(name = "cookieAuth")
@@ -53,29 +57,21 @@ public class CommentController {
             @CurrentMember MemberPrincipal member,
             @Valid @RequestBody CreateCommentRequest request) {
 
-        // 댓글 생성 및 알림 생성 (비즈니스 로직은 Service에서 처리)
-        CommentNotificationResult result = commentService.createCommentWithNotification(
+        // 댓글 생성 및 알림 발송 예약 (알림 저장과 SSE 전송은 NotificationOutboxDispatcher가 처리)
+        Comment comment = commentService.createCommentWithNotification(
                 request.getPostId(),
                 member.memberId(),
                 request.getParentId(),
                 request.getBody(),
                 request.getImageUrl()
         );
+        notificationOutboxDispatcher.requestDispatch();
 
-        Member commenter = memberService.getMember(member.memberId());
-        String nickname = commenter.getNickname();
-
-        // SSE로 실시간 전송 (presentation 관심사)
-        if (result.notification() != null) {
-            sseEmitterService.sendNotification(
-                    result.recipientId(),
-                    result.notification(),
-                    nickname,
-                    result.postId()
-            );
-        }
+        String nickname = memberProfileCache.get(member.memberId())
+                .map(ProfileSnapshot::nickname)
+                .orElseThrow(MemberNotFoundException::new);
 
-        CommentResponse response = CommentResponse.from(result.comment(), nickname, true, false);
+        CommentResponse response = CommentResponse.from(comment, nickname, true, false);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -91,14 +87,54 @@ public class CommentController {
 
         Long currentUserId = member != null ? member.memberId() : null;
 
-        List<Comment> comments = commentService.getCommentsByPostId(postId);
+        CommentTree tree = commentService.getCommentTree(postId);
 
         // 계층 구조로 변환
-        List<CommentResponse> response = commentResponseMapper.toTreeResponse(comments, currentUserId);
+        List<CommentResponse> response = commentResponseMapper.toTreeResponse(tree, currentUserId);
 
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "게시글별 댓글 커서 조회", description = "루트 댓글만 작성 순으로 커서 기반 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회하며, 대댓글은 replyCount를 보고 대댓글 조회 API로 따로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    @GetMapping("/posts/{postId}/comments/cursor")
+    public ResponseEntity<CursorPage<CommentResponse>> getRootCommentsByCursor(
+            @OptionalCurrentMember MemberPrincipal member,
+            @Parameter(description = "게시글 ID", required = true) @PathVariable("postId") Long postId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(value = "cursor", required = false) Long cursor,
+            @Parameter(description = "페이지 크기", example = "20") @RequestParam(value = "size", required = false) Integer size) {
+
+        Long currentUserId = member != null ? member.memberId() : null;
+        int pageSize = (size == null || size < 1) ? DEFAULT_PAGE_SIZE : size;
+
+        CommentTree tree = commentService.getCommentTree(postId);
+        CursorPage<Comment> roots = commentService.getRootComments(postId, cursor, pageSize);
+        List<CommentResponse> content = commentResponseMapper.toResponses(roots.content(), tree, currentUserId);
+
+        return ResponseEntity.ok(new CursorPage<>(content, roots.nextCursor(), roots.hasNext(), null));
+    }
+
+    @Operation(summary = "대댓글 목록 조회", description = "댓글의 대댓글을 작성 순으로 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/posts/{postId}/comments/{commentId}/replies")
+    public ResponseEntity<List<CommentResponse>> getReplies(
+            @OptionalCurrentMember MemberPrincipal member,
+            @Parameter(description = "게시글 ID", required = true) @PathVariable("postId") Long postId,
+            @Parameter(description = "부모 댓글 ID", required = true) @PathVariable("commentId") Long commentId) {
+
+        Long currentUserId = member != null ? member.memberId() : null;
+
+        CommentTree tree = commentService.getCommentTree(postId);
+        List<Comment> replies = commentService.getReplies(postId, commentId);
+
+        return ResponseEntity.ok(commentResponseMapper.toResponses(replies, tree, currentUserId));
+    }
+
     @Operation(summary = "댓글 수정", description = "본인이 작성한 댓글을 수정합니다. (관리자는 모든 댓글 수정 가능)")
     @SecurityRequirement(name = "cookieAuth")
     @ApiResponses({
@@ -124,7 +160,9 @@ public class CommentController {
                 request.getImageUrl()
         );
 
-        String nickname = memberService.getMember(member.memberId()).getNickname();
+        String nickname = memberProfileCache.get(member.memberId())
+                .map(ProfileSnapshot::nickname)
+                .orElseThrow(MemberNotFoundException::new);
 
         boolean isLiked = commentLikeService.isLiked(member.memberId(), commentId);
 
@@ -53,11 +53,19 @@ public class CommentResponse {
     @Schema(description = "삭제 여부", example = "false")
     private boolean deleted;
 
-    @Schema(description = "대댓글 목록")
+    @Schema(description = "대댓글 수", example = "3")
+    private int replyCount;
+
+    @Schema(description = "대댓글 목록 (루트 댓글 커서 조회 시에는 비어 있으며, 대댓글 조회 API로 따로 조회)")
     @Builder.Default
     private List<CommentResponse> replies = new ArrayList<>();
 
     public static CommentResponse from(Comment comment, String authorNickname, boolean isAuthor, boolean isLiked) {
+        return from(comment, authorNickname, isAuthor, isLiked, 0);
+    }
+
+    public static CommentResponse from(Comment comment, String authorNickname, boolean isAuthor, boolean isLiked,
+                                       int replyCount) {
         return CommentResponse.builder()
                 .id(comment.getId())
                 .postId(comment.getPostId())
@@ -72,11 +80,13 @@ public class CommentResponse {
                 .author(isAuthor)
                 .liked(isLiked)
                 .deleted(comment.isDeleted())
+                .replyCount(replyCount)
                 .replies(new ArrayList<>())
                 .build();
     }
 
     public void addReply(CommentResponse reply) {
         this.replies.add(reply);
+        this.replyCount = this.replies.size();
     }
 }
@@ -2,6 +2,7 @@ package com.swcampus.api.config;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,10 +20,12 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.swcampus.api.security.BoundedPasswordEncoder;
 import com.swcampus.api.security.JwtAuthenticationFilter;
 import com.swcampus.domain.auth.TokenProvider;
 import com.swcampus.domain.auth.TokenValidationResult;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 
 @Configuration
@@ -112,6 +115,8 @@ public class SecurityConfig {
                         // Storage API (인증 선택적)
                         .requestMatchers(HttpMethod.GET, "/api/v1/storage/presigned-urls").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/storage/presigned-urls/batch").permitAll()
+                        // 자체 이벤트 수집 (비로그인 사용자 포함)
+                        .requestMatchers(HttpMethod.POST, "/api/v1/analytics/events").permitAll()
                         // 관리자 API (ADMIN 역할 필요)
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         // 나머지는 인증 필요
@@ -123,9 +128,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * BCrypt 해싱은 전용 스레드 풀에서 실행한다 (pool-size 0 = CPU 코어 수)
+     * strength를 올리면 기존 회원의 비밀번호는 다음 로그인 시 새 비용으로 다시 해싱된다
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.hashing.pool-size:0}") int poolSize,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry, poolSize, queueCapacity);
     }
 
     @Bean
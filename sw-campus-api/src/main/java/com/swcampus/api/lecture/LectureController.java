@@ -28,6 +28,7 @@ import com.swcampus.api.lecture.response.LectureSummaryResponse;
 import com.swcampus.api.review.response.ReviewResponse;
 import com.swcampus.api.security.CurrentMember;
 import com.swcampus.domain.auth.MemberPrincipal;
+import com.swcampus.domain.common.CursorPage;
 import com.swcampus.domain.member.Role;
 import com.swcampus.domain.lecture.Lecture;
 import com.swcampus.domain.lecture.LectureService;
@@ -210,6 +211,21 @@ public class LectureController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping("/search/cursor")
+	@Operation(summary = "강의 커서 검색", description = "강의 검색과 같은 조건으로 커서 기반 페이지를 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회하며, 전체 건수는 includeTotal=true인 경우에만 포함됩니다.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "검색 성공"),
+			@ApiResponse(responseCode = "400", description = "유효하지 않은 커서 (정렬 기준이 다르거나 형식 오류)")
+	})
+	public ResponseEntity<CursorPage<LectureSummaryResponse>> searchLecturesByCursor(
+			@Valid @ModelAttribute LectureSearchRequest request) {
+		var lectures = lectureService.searchLecturesWithStatsByCursor(
+				request.toCursorCondition(), request.getPageSize(), request.isIncludeTotal());
+		CursorPage<LectureSummaryResponse> response = lectures
+				.map(dto -> LectureSummaryResponse.from(dto.lecture(), dto.averageScore(), dto.reviewCount()));
+		return ResponseEntity.ok(response);
+	}
+
 	@GetMapping("/category/{categoryId}/top-rated")
 	@Operation(summary = "카테고리별 평점 높은 강의 조회", description = "특정 카테고리의 강의를 평점 높은 순으로 4개 조회합니다.")
 	@ApiResponses({
@@ -6,6 +6,7 @@ import org.springframework.data.domain.PageRequest;
 
 import com.swcampus.domain.lecture.LectureAuthStatus;
 import com.swcampus.domain.lecture.LectureStatus;
+import com.swcampus.domain.lecture.dto.LectureCursor;
 import com.swcampus.domain.lecture.dto.LectureSearchCondition;
 import com.swcampus.domain.lecture.dto.LectureSortType;
 
@@ -55,7 +56,7 @@ public class LectureSearchRequest {
     @Parameter(description = "모집 상태 (RECRUITING: 모집중, FINISHED: 마감)", example = "RECRUITING")
     private String status;
 
-    @Parameter(description = "정렬 기준 (LATEST: 최신순, FEE_ASC: 비용낮은순, START_SOON: 시작임박순)", example = "LATEST")
+    @Parameter(description = "정렬 기준 (LATEST: 최신순, FEE_ASC: 비용낮은순, START_SOON: 시작임박순, RELEVANCE: 검색어 관련도순)", example = "LATEST")
     private LectureSortType sort;
 
     @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
@@ -64,13 +65,43 @@ public class LectureSearchRequest {
     @Parameter(description = "페이지 크기", example = "20")
     private Integer size;
 
+    @Parameter(description = "커서 검색: 이전 응답의 nextCursor (첫 페이지는 생략)")
+    private String cursor;
+
+    @Parameter(description = "커서 검색: 전체 건수 포함 여부 (COUNT 쿼리 추가 실행)", example = "false")
+    private Boolean includeTotal;
+
     private static final int DEFAULT_PAGE_SIZE = 20;
     private static final int MIN_PAGE_NUMBER = 1;
 
     public LectureSearchCondition toCondition() {
         int pageNum = (this.page == null || this.page < MIN_PAGE_NUMBER) ? MIN_PAGE_NUMBER : this.page;
-        int pageSize = (this.size == null || this.size < 1) ? DEFAULT_PAGE_SIZE : this.size;
 
+        return baseCondition()
+                .pageable(PageRequest.of(pageNum - 1, getPageSize()))
+                .build();
+    }
+
+    public LectureSearchCondition toCursorCondition() {
+        LectureSortType sortType = getSortType();
+        return baseCondition()
+                .cursor((this.cursor != null && !this.cursor.isBlank()) ? LectureCursor.decode(this.cursor, sortType) : null)
+                .build();
+    }
+
+    public int getPageSize() {
+        return (this.size == null || this.size < 1) ? DEFAULT_PAGE_SIZE : this.size;
+    }
+
+    public boolean isIncludeTotal() {
+        return Boolean.TRUE.equals(this.includeTotal);
+    }
+
+    private LectureSortType getSortType() {
+        return this.sort != null ? this.sort : LectureSortType.LATEST;
+    }
+
+    private LectureSearchCondition.LectureSearchConditionBuilder baseCondition() {
         return LectureSearchCondition.builder()
                 .text((this.text != null && !this.text.trim().isEmpty()) ? this.text : null)
                 .regions((this.regions != null && !this.regions.isEmpty()) ? this.regions : null)
@@ -85,8 +116,6 @@ public class LectureSearchRequest {
                 .hasPreTask(this.hasPreTask)
                 .status(this.status != null ? LectureStatus.valueOf(this.status) : null)
                 .lectureAuthStatus(LectureAuthStatus.APPROVED)
-                .sort(this.sort != null ? this.sort : LectureSortType.LATEST)
-                .pageable(PageRequest.of(pageNum - 1, pageSize))
-                .build();
+                .sort(getSortType());
     }
 }
@@ -0,0 +1,112 @@
+package com.swcampus.api.mail;
+
+import com.swcampus.api.outbox.OutboxDispatchLoop;
+import com.swcampus.domain.auth.MailSender;
+import com.swcampus.domain.mail.MailOutboxService;
+import com.swcampus.domain.mail.OutboxMail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 메일 outbox 디스패처
+ * - 선점한 메일을 하나의 SMTP 연결로 일괄 발송하고, 성공한 메일만 대기열에서 삭제한다
+ * - 메일은 실시간성이 낮아 요청 스레드에서 깨우지 않고 주기 실행으로만 처리한다
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private final MailOutboxService mailOutboxService;
+    private final MailSender mailSender;
+    private final OutboxDispatchLoop<OutboxMail> dispatchLoop;
+
+    private final Timer sendTimer;
+    private final Timer lagTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public MailOutboxDispatcher(
+            MailOutboxService mailOutboxService,
+            MailSender mailSender,
+            MeterRegistry meterRegistry,
+            @Value("${mail.outbox.batch-size:50}") int batchSize) {
+        this.mailOutboxService = mailOutboxService;
+        this.mailSender = mailSender;
+        this.dispatchLoop = new OutboxDispatchLoop<>("mail-outbox", batchSize, mailOutboxService::claim, this::send);
+
+        Gauge.builder("mail.outbox.pending", mailOutboxService, MailOutboxService::countPending)
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("mail.outbox.send").register(meterRegistry);
+        this.lagTimer = Timer.builder("mail.outbox.lag").register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.outbox.failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:2000}")
+    public void poll() {
+        dispatchLoop.requestDispatch();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchLoop.shutdown();
+    }
+
+    void dispatchPending() {
+        dispatchLoop.dispatchPending();
+    }
+
+    /**
+     * @return 배치 전체가 실패하지 않았는지 여부 (전부 실패하면 SMTP 장애로 보고 이번 실행을 멈춤)
+     */
+    private boolean send(List<OutboxMail> mails) {
+        List<OutboxMail> failed;
+        long start = System.nanoTime();
+        try {
+            failed = mailSender.sendAll(mails);
+        } catch (Exception e) {
+            log.warn("Mail outbox batch of {} mails failed.", mails.size(), e);
+            failed = mails;
+        } finally {
+            sendTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        Set<OutboxMail> failedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedSet.addAll(failed);
+        List<OutboxMail> sent = mails.stream().filter(mail -> !failedSet.contains(mail)).toList();
+
+        if (!failed.isEmpty()) {
+            failedCounter.increment(failed.size());
+            log.warn("{} of {} mails failed. They will be retried after backoff.", failed.size(), mails.size());
+        }
+        if (sent.isEmpty()) {
+            return false;
+        }
+
+        try {
+            mailOutboxService.markSent(sent);
+        } catch (Exception e) {
+            // 발송된 메일이 백오프 이후 한 번 더 발송될 수 있음
+            log.error("Failed to remove {} sent mails from outbox.", sent.size(), e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        sent.forEach(mail -> lagTimer.record(Duration.between(mail.getCreatedAt(), now)));
+        sentCounter.increment(sent.size());
+        return true;
+    }
+}
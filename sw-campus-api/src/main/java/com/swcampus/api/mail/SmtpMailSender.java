@@ -2,37 +2,88 @@ package com.swcampus.api.mail;
 
 import com.swcampus.domain.auth.MailSender;
 import com.swcampus.domain.auth.exception.MailSendException;
+import com.swcampus.domain.mail.OutboxMail;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class SmtpMailSender implements MailSender {
 
     private final JavaMailSender javaMailSender;
+    private final String from;
 
-    @Value("${spring.mail.from}")
-    private String from;
+    public SmtpMailSender(JavaMailSender javaMailSender, @Value("${spring.mail.from}") String from) {
+        this.javaMailSender = javaMailSender;
+        this.from = from;
+    }
 
     @Override
     public void send(String to, String subject, String content) {
         try {
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(from);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(content, true);  // HTML
-
-            javaMailSender.send(message);
+            javaMailSender.send(createMessage(to, subject, content));
         } catch (MessagingException e) {
             throw new MailSendException("이메일 발송에 실패했습니다", e);
         }
     }
+
+    /**
+     * JavaMailSender.send(MimeMessage...)는 한 번 연결한 SMTP Transport로 모든 메시지를 보낸다.
+     * 메시지별 실패는 MailSendException.getFailedMessages()로 받고, 연결 자체가 실패하면 전부 실패로 본다.
+     */
+    @Override
+    public List<OutboxMail> sendAll(List<OutboxMail> mails) {
+        List<OutboxMail> failed = new ArrayList<>();
+        Map<MimeMessage, OutboxMail> messages = new IdentityHashMap<>();
+        for (OutboxMail mail : mails) {
+            try {
+                messages.put(createMessage(mail.getRecipient(), mail.getSubject(), mail.getContent()), mail);
+            } catch (MessagingException e) {
+                log.warn("Failed to build mail {} for {}", mail.getIdempotencyKey(), mail.getRecipient(), e);
+                failed.add(mail);
+            }
+        }
+        if (messages.isEmpty()) {
+            return failed;
+        }
+
+        try {
+            javaMailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (org.springframework.mail.MailSendException e) {
+            log.warn("SMTP batch of {} mails partially failed.", messages.size(), e);
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                failed.addAll(messages.values());
+            } else {
+                failedMessages.keySet().forEach(message -> failed.add(messages.get(message)));
+            }
+        } catch (MailException e) {
+            log.warn("SMTP batch of {} mails failed.", messages.size(), e);
+            failed.addAll(messages.values());
+        }
+        return failed;
+    }
+
+    private MimeMessage createMessage(String to, String subject, String content) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(from);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(content, true);  // HTML
+
+        return message;
+    }
 }
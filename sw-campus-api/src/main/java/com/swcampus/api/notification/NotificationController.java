@@ -25,33 +25,46 @@ import java.util.List;
 @SecurityRequirement(name = "cookieAuth")
 public class NotificationController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationService notificationService;
     private final SseEmitterService sseEmitterService;
 
-    @Operation(summary = "SSE 연결", description = "실시간 알림을 수신하기 위한 SSE 연결을 맺습니다.")
+    @Operation(summary = "SSE 연결", description = "실시간 알림을 수신하기 위한 SSE 연결을 맺습니다. 재연결 시 Last-Event-ID 이후 알림을 재전송합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "연결 성공"),
             @ApiResponse(responseCode = "401", description = "인증 필요")
     })
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@CurrentMember MemberPrincipal member) {
-        return sseEmitterService.createEmitter(member.memberId());
+    public SseEmitter subscribe(
+            @CurrentMember MemberPrincipal member,
+            @Parameter(description = "마지막으로 수신한 알림 ID (재연결 시 브라우저가 자동 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return sseEmitterService.createEmitter(member.memberId(), lastEventId);
     }
 
-    @Operation(summary = "알림 목록 조회", description = "사용자의 알림 목록을 조회합니다.")
+    @Operation(summary = "알림 목록 조회", description = "사용자의 알림 목록을 최신순으로 커서 기반 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
             @ApiResponse(responseCode = "401", description = "인증 필요")
     })
     @GetMapping
-    public ResponseEntity<NotificationListResponse> getNotifications(@CurrentMember MemberPrincipal member) {
-        NotificationResult result = notificationService.getNotificationsWithDetails(member.memberId());
+    public ResponseEntity<NotificationListResponse> getNotifications(
+            @CurrentMember MemberPrincipal member,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(value = "size", required = false) Integer size) {
+
+        int pageSize = (size == null || size < 1) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        NotificationResult result = notificationService.getNotificationFeed(member.memberId(), cursor, pageSize);
 
         List<NotificationResponse> responses = result.getNotifications().stream()
                 .map(NotificationResponse::from)
                 .toList();
 
-        return ResponseEntity.ok(NotificationListResponse.of(responses, result.getUnreadCount()));
+        return ResponseEntity.ok(NotificationListResponse.of(
+                responses, result.getUnreadCount(), result.getNextCursor(), result.isHasNext()));
     }
 
     @Operation(summary = "읽지 않은 알림 개수 조회", description = "읽지 않은 알림 개수를 조회합니다.")
@@ -17,10 +17,19 @@ public class NotificationListResponse {
     @Schema(description = "읽지 않은 알림 개수", example = "5")
     private long unreadCount;
 
-    public static NotificationListResponse of(List<NotificationResponse> notifications, long unreadCount) {
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static NotificationListResponse of(List<NotificationResponse> notifications, long unreadCount,
+                                              String nextCursor, boolean hasNext) {
         return NotificationListResponse.builder()
                 .notifications(notifications)
                 .unreadCount(unreadCount)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
     }
 }
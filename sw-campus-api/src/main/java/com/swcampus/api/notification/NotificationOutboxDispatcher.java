@@ -0,0 +1,98 @@
+package com.swcampus.api.notification;
+
+import com.swcampus.api.outbox.OutboxDispatchLoop;
+import com.swcampus.domain.notification.NotificationDetail;
+import com.swcampus.domain.notification.NotificationOutboxEvent;
+import com.swcampus.domain.notification.NotificationOutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 outbox 디스패처
+ * - 선점한 이벤트를 알림으로 일괄 저장하고, 수신자 채널로 SSE 발행한다
+ * - 댓글 작성 직후 requestDispatch로 바로 깨우고, 주기 실행은 재시도·누락분 처리용
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final SseEmitterService sseEmitterService;
+    private final OutboxDispatchLoop<NotificationOutboxEvent> dispatchLoop;
+
+    private final Timer lagTimer;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+
+    public NotificationOutboxDispatcher(
+            NotificationOutboxService notificationOutboxService,
+            SseEmitterService sseEmitterService,
+            MeterRegistry meterRegistry,
+            @Value("${notification.outbox.batch-size:100}") int batchSize) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.sseEmitterService = sseEmitterService;
+        this.dispatchLoop = new OutboxDispatchLoop<>(
+                "notification-outbox", batchSize, notificationOutboxService::claim, this::deliver);
+
+        this.lagTimer = Timer.builder("notification.outbox.lag").register(meterRegistry);
+        this.deliveredCounter = Counter.builder("notification.outbox.delivered").register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.outbox.failed").register(meterRegistry);
+    }
+
+    /**
+     * 대기열 처리 요청 (호출 스레드는 기다리지 않음)
+     */
+    public void requestDispatch() {
+        dispatchLoop.requestDispatch();
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        dispatchLoop.requestDispatch();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchLoop.shutdown();
+    }
+
+    void dispatchPending() {
+        dispatchLoop.dispatchPending();
+    }
+
+    private boolean deliver(List<NotificationOutboxEvent> events) {
+        List<NotificationDetail> details;
+        try {
+            details = notificationOutboxService.deliver(events);
+        } catch (Exception e) {
+            failedCounter.increment(events.size());
+            log.warn("Notification outbox delivery failed for {} events. They will be retried after backoff.",
+                    events.size(), e);
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < events.size(); i++) {
+            NotificationOutboxEvent event = events.get(i);
+            lagTimer.record(Duration.between(event.getCreatedAt(), now));
+            try {
+                sseEmitterService.sendNotification(event.getRecipientId(), details.get(i));
+            } catch (Exception e) {
+                // 알림은 저장되었으므로 수신자는 재연결 시 재전송 받음
+                log.warn("Failed to publish notification {} to user: {}", details.get(i).getId(), event.getRecipientId(), e);
+            }
+        }
+        deliveredCounter.increment(events.size());
+        return true;
+    }
+}
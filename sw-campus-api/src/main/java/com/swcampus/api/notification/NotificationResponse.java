@@ -1,6 +1,5 @@
 package com.swcampus.api.notification;
 
-import com.swcampus.domain.notification.Notification;
 import com.swcampus.domain.notification.NotificationType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -38,19 +37,6 @@ public class NotificationResponse {
     @Schema(description = "생성일시")
     private LocalDateTime createdAt;
 
-    public static NotificationResponse from(Notification notification, String senderNickname, Long postId) {
-        return NotificationResponse.builder()
-                .id(notification.getId())
-                .type(notification.getType())
-                .targetId(notification.getTargetId())
-                .postId(postId)
-                .senderId(notification.getSenderId())
-                .senderNickname(senderNickname)
-                .read(notification.isRead())
-                .createdAt(notification.getCreatedAt())
-                .build();
-    }
-
     public static NotificationResponse from(com.swcampus.domain.notification.NotificationDetail detail) {
         return NotificationResponse.builder()
                 .id(detail.getId())
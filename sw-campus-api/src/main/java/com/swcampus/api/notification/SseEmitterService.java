@@ -1,44 +1,122 @@
 package com.swcampus.api.notification;
 
-import com.swcampus.domain.notification.Notification;
+import com.swcampus.domain.notification.NotificationBus;
+import com.swcampus.domain.notification.NotificationDetail;
+import com.swcampus.domain.notification.NotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * SSE 실시간 알림 전송
+ * - 알림은 NotificationBus(userId 채널)로 발행되어, 수신자가 연결된 노드에서 전송된다
+ * - 사용자당 여러 연결(탭)을 유지하고, 전송은 노드별 bounded 큐를 가진 전용 스레드에서 처리한다
+ * - 주기적인 heartbeat로 끊어진 연결을 정리하고, 재연결 시 Last-Event-ID 이후 알림을 재전송한다
+ * - 채널 구독/해제(Redis I/O)는 emitters 갱신(compute) 밖에서, 사용자별 잠금을 잡고 처리한다
+ */
 @Slf4j
 @Service
 public class SseEmitterService {
 
     private static final Long TIMEOUT = 30 * 60 * 1000L; // 30분
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private static final int MAX_EMITTERS_PER_USER = 5;
 
-    public SseEmitter createEmitter(Long userId) {
-        // 기존 연결이 있으면 종료
-        if (emitters.containsKey(userId)) {
-            emitters.get(userId).complete();
-        }
+    private final NotificationBus notificationBus;
+    private final NotificationService notificationService;
+    private final ThreadPoolTaskExecutor dispatchExecutor;
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    // 사용자별 구독 상태와 잠금 (구독 중인 동안에만 유지)
+    private final Map<Long, Object> subscriptionLocks = new ConcurrentHashMap<>();
+    private final Set<Long> subscribedUsers = ConcurrentHashMap.newKeySet();
+
+    private final Timer sendTimer;
+    private final Counter droppedCounter;
+
+    public SseEmitterService(
+            NotificationBus notificationBus,
+            NotificationService notificationService,
+            MeterRegistry meterRegistry,
+            @Value("${notification.sse.dispatch.pool-size:2}") int poolSize,
+            @Value("${notification.sse.dispatch.queue-capacity:1000}") int queueCapacity) {
+        this.notificationBus = notificationBus;
+        this.notificationService = notificationService;
+
+        this.dispatchExecutor = new ThreadPoolTaskExecutor();
+        dispatchExecutor.setCorePoolSize(poolSize);
+        dispatchExecutor.setMaxPoolSize(poolSize);
+        dispatchExecutor.setQueueCapacity(queueCapacity);
+        dispatchExecutor.setThreadNamePrefix("sse-dispatch-");
+        dispatchExecutor.initialize();
+
+        Gauge.builder("notification.sse.connections", emitters,
+                        map -> map.values().stream().mapToInt(List::size).sum())
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.dispatch.queue", dispatchExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("notification.sse.send").register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.sse.dropped").register(meterRegistry);
+    }
 
+    public SseEmitter createEmitter(Long userId, Long lastEventId) {
         SseEmitter emitter = new SseEmitter(TIMEOUT);
-        emitters.put(userId, emitter);
+        List<SseEmitter> evicted = new ArrayList<>();
+        boolean[] firstConnection = {false};
+
+        emitters.compute(userId, (id, userEmitters) -> {
+            if (userEmitters == null) {
+                userEmitters = new CopyOnWriteArrayList<>();
+                firstConnection[0] = true;
+            }
+            // 연결 수 상한 초과 시 가장 오래된 연결 종료
+            while (userEmitters.size() >= MAX_EMITTERS_PER_USER) {
+                evicted.add(userEmitters.remove(0));
+            }
+            userEmitters.add(emitter);
+            return userEmitters;
+        });
+        evicted.forEach(SseEmitter::complete);
+        if (firstConnection[0]) {
+            try {
+                syncSubscription(userId);
+            } catch (RuntimeException e) {
+                removeEmitter(userId, emitter);
+                throw e;
+            }
+        }
 
         emitter.onCompletion(() -> {
             log.debug("SSE connection completed for user: {}", userId);
-            emitters.remove(userId);
+            removeEmitter(userId, emitter);
         });
 
         emitter.onTimeout(() -> {
             log.debug("SSE connection timeout for user: {}", userId);
             emitter.complete();
-            emitters.remove(userId);
+            removeEmitter(userId, emitter);
         });
 
         emitter.onError(e -> {
             log.debug("SSE connection error for user: {}", userId);
-            emitters.remove(userId);
+            removeEmitter(userId, emitter);
         });
 
         // 연결 성공 이벤트 전송
@@ -48,37 +126,125 @@ public class SseEmitterService {
                     .data("SSE connected"));
         } catch (IOException e) {
             log.error("Failed to send connect event to user: {}", userId, e);
-            emitters.remove(userId);
+            removeEmitter(userId, emitter);
+            return emitter;
+        }
+
+        // 재연결: 놓친 알림 재전송 (구독 이후 조회하므로 중복 가능, 클라이언트는 id로 중복 제거)
+        if (lastEventId != null) {
+            for (NotificationDetail notification : notificationService.getNotificationsAfter(userId, lastEventId)) {
+                if (!send(userId, emitter, notification)) {
+                    break;
+                }
+            }
         }
 
         return emitter;
     }
 
-    public void sendNotification(Long userId, Notification notification, String senderNickname, Long postId) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter == null) {
-            return;
+    /**
+     * 수신자가 연결된 노드로 알림 발행 (발행 스레드는 전송을 기다리지 않음)
+     */
+    public void sendNotification(Long userId, NotificationDetail notification) {
+        notificationBus.publish(userId, notification);
+    }
+
+    /**
+     * 끊어진 연결 감지 (프록시 idle timeout보다 짧은 주기로 comment 이벤트 전송)
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:25000}")
+    public void sendHeartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("SSE heartbeat failed for user: {}", userId);
+                    removeEmitter(userId, emitter);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+    }
+
+    private void dispatch(Long userId, NotificationDetail notification) {
+        try {
+            dispatchExecutor.execute(() -> {
+                for (SseEmitter emitter : emitters.getOrDefault(userId, List.of())) {
+                    send(userId, emitter, notification);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 큐가 가득 찬 경우 버림 (수신자는 재연결 시 DB에서 재전송 받음)
+            droppedCounter.increment();
+            log.warn("SSE dispatch queue full. Dropped notification {} for user: {}", notification.getId(), userId);
         }
+    }
 
+    private boolean send(Long userId, SseEmitter emitter, NotificationDetail notification) {
+        Timer.Sample sample = Timer.start();
         try {
             emitter.send(SseEmitter.event()
+                    .id(String.valueOf(notification.getId()))
                     .name("notification")
-                    .data(NotificationResponse.from(notification, senderNickname, postId)));
-        } catch (IOException e) {
+                    .data(NotificationResponse.from(notification)));
+            return true;
+        } catch (IOException | IllegalStateException e) {
             log.error("Failed to send notification to user: {}", userId, e);
-            emitters.remove(userId);
+            removeEmitter(userId, emitter);
+            return false;
+        } finally {
+            sample.stop(sendTimer);
         }
     }
 
-    public void removeEmitter(Long userId) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            emitter.complete();
-            emitters.remove(userId);
+    private void removeEmitter(Long userId, SseEmitter emitter) {
+        boolean[] lastConnection = {false};
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            if (userEmitters.isEmpty()) {
+                lastConnection[0] = true;
+                return null;
+            }
+            return userEmitters;
+        });
+        if (lastConnection[0]) {
+            syncSubscription(userId);
         }
     }
 
-    public boolean hasConnection(Long userId) {
-        return emitters.containsKey(userId);
+    /**
+     * 현재 연결 여부에 맞춰 채널 구독/해제
+     * - 연결/해제가 엇갈려도 마지막에 잠금을 잡은 스레드가 최신 연결 상태로 맞춘다
+     * - 잠금은 구독을 해제할 때 map에서 제거하므로, 잡은 잠금이 이미 제거된 것이면 다시 얻는다
+     */
+    private void syncSubscription(Long userId) {
+        while (true) {
+            Object lock = subscriptionLocks.computeIfAbsent(userId, id -> new Object());
+            synchronized (lock) {
+                if (subscriptionLocks.get(userId) != lock) {
+                    continue;
+                }
+                boolean connected = emitters.containsKey(userId);
+                if (connected && subscribedUsers.add(userId)) {
+                    try {
+                        notificationBus.subscribe(userId, notification -> dispatch(userId, notification));
+                    } catch (RuntimeException e) {
+                        subscribedUsers.remove(userId);
+                        throw e;
+                    }
+                } else if (!connected) {
+                    if (subscribedUsers.remove(userId)) {
+                        notificationBus.unsubscribe(userId);
+                    }
+                    subscriptionLocks.remove(userId, lock);
+                }
+                return;
+            }
+        }
     }
 }
@@ -16,7 +16,6 @@ import com.swcampus.api.admin.response.ApprovalStatsResponse;
 import com.swcampus.api.organization.response.AdminOrganizationApprovalResponse;
 import com.swcampus.api.organization.response.AdminOrganizationDetailResponse;
 import com.swcampus.api.organization.response.AdminOrganizationSummaryResponse;
-import com.swcampus.domain.auth.EmailService;
 import com.swcampus.domain.organization.AdminOrganizationService;
 import com.swcampus.domain.storage.PresignedUrlService;
 import com.swcampus.domain.common.ApprovalStatus;
@@ -45,7 +44,6 @@ import lombok.RequiredArgsConstructor;
 public class AdminOrganizationController {
 
     private final AdminOrganizationService adminOrganizationService;
-    private final EmailService emailService;
     private final PresignedUrlService presignedUrlService;
 
     @Operation(summary = "기관 상태별 통계 조회", description = "전체/대기/승인/반려 기관 수를 조회합니다.")
@@ -118,14 +116,9 @@ public class AdminOrganizationController {
     @PatchMapping("/{id}/approve")
     public ResponseEntity<AdminOrganizationApprovalResponse> approveOrganization(
             @Parameter(description = "기관 ID") @PathVariable("id") Long id) {
+        // 승인 안내 메일은 서비스에서 승인과 함께 발송 대기열에 기록
         ApproveOrganizationResult result = adminOrganizationService.approveOrganization(id);
 
-        // 승인된 사용자에게 이메일 발송
-        emailService.sendApprovalEmail(
-                result.getMemberEmail(),
-                result.getOrganization().getName()
-        );
-
         return ResponseEntity.ok(AdminOrganizationApprovalResponse.of(result.getOrganization(), "기관이 승인되었습니다."));
     }
 
@@ -140,15 +133,9 @@ public class AdminOrganizationController {
     @PatchMapping("/{id}/reject")
     public ResponseEntity<AdminOrganizationApprovalResponse> rejectOrganization(
             @Parameter(description = "기관 ID") @PathVariable("id") Long id) {
+        // 반려 안내 메일은 서비스에서 반려와 함께 발송 대기열에 기록
         RejectOrganizationResult result = adminOrganizationService.rejectOrganization(id);
 
-        // 반려된 사용자에게 이메일 발송
-        emailService.sendRejectionEmail(
-                result.getMemberEmail(),
-                result.getAdminEmail(),
-                result.getAdminPhone()
-        );
-
         return ResponseEntity.ok(AdminOrganizationApprovalResponse.ofReject(id, result, "기관이 반려되었습니다. 관리자에게 문의해 주세요."));
     }
 }
@@ -0,0 +1,79 @@
+package com.swcampus.api.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * transactional outbox 공통 디스패치 루프
+ * - 처리는 전용 스레드 하나에서만 수행하며, 실행 요청은 최대 1건만 대기시켜 중복 요청을 합친다
+ * - 한 번 실행되면 선점 건수가 배치 크기보다 작아질 때까지 선점(claim)과 처리(handler)를 반복한다
+ * - 처리하지 못한 항목은 선점 시 미뤄 둔 시각 이후 다시 선점되므로, 여기서는 재시도하지 않는다
+ *
+ * @param <T> 대기열 항목 타입
+ */
+@Slf4j
+public class OutboxDispatchLoop<T> {
+
+    private final String name;
+    private final int batchSize;
+    private final IntFunction<List<T>> claim;
+    private final Predicate<List<T>> handler;
+    private final ThreadPoolTaskExecutor executor;
+
+    /**
+     * @param name 스레드 이름과 로그에 쓰는 대기열 이름
+     * @param claim 최대 batchSize건 선점
+     * @param handler 선점한 배치 처리, false를 반환하면 이번 실행을 멈춤 (장애로 배치 전체가 실패한 경우 등)
+     */
+    public OutboxDispatchLoop(String name, int batchSize, IntFunction<List<T>> claim, Predicate<List<T>> handler) {
+        this.name = name;
+        this.batchSize = batchSize;
+        this.claim = claim;
+        this.handler = handler;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix(name + "-");
+        executor.initialize();
+    }
+
+    /**
+     * 대기열 처리 요청 (호출 스레드는 기다리지 않음)
+     */
+    public void requestDispatch() {
+        try {
+            executor.execute(this::dispatchPending);
+        } catch (TaskRejectedException e) {
+            // 이미 대기 중인 실행이 있으면 그 실행이 함께 처리
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 호출 스레드에서 바로 처리 (테스트와 전용 스레드에서만 호출)
+     */
+    public void dispatchPending() {
+        List<T> batch;
+        do {
+            try {
+                batch = claim.apply(batchSize);
+            } catch (Exception e) {
+                log.error("Outbox {} claim failed.", name, e);
+                return;
+            }
+            if (batch.isEmpty() || !handler.test(batch)) {
+                return;
+            }
+        } while (batch.size() == batchSize);
+    }
+}
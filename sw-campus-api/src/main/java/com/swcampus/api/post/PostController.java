@@ -9,10 +9,11 @@ import com.swcampus.api.security.OptionalCurrentMember;
 import com.swcampus.domain.auth.MemberPrincipal;
 import com.swcampus.domain.board.BoardCategoryService;
 import com.swcampus.domain.bookmark.BookmarkService;
-import com.swcampus.domain.comment.CommentService;
 import com.swcampus.domain.postlike.PostLikeService;
-import com.swcampus.domain.member.MemberService;
+import com.swcampus.domain.member.MemberProfileCache;
+import com.swcampus.domain.member.ProfileSnapshot;
 import com.swcampus.domain.member.Role;
+import com.swcampus.domain.member.exception.MemberNotFoundException;
 import com.swcampus.domain.post.Post;
 import com.swcampus.domain.post.PostDetail;
 import com.swcampus.domain.post.PostService;
@@ -34,9 +35,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.jsoup.Jsoup;
 
 @Tag(name = "Post", description = "게시글 API")
 @RestController
@@ -45,9 +44,8 @@ import org.jsoup.Jsoup;
 public class PostController {
 
     private final PostService postService;
-    private final MemberService memberService;
+    private final MemberProfileCache memberProfileCache;
     private final BoardCategoryService boardCategoryService;
-    private final CommentService commentService;
     private final BookmarkService bookmarkService;
     private final PostLikeService postLikeService;
 
@@ -73,7 +71,9 @@ public class PostController {
                 request.getTags()
         );
 
-        String nickname = memberService.getMember(member.memberId()).getNickname();
+        String nickname = memberProfileCache.get(member.memberId())
+                .map(ProfileSnapshot::nickname)
+                .orElseThrow(MemberNotFoundException::new);
 
         String categoryName = boardCategoryService.getCategoryName(request.getBoardCategoryId());
 
@@ -109,27 +109,18 @@ public class PostController {
             return ResponseEntity.ok(Page.empty(pageable));
         }
 
-        // N+1 문제 해결: 댓글 수 일괄 조회
-        List<Long> postIds = posts.getContent().stream()
-                .map(summary -> summary.getPost().getId())
-                .toList();
-
-        Map<Long, Long> commentCounts = commentService.getCommentCounts(postIds);
-
+        // 댓글/추천 수는 게시글의 비정규화 카운터를 그대로 사용 (별도 COUNT 조회 없음)
         Page<PostResponse> response = posts.map(summary ->
             PostResponse.from(
                     summary.getPost(),
                     summary.getAuthorNickname(),
-                    summary.getCategoryName(),
-                    commentCounts.getOrDefault(summary.getPost().getId(), 0L)
+                    summary.getCategoryName()
             )
         );
 
         return ResponseEntity.ok(response);
     }
 
-    private static final int PREVIEW_LENGTH = 200;
-
     @Operation(summary = "게시글 상세 조회", description = "게시글 상세 정보를 조회합니다. 동일 세션에서 1시간 내 재조회 시 조회수가 증가하지 않습니다. 비로그인 사용자에게는 본문 미리보기(200자)만 제공됩니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -150,8 +141,8 @@ public class PostController {
         boolean isBookmarked = bookmarkService.isBookmarked(currentUserId, postId);
         boolean isLiked = postLikeService.isLiked(currentUserId, postId);
 
-        // 비로그인 사용자에게는 미리보기만 제공
-        String bodyContent = isLoggedIn ? post.getBody() : extractPreview(post.getBody());
+        // 비로그인 사용자에게는 미리보기만 제공 (작성/수정 시 저장해 둔 값)
+        String bodyContent = isLoggedIn ? post.getBody() : post.getPreview();
 
         PostDetailResponse response = PostDetailResponse.builder()
                 .id(post.getId())
@@ -178,24 +169,6 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
-    /**
-     * HTML 본문에서 텍스트를 추출하여 미리보기를 생성합니다.
-     * 비로그인 사용자에게 제공되는 본문 미리보기입니다.
-     * h3 태그(질문/제목)는 제외하고 본문 내용만 추출합니다.
-     */
-    private String extractPreview(String htmlBody) {
-        if (htmlBody == null || htmlBody.isBlank()) {
-            return "";
-        }
-        org.jsoup.nodes.Document doc = Jsoup.parse(htmlBody);
-        doc.select("h3").remove();  // 질문/제목 태그 제거
-        String textOnly = doc.text();
-        if (textOnly.length() <= PREVIEW_LENGTH) {
-            return textOnly;
-        }
-        return textOnly.substring(0, PREVIEW_LENGTH) + "...";
-    }
-
     @Operation(summary = "게시글 수정", description = "본인이 작성한 게시글을 수정합니다. (관리자는 모든 게시글 수정 가능)")
     @SecurityRequirement(name = "cookieAuth")
     @ApiResponses({
@@ -223,12 +196,12 @@ public class PostController {
                 request.getTags()
         );
 
-        String nickname = memberService.getMember(member.memberId()).getNickname();
+        String nickname = memberProfileCache.get(member.memberId())
+                .map(ProfileSnapshot::nickname)
+                .orElseThrow(MemberNotFoundException::new);
 
         String categoryName = boardCategoryService.getCategoryName(post.getBoardCategoryId());
 
-        long commentCount = commentService.countByPostId(postId);
-
         boolean isBookmarked = bookmarkService.isBookmarked(member.memberId(), postId);
         boolean isLiked = postLikeService.isLiked(member.memberId(), postId);
 
@@ -236,7 +209,7 @@ public class PostController {
                 post,
                 nickname,
                 categoryName,
-                commentCount,
+                post.getCommentCount(),
                 isBookmarked,
                 isLiked,
                 true       // 본인 작성
@@ -55,7 +55,7 @@ public class PostResponse {
     @Schema(description = "고정 게시글 여부", example = "false")
     private boolean pinned;
 
-    public static PostResponse from(Post post, String authorNickname, String categoryName, Long commentCount) {
+    public static PostResponse from(Post post, String authorNickname, String categoryName) {
         List<String> images = post.getImages();
         boolean hasImage = images != null && !images.isEmpty();
         String thumbnail = hasImage ? images.get(0) : null;
@@ -70,7 +70,7 @@ public class PostResponse {
                 .tags(post.getTags())
                 .viewCount(post.getViewCount())
                 .likeCount(post.getLikeCount())
-                .commentCount(commentCount != null ? commentCount : 0L)
+                .commentCount(post.getCommentCount())
                 .createdAt(post.getCreatedAt())
                 .hasImage(hasImage)
                 .thumbnailUrl(thumbnail)
@@ -1,25 +1,51 @@
 package com.swcampus.api.ratelimit;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.swcampus.domain.ratelimit.RateLimitRepository;
+import com.swcampus.domain.ratelimit.RateLimitResult;
 import com.swcampus.domain.ratelimit.exception.RateLimitExceededException;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
 @ConditionalOnBean(RateLimitRepository.class)
-@RequiredArgsConstructor
 public class RateLimitInterceptor implements HandlerInterceptor {
 
+    private static final String METRIC_NAME = "ratelimit.requests";
+
     private final RateLimitRepository rateLimitRepository;
+    private final MeterRegistry meterRegistry;
+
+    // Redis에서 거절된 키 → 재시도 가능 시각(epoch ms). 만료 전까지는 Redis 조회 없이 거절
+    private final Cache<String, Long> blockedUntil;
+
+    public RateLimitInterceptor(
+            RateLimitRepository rateLimitRepository,
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.local.maximum-size:10000}") long localMaximumSize) {
+        this.rateLimitRepository = rateLimitRepository;
+        this.meterRegistry = meterRegistry;
+        this.blockedUntil = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfter(Expiry.creating((String key, Long until) ->
+                        Duration.ofMillis(Math.max(0L, until - System.currentTimeMillis()))))
+                .build();
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -35,16 +61,47 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         String clientIp = getClientIp(request);
         String rateLimitKey = rateLimited.key() + ":" + clientIp;
 
-        long currentCount = rateLimitRepository.incrementAndGet(rateLimitKey, rateLimited.windowSeconds());
+        if (rateLimited.localPreFilter()) {
+            Long until = blockedUntil.getIfPresent(rateLimitKey);
+            if (until != null) {
+                count(rateLimited, "rejected_local");
+                throw reject(response, until - System.currentTimeMillis());
+            }
+        }
 
-        if (currentCount > rateLimited.limit()) {
-            log.warn("Rate limit exceeded for key: {}, count: {}, limit: {}", rateLimitKey, currentCount, rateLimited.limit());
-            throw new RateLimitExceededException();
+        RateLimitResult result = rateLimitRepository.tryAcquire(
+                rateLimitKey, rateLimited.algorithm(), rateLimited.limit(), rateLimited.windowSeconds());
+
+        if (!result.allowed()) {
+            log.warn("Rate limit exceeded for key: {}, algorithm: {}, limit: {}",
+                    rateLimitKey, rateLimited.algorithm(), rateLimited.limit());
+            if (rateLimited.localPreFilter()) {
+                blockedUntil.put(rateLimitKey, System.currentTimeMillis() + result.retryAfterMillis());
+            }
+            count(rateLimited, "rejected");
+            throw reject(response, result.retryAfterMillis());
         }
 
+        count(rateLimited, "allowed");
         return true;
     }
 
+    private RateLimitExceededException reject(HttpServletResponse response, long retryAfterMillis) {
+        long retryAfterSeconds = Math.max(1L, (retryAfterMillis + 999) / 1000);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        return new RateLimitExceededException();
+    }
+
+    // 키 단위 메트릭 (IP는 태그에 넣지 않아 카디널리티를 API 수로 제한)
+    private void count(RateLimited rateLimited, String result) {
+        Counter.builder(METRIC_NAME)
+                .tag("key", rateLimited.key())
+                .tag("algorithm", rateLimited.algorithm().name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
     private String getClientIp(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
@@ -5,6 +5,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.swcampus.domain.ratelimit.RateLimitAlgorithm;
+
 /**
  * Rate Limiting을 적용할 API에 사용하는 어노테이션
  */
@@ -26,4 +28,14 @@ public @interface RateLimited {
      * 윈도우 시간 (초 단위)
      */
     int windowSeconds() default 60;
+
+    /**
+     * 적용할 알고리즘
+     */
+    RateLimitAlgorithm algorithm() default RateLimitAlgorithm.SLIDING_WINDOW;
+
+    /**
+     * 로컬 사전 차단 사용 여부 (Redis에서 거절된 키는 재시도 시각까지 Redis 조회 없이 거절)
+     */
+    boolean localPreFilter() default true;
 }
@@ -0,0 +1,101 @@
+package com.swcampus.api.security;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.swcampus.domain.ratelimit.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해싱 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * - BCrypt는 CPU를 오래 쓰므로 요청 스레드에서 바로 실행하면 로그인 폭주 시 다른 API까지 처리하지 못한다
+ * - 고정 크기 풀(기본: CPU 코어 수)과 제한된 큐를 두고, 큐가 가득 차면 기다리지 않고 429로 거절한다
+ * - upgradeEncoding은 해시 접두부만 읽으므로 풀을 거치지 않는다
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String METRIC_NAME = "auth.password.hash";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor hashExecutor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry,
+                                  int poolSize, int queueCapacity) {
+        this.delegate = delegate;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.hashExecutor = new ThreadPoolTaskExecutor();
+        hashExecutor.setCorePoolSize(threads);
+        hashExecutor.setMaxPoolSize(threads);
+        hashExecutor.setQueueCapacity(queueCapacity);
+        hashExecutor.setThreadNamePrefix("password-hash-");
+        hashExecutor.initialize();
+
+        Gauge.builder(METRIC_NAME + ".queue", hashExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder(METRIC_NAME).tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_NAME).tag("operation", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_NAME + ".rejected").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = hashExecutor.submit(task);
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue full. Rejected request");
+            throw new RateLimitExceededException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package com.swcampus.api.security;
 
-import com.swcampus.domain.auth.MemberPrincipal;
+import com.swcampus.domain.auth.ParsedToken;
 import com.swcampus.domain.auth.TokenProvider;
-import com.swcampus.domain.auth.TokenValidationResult;
-import com.swcampus.domain.member.Role;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -44,26 +42,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // JWT가 있으면 항상 검증 (공개 API 여부와 무관)
         // 공개 API 접근 허용은 SecurityConfig의 permitAll()이 처리
         if (token != null) {
-            TokenValidationResult validationResult = tokenProvider.validateTokenWithResult(token);
+            // 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+            ParsedToken parsedToken = tokenProvider.parseAccessToken(token);
 
-            if (validationResult == TokenValidationResult.VALID) {
-                Long memberId = tokenProvider.getMemberId(token);
-                String email = tokenProvider.getEmail(token);
-                Role role = tokenProvider.getRole(token);
-
-                MemberPrincipal principal = new MemberPrincipal(memberId, email, role);
+            if (parsedToken.isValid()) {
                 List<SimpleGrantedAuthority> authorities = List.of(
-                        new SimpleGrantedAuthority("ROLE_" + role.name())
+                        new SimpleGrantedAuthority("ROLE_" + parsedToken.role().name())
                 );
 
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(principal, null, authorities);
+                        new UsernamePasswordAuthenticationToken(parsedToken.toPrincipal(), null, authorities);
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
                 // EXPIRED 또는 INVALID: request attribute에 저장하고 다음 필터로 진행
                 // Spring Security의 AuthenticationEntryPoint에서 세분화된 에러 처리
-                request.setAttribute(TOKEN_VALIDATION_RESULT_ATTRIBUTE, validationResult);
+                request.setAttribute(TOKEN_VALIDATION_RESULT_ATTRIBUTE, parsedToken.result());
             }
         }
 
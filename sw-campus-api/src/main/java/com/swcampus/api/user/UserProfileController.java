@@ -2,7 +2,6 @@ package com.swcampus.api.user;
 
 import com.swcampus.api.post.response.PostResponse;
 import com.swcampus.api.user.response.UserProfileResponse;
-import com.swcampus.domain.comment.CommentService;
 import com.swcampus.domain.member.Member;
 import com.swcampus.domain.member.MemberService;
 import com.swcampus.domain.post.PostRepository;
@@ -21,9 +20,6 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.Map;
-
 @Tag(name = "User Profile", description = "유저 공개 프로필 API")
 @RestController
 @RequestMapping("/api/v1/users")
@@ -33,7 +29,6 @@ public class UserProfileController {
     private final MemberService memberService;
     private final PostRepository postRepository;
     private final PostService postService;
-    private final CommentService commentService;
 
     @Operation(summary = "유저 프로필 조회", description = "특정 유저의 공개 프로필 정보를 조회합니다.")
     @ApiResponses({
@@ -45,6 +40,7 @@ public class UserProfileController {
             @Parameter(description = "유저 ID", required = true) @PathVariable("userId") Long userId) {
 
         Member member = memberService.getMember(userId);
+        // 작성 글 수/댓글 단 글 수는 회원별 비정규화 카운터가 없어 조회 시 센다 (idx_posts_user_id 범위 조회)
         long postCount = postRepository.countByUserId(userId);
         long commentedPostCount = postService.countCommentedPostsByUserId(userId);
 
@@ -79,19 +75,11 @@ public class UserProfileController {
             return ResponseEntity.ok(Page.empty(pageable));
         }
 
-        // 댓글 수 일괄 조회
-        List<Long> postIds = posts.getContent().stream()
-                .map(summary -> summary.getPost().getId())
-                .toList();
-
-        Map<Long, Long> commentCounts = commentService.getCommentCounts(postIds);
-
         Page<PostResponse> response = posts.map(summary ->
                 PostResponse.from(
                         summary.getPost(),
                         authorNickname,
-                        summary.getCategoryName(),
-                        commentCounts.getOrDefault(summary.getPost().getId(), 0L)
+                        summary.getCategoryName()
                 )
         );
 
@@ -117,19 +105,11 @@ public class UserProfileController {
             return ResponseEntity.ok(Page.empty(pageable));
         }
 
-        // 댓글 수 일괄 조회
-        List<Long> postIds = posts.getContent().stream()
-                .map(summary -> summary.getPost().getId())
-                .toList();
-
-        Map<Long, Long> commentCounts = commentService.getCommentCounts(postIds);
-
         Page<PostResponse> response = posts.map(summary ->
                 PostResponse.from(
                         summary.getPost(),
                         summary.getAuthorNickname(),
-                        summary.getCategoryName(),
-                        commentCounts.getOrDefault(summary.getPost().getId(), 0L)
+                        summary.getCategoryName()
                 )
         );
 
@@ -1,42 +1,91 @@
 package com.swcampus.config;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.swcampus.domain.analytics.AnalyticsRepository;
 
 /**
  * Analytics API 캐시 설정
  * 
- * Caffeine 캐시를 사용하여 GA4 API 호출 결과를 5분간 캐싱합니다.
- * 이를 통해 동일한 요청에 대해 GA4 API를 반복 호출하지 않아 성능이 크게 향상됩니다.
+ * Caffeine 캐시를 사용하여 GA4 API 호출 결과를 캐싱합니다.
+ * - refresh-after 가 지난 값은 그대로 반환하고, analyticsExecutor에서 GA4를 다시 조회해 교체합니다 (stale-while-revalidate)
+ * - expire-after 동안 조회되지 않은 값은 만료되어 다음 조회에서 다시 불러옵니다
+ * - GA4 호출은 블로킹 gRPC이므로 공용 ForkJoinPool이 아닌 전용 스레드 풀(analyticsExecutor)에서만 갱신합니다
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     @Bean
-    public CacheManager caffeineCacheManager() {
-        CaffeineCacheManager manager = new CaffeineCacheManager(
-            "analyticsReport",
-            "eventStats",
-            "topBanners",
-            "topLectures",
-            "popularLectures",
-            "popularSearchTerms",
-            "trafficSources"
-        );
-        
-        manager.setCaffeine(Caffeine.newBuilder()
-            .expireAfterWrite(5, TimeUnit.MINUTES)  // 5분 TTL
+    public ThreadPoolTaskExecutor analyticsExecutor(
+            @Value("${analytics.executor.pool-size:2}") int poolSize,
+            @Value("${analytics.executor.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analytics-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public CacheManager caffeineCacheManager(
+            AnalyticsRepository analyticsRepository,
+            @Qualifier("analyticsExecutor") Executor analyticsExecutor,
+            @Value("${analytics.cache.refresh-after:5m}") Duration refreshAfter,
+            @Value("${analytics.cache.expire-after:1h}") Duration expireAfter) {
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+            .refreshAfterWrite(refreshAfter)
+            .expireAfterWrite(expireAfter)
             .maximumSize(100)                       // 최대 100개 엔트리
-            .recordStats());                        // 캐시 통계 활성화 (Micrometer 연동)
-        
+            .executor(analyticsExecutor)
+            .recordStats();                         // 캐시 통계 활성화 (Micrometer 연동)
+
+        // 캐시 키는 AnalyticsService의 @Cacheable key (daysAgo 또는 {daysAgo, limit})
+        SimpleCacheManager manager = new SimpleCacheManager();
+        manager.setCaches(List.of(
+            new CaffeineCache("analyticsReport",
+                caffeine.build(key -> analyticsRepository.getReport((Integer) key))),
+            new CaffeineCache("eventStats",
+                caffeine.build(key -> analyticsRepository.getEventStats((Integer) key))),
+            new CaffeineCache("topBanners",
+                caffeine.build(pageLoader(analyticsRepository::getTopBannersByClicks))),
+            new CaffeineCache("topLectures",
+                caffeine.build(pageLoader(analyticsRepository::getTopLecturesByClicks))),
+            new CaffeineCache("popularLectures",
+                caffeine.build(pageLoader(analyticsRepository::getPopularLectures))),
+            new CaffeineCache("popularSearchTerms",
+                caffeine.build(pageLoader(analyticsRepository::getPopularSearchTerms))),
+            new CaffeineCache("trafficSources",
+                caffeine.build(pageLoader(analyticsRepository::getTrafficSources)))
+        ));
         return manager;
     }
+
+    private static CacheLoader<Object, Object> pageLoader(PageQuery<?> query) {
+        return key -> {
+            List<?> args = (List<?>) key;
+            return query.load((Integer) args.get(0), (Integer) args.get(1));
+        };
+    }
+
+    @FunctionalInterface
+    private interface PageQuery<T> {
+        T load(int daysAgo, int limit);
+    }
 }
@@ -211,11 +211,12 @@ class AuthControllerLoginTest {
 
             // when & then
             mockMvc.perform(post("/api/v1/auth/logout")
-                            .cookie(new Cookie("accessToken", "valid-token")))
+                            .cookie(new Cookie("accessToken", "valid-token"))
+                            .cookie(new Cookie("refreshToken", "refresh-token")))
                     .andExpect(status().isOk())
                     .andExpect(header().exists("Set-Cookie"));
 
-            verify(authService).logout(1L);
+            verify(authService).logout(1L, "refresh-token");
         }
 
         @Test
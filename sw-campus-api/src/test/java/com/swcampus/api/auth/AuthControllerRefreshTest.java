@@ -5,6 +5,7 @@ import com.swcampus.api.config.SecurityConfig;
 import com.swcampus.api.exception.GlobalExceptionHandler;
 import com.swcampus.domain.auth.AuthService;
 import com.swcampus.domain.auth.EmailService;
+import com.swcampus.domain.auth.TokenInfo;
 import com.swcampus.domain.auth.TokenProvider;
 import com.swcampus.domain.auth.exception.InvalidTokenException;
 import com.swcampus.domain.auth.exception.TokenExpiredException;
@@ -62,22 +63,46 @@ class AuthControllerRefreshTest {
     class Refresh {
 
         @Test
-        @DisplayName("토큰 갱신 성공 시 새 Access Token 쿠키를 반환한다")
+        @DisplayName("토큰 갱신 성공 시 새 Access Token과 회전된 Refresh Token 쿠키를 반환한다")
         void refresh_success() throws Exception {
             // given
             String refreshToken = "valid-refresh-token";
             String newAccessToken = "new-access-token";
+            String rotatedRefreshToken = "rotated-refresh-token";
 
-            when(authService.refresh(refreshToken)).thenReturn(newAccessToken);
+            when(authService.refresh(refreshToken)).thenReturn(new TokenInfo(newAccessToken, rotatedRefreshToken));
             when(tokenProvider.getAccessTokenValidity()).thenReturn(3600L);
+            when(tokenProvider.getRefreshTokenValidity()).thenReturn(86400L);
             when(cookieUtil.createAccessTokenCookie(newAccessToken, 3600L))
                     .thenReturn(ResponseCookie.from("accessToken", newAccessToken).build());
+            when(cookieUtil.createRefreshTokenCookie(rotatedRefreshToken, 86400L))
+                    .thenReturn(ResponseCookie.from("refreshToken", rotatedRefreshToken).build());
 
             // when & then
             mockMvc.perform(post("/api/v1/auth/refresh")
                             .cookie(new Cookie("refreshToken", refreshToken)))
                     .andExpect(status().isOk())
-                    .andExpect(header().exists("Set-Cookie"));
+                    .andExpect(header().stringValues("Set-Cookie",
+                            "accessToken=" + newAccessToken, "refreshToken=" + rotatedRefreshToken));
+        }
+
+        @Test
+        @DisplayName("동시 갱신으로 회전되지 않은 경우 Access Token 쿠키만 반환한다")
+        void refresh_withoutRotation() throws Exception {
+            // given
+            String refreshToken = "valid-refresh-token";
+            String newAccessToken = "new-access-token";
+
+            when(authService.refresh(refreshToken)).thenReturn(new TokenInfo(newAccessToken, null));
+            when(tokenProvider.getAccessTokenValidity()).thenReturn(3600L);
+            when(cookieUtil.createAccessTokenCookie(newAccessToken, 3600L))
+                    .thenReturn(ResponseCookie.from("accessToken", newAccessToken).build());
+
+            // when & then
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                            .cookie(new Cookie("refreshToken", refreshToken)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().stringValues("Set-Cookie", "accessToken=" + newAccessToken));
         }
 
         @Test
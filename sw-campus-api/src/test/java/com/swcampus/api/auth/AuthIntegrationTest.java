@@ -12,6 +12,7 @@ import com.swcampus.domain.auth.MailSender;
 import com.swcampus.domain.auth.RefreshToken;
 import com.swcampus.domain.auth.RefreshTokenRepository;
 import com.swcampus.domain.auth.TokenProvider;
+import com.swcampus.domain.mail.MailOutboxService;
 import com.swcampus.domain.member.Member;
 import com.swcampus.domain.member.MemberRepository;
 import jakarta.servlet.http.Cookie;
@@ -77,6 +78,9 @@ class AuthIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
     @MockitoBean
     private MailSender mailSender;  // 실제 메일 발송 방지
 
@@ -97,7 +101,8 @@ class AuthIntegrationTest {
                             .content(objectMapper.writeValueAsString(emailRequest)))
                     .andExpect(status().isOk());
 
-            verify(mailSender).send(eq(email), anyString(), anyString());
+            // 인증 메일은 발송 대기열에 기록됨 (발송은 MailOutboxDispatcher가 처리)
+            assertThat(mailOutboxService.countPending()).isEqualTo(1);
 
             // 2. 이메일 인증 상태 확인 (아직 미인증)
             mockMvc.perform(get("/api/v1/auth/email/status")
@@ -201,28 +206,34 @@ class AuthIntegrationTest {
             testMember = setupVerifiedUser("tokentest@example.com", "Password1!");
         }
 
+        private String saveSession(String sessionId) {
+            String refreshToken = tokenProvider.createRefreshToken(testMember.getId(), sessionId);
+            refreshTokenRepository.save(RefreshToken.create(
+                    sessionId, testMember.getId(), refreshToken, testMember.getEmail(), testMember.getRole(),
+                    tokenProvider.getRefreshTokenValidity()
+            ), 1);
+            return refreshToken;
+        }
+
         @Test
-        @DisplayName("유효한 Refresh Token으로 Access Token 갱신")
+        @DisplayName("유효한 Refresh Token으로 Access Token 갱신 및 Refresh Token 회전")
         void refreshWithValidToken_success() throws Exception {
             // given: 로그인 후 Refresh Token 발급
-            String refreshToken = tokenProvider.createRefreshToken(testMember.getId());
-            RefreshToken refreshTokenEntity = RefreshToken.create(
-                    testMember.getId(), refreshToken, tokenProvider.getRefreshTokenValidity()
-            );
-            refreshTokenRepository.save(refreshTokenEntity);
+            String refreshToken = saveSession("session-1");
 
             // when & then
             mockMvc.perform(post("/api/v1/auth/refresh")
                             .cookie(new Cookie("refreshToken", refreshToken)))
                     .andExpect(status().isOk())
-                    .andExpect(cookie().exists("accessToken"));
+                    .andExpect(cookie().exists("accessToken"))
+                    .andExpect(cookie().exists("refreshToken"));
         }
 
         @Test
         @DisplayName("DB에 없는 Refresh Token으로 갱신 실패")
         void refreshWithNonStoredToken_fails() throws Exception {
             // given: DB에 저장하지 않은 토큰
-            String refreshToken = tokenProvider.createRefreshToken(testMember.getId());
+            String refreshToken = tokenProvider.createRefreshToken(testMember.getId(), "unknown-session");
 
             // when & then
             mockMvc.perform(post("/api/v1/auth/refresh")
@@ -231,22 +242,18 @@ class AuthIntegrationTest {
         }
 
         @Test
-        @DisplayName("다른 기기 로그인 후 기존 Refresh Token 무효화")
+        @DisplayName("다른 기기 로그인 후 기존 Refresh Token 무효화 (최대 세션 수 1)")
         void refreshAfterAnotherLogin_invalidatesOldToken() throws Exception {
-            // given: 기존 로그인 - "올바르지 않은" 토큰 값을 생성
-            String oldRefreshToken = "invalid-old-refresh-token-value";
+            // given: 기존 기기의 세션
+            String oldRefreshToken = saveSession("old-session");
 
-            // DB에는 새로운 토큰만 저장 (기존 토큰은 삭제된 상태)
-            String newRefreshToken = tokenProvider.createRefreshToken(testMember.getId());
-            refreshTokenRepository.deleteByMemberId(testMember.getId());
-            refreshTokenRepository.save(RefreshToken.create(
-                    testMember.getId(), newRefreshToken, tokenProvider.getRefreshTokenValidity()
-            ));
+            // 다른 기기에서 로그인 - 최대 세션 수를 넘어 기존 세션이 폐기됨
+            saveSession("new-session");
 
-            // when: 유효하지 않은 토큰으로 갱신 시도
+            // when: 기존 기기의 토큰으로 갱신 시도
             mockMvc.perform(post("/api/v1/auth/refresh")
                             .cookie(new Cookie("refreshToken", oldRefreshToken)))
-                    .andExpect(status().isUnauthorized());  // JWT 검증 실패로 401
+                    .andExpect(status().isUnauthorized());
         }
     }
 
@@ -5,14 +5,16 @@ import com.swcampus.api.comment.request.CreateCommentRequest;
 import com.swcampus.api.comment.request.UpdateCommentRequest;
 import com.swcampus.api.comment.response.CommentResponse;
 import com.swcampus.api.config.SecurityConfig;
-import com.swcampus.api.notification.SseEmitterService;
+import com.swcampus.api.notification.NotificationOutboxDispatcher;
 import com.swcampus.domain.auth.TokenProvider;
 import com.swcampus.domain.comment.Comment;
-import com.swcampus.domain.comment.CommentNotificationResult;
 import com.swcampus.domain.comment.CommentService;
+import com.swcampus.domain.comment.CommentTree;
 import com.swcampus.domain.commentlike.CommentLikeService;
+import com.swcampus.domain.common.CursorPage;
 import com.swcampus.domain.member.Member;
-import com.swcampus.domain.member.MemberService;
+import com.swcampus.domain.member.MemberProfileCache;
+import com.swcampus.domain.member.ProfileSnapshot;
 import com.swcampus.domain.member.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,12 +29,15 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -57,7 +62,7 @@ class CommentControllerTest {
     private CommentService commentService;
 
     @MockitoBean
-    private MemberService memberService;
+    private MemberProfileCache memberProfileCache;
 
     @MockitoBean
     private CommentLikeService commentLikeService;
@@ -66,7 +71,7 @@ class CommentControllerTest {
     private CommentResponseMapper commentResponseMapper;
 
     @MockitoBean
-    private SseEmitterService sseEmitterService;
+    private NotificationOutboxDispatcher notificationOutboxDispatcher;
 
     private String validToken;
     private Member mockMember;
@@ -98,15 +103,11 @@ class CommentControllerTest {
             LocalDateTime.now(), LocalDateTime.now()
         );
 
-        CommentNotificationResult mockResult = new CommentNotificationResult(
-            mockComment, null, 2L, 1L
-        );
-
         given(commentService.createCommentWithNotification(anyLong(), anyLong(), any(), any(), any()))
-                .willReturn(mockResult);
+                .willReturn(mockComment);
 
-        given(memberService.getMember(anyLong()))
-                .willReturn(mockMember);
+        given(memberProfileCache.get(anyLong()))
+                .willReturn(Optional.of(ProfileSnapshot.from(mockMember)));
 
         // when & then
         mockMvc.perform(post("/api/v1/comments")
@@ -119,6 +120,8 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.body").value("Test Comment"))
                 .andExpect(jsonPath("$.authorNickname").value("Tester"));
+
+        verify(notificationOutboxDispatcher).requestDispatch();
     }
 
     @Test
@@ -150,8 +153,8 @@ class CommentControllerTest {
 
         CommentResponse mockResponse = CommentResponse.from(mockComment, "Tester", false, false);
 
-        given(commentService.getCommentsByPostId(anyLong()))
-                .willReturn(List.of(mockComment));
+        given(commentService.getCommentTree(anyLong()))
+                .willReturn(CommentTree.of(List.of(mockComment)));
 
         given(commentResponseMapper.toTreeResponse(any(), any()))
                 .willReturn(List.of(mockResponse));
@@ -166,6 +169,36 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$[0].body").value("Test Comment"));
     }
 
+    @Test
+    @DisplayName("루트 댓글 커서 조회 성공")
+    void getRootCommentsByCursor_Success() throws Exception {
+        // given
+        Comment mockComment = Comment.of(
+            2L, 1L, 1L, null,
+            "Test Comment", null, 0L, false,
+            LocalDateTime.now(), LocalDateTime.now()
+        );
+        CommentTree tree = CommentTree.of(List.of(mockComment));
+        CommentResponse mockResponse = CommentResponse.from(mockComment, "Tester", false, false, 3);
+
+        given(commentService.getCommentTree(1L))
+                .willReturn(tree);
+        given(commentService.getRootComments(1L, 1L, 20))
+                .willReturn(new CursorPage<>(List.of(mockComment), "2", true, null));
+        given(commentResponseMapper.toResponses(any(), eq(tree), any()))
+                .willReturn(List.of(mockResponse));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/1/comments/cursor")
+                        .param("cursor", "1")
+                        .header("Authorization", "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(2L))
+                .andExpect(jsonPath("$.content[0].replyCount").value(3))
+                .andExpect(jsonPath("$.nextCursor").value("2"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Test
     @DisplayName("댓글 수정 성공")
     void updateComment_Success() throws Exception {
@@ -183,8 +216,8 @@ class CommentControllerTest {
         given(commentService.updateComment(anyLong(), anyLong(), anyBoolean(), any(), any()))
                 .willReturn(mockComment);
 
-        given(memberService.getMember(anyLong()))
-                .willReturn(mockMember);
+        given(memberProfileCache.get(anyLong()))
+                .willReturn(Optional.of(ProfileSnapshot.from(mockMember)));
 
         // when & then
         mockMvc.perform(put("/api/v1/comments/1")
@@ -342,15 +375,11 @@ class CommentControllerTest {
             LocalDateTime.now(), LocalDateTime.now()
         );
 
-        CommentNotificationResult mockResult = new CommentNotificationResult(
-            mockReply, null, 2L, 1L
-        );
-
         given(commentService.createCommentWithNotification(anyLong(), anyLong(), any(), any(), any()))
-                .willReturn(mockResult);
+                .willReturn(mockReply);
 
-        given(memberService.getMember(anyLong()))
-                .willReturn(mockMember);
+        given(memberProfileCache.get(anyLong()))
+                .willReturn(Optional.of(ProfileSnapshot.from(mockMember)));
 
         // when & then
         mockMvc.perform(post("/api/v1/comments")
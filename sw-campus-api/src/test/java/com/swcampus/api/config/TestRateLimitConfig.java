@@ -5,11 +5,15 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 
+import com.swcampus.domain.ratelimit.RateLimitAlgorithm;
 import com.swcampus.domain.ratelimit.RateLimitRepository;
+import com.swcampus.domain.ratelimit.RateLimitResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * 테스트용 RateLimitRepository Mock 설정
- * WebMvcTest에서 RateLimitInterceptor가 의존하는 RateLimitRepository를 제공
+ * WebMvcTest에서 RateLimitInterceptor가 의존하는 RateLimitRepository, MeterRegistry를 제공
  */
 @TestConfiguration
 public class TestRateLimitConfig {
@@ -18,8 +22,14 @@ public class TestRateLimitConfig {
     @Primary
     public RateLimitRepository rateLimitRepository() {
         RateLimitRepository mock = Mockito.mock(RateLimitRepository.class);
-        // 기본적으로 rate limit을 통과하도록 설정 (1회 요청)
-        Mockito.when(mock.incrementAndGet(Mockito.anyString(), Mockito.anyLong())).thenReturn(1L);
+        // 기본적으로 rate limit을 통과하도록 설정
+        Mockito.when(mock.tryAcquire(Mockito.anyString(), Mockito.any(RateLimitAlgorithm.class),
+                Mockito.anyInt(), Mockito.anyLong())).thenReturn(RateLimitResult.allowed(19L));
         return mock;
     }
+
+    @Bean
+    public SimpleMeterRegistry simpleMeterRegistry() {
+        return new SimpleMeterRegistry();
+    }
 }
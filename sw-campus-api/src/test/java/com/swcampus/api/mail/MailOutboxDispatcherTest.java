@@ -0,0 +1,137 @@
+package com.swcampus.api.mail;
+
+import com.swcampus.domain.auth.MailSender;
+import com.swcampus.domain.mail.MailOutboxService;
+import com.swcampus.domain.mail.OutboxMail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MailOutboxDispatcher 테스트")
+class MailOutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private MailSender mailSender;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new MailOutboxDispatcher(mailOutboxService, mailSender, meterRegistry, BATCH_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 메일을 한 번에 발송하고 대기열에서 삭제한다")
+    void dispatchPending_sendsAndMarksSent() {
+        // given
+        List<OutboxMail> mails = List.of(mail(1L));
+        when(mailOutboxService.claim(BATCH_SIZE)).thenReturn(mails);
+        when(mailSender.sendAll(mails)).thenReturn(List.of());
+
+        // when
+        dispatcher.dispatchPending();
+
+        // then
+        verify(mailOutboxService).markSent(mails);
+        assertThat(meterRegistry.counter("mail.outbox.sent").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("mail.outbox.send").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("mail.outbox.lag").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 다음 배치를 이어서 처리한다")
+    void dispatchPending_fullBatch_continues() {
+        // given
+        List<OutboxMail> first = List.of(mail(1L), mail(2L));
+        List<OutboxMail> second = List.of(mail(3L));
+        when(mailOutboxService.claim(BATCH_SIZE)).thenReturn(first, second);
+        when(mailSender.sendAll(any())).thenReturn(List.of());
+
+        // when
+        dispatcher.dispatchPending();
+
+        // then
+        verify(mailOutboxService, times(2)).claim(BATCH_SIZE);
+        verify(mailOutboxService).markSent(first);
+        verify(mailOutboxService).markSent(second);
+        assertThat(meterRegistry.counter("mail.outbox.sent").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일부 메일이 실패하면 성공한 메일만 삭제한다 (실패 메일은 백오프 후 재선점)")
+    void dispatchPending_partialFailure_marksSucceededOnly() {
+        // given
+        OutboxMail sent = mail(1L);
+        OutboxMail failed = mail(2L);
+        when(mailOutboxService.claim(BATCH_SIZE)).thenReturn(List.of(sent, failed), List.of());
+        when(mailSender.sendAll(List.of(sent, failed))).thenReturn(List.of(failed));
+
+        // when
+        dispatcher.dispatchPending();
+
+        // then
+        verify(mailOutboxService).markSent(List.of(sent));
+        assertThat(meterRegistry.counter("mail.outbox.sent").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("mail.outbox.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SMTP 연결에 실패하면 이번 실행을 멈추고 실패 건수를 기록한다")
+    void dispatchPending_smtpDown_stops() {
+        // given
+        List<OutboxMail> mails = List.of(mail(1L), mail(2L));
+        when(mailOutboxService.claim(BATCH_SIZE)).thenReturn(mails);
+        when(mailSender.sendAll(mails)).thenThrow(new IllegalStateException("smtp down"));
+
+        // when
+        dispatcher.dispatchPending();
+
+        // then
+        verify(mailOutboxService, times(1)).claim(BATCH_SIZE);
+        verify(mailOutboxService, never()).markSent(any());
+        assertThat(meterRegistry.counter("mail.outbox.failed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기 중인 메일 수를 게이지로 노출한다")
+    void pendingGauge() {
+        // given
+        when(mailOutboxService.countPending()).thenReturn(7L);
+
+        // when & then
+        assertThat(meterRegistry.get("mail.outbox.pending").gauge().value()).isEqualTo(7);
+    }
+
+    private OutboxMail mail(Long id) {
+        return OutboxMail.of(id, "email-verification:" + id, "user" + id + "@example.com", "제목", "<p>본문</p>", 1,
+                LocalDateTime.now().minusSeconds(1));
+    }
+}
@@ -0,0 +1,75 @@
+package com.swcampus.api.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.swcampus.domain.mail.OutboxMail;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 SMTP 서버(GreenMail)로 실제 발송 경로를 검증
+ */
+@DisplayName("SmtpMailSender 테스트")
+class SmtpMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SmtpMailSender smtpMailSender;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+        smtpMailSender = new SmtpMailSender(javaMailSender, "test@example.com");
+    }
+
+    @Test
+    @DisplayName("여러 메일을 한 번에 발송한다")
+    void sendAll_deliversBatch() throws Exception {
+        // given
+        List<OutboxMail> mails = List.of(mail(1L, "a@example.com"), mail(2L, "b@example.com"));
+
+        // when
+        List<OutboxMail> failed = smtpMailSender.sendAll(mails);
+
+        // then
+        assertThat(failed).isEmpty();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getSubject()).isEqualTo("[SW Campus] 이메일 인증");
+        assertThat(received[0].getFrom()[0].toString()).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("SMTP 서버에 연결할 수 없으면 전부 실패로 반환한다")
+    void sendAll_connectionRefused_returnsAll() {
+        // given
+        JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+        unreachable.setHost("localhost");
+        unreachable.setPort(1);
+        SmtpMailSender sender = new SmtpMailSender(unreachable, "test@example.com");
+        List<OutboxMail> mails = List.of(mail(1L, "a@example.com"), mail(2L, "b@example.com"));
+
+        // when
+        List<OutboxMail> failed = sender.sendAll(mails);
+
+        // then
+        assertThat(failed).containsExactlyInAnyOrderElementsOf(mails);
+    }
+
+    private OutboxMail mail(Long id, String recipient) {
+        return OutboxMail.of(id, "email-verification:" + id, recipient, "[SW Campus] 이메일 인증", "<p>본문</p>", 1,
+                LocalDateTime.now());
+    }
+}
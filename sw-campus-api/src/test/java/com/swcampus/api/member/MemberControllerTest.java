@@ -25,6 +25,7 @@ import com.swcampus.api.ratelimit.RateLimitInterceptor;
 import com.swcampus.domain.auth.TokenProvider;
 import com.swcampus.domain.member.MemberService;
 import com.swcampus.domain.ratelimit.RateLimitRepository;
+import com.swcampus.domain.ratelimit.RateLimitResult;
 
 @WebMvcTest(
         controllers = MemberController.class,
@@ -54,7 +55,7 @@ class MemberControllerTest {
         // given
         String nickname = "테스트닉네임";
         when(memberService.isNicknameAvailable(nickname, null)).thenReturn(true);
-        when(rateLimitRepository.incrementAndGet(anyString(), anyLong())).thenReturn(1L);
+        when(rateLimitRepository.tryAcquire(anyString(), any(), anyInt(), anyLong())).thenReturn(RateLimitResult.allowed(19L));
 
         // when & then
         mockMvc.perform(get("/api/v1/members/nickname/check")
@@ -69,7 +70,7 @@ class MemberControllerTest {
         // given
         String nickname = "중복닉네임";
         when(memberService.isNicknameAvailable(nickname, null)).thenReturn(false);
-        when(rateLimitRepository.incrementAndGet(anyString(), anyLong())).thenReturn(1L);
+        when(rateLimitRepository.tryAcquire(anyString(), any(), anyInt(), anyLong())).thenReturn(RateLimitResult.allowed(19L));
 
         // when & then
         mockMvc.perform(get("/api/v1/members/nickname/check")
@@ -83,7 +84,8 @@ class MemberControllerTest {
     void checkNicknameAvailable_rateLimitExceeded() throws Exception {
         // given
         String nickname = "테스트닉네임";
-        when(rateLimitRepository.incrementAndGet(anyString(), anyLong())).thenReturn(21L);
+        // 재시도 시간 0ms: 로컬 사전 차단에 남지 않아 다른 테스트에 영향 없음
+        when(rateLimitRepository.tryAcquire(anyString(), any(), anyInt(), anyLong())).thenReturn(RateLimitResult.rejected(0L));
 
         // when & then
         mockMvc.perform(get("/api/v1/members/nickname/check")
@@ -101,7 +103,7 @@ class MemberControllerTest {
         // given
         String nickname = "테스트닉네임";
         when(memberService.isNicknameAvailable(nickname, null)).thenReturn(true);
-        when(rateLimitRepository.incrementAndGet(anyString(), anyLong())).thenReturn(20L);
+        when(rateLimitRepository.tryAcquire(anyString(), any(), anyInt(), anyLong())).thenReturn(RateLimitResult.allowed(0L));
 
         // when & then
         mockMvc.perform(get("/api/v1/members/nickname/check")
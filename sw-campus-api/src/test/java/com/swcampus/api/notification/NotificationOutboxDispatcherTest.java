@@ -0,0 +1,118 @@
+package com.swcampus.api.notification;
+
+import com.swcampus.domain.notification.Notification;
+import com.swcampus.domain.notification.NotificationDetail;
+import com.swcampus.domain.notification.NotificationOutboxEvent;
+import com.swcampus.domain.notification.NotificationOutboxService;
+import com.swcampus.domain.notification.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationOutboxDispatcher 테스트")
+class NotificationOutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    private SseEmitterService sseEmitterService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationOutboxDispatcher(notificationOutboxService, sseEmitterService, meterRegistry, BATCH_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 이벤트를 저장하고 수신자 채널로 발행한다")
+    void dispatchPending_deliversAndPublishes() {
+        // given
+        NotificationOutboxEvent event = event(1L, 10L);
+        NotificationDetail detail = detail(501L, 10L);
+        when(notificationOutboxService.claim(BATCH_SIZE)).thenReturn(List.of(event));
+        when(notificationOutboxService.deliver(List.of(event))).thenReturn(List.of(detail));
+
+        // when
+        dispatcher.dispatchPending();
+
+        // then
+        verify(sseEmitterService).sendNotification(10L, detail);
+        assertThat(meterRegistry.counter("notification.outbox.delivered").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("notification.outbox.lag").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 다음 배치를 이어서 처리한다")
+    void dispatchPending_fullBatch_continues() {
+        // given
+        List<NotificationOutboxEvent> first = List.of(event(1L, 10L), event(2L, 11L));
+        List<NotificationOutboxEvent> second = List.of(event(3L, 12L));
+        when(notificationOutboxService.claim(BATCH_SIZE)).thenReturn(first, second);
+        when(notificationOutboxService.deliver(first)).thenReturn(List.of(detail(501L, 10L), detail(502L, 11L)));
+        when(notificationOutboxService.deliver(second)).thenReturn(List.of(detail(503L, 12L)));
+
+        // when
+        dispatcher.dispatchPending();
+
+        // then
+        verify(notificationOutboxService, times(2)).claim(BATCH_SIZE);
+        verify(sseEmitterService, times(3)).sendNotification(anyLong(), any());
+        assertThat(meterRegistry.counter("notification.outbox.delivered").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 발행하지 않고 실패 건수를 기록한다 (백오프 후 재선점)")
+    void dispatchPending_deliverFails_recordsFailure() {
+        // given
+        List<NotificationOutboxEvent> events = List.of(event(1L, 10L), event(2L, 11L));
+        when(notificationOutboxService.claim(BATCH_SIZE)).thenReturn(events);
+        when(notificationOutboxService.deliver(events)).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        dispatcher.dispatchPending();
+
+        // then
+        verify(notificationOutboxService, times(1)).claim(BATCH_SIZE);
+        verify(sseEmitterService, never()).sendNotification(anyLong(), any());
+        assertThat(meterRegistry.counter("notification.outbox.failed").count()).isEqualTo(2);
+    }
+
+    private NotificationOutboxEvent event(Long id, Long recipientId) {
+        return NotificationOutboxEvent.of(id, recipientId, 2L, 100L, 50L, NotificationType.COMMENT, 1,
+                LocalDateTime.now().minusSeconds(1));
+    }
+
+    private NotificationDetail detail(Long id, Long recipientId) {
+        Notification notification = Notification.of(id, recipientId, 2L, 100L, 50L, NotificationType.COMMENT,
+                false, LocalDateTime.now());
+        return NotificationDetail.of(notification, "홍길동");
+    }
+}
@@ -0,0 +1,149 @@
+package com.swcampus.api.notification;
+
+import com.swcampus.domain.notification.Notification;
+import com.swcampus.domain.notification.NotificationBus;
+import com.swcampus.domain.notification.NotificationDetail;
+import com.swcampus.domain.notification.NotificationService;
+import com.swcampus.domain.notification.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SseEmitterService 테스트")
+class SseEmitterServiceTest {
+
+    @Mock
+    private NotificationBus notificationBus;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseEmitterService sseEmitterService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sseEmitterService = new SseEmitterService(notificationBus, notificationService, meterRegistry, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseEmitterService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 여러 탭 연결은 채널을 한 번만 구독한다")
+    void createEmitter_multipleTabs_subscribesOnce() {
+        // when
+        sseEmitterService.createEmitter(1L, null);
+        sseEmitterService.createEmitter(1L, null);
+
+        // then
+        verify(notificationBus, times(1)).subscribe(eq(1L), any());
+        assertThat(meterRegistry.get("notification.sse.connections").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("채널 구독(Redis I/O)이 끝나기를 기다리는 동안에도 같은 사용자의 다른 연결은 막히지 않는다")
+    void createEmitter_subscribeInProgress_doesNotBlockOtherConnections() throws Exception {
+        // given
+        CountDownLatch subscribing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            subscribing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(notificationBus).subscribe(eq(1L), any());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> sseEmitterService.createEmitter(1L, null));
+            assertThat(subscribing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            CompletableFuture<SseEmitter> second =
+                    CompletableFuture.supplyAsync(() -> sseEmitterService.createEmitter(1L, null));
+
+            // then
+            assertThat(second.get(1, TimeUnit.SECONDS)).isNotNull();
+            assertThat(meterRegistry.get("notification.sse.connections").gauge().value()).isEqualTo(2.0);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        verify(notificationBus, times(1)).subscribe(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID가 있으면 이후 알림을 DB에서 조회해 재전송한다")
+    void createEmitter_withLastEventId_replaysMissedNotifications() {
+        // given
+        NotificationDetail missed = NotificationDetail.builder()
+                .id(11L)
+                .type(NotificationType.COMMENT)
+                .senderNickname("홍길동")
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(notificationService.getNotificationsAfter(1L, 10L)).thenReturn(List.of(missed));
+
+        // when
+        sseEmitterService.createEmitter(1L, 10L);
+
+        // then
+        verify(notificationService).getNotificationsAfter(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID가 없으면 재전송하지 않는다")
+    void createEmitter_withoutLastEventId_skipsReplay() {
+        // when
+        sseEmitterService.createEmitter(1L, null);
+
+        // then
+        verify(notificationService, never()).getNotificationsAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("알림 전송은 수신자 채널로 발행만 한다")
+    void sendNotification_publishesToBus() {
+        // given
+        Notification notification = Notification.of(5L, 1L, 2L, 100L, 50L, NotificationType.COMMENT,
+                false, LocalDateTime.now());
+
+        // when
+        sseEmitterService.sendNotification(1L, NotificationDetail.of(notification, "홍길동"));
+
+        // then
+        ArgumentCaptor<NotificationDetail> captor = ArgumentCaptor.forClass(NotificationDetail.class);
+        verify(notificationBus).publish(eq(1L), captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(5L);
+        assertThat(captor.getValue().getPostId()).isEqualTo(50L);
+        assertThat(captor.getValue().getSenderNickname()).isEqualTo("홍길동");
+    }
+}
@@ -0,0 +1,83 @@
+package com.swcampus.api.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxDispatchLoop 테스트")
+class OutboxDispatchLoopTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final List<List<Long>> handled = new ArrayList<>();
+    private final List<Integer> claimedLimits = new ArrayList<>();
+    private OutboxDispatchLoop<Long> loop;
+
+    @AfterEach
+    void tearDown() {
+        loop.shutdown();
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차 있는 동안 선점과 처리를 반복한다")
+    void fullBatch_continues() {
+        // given
+        loop = loopOf(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), true);
+
+        // when
+        loop.dispatchPending();
+
+        // then
+        assertThat(claimedLimits).containsExactly(BATCH_SIZE, BATCH_SIZE, BATCH_SIZE);
+        assertThat(handled).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    }
+
+    @Test
+    @DisplayName("처리 결과가 false면 남은 배치가 있어도 이번 실행을 멈춘다")
+    void handlerFails_stops() {
+        // given
+        loop = loopOf(List.of(List.of(1L, 2L), List.of(3L)), false);
+
+        // when
+        loop.dispatchPending();
+
+        // then
+        assertThat(handled).containsExactly(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("선점에 실패하면 예외를 밖으로 던지지 않고 멈춘다")
+    void claimFails_stops() {
+        // given
+        loop = new OutboxDispatchLoop<>("test-outbox", BATCH_SIZE,
+                limit -> {
+                    throw new IllegalStateException("db down");
+                },
+                handled::add);
+
+        // when
+        loop.dispatchPending();
+
+        // then
+        assertThat(handled).isEmpty();
+    }
+
+    private OutboxDispatchLoop<Long> loopOf(List<List<Long>> batches, boolean handlerResult) {
+        Iterator<List<Long>> remaining = batches.iterator();
+        return new OutboxDispatchLoop<>("test-outbox", BATCH_SIZE,
+                limit -> {
+                    claimedLimits.add(limit);
+                    return remaining.hasNext() ? remaining.next() : List.of();
+                },
+                batch -> {
+                    handled.add(batch);
+                    return handlerResult;
+                });
+    }
+}
@@ -8,7 +8,8 @@ import com.swcampus.api.post.request.UpdatePostRequest;
 import com.swcampus.domain.auth.TokenProvider;
 import com.swcampus.domain.board.BoardCategoryService;
 import com.swcampus.domain.member.Member;
-import com.swcampus.domain.member.MemberService;
+import com.swcampus.domain.member.MemberProfileCache;
+import com.swcampus.domain.member.ProfileSnapshot;
 import com.swcampus.domain.member.Role;
 import com.swcampus.domain.post.Post;
 import com.swcampus.domain.post.PostService;
@@ -26,6 +27,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -54,14 +56,11 @@ class PostControllerTest {
     private PostService postService;
 
     @MockitoBean
-    private MemberService memberService;
+    private MemberProfileCache memberProfileCache;
 
     @MockitoBean
     private BoardCategoryService boardCategoryService;
 
-    @MockitoBean
-    private com.swcampus.domain.comment.CommentService commentService;
-
     @MockitoBean
     private com.swcampus.domain.bookmark.BookmarkService bookmarkService;
 
@@ -108,8 +107,8 @@ class PostControllerTest {
         given(postService.createPost(any(), any(), any(), any(), any(), any()))
                 .willReturn(mockPost);
 
-        given(memberService.getMember(anyLong()))
-                .willReturn(mockMember);
+        given(memberProfileCache.get(anyLong()))
+                .willReturn(Optional.of(ProfileSnapshot.from(mockMember)));
                 
         given(boardCategoryService.getCategoryName(anyLong()))
                 .willReturn("Free Board");
@@ -160,15 +159,12 @@ class PostControllerTest {
         given(postService.updatePost(anyLong(), anyLong(), anyBoolean(), any(), any(), any(), any()))
                 .willReturn(updatedPost);
 
-        given(memberService.getMember(anyLong()))
-                .willReturn(mockMember);
+        given(memberProfileCache.get(anyLong()))
+                .willReturn(Optional.of(ProfileSnapshot.from(mockMember)));
 
         given(boardCategoryService.getCategoryName(anyLong()))
                 .willReturn("Free Board");
 
-        given(commentService.countByPostId(anyLong()))
-                .willReturn(0L);
-
         given(bookmarkService.isBookmarked(any(), anyLong()))
                 .willReturn(false);
 
@@ -8,16 +8,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.method.HandlerMethod;
 
+import com.swcampus.domain.ratelimit.RateLimitAlgorithm;
 import com.swcampus.domain.ratelimit.RateLimitRepository;
+import com.swcampus.domain.ratelimit.RateLimitResult;
 import com.swcampus.domain.ratelimit.exception.RateLimitExceededException;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RateLimitInterceptor - Rate Limiting 테스트")
 class RateLimitInterceptorTest {
@@ -28,7 +31,7 @@ class RateLimitInterceptorTest {
     @Mock
     private HandlerMethod handlerMethod;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private RateLimitInterceptor rateLimitInterceptor;
 
     private MockHttpServletRequest request;
@@ -39,6 +42,8 @@ class RateLimitInterceptorTest {
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
         request.setRemoteAddr("192.168.1.1");
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitInterceptor = new RateLimitInterceptor(rateLimitRepository, meterRegistry, 100);
     }
 
     @Test
@@ -47,7 +52,8 @@ class RateLimitInterceptorTest {
         // given
         RateLimited rateLimited = createRateLimitedAnnotation("test-api", 20, 60);
         when(handlerMethod.getMethodAnnotation(RateLimited.class)).thenReturn(rateLimited);
-        when(rateLimitRepository.incrementAndGet(eq("test-api:192.168.1.1"), eq(60L))).thenReturn(10L);
+        when(rateLimitRepository.tryAcquire("test-api:192.168.1.1", RateLimitAlgorithm.SLIDING_WINDOW, 20, 60L))
+                .thenReturn(RateLimitResult.allowed(10L));
 
         // when
         boolean result = rateLimitInterceptor.preHandle(request, response, handlerMethod);
@@ -63,12 +69,14 @@ class RateLimitInterceptorTest {
         // given
         RateLimited rateLimited = createRateLimitedAnnotation("test-api", 20, 60);
         when(handlerMethod.getMethodAnnotation(RateLimited.class)).thenReturn(rateLimited);
-        when(rateLimitRepository.incrementAndGet(eq("test-api:192.168.1.1"), eq(60L))).thenReturn(21L);
+        when(rateLimitRepository.tryAcquire("test-api:192.168.1.1", RateLimitAlgorithm.SLIDING_WINDOW, 20, 60L))
+                .thenReturn(RateLimitResult.rejected(1500L));
 
         // when & then
         assertThatThrownBy(() -> rateLimitInterceptor.preHandle(request, response, handlerMethod))
                 .isInstanceOf(RateLimitExceededException.class)
                 .hasMessage("요청 한도를 초과했습니다");
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
     }
 
     @Test
@@ -77,7 +85,8 @@ class RateLimitInterceptorTest {
         // given
         RateLimited rateLimited = createRateLimitedAnnotation("test-api", 20, 60);
         when(handlerMethod.getMethodAnnotation(RateLimited.class)).thenReturn(rateLimited);
-        when(rateLimitRepository.incrementAndGet(eq("test-api:192.168.1.1"), eq(60L))).thenReturn(20L);
+        when(rateLimitRepository.tryAcquire("test-api:192.168.1.1", RateLimitAlgorithm.SLIDING_WINDOW, 20, 60L))
+                .thenReturn(RateLimitResult.allowed(0L));
 
         // when
         boolean result = rateLimitInterceptor.preHandle(request, response, handlerMethod);
@@ -97,7 +106,7 @@ class RateLimitInterceptorTest {
 
         // then
         assertThat(result).isTrue();
-        verify(rateLimitRepository, never()).incrementAndGet(anyString(), anyLong());
+        verify(rateLimitRepository, never()).tryAcquire(anyString(), any(), anyInt(), anyLong());
     }
 
     @Test
@@ -111,7 +120,7 @@ class RateLimitInterceptorTest {
 
         // then
         assertThat(result).isTrue();
-        verify(rateLimitRepository, never()).incrementAndGet(anyString(), anyLong());
+        verify(rateLimitRepository, never()).tryAcquire(anyString(), any(), anyInt(), anyLong());
     }
 
     @Test
@@ -121,14 +130,15 @@ class RateLimitInterceptorTest {
         request.addHeader("X-Forwarded-For", "10.0.0.1, 10.0.0.2");
         RateLimited rateLimited = createRateLimitedAnnotation("test-api", 20, 60);
         when(handlerMethod.getMethodAnnotation(RateLimited.class)).thenReturn(rateLimited);
-        when(rateLimitRepository.incrementAndGet(eq("test-api:10.0.0.1"), eq(60L))).thenReturn(1L);
+        when(rateLimitRepository.tryAcquire(eq("test-api:10.0.0.1"), any(), anyInt(), anyLong()))
+                .thenReturn(RateLimitResult.allowed(19L));
 
         // when
         boolean result = rateLimitInterceptor.preHandle(request, response, handlerMethod);
 
         // then
         assertThat(result).isTrue();
-        verify(rateLimitRepository).incrementAndGet(eq("test-api:10.0.0.1"), eq(60L));
+        verify(rateLimitRepository).tryAcquire("test-api:10.0.0.1", RateLimitAlgorithm.SLIDING_WINDOW, 20, 60L);
     }
 
     @Test
@@ -138,17 +148,63 @@ class RateLimitInterceptorTest {
         request.addHeader("X-Real-IP", "10.0.0.5");
         RateLimited rateLimited = createRateLimitedAnnotation("test-api", 20, 60);
         when(handlerMethod.getMethodAnnotation(RateLimited.class)).thenReturn(rateLimited);
-        when(rateLimitRepository.incrementAndGet(eq("test-api:10.0.0.5"), eq(60L))).thenReturn(1L);
+        when(rateLimitRepository.tryAcquire(eq("test-api:10.0.0.5"), any(), anyInt(), anyLong()))
+                .thenReturn(RateLimitResult.allowed(19L));
 
         // when
         boolean result = rateLimitInterceptor.preHandle(request, response, handlerMethod);
 
         // then
         assertThat(result).isTrue();
-        verify(rateLimitRepository).incrementAndGet(eq("test-api:10.0.0.5"), eq(60L));
+        verify(rateLimitRepository).tryAcquire("test-api:10.0.0.5", RateLimitAlgorithm.SLIDING_WINDOW, 20, 60L);
+    }
+
+    @Test
+    @DisplayName("Redis에서 거절된 키는 재시도 시각까지 Redis 조회 없이 로컬에서 거절")
+    void preHandle_rejectedKey_rejectedLocallyWithoutRedis() {
+        // given
+        RateLimited rateLimited = createRateLimitedAnnotation("test-api", 20, 60);
+        when(handlerMethod.getMethodAnnotation(RateLimited.class)).thenReturn(rateLimited);
+        when(rateLimitRepository.tryAcquire(anyString(), any(), anyInt(), anyLong()))
+                .thenReturn(RateLimitResult.rejected(60_000L));
+        assertThatThrownBy(() -> rateLimitInterceptor.preHandle(request, response, handlerMethod))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        // when & then
+        assertThatThrownBy(() -> rateLimitInterceptor.preHandle(request, new MockHttpServletResponse(), handlerMethod))
+                .isInstanceOf(RateLimitExceededException.class);
+        verify(rateLimitRepository, times(1)).tryAcquire(anyString(), any(), anyInt(), anyLong());
+        assertThat(meterRegistry.get("ratelimit.requests").tag("key", "test-api").tag("result", "rejected_local")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("로컬 사전 차단을 끄면 거절된 키도 매번 Redis로 판정")
+    void preHandle_localPreFilterDisabled_alwaysQueriesRedis() {
+        // given
+        RateLimited rateLimited = createRateLimitedAnnotation("test-api", 20, 60,
+                RateLimitAlgorithm.TOKEN_BUCKET, false);
+        when(handlerMethod.getMethodAnnotation(RateLimited.class)).thenReturn(rateLimited);
+        when(rateLimitRepository.tryAcquire("test-api:192.168.1.1", RateLimitAlgorithm.TOKEN_BUCKET, 20, 60L))
+                .thenReturn(RateLimitResult.rejected(60_000L));
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> rateLimitInterceptor.preHandle(request, response, handlerMethod))
+                    .isInstanceOf(RateLimitExceededException.class);
+        }
+
+        // then
+        verify(rateLimitRepository, times(2))
+                .tryAcquire("test-api:192.168.1.1", RateLimitAlgorithm.TOKEN_BUCKET, 20, 60L);
     }
 
     private RateLimited createRateLimitedAnnotation(String key, int limit, int windowSeconds) {
+        return createRateLimitedAnnotation(key, limit, windowSeconds, RateLimitAlgorithm.SLIDING_WINDOW, true);
+    }
+
+    private RateLimited createRateLimitedAnnotation(String key, int limit, int windowSeconds,
+                                                    RateLimitAlgorithm algorithm, boolean localPreFilter) {
         return new RateLimited() {
             @Override
             public Class<? extends java.lang.annotation.Annotation> annotationType() {
@@ -169,6 +225,16 @@ class RateLimitInterceptorTest {
             public int windowSeconds() {
                 return windowSeconds;
             }
+
+            @Override
+            public RateLimitAlgorithm algorithm() {
+                return algorithm;
+            }
+
+            @Override
+            public boolean localPreFilter() {
+                return localPreFilter;
+            }
         };
     }
 }
@@ -0,0 +1,104 @@
+package com.swcampus.api.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.swcampus.domain.ratelimit.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoundedPasswordEncoder - 비밀번호 해싱 전용 풀 테스트")
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(delegate, meterRegistry, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱을 전용 풀에서 실행하고 결과를 그대로 반환한다")
+    void delegates() {
+        // given
+        when(delegate.encode("Password1!")).thenReturn("encoded");
+        when(delegate.matches("Password1!", "encoded")).thenReturn(true);
+
+        // when & then
+        assertThat(passwordEncoder.encode("Password1!")).isEqualTo("encoded");
+        assertThat(passwordEncoder.matches("Password1!", "encoded")).isTrue();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기다리지 않고 RateLimitExceededException을 던진다")
+    void rejectsWhenSaturated() throws Exception {
+        // given: 스레드 1개가 해싱 중이고 큐(1)가 가득 찬 상태
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("a", "x"));
+        awaitQueueSize(0);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("b", "x"));
+        awaitQueueSize(1);
+
+        // when & then
+        assertThatThrownBy(() -> passwordEncoder.matches("c", "x"))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding은 풀을 거치지 않고 위임한다")
+    void upgradeEncoding() {
+        // given
+        when(delegate.upgradeEncoding("encoded")).thenReturn(true);
+
+        // when & then
+        assertThat(passwordEncoder.upgradeEncoding("encoded")).isTrue();
+    }
+
+    private void awaitQueueSize(int expected) throws InterruptedException {
+        // 첫 요청은 스레드가 꺼내 갈 때까지, 두 번째 요청은 큐에 들어갈 때까지 대기
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            int queueSize = (int) meterRegistry.get("auth.password.hash.queue").gauge().value();
+            if (queueSize == expected && mockingDetails(delegate).getInvocations().size() == 1) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("queue size did not reach " + expected);
+    }
+}
@@ -0,0 +1,55 @@
+package com.swcampus.domain.analytics;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 자체 수집 이벤트 (강의 조회, 강의 신청/공유 클릭, 배너 클릭, 검색)
+ *
+ * @param targetId 강의 또는 배너 ID (검색 이벤트는 0)
+ * @param term 검색어 (검색 외 이벤트는 빈 문자열)
+ */
+public record AnalyticsEvent(
+    AnalyticsEventType type,
+    long targetId,
+    String term,
+    LocalDateTime occurredAt
+) {
+    public static final int MAX_TERM_LENGTH = 100;
+
+    private static final Pattern CONTROL_CHARACTERS = Pattern.compile("\\p{Cntrl}");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    /**
+     * 유형에 맞지 않는 값은 비워서 만든다 (집계 키가 흩어지지 않도록)
+     * - 검색어는 제어 문자를 지우고 공백을 하나로 합친 뒤 소문자로 바꾼다 ("Java  " / "java"는 같은 검색어)
+     *
+     * @return 유형에 필요한 값(ID 또는 검색어)이 없으면 null
+     */
+    public static AnalyticsEvent of(AnalyticsEventType type, Long targetId, String term, LocalDateTime occurredAt) {
+        if (type == null) {
+            return null;
+        }
+        if (type.isTargeted()) {
+            return (targetId != null && targetId > 0) ? new AnalyticsEvent(type, targetId, "", occurredAt) : null;
+        }
+
+        String normalized = normalizeTerm(term);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        if (normalized.length() > MAX_TERM_LENGTH) {
+            normalized = normalized.substring(0, MAX_TERM_LENGTH);
+        }
+        return new AnalyticsEvent(type, 0L, normalized, occurredAt);
+    }
+
+    private static String normalizeTerm(String term) {
+        if (term == null) {
+            return "";
+        }
+        String cleaned = CONTROL_CHARACTERS.matcher(term).replaceAll(" ");
+        return WHITESPACES.matcher(cleaned).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,17 @@
+package com.swcampus.domain.analytics;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분 단위로 집계한 이벤트 수
+ *
+ * @param bucketAt 집계 구간 시작 시각 (분 단위로 절삭)
+ */
+public record AnalyticsEventCount(
+    LocalDateTime bucketAt,
+    AnalyticsEventType type,
+    long targetId,
+    String term,
+    long count
+) {
+}
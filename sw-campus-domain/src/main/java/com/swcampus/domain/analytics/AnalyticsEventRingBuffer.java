@@ -0,0 +1,80 @@
+package com.swcampus.domain.analytics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (여러 생산자, 하나의 소비자)
+ * - 생산자는 tail을 CAS로 선점한 뒤 슬롯에 기록하고, 가득 차 있으면 기다리지 않고 버린다
+ * - 소비자는 head부터 기록이 끝난 슬롯만 꺼내며, 선점만 되고 아직 기록되지 않은 슬롯에서 멈춘다
+ *   (남은 항목은 다음 drain에서 꺼냄)
+ */
+final class AnalyticsEventRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();  // 다음 기록 위치 (생산자들이 선점)
+    private volatile long head;                         // 다음 읽을 위치 (소비자만 갱신)
+
+    AnalyticsEventRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity) == requestedCapacity
+                ? requestedCapacity
+                : Integer.highestOneBit(requestedCapacity) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * @return 기록했으면 true, 버퍼가 가득 차 버렸으면 false
+     */
+    boolean offer(E element) {
+        long position;
+        do {
+            position = tail.get();
+            if (position - head >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+
+        slots.lazySet((int) position & mask, element);
+        return true;
+    }
+
+    /**
+     * 소비자 스레드 하나에서만 호출해야 한다.
+     *
+     * @return 꺼낸 항목 수
+     */
+    int drainTo(List<? super E> sink, int maxElements) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) position & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            sink.add(element);
+            position++;
+            drained++;
+        }
+        // 슬롯을 비운 뒤 head를 옮겨야 생산자가 비워진 슬롯에만 기록한다
+        head = position;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,37 @@
+package com.swcampus.domain.analytics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 자체 수집 이벤트 집계 테이블 (분 단위 / 일 단위)
+ */
+public interface AnalyticsEventRollupRepository {
+
+    /**
+     * 분 단위 집계와 일 단위 집계에 이벤트 수를 더합니다.
+     */
+    void addCounts(List<AnalyticsEventCount> counts);
+
+    /**
+     * 지정 시각 이전의 분 단위 집계를 삭제합니다. (일 단위 집계는 유지)
+     *
+     * @return 삭제한 행 수
+     */
+    int deleteMinuteCountsBefore(LocalDateTime before);
+
+    /**
+     * 지정 날짜 이전의 일 단위 집계를 삭제합니다.
+     *
+     * @return 삭제한 행 수
+     */
+    int deleteDailyCountsBefore(LocalDate before);
+
+    /**
+     * 존재하는 강의/배너 ID만 골라냅니다. (없는 대상의 이벤트는 집계하지 않음)
+     */
+    Set<Long> findExistingTargetIds(AnalyticsEventType.Target target, Collection<Long> ids);
+}
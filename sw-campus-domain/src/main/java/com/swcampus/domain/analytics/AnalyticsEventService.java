@@ -0,0 +1,162 @@
+package com.swcampus.domain.analytics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자체 수집 이벤트 적재
+ * - record: 요청 스레드는 링 버퍼에 넣기만 하고 바로 반환한다 (버퍼가 가득 차면 버림)
+ * - flush: 버퍼를 비우면서 (분, 유형, 대상) 단위로 합산해 집계 테이블에 더한다
+ *   반영에 실패한 합계는 메모리에 남아 다음 주기에 함께 반영된다
+ * - 없는 강의/배너 ID의 이벤트는 반영 전에 버리고, 메모리에 쌓아 두는 합계 키 수는 maxPendingKeys로 제한한다
+ *   (익명 요청으로 임의 키를 만들어 메모리와 집계 테이블을 키우지 못하도록)
+ */
+@Slf4j
+@Service
+public class AnalyticsEventService {
+
+    private static final int DRAIN_CHUNK_SIZE = 4096;
+
+    private final AnalyticsEventRollupRepository analyticsEventRollupRepository;
+    private final AnalyticsEventRingBuffer<AnalyticsEvent> buffer;
+    private final int maxPendingKeys;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    // flush 스레드에서만 접근 (flush는 synchronized)
+    private final Map<AnalyticsEvent, Long> unverifiedCounts = new HashMap<>();    // 대상 확인 전
+    private final Map<AnalyticsEvent, Long> pendingCounts = new HashMap<>();       // 반영 전
+
+    public AnalyticsEventService(
+            AnalyticsEventRollupRepository analyticsEventRollupRepository,
+            @Value("${analytics.events.buffer-capacity:65536}") int bufferCapacity,
+            @Value("${analytics.events.max-pending-keys:50000}") int maxPendingKeys) {
+        this.analyticsEventRollupRepository = analyticsEventRollupRepository;
+        this.buffer = new AnalyticsEventRingBuffer<>(bufferCapacity);
+        this.maxPendingKeys = maxPendingKeys;
+    }
+
+    /**
+     * @return 버퍼에 넣은 이벤트 수 (버퍼가 가득 차 버린 이벤트 제외)
+     */
+    public int record(List<AnalyticsEvent> events) {
+        int accepted = 0;
+        for (AnalyticsEvent event : events) {
+            if (buffer.offer(event)) {
+                accepted++;
+            } else {
+                droppedCount.incrementAndGet();
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * @return 집계 테이블에 반영한 (분, 유형, 대상) 행 수
+     */
+    public synchronized int flush() {
+        List<AnalyticsEvent> drained = new ArrayList<>(DRAIN_CHUNK_SIZE);
+        while (buffer.drainTo(drained, DRAIN_CHUNK_SIZE) > 0) {
+            for (AnalyticsEvent event : drained) {
+                AnalyticsEvent key = new AnalyticsEvent(event.type(), event.targetId(), event.term(),
+                        event.occurredAt().truncatedTo(ChronoUnit.MINUTES));
+                mergeBounded(unverifiedCounts, key, 1L);
+            }
+            drained.clear();
+        }
+        if (!unverifiedCounts.isEmpty()) {
+            removeUnknownTargets(unverifiedCounts);
+            unverifiedCounts.forEach((key, count) -> mergeBounded(pendingCounts, key, count));
+            unverifiedCounts.clear();
+        }
+        if (pendingCounts.isEmpty()) {
+            return 0;
+        }
+
+        List<AnalyticsEventCount> counts = pendingCounts.entrySet().stream()
+                .map(entry -> new AnalyticsEventCount(entry.getKey().occurredAt(), entry.getKey().type(),
+                        entry.getKey().targetId(), entry.getKey().term(), entry.getValue()))
+                .toList();
+        analyticsEventRollupRepository.addCounts(counts);
+        pendingCounts.clear();
+        log.debug("Flushed {} analytics event counts", counts.size());
+        return counts.size();
+    }
+
+    /**
+     * 보관 기간이 지난 분 단위 집계 삭제
+     */
+    public int pruneMinuteCounts(LocalDateTime before) {
+        return analyticsEventRollupRepository.deleteMinuteCountsBefore(before);
+    }
+
+    /**
+     * 보관 기간이 지난 일 단위 집계 삭제
+     */
+    public int pruneDailyCounts(LocalDate before) {
+        return analyticsEventRollupRepository.deleteDailyCountsBefore(before);
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * 버퍼가 가득 찼거나 합계 키 수 상한을 넘어 버린 이벤트 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 없는 강의/배너 ID라서 버린 이벤트 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    // 이미 있는 키는 더하고, 새 키는 상한 안에서만 추가 (넘치면 버린 수로 센다)
+    private void mergeBounded(Map<AnalyticsEvent, Long> counts, AnalyticsEvent key, long count) {
+        if (counts.size() >= maxPendingKeys && !counts.containsKey(key)) {
+            droppedCount.addAndGet(count);
+            return;
+        }
+        counts.merge(key, count, Long::sum);
+    }
+
+    // 대상별로 ID를 모아 한 번씩만 조회
+    private void removeUnknownTargets(Map<AnalyticsEvent, Long> counts) {
+        Map<AnalyticsEventType.Target, Set<Long>> idsByTarget = new EnumMap<>(AnalyticsEventType.Target.class);
+        for (AnalyticsEvent key : counts.keySet()) {
+            if (key.type().isTargeted()) {
+                idsByTarget.computeIfAbsent(key.type().getTarget(), target -> new HashSet<>()).add(key.targetId());
+            }
+        }
+
+        Map<AnalyticsEventType.Target, Set<Long>> existingIds = new EnumMap<>(AnalyticsEventType.Target.class);
+        idsByTarget.forEach((target, ids) ->
+                existingIds.put(target, analyticsEventRollupRepository.findExistingTargetIds(target, ids)));
+
+        counts.entrySet().removeIf(entry -> {
+            AnalyticsEvent key = entry.getKey();
+            if (!key.type().isTargeted() || existingIds.get(key.type().getTarget()).contains(key.targetId())) {
+                return false;
+            }
+            rejectedCount.addAndGet(entry.getValue());
+            return true;
+        });
+    }
+}
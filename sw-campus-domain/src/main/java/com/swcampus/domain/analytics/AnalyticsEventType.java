@@ -0,0 +1,43 @@
+package com.swcampus.domain.analytics;
+
+/**
+ * 자체 수집 이벤트 유형
+ * - eventName은 GA4 이벤트 이름과 맞춰 관리자 통계 화면에서 같은 이름으로 보이도록 한다
+ */
+public enum AnalyticsEventType {
+    LECTURE_VIEW("page_view", Target.LECTURE),
+    LECTURE_APPLY_CLICK("apply_button_click", Target.LECTURE),
+    LECTURE_SHARE("share", Target.LECTURE),
+    BANNER_CLICK("banner_click", Target.BANNER),
+    SEARCH("search", Target.NONE);
+
+    /**
+     * 이벤트 대상 (NONE: 대상 ID 대신 검색어로 집계)
+     */
+    public enum Target {
+        LECTURE, BANNER, NONE
+    }
+
+    private final String eventName;
+    private final Target target;
+
+    AnalyticsEventType(String eventName, Target target) {
+        this.eventName = eventName;
+        this.target = target;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    /**
+     * true: 강의/배너 ID 필요, false: 검색어 필요
+     */
+    public boolean isTargeted() {
+        return target != Target.NONE;
+    }
+}
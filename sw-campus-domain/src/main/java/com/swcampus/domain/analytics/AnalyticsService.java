@@ -8,7 +8,9 @@ import org.springframework.stereotype.Service;
 /**
  * Analytics 서비스 (Domain Layer)
  * 
- * Caffeine 캐시를 사용하여 GA4 API 호출 결과를 5분간 캐싱합니다.
+ * Caffeine 캐시를 사용하여 GA4 API 호출 결과를 캐싱합니다. (CacheConfig)
+ * - 캐시 미스는 sync 모드로 한 번만 조회하고, 갱신 주기가 지난 값은 그대로 반환하면서 백그라운드에서 다시 조회합니다.
+ *   백그라운드 갱신은 캐시 키로 AnalyticsRepository를 직접 호출하므로, 캐시 키는 보정이 필요 없는 값(양수)일 때만 사용합니다.
  */
 @Service
 public class AnalyticsService {
@@ -28,7 +30,7 @@ public class AnalyticsService {
      * @param daysAgo 조회할 일수 (기본값: 7)
      * @return AnalyticsReport
      */
-    @Cacheable(value = "analyticsReport", key = "#daysAgo")
+    @Cacheable(value = "analyticsReport", key = "#daysAgo", condition = "#daysAgo > 0", sync = true)
     public AnalyticsReport getReport(int daysAgo) {
         if (daysAgo <= 0) {
             daysAgo = DEFAULT_DAYS;
@@ -42,7 +44,7 @@ public class AnalyticsService {
      * @param daysAgo 조회할 일수 (기본값: 7)
      * @return EventStats
      */
-    @Cacheable(value = "eventStats", key = "#daysAgo")
+    @Cacheable(value = "eventStats", key = "#daysAgo", condition = "#daysAgo > 0", sync = true)
     public EventStats getEventStats(int daysAgo) {
         if (daysAgo <= 0) {
             daysAgo = DEFAULT_DAYS;
@@ -53,7 +55,7 @@ public class AnalyticsService {
     /**
      * 클릭 수 높은 순으로 배너 통계를 조회합니다.
      */
-    @Cacheable(value = "topBanners", key = "#daysAgo + '-' + #limit")
+    @Cacheable(value = "topBanners", key = "{#daysAgo, #limit}", condition = "#daysAgo > 0 and #limit > 0", sync = true)
     public List<BannerClickStats> getTopBannersByClicks(int daysAgo, int limit) {
         if (daysAgo <= 0) daysAgo = DEFAULT_DAYS;
         if (limit <= 0) limit = DEFAULT_LIMIT;
@@ -63,7 +65,7 @@ public class AnalyticsService {
     /**
      * 클릭 수 높은 순으로 강의 통계를 조회합니다.
      */
-    @Cacheable(value = "topLectures", key = "#daysAgo + '-' + #limit")
+    @Cacheable(value = "topLectures", key = "{#daysAgo, #limit}", condition = "#daysAgo > 0 and #limit > 0", sync = true)
     public List<LectureClickStats> getTopLecturesByClicks(int daysAgo, int limit) {
         if (daysAgo <= 0) daysAgo = DEFAULT_DAYS;
         if (limit <= 0) limit = DEFAULT_LIMIT;
@@ -73,7 +75,7 @@ public class AnalyticsService {
     /**
      * 페이지 조회수 기준 인기 강의 목록을 조회합니다.
      */
-    @Cacheable(value = "popularLectures", key = "#daysAgo + '-' + #limit")
+    @Cacheable(value = "popularLectures", key = "{#daysAgo, #limit}", condition = "#daysAgo > 0 and #limit > 0", sync = true)
     public List<PopularLecture> getPopularLectures(int daysAgo, int limit) {
         if (daysAgo <= 0) daysAgo = DEFAULT_DAYS;
         if (limit <= 0) limit = DEFAULT_LIMIT;
@@ -83,7 +85,7 @@ public class AnalyticsService {
     /**
      * 검색 횟수 기준 인기 검색어 목록을 조회합니다.
      */
-    @Cacheable(value = "popularSearchTerms", key = "#daysAgo + '-' + #limit")
+    @Cacheable(value = "popularSearchTerms", key = "{#daysAgo, #limit}", condition = "#daysAgo > 0 and #limit > 0", sync = true)
     public List<PopularSearchTerm> getPopularSearchTerms(int daysAgo, int limit) {
         if (daysAgo <= 0) daysAgo = DEFAULT_DAYS;
         if (limit <= 0) limit = DEFAULT_LIMIT;
@@ -93,7 +95,7 @@ public class AnalyticsService {
     /**
      * 트래픽 소스별 세션/사용자 통계를 조회합니다.
      */
-    @Cacheable(value = "trafficSources", key = "#daysAgo + '-' + #limit")
+    @Cacheable(value = "trafficSources", key = "{#daysAgo, #limit}", condition = "#daysAgo > 0 and #limit > 0", sync = true)
     public List<TrafficSource> getTrafficSources(int daysAgo, int limit) {
         if (daysAgo <= 0) daysAgo = DEFAULT_DAYS;
         if (limit <= 0) limit = DEFAULT_LIMIT;
@@ -5,8 +5,6 @@ import com.swcampus.domain.auth.exception.DuplicateEmailException;
 import com.swcampus.domain.auth.exception.DuplicateOrganizationMemberException;
 import com.swcampus.domain.auth.exception.EmailNotVerifiedException;
 import com.swcampus.domain.auth.exception.InvalidCredentialsException;
-import com.swcampus.domain.auth.exception.InvalidTokenException;
-import com.swcampus.domain.auth.exception.TokenExpiredException;
 import com.swcampus.domain.member.Member;
 import com.swcampus.domain.member.MemberRepository;
 import com.swcampus.domain.member.Role;
@@ -18,6 +16,7 @@ import com.swcampus.domain.storage.FileStorageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -28,7 +27,7 @@ public class AuthService {
     private final MemberRepository memberRepository;
     private final OrganizationRepository organizationRepository;
     private final EmailVerificationRepository emailVerificationRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final PasswordEncoder passwordEncoder;
     private final PasswordValidator passwordValidator;
     private final FileStorageService fileStorageService;
@@ -168,23 +167,18 @@ public class AuthService {
             throw new InvalidCredentialsException();
         }
 
-        // 3. 기존 Refresh Token 삭제 (동시 로그인 제한)
-        refreshTokenRepository.deleteByMemberId(member.getId());
+        // 비밀번호 해싱 비용이 바뀐 경우 새 비용으로 다시 해싱 (원문을 아는 로그인 시점에만 가능)
+        if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+            member.changePassword(passwordEncoder.encode(password));
+            memberRepository.save(member);
+        }
 
-        // 4. 토큰 생성
+        // 3. 토큰 생성 (새 로그인 세션, 최대 세션 수를 넘으면 오래된 세션 폐기)
         String accessToken = tokenProvider.createAccessToken(
                 member.getId(), member.getEmail(), member.getRole());
-        String refreshToken = tokenProvider.createRefreshToken(member.getId());
-
-        // 5. Refresh Token 저장
-        RefreshToken refreshTokenEntity = RefreshToken.create(
-                member.getId(),
-                refreshToken,
-                tokenProvider.getRefreshTokenValidity()
-        );
-        refreshTokenRepository.save(refreshTokenEntity);
+        String refreshToken = refreshTokenService.issue(member);
 
-        // 6. ORGANIZATION인 경우 Organization 정보 조회
+        // 4. ORGANIZATION인 경우 Organization 정보 조회
         Organization organization = null;
         if (member.getRole() == Role.ORGANIZATION && member.getOrgId() != null) {
             organization = organizationRepository.findById(member.getOrgId()).orElse(null);
@@ -193,43 +187,21 @@ public class AuthService {
         return new LoginResult(accessToken, refreshToken, member, organization);
     }
 
-    public void logout(Long memberId) {
-        refreshTokenRepository.deleteByMemberId(memberId);
+    /**
+     * 로그아웃 (Refresh Token의 세션만 폐기, 토큰이 없으면 회원의 모든 세션 폐기)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void logout(Long memberId, String refreshToken) {
+        refreshTokenService.revoke(memberId, refreshToken);
     }
 
-    public String refresh(String refreshToken) {
-        // 1. Refresh Token 유효성 검증
-        if (!tokenProvider.validateToken(refreshToken)) {
-            throw new InvalidTokenException();
-        }
-
-        // 2. 토큰에서 사용자 ID 추출
-        Long memberId = tokenProvider.getMemberId(refreshToken);
-
-        // 3. DB에서 저장된 Refresh Token 조회
-        RefreshToken storedToken = refreshTokenRepository.findByMemberId(memberId)
-                .orElseThrow(InvalidTokenException::new);
-
-        // 4. 토큰 값 일치 확인 (동시 로그인 제한)
-        if (!storedToken.getToken().equals(refreshToken)) {
-            throw new InvalidTokenException();
-        }
-
-        // 5. 만료 확인
-        if (storedToken.isExpired()) {
-            refreshTokenRepository.deleteByMemberId(memberId);
-            throw new TokenExpiredException();
-        }
-
-        // 6. 사용자 정보 조회
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(InvalidTokenException::new);
-
-        // 7. 새 Access Token 발급
-        return tokenProvider.createAccessToken(
-                member.getId(),
-                member.getEmail(),
-                member.getRole()
-        );
+    /**
+     * Access Token 재발급 (Refresh Token 회전)
+     * - 회전하지 않은 경우(동시 갱신 유예) refreshToken은 null
+     * - 트랜잭션을 열지 않아 Redis 저장소 사용 시 DB 커넥션을 잡지 않는다
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TokenInfo refresh(String refreshToken) {
+        return refreshTokenService.rotate(refreshToken);
     }
 }
@@ -3,10 +3,10 @@ package com.swcampus.domain.auth;
 import com.swcampus.domain.auth.exception.DuplicateEmailException;
 import com.swcampus.domain.auth.exception.EmailVerificationExpiredException;
 import com.swcampus.domain.auth.exception.InvalidTokenException;
+import com.swcampus.domain.mail.MailOutboxService;
 import com.swcampus.domain.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,7 +17,7 @@ public class EmailService {
 
     private final EmailVerificationRepository emailVerificationRepository;
     private final MemberRepository memberRepository;
-    private final MailSender mailSender;
+    private final MailOutboxService mailOutboxService;
 
     @Value("${app.frontend-url:http://localhost:3000}")
     private String frontendUrl;
@@ -35,12 +35,12 @@ public class EmailService {
         EmailVerification verification = EmailVerification.create(email);
         emailVerificationRepository.save(verification);
 
-        // 이메일 발송 (signupType을 쿼리 파라미터로 포함)
+        // 이메일 발송 대기열에 기록 (signupType을 쿼리 파라미터로 포함)
         String verifyUrl = frontendUrl + "/auth/verify?token=" + verification.getToken() + "&type=" + signupType;
         String subject = "[SW Campus] 이메일 인증";
         String content = buildEmailContent(verifyUrl);
 
-        mailSender.send(email, subject, content);
+        mailOutboxService.enqueue("email-verification:" + verification.getToken(), email, subject, content);
     }
 
     public String verifyEmail(String token) {
@@ -67,18 +67,16 @@ public class EmailService {
         return emailVerificationRepository.findByEmailAndVerified(email, true).isPresent();
     }
 
-    @Async
-    public void sendApprovalEmail(String memberEmail, String organizationName) {
+    public void sendApprovalEmail(Long organizationId, String memberEmail, String organizationName) {
         String subject = "[SW Campus] 기관 회원가입 승인 완료";
         String content = buildApprovalEmailContent(organizationName);
-        mailSender.send(memberEmail, subject, content);
+        mailOutboxService.enqueue("organization-approval:" + organizationId, memberEmail, subject, content);
     }
 
-    @Async
-    public void sendRejectionEmail(String memberEmail, String adminEmail, String adminPhone) {
+    public void sendRejectionEmail(Long organizationId, String memberEmail, String adminEmail, String adminPhone) {
         String subject = "[SW Campus] 기관 회원가입 반려 안내";
         String content = buildRejectionEmailContent(adminEmail, adminPhone);
-        mailSender.send(memberEmail, subject, content);
+        mailOutboxService.enqueue("organization-rejection:" + organizationId, memberEmail, subject, content);
     }
 
     private String buildApprovalEmailContent(String organizationName) {
@@ -1,5 +1,9 @@
 package com.swcampus.domain.auth;
 
+import com.swcampus.domain.mail.OutboxMail;
+
+import java.util.List;
+
 /**
  * 이메일 발송 인터페이스
  * <p>
@@ -15,4 +19,12 @@ public interface MailSender {
      * @param content 본문 (HTML 지원)
      */
     void send(String to, String subject, String content);
+
+    /**
+     * 여러 이메일을 하나의 SMTP 연결로 발송합니다.
+     *
+     * @param mails 발송할 메일
+     * @return 발송에 실패한 메일 (전부 성공하면 빈 목록)
+     */
+    List<OutboxMail> sendAll(List<OutboxMail> mails);
 }
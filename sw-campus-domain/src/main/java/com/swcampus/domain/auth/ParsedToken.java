@@ -0,0 +1,47 @@
+package com.swcampus.domain.auth;
+
+import com.swcampus.domain.member.Role;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 Access Token의 파싱 결과.
+ * 요청당 한 번만 파싱하기 위해 검증 결과와 클레임을 함께 담는다.
+ *
+ * @param result 검증 결과 (VALID가 아니면 나머지 필드는 null)
+ * @param memberId 회원 ID
+ * @param email 이메일
+ * @param role 역할
+ * @param expiresAt 만료 시각
+ */
+public record ParsedToken(
+        TokenValidationResult result,
+        Long memberId,
+        String email,
+        Role role,
+        Instant expiresAt
+) {
+
+    private static final ParsedToken EXPIRED = new ParsedToken(TokenValidationResult.EXPIRED, null, null, null, null);
+    private static final ParsedToken INVALID = new ParsedToken(TokenValidationResult.INVALID, null, null, null, null);
+
+    public static ParsedToken valid(Long memberId, String email, Role role, Instant expiresAt) {
+        return new ParsedToken(TokenValidationResult.VALID, memberId, email, role, expiresAt);
+    }
+
+    public static ParsedToken expired() {
+        return EXPIRED;
+    }
+
+    public static ParsedToken invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return result == TokenValidationResult.VALID;
+    }
+
+    public MemberPrincipal toPrincipal() {
+        return new MemberPrincipal(memberId, email, role);
+    }
+}
@@ -1,35 +1,61 @@
 package com.swcampus.domain.auth;
 
+import com.swcampus.domain.member.Role;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Base64;
 
+/**
+ * 로그인 세션(기기)별 Refresh Token
+ * - 토큰 원문 대신 SHA-256 해시만 저장한다
+ * - 갱신할 때마다 토큰을 회전하며, 직전 토큰 해시는 동시 갱신 요청을 허용하기 위해 잠시 남겨 둔다
+ * - email/role 스냅샷으로 갱신 시 회원을 다시 조회하지 않고 Access Token을 발급한다
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
-    private Long id;
+    private String sessionId;
     private Long memberId;
-    private String token;
+    private String tokenHash;
+    private String previousTokenHash;
+    private LocalDateTime rotatedAt;
+    private String email;
+    private Role role;
     private LocalDateTime expiresAt;
     private LocalDateTime createdAt;
 
-    public static RefreshToken create(Long memberId, String token, long expirationSeconds) {
+    public static RefreshToken create(String sessionId, Long memberId, String token,
+                                      String email, Role role, long expirationSeconds) {
         RefreshToken rt = new RefreshToken();
+        rt.sessionId = sessionId;
         rt.memberId = memberId;
-        rt.token = token;
+        rt.tokenHash = hash(token);
+        rt.email = email;
+        rt.role = role;
         rt.expiresAt = LocalDateTime.now().plusSeconds(expirationSeconds);
         rt.createdAt = LocalDateTime.now();
         return rt;
     }
 
-    public static RefreshToken of(Long id, Long memberId, String token,
+    public static RefreshToken of(String sessionId, Long memberId, String tokenHash,
+                                  String previousTokenHash, LocalDateTime rotatedAt,
+                                  String email, Role role,
                                   LocalDateTime expiresAt, LocalDateTime createdAt) {
         RefreshToken rt = new RefreshToken();
-        rt.id = id;
+        rt.sessionId = sessionId;
         rt.memberId = memberId;
-        rt.token = token;
+        rt.tokenHash = tokenHash;
+        rt.previousTokenHash = previousTokenHash;
+        rt.rotatedAt = rotatedAt;
+        rt.email = email;
+        rt.role = role;
         rt.expiresAt = expiresAt;
         rt.createdAt = createdAt;
         return rt;
@@ -39,8 +65,30 @@ public class RefreshToken {
         return LocalDateTime.now().isAfter(expiresAt);
     }
 
-    public void updateToken(String newToken, long expirationSeconds) {
-        this.token = newToken;
-        this.expiresAt = LocalDateTime.now().plusSeconds(expirationSeconds);
+    /**
+     * 현재 유효한 토큰인지 확인
+     */
+    public boolean isCurrent(String token) {
+        return tokenHash.equals(hash(token));
+    }
+
+    /**
+     * 유예 시간 안에 회전된 직전 토큰인지 확인 (여러 탭에서 동시에 갱신한 경우)
+     */
+    public boolean isRecentlyRotated(String token, Duration gracePeriod) {
+        return previousTokenHash != null
+                && rotatedAt != null
+                && previousTokenHash.equals(hash(token))
+                && LocalDateTime.now().isBefore(rotatedAt.plus(gracePeriod));
+    }
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
     }
 }
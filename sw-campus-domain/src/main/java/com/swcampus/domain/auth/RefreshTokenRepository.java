@@ -1,10 +1,34 @@
 package com.swcampus.domain.auth;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
+/**
+ * 로그인 세션별 Refresh Token 저장소
+ * - 기본 구현은 Redis, auth.refresh-token.store=postgres로 DB 구현을 선택할 수 있다
+ */
 public interface RefreshTokenRepository {
-    RefreshToken save(RefreshToken refreshToken);
-    Optional<RefreshToken> findByMemberId(Long memberId);
-    Optional<RefreshToken> findByToken(String token);
+
+    /**
+     * 새 세션을 저장합니다.
+     * 회원의 세션 수가 maxSessions를 넘으면 오래된 세션부터 폐기합니다.
+     */
+    void save(RefreshToken refreshToken, int maxSessions);
+
+    Optional<RefreshToken> findBySessionId(Long memberId, String sessionId);
+
+    /**
+     * 현재 토큰 해시가 expectedTokenHash인 경우에만 새 토큰으로 교체합니다. (compare-and-set)
+     * 교체된 토큰 해시는 previousTokenHash로 남습니다.
+     *
+     * @return 교체 성공 여부 (다른 요청이 먼저 회전했거나 세션이 없으면 false)
+     */
+    boolean rotate(Long memberId, String sessionId, String expectedTokenHash, String newTokenHash, LocalDateTime expiresAt);
+
+    void deleteBySessionId(Long memberId, String sessionId);
+
+    /**
+     * 회원의 모든 세션을 폐기합니다. (회원 탈퇴 등)
+     */
     void deleteByMemberId(Long memberId);
 }
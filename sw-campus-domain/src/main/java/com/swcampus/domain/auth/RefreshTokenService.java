@@ -0,0 +1,122 @@
+package com.swcampus.domain.auth;
+
+import com.swcampus.domain.auth.exception.InvalidTokenException;
+import com.swcampus.domain.auth.exception.TokenExpiredException;
+import com.swcampus.domain.member.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh Token 발급/회전/폐기
+ * - 로그인마다 세션(기기)을 새로 만들고, 회원당 최대 maxSessions개까지 유지한다 (초과 시 오래된 세션부터 폐기)
+ * - 갱신할 때마다 Refresh Token을 회전한다. 이미 회전된 토큰이 다시 쓰이면 탈취로 보고 해당 세션을 폐기한다
+ * - 갱신은 세션에 저장된 email/role로 Access Token을 발급하므로 회원을 조회하지 않는다
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenProvider tokenProvider;
+    private final int maxSessions;
+    private final Duration reuseGracePeriod;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            TokenProvider tokenProvider,
+            @Value("${auth.refresh-token.max-sessions:1}") int maxSessions,
+            @Value("${auth.refresh-token.reuse-grace-seconds:10}") long reuseGraceSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenProvider = tokenProvider;
+        this.maxSessions = maxSessions;
+        this.reuseGracePeriod = Duration.ofSeconds(reuseGraceSeconds);
+    }
+
+    /**
+     * 새 로그인 세션을 만들고 Refresh Token을 발급합니다.
+     */
+    public String issue(Member member) {
+        String sessionId = UUID.randomUUID().toString();
+        String refreshToken = tokenProvider.createRefreshToken(member.getId(), sessionId);
+
+        refreshTokenRepository.save(RefreshToken.create(
+                sessionId,
+                member.getId(),
+                refreshToken,
+                member.getEmail(),
+                member.getRole(),
+                tokenProvider.getRefreshTokenValidity()
+        ), maxSessions);
+
+        return refreshToken;
+    }
+
+    /**
+     * Refresh Token으로 새 Access Token을 발급하고 Refresh Token을 회전합니다.
+     * 유예 시간 안에 직전 토큰으로 들어온 동시 요청에는 Access Token만 발급합니다. (refreshToken = null)
+     *
+     * @throws InvalidTokenException 유효하지 않거나 폐기된 토큰, 재사용이 감지된 토큰
+     * @throws TokenExpiredException 세션이 만료된 경우
+     */
+    public TokenInfo rotate(String refreshToken) {
+        if (!tokenProvider.validateToken(refreshToken)) {
+            throw new InvalidTokenException();
+        }
+
+        Long memberId = tokenProvider.getMemberId(refreshToken);
+        String sessionId = tokenProvider.getSessionId(refreshToken);
+        if (sessionId == null) {
+            throw new InvalidTokenException();
+        }
+
+        RefreshToken session = refreshTokenRepository.findBySessionId(memberId, sessionId)
+                .orElseThrow(InvalidTokenException::new);
+
+        if (session.isExpired()) {
+            refreshTokenRepository.deleteBySessionId(memberId, sessionId);
+            throw new TokenExpiredException();
+        }
+
+        String accessToken = tokenProvider.createAccessToken(memberId, session.getEmail(), session.getRole());
+
+        if (session.isCurrent(refreshToken)) {
+            String rotated = tokenProvider.createRefreshToken(memberId, sessionId);
+            boolean swapped = refreshTokenRepository.rotate(
+                    memberId,
+                    sessionId,
+                    session.getTokenHash(),
+                    RefreshToken.hash(rotated),
+                    LocalDateTime.now().plusSeconds(tokenProvider.getRefreshTokenValidity())
+            );
+            // 다른 요청이 먼저 회전한 경우: 그 요청이 내려준 토큰을 그대로 쓰도록 Access Token만 발급
+            return new TokenInfo(accessToken, swapped ? rotated : null);
+        }
+
+        if (session.isRecentlyRotated(refreshToken, reuseGracePeriod)) {
+            return new TokenInfo(accessToken, null);
+        }
+
+        // 이미 회전된 토큰의 재사용: 토큰이 유출된 것으로 보고 세션 전체를 폐기
+        log.warn("Refresh token reuse detected. memberId={}, sessionId={}", memberId, sessionId);
+        refreshTokenRepository.deleteBySessionId(memberId, sessionId);
+        throw new InvalidTokenException();
+    }
+
+    /**
+     * 로그아웃: Refresh Token의 세션만 폐기합니다.
+     * 토큰이 없거나 읽을 수 없으면 회원의 모든 세션을 폐기합니다.
+     */
+    public void revoke(Long memberId, String refreshToken) {
+        String sessionId = tokenProvider.validateToken(refreshToken) ? tokenProvider.getSessionId(refreshToken) : null;
+        if (sessionId == null) {
+            refreshTokenRepository.deleteByMemberId(memberId);
+            return;
+        }
+        refreshTokenRepository.deleteBySessionId(memberId, sessionId);
+    }
+}
@@ -1,5 +1,8 @@
 package com.swcampus.domain.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.swcampus.domain.member.Role;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -7,31 +10,54 @@ import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class TokenProvider {
 
+    private static final long DEFAULT_VERIFIED_CACHE_SIZE = 10_000L;
+
     private final SecretKey secretKey;
     private final JwtParser jwtParser;
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
 
+    // 검증을 통과한 Access Token 캐시 (key: 토큰 SHA-256 해시, 토큰 만료 시각까지 유지)
+    private final Cache<String, ParsedToken> verifiedTokenCache;
+
+    public TokenProvider(String secret, long accessTokenValidity, long refreshTokenValidity) {
+        this(secret, accessTokenValidity, refreshTokenValidity, DEFAULT_VERIFIED_CACHE_SIZE);
+    }
+
+    @Autowired
     public TokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidity,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity) {
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheMaximumSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.jwtParser = Jwts.parser()
                 .verifyWith(secretKey)
                 .build();
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(Expiry.creating((String key, ParsedToken parsed) ->
+                        Duration.between(Instant.now(), parsed.expiresAt())))
+                .build();
     }
 
     public String createAccessToken(Long memberId, String email, Role role) {
@@ -48,12 +74,19 @@ public class TokenProvider {
                 .compact();
     }
 
-    public String createRefreshToken(Long memberId) {
+    /**
+     * Refresh Token 생성
+     * - sid: 로그인 세션(기기) ID, 토큰을 회전해도 유지된다
+     * - jti: 같은 초에 회전해도 토큰 값이 달라지도록 매번 새로 발급한다
+     */
+    public String createRefreshToken(Long memberId, String sessionId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + refreshTokenValidity * 1000);
 
         return Jwts.builder()
                 .subject(String.valueOf(memberId))
+                .id(UUID.randomUUID().toString())
+                .claim("sid", sessionId)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(secretKey)
@@ -72,18 +105,27 @@ public class TokenProvider {
         }
     }
 
-    public TokenValidationResult validateTokenWithResult(String token) {
+    /**
+     * Access Token을 한 번만 파싱하여 검증 결과와 클레임을 함께 반환한다.
+     * 이미 검증된 토큰은 만료 시각까지 캐시에서 반환하므로 서명 검증을 다시 하지 않는다.
+     * role 클레임이 없는 토큰(Refresh Token 등)은 INVALID로 처리한다.
+     */
+    public ParsedToken parseAccessToken(String token) {
         if (token == null || token.isBlank()) {
-            return TokenValidationResult.INVALID;
+            return ParsedToken.invalid();
         }
-        try {
-            jwtParser.parseSignedClaims(token);
-            return TokenValidationResult.VALID;
-        } catch (ExpiredJwtException e) {
-            return TokenValidationResult.EXPIRED;
-        } catch (JwtException | IllegalArgumentException e) {
-            return TokenValidationResult.INVALID;
+
+        String cacheKey = hash(token);
+        ParsedToken cached = verifiedTokenCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
         }
+
+        ParsedToken parsed = verifyAccessToken(token);
+        if (parsed.isValid()) {
+            verifiedTokenCache.put(cacheKey, parsed);
+        }
+        return parsed;
     }
 
     public Long getMemberId(String token) {
@@ -91,6 +133,14 @@ public class TokenProvider {
         return Long.parseLong(claims.getSubject());
     }
 
+    /**
+     * Refresh Token의 세션 ID (sid 클레임이 없으면 null)
+     */
+    public String getSessionId(String token) {
+        Claims claims = parseClaims(token);
+        return claims.get("sid", String.class);
+    }
+
     public String getEmail(String token) {
         Claims claims = parseClaims(token);
         return claims.get("email", String.class);
@@ -109,6 +159,35 @@ public class TokenProvider {
         return refreshTokenValidity;
     }
 
+    private ParsedToken verifyAccessToken(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            String role = claims.get("role", String.class);
+            if (role == null || claims.getExpiration() == null) {
+                return ParsedToken.invalid();
+            }
+            return ParsedToken.valid(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    Role.valueOf(role),
+                    claims.getExpiration().toInstant());
+        } catch (ExpiredJwtException e) {
+            return ParsedToken.expired();
+        } catch (JwtException | IllegalArgumentException e) {
+            return ParsedToken.invalid();
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
     private Claims parseClaims(String token) {
         return jwtParser.parseSignedClaims(token)
                 .getPayload();
@@ -7,5 +7,4 @@ public interface BoardCategoryRepository {
     List<BoardCategory> findAll();
     Optional<BoardCategory> findById(Long id);
     BoardCategory save(BoardCategory boardCategory);
-    List<Long> findRecursiveChildIds(Long parentId);
 }
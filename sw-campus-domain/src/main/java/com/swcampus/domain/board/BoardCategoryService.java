@@ -1,6 +1,7 @@
 package com.swcampus.domain.board;
 
 import com.swcampus.domain.board.exception.BoardCategoryNotFoundException;
+import com.swcampus.domain.category.CategoryHierarchy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +18,9 @@ public class BoardCategoryService {
 
     private final BoardCategoryRepository boardCategoryRepository;
 
+    // 하위 카테고리 조회용 계층 (최초 조회 또는 refreshHierarchy 시 적재)
+    private volatile CategoryHierarchy hierarchy;
+
     public List<BoardCategory> getCategoryTree() {
         List<BoardCategory> allCategories = boardCategoryRepository.findAll();
         return buildTree(allCategories);
@@ -33,9 +37,28 @@ public class BoardCategoryService {
 
     /**
      * 특정 카테고리와 그 하위 카테고리의 ID 목록을 반환합니다.
+     * 게시글 목록 조회마다 재귀 쿼리를 실행하지 않도록 메모리의 계층에서 계산합니다.
      */
     public List<Long> getChildCategoryIds(Long categoryId) {
-        return boardCategoryRepository.findRecursiveChildIds(categoryId);
+        return getHierarchy().getDescendantIds(categoryId);
+    }
+
+    /**
+     * 카테고리 계층을 DB에서 다시 적재합니다.
+     */
+    public void refreshHierarchy() {
+        Map<Long, Long> parentIds = new HashMap<>();
+        for (BoardCategory category : boardCategoryRepository.findAll()) {
+            parentIds.put(category.getId(), category.getPid());
+        }
+        this.hierarchy = CategoryHierarchy.of(parentIds);
+    }
+
+    private CategoryHierarchy getHierarchy() {
+        if (hierarchy == null) {
+            refreshHierarchy();
+        }
+        return hierarchy;
     }
 
     private List<BoardCategory> buildTree(List<BoardCategory> categories) {
@@ -4,8 +4,10 @@ import com.swcampus.domain.cart.exception.AlreadyInCartException;
 import com.swcampus.domain.cart.exception.CartLimitExceededException;
 
 import com.swcampus.domain.lecture.Lecture;
-import com.swcampus.domain.lecture.LectureRepository;
+import com.swcampus.domain.lecture.LectureService;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,7 +18,7 @@ public class CartService {
 
     private final CartRepository cartRepository;
     private final CartCacheRepository cartCacheRepository;
-    private final LectureRepository lectureRepository;
+    private final LectureService lectureService;
 
     /**
      * 장바구니에 강의를 추가합니다.
@@ -69,6 +71,7 @@ public class CartService {
      * <p>
      * 성능 적화를 위해 캐시(`CartCacheRepository`)를 우선 조회하며,
      * 캐시 미스 시 DB에서 조회하고 캐시를 갱신합니다.
+     * 강의 정보는 강의 캐시를 일괄 조회하고 미스분만 DB에서 가져옵니다.
      * </p>
      *
      * @param userId 사용자 ID
@@ -80,8 +83,7 @@ public class CartService {
         List<Long> cachedIds = cartCacheRepository.getCartLectureIds(userId);
 
         if (cachedIds != null && !cachedIds.isEmpty()) {
-            // 장바구니에서는 리뷰 통계 불필요 → 쿼리 1회 절약
-            return lectureRepository.findAllByIdsWithoutReviewStats(cachedIds);
+            return getLecturesInOrder(cachedIds);
         }
 
         // 2. Fallback DB
@@ -97,7 +99,14 @@ public class CartService {
             return List.of();
         }
 
-        // 장바구니에서는 리뷰 통계 불필요 → 쿼리 1회 절약
-        return lectureRepository.findAllByIdsWithoutReviewStats(lectureIds);
+        return getLecturesInOrder(lectureIds);
+    }
+
+    private List<Lecture> getLecturesInOrder(List<Long> lectureIds) {
+        Map<Long, Lecture> lectureMap = lectureService.getLecturesByIds(lectureIds);
+        return lectureIds.stream()
+                .map(lectureMap::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 }
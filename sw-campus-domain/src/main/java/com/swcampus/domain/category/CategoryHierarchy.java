@@ -0,0 +1,65 @@
+package com.swcampus.domain.category;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리 계층의 클로저 (카테고리 ID -> 자기 자신을 포함한 전체 자손 ID)
+ * - 생성 시 한 번 계산해 두고, 이후 자손 조회는 Map 조회 한 번으로 끝난다
+ * - 불변 객체이므로 갱신 시에는 새로 만들어 교체한다
+ */
+public final class CategoryHierarchy {
+
+	private final Map<Long, List<Long>> descendantIds;
+
+	private CategoryHierarchy(Map<Long, List<Long>> descendantIds) {
+		this.descendantIds = descendantIds;
+	}
+
+	/**
+	 * @param parentIds 카테고리 ID -> 부모 카테고리 ID (루트는 null)
+	 */
+	public static CategoryHierarchy of(Map<Long, Long> parentIds) {
+		Map<Long, Set<Long>> closure = new HashMap<>();
+		for (Long categoryId : parentIds.keySet()) {
+			// 자신과 모든 조상의 자손 목록에 추가 (순환 참조 방지)
+			Set<Long> visited = new HashSet<>();
+			Long current = categoryId;
+			while (current != null && visited.add(current)) {
+				closure.computeIfAbsent(current, id -> new LinkedHashSet<>()).add(categoryId);
+				current = parentIds.get(current);
+			}
+		}
+
+		Map<Long, List<Long>> descendantIds = new HashMap<>();
+		closure.forEach((id, descendants) -> descendantIds.put(id, List.copyOf(descendants)));
+		return new CategoryHierarchy(Map.copyOf(descendantIds));
+	}
+
+	/**
+	 * 자기 자신을 포함한 전체 자손 ID (계층에 없는 ID는 자기 자신만 반환)
+	 */
+	public List<Long> getDescendantIds(Long categoryId) {
+		return descendantIds.getOrDefault(categoryId, List.of(categoryId));
+	}
+
+	/**
+	 * 여러 카테고리의 자손 ID 합집합 (중복 제거)
+	 */
+	public List<Long> getDescendantIds(Collection<Long> categoryIds) {
+		if (categoryIds.size() == 1) {
+			return getDescendantIds(categoryIds.iterator().next());
+		}
+		Set<Long> result = new LinkedHashSet<>();
+		for (Long categoryId : categoryIds) {
+			result.addAll(getDescendantIds(categoryId));
+		}
+		return new ArrayList<>(result);
+	}
+}
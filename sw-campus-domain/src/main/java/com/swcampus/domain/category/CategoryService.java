@@ -1,6 +1,8 @@
 package com.swcampus.domain.category;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -17,6 +19,9 @@ public class CategoryService {
 	private final CategoryRepository categoryRepository;
 	private final CurriculumRepository curriculumRepository;
 
+	// 하위 카테고리 조회용 계층 (최초 조회 또는 refreshHierarchy 시 적재)
+	private volatile CategoryHierarchy hierarchy;
+
 	@Transactional(readOnly = true)
 	public List<Curriculum> getCurriculumsByCategoryId(Long categoryId) {
 		return curriculumRepository.findByCategoryId(categoryId);
@@ -54,4 +59,31 @@ public class CategoryService {
 	public List<Category> getAllCategories() {
 		return categoryRepository.findAll();
 	}
+
+	/**
+	 * 카테고리와 그 하위 카테고리 전체의 ID 목록 (DB 조회 없이 메모리에서 계산)
+	 */
+	public List<Long> getDescendantIds(Collection<Long> categoryIds) {
+		return getHierarchy().getDescendantIds(categoryIds);
+	}
+
+	/**
+	 * 카테고리 계층을 DB에서 다시 적재합니다.
+	 */
+	@Transactional(readOnly = true)
+	public void refreshHierarchy() {
+		Map<Long, Long> parentIds = new HashMap<>();
+		for (Category category : categoryRepository.findAll()) {
+			Long pid = category.getPid();
+			parentIds.put(category.getCategoryId(), (pid == null || pid == 0) ? null : pid);
+		}
+		this.hierarchy = CategoryHierarchy.of(parentIds);
+	}
+
+	private CategoryHierarchy getHierarchy() {
+		if (hierarchy == null) {
+			refreshHierarchy();
+		}
+		return hierarchy;
+	}
 }
@@ -0,0 +1,10 @@
+package com.swcampus.domain.comment;
+
+/**
+ * 추천 수 갱신 결과
+ *
+ * @param postId 댓글이 속한 게시글 ID (댓글 트리 캐시 반영용)
+ * @param likeCount 갱신 후 추천 수
+ */
+public record CommentLikeCount(Long postId, long likeCount) {
+}
@@ -13,11 +13,25 @@ public interface CommentRepository {
 
     List<Comment> findByPostId(Long postId);
 
-    long countByPostId(Long postId);
-
-    java.util.Map<Long, Long> countByPostIds(java.util.List<Long> postIds);
-
-    void incrementLikeCount(Long commentId);
-
-    void decrementLikeCount(Long commentId);
+    /**
+     * @return 게시글 ID와 갱신 후 추천 수 (댓글이 없으면 empty)
+     */
+    Optional<CommentLikeCount> incrementLikeCount(Long commentId);
+
+    /**
+     * @return 게시글 ID와 갱신 후 추천 수 (추천 수가 이미 0이거나 댓글이 없으면 empty)
+     */
+    Optional<CommentLikeCount> decrementLikeCount(Long commentId);
+
+    /**
+     * 댓글 ID 최댓값 (카운터 보정 범위 계산용, 댓글이 없으면 0)
+     */
+    long findMaxId();
+
+    /**
+     * (fromId, toId] 구간 댓글의 추천 수를 comment_likes 기준으로 다시 맞춥니다.
+     *
+     * @return 보정된 댓글 수
+     */
+    int reconcileLikeCounts(long fromId, long toId);
 }
@@ -2,8 +2,9 @@ package com.swcampus.domain.comment;
 
 import com.swcampus.domain.comment.exception.CommentAccessDeniedException;
 import com.swcampus.domain.comment.exception.CommentNotFoundException;
-import com.swcampus.domain.notification.Notification;
-import com.swcampus.domain.notification.NotificationService;
+import com.swcampus.domain.common.AfterCommit;
+import com.swcampus.domain.common.CursorPage;
+import com.swcampus.domain.notification.NotificationOutboxService;
 import com.swcampus.domain.notification.NotificationType;
 import com.swcampus.domain.post.Post;
 import com.swcampus.domain.post.PostRepository;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -21,7 +23,8 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final CommentTreeCacheRepository commentTreeCacheRepository;
 
     @Transactional
     public Comment createComment(Long postId, Long userId, Long parentId, String body, String imageUrl) {
@@ -31,20 +34,20 @@ public class CommentService {
         // 게시글 댓글 수 증가
         postRepository.incrementCommentCount(postId);
 
+        updateCachedTree(postId, tree -> tree.add(saved));
         return saved;
     }
 
     /**
-     * 댓글을 생성하고 알림을 생성합니다.
+     * 댓글을 생성하고 알림 발송을 예약합니다.
      * 비즈니스 로직:
      * - 대댓글인 경우: 부모 댓글 작성자에게 REPLY 알림
      * - 일반 댓글인 경우: 게시글 작성자에게 COMMENT 알림
      * - 본인에게는 알림을 보내지 않음
-     *
-     * @return CommentNotificationResult 댓글과 알림 정보
+     * - 알림은 댓글과 같은 트랜잭션에서 outbox에만 기록하고, 저장과 실시간 전송은 백그라운드에서 처리한다
      */
     @Transactional
-    public CommentNotificationResult createCommentWithNotification(Long postId, Long userId, Long parentId, String body, String imageUrl) {
+    public Comment createCommentWithNotification(Long postId, Long userId, Long parentId, String body, String imageUrl) {
         // 1. 댓글 생성
         Comment comment = createComment(postId, userId, parentId, body, imageUrl);
 
@@ -66,19 +69,34 @@ public class CommentService {
             type = NotificationType.COMMENT;
         }
 
-        // 3. 알림 생성 (본인에게는 알림을 보내지 않음 - NotificationService 내부에서 처리)
-        Notification notification = notificationService.createNotification(
-                recipientId,
-                userId,
-                comment.getId(),
-                type
-        );
+        // 3. 알림 발송 예약 (본인에게는 알림을 보내지 않음 - NotificationOutboxService 내부에서 처리)
+        notificationOutboxService.enqueue(recipientId, userId, comment.getId(), postId, type);
 
-        return new CommentNotificationResult(comment, notification, recipientId, postId);
+        return comment;
     }
 
-    public List<Comment> getCommentsByPostId(Long postId) {
-        return commentRepository.findByPostId(postId);
+    /**
+     * 게시글의 댓글 트리 조회 (캐시 미스 시에만 전체 댓글을 읽어 구성)
+     */
+    public CommentTree getCommentTree(Long postId) {
+        return commentTreeCacheRepository.get(postId,
+                id -> CommentTree.of(commentRepository.findByPostId(id)));
+    }
+
+    /**
+     * 루트 댓글 커서 조회 (대댓글은 getReplies로 따로 조회)
+     * - cursor는 이전 페이지의 마지막 루트 댓글 ID이며, 한 건을 더 읽어 다음 페이지 여부를 판단한다
+     */
+    public CursorPage<Comment> getRootComments(Long postId, Long cursor, int size) {
+        List<Comment> fetched = getCommentTree(postId).getRootsAfter(cursor, size + 1);
+        boolean hasNext = fetched.size() > size;
+        List<Comment> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? String.valueOf(content.get(content.size() - 1).getId()) : null;
+        return new CursorPage<>(content, nextCursor, hasNext, null);
+    }
+
+    public List<Comment> getReplies(Long postId, Long parentId) {
+        return getCommentTree(postId).getReplies(parentId);
     }
 
     public Comment getComment(Long commentId) {
@@ -96,7 +114,10 @@ public class CommentService {
         }
 
         comment.update(body, imageUrl);
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+
+        updateCachedTree(comment.getPostId(), tree -> tree.replace(saved));
+        return saved;
     }
 
     @Transactional
@@ -113,13 +134,16 @@ public class CommentService {
         
         // 게시글 댓글 수 감소
         postRepository.decrementCommentCount(comment.getPostId());
-    }
 
-    public long countByPostId(Long postId) {
-        return commentRepository.countByPostId(postId);
+        updateCachedTree(comment.getPostId(), tree -> tree.replace(comment));
     }
 
-    public java.util.Map<Long, Long> getCommentCounts(List<Long> postIds) {
-        return commentRepository.countByPostIds(postIds);
+    /**
+     * 댓글 트리 캐시 반영과 다른 노드 무효화는 커밋 후에 한다
+     * - 커밋 전에 무효화하면 다른 노드가 커밋 전 DB로 트리를 다시 구성해 캐시할 수 있다
+     * - 롤백되면 캐시를 건드리지 않는다
+     */
+    private void updateCachedTree(Long postId, Consumer<CommentTree> change) {
+        AfterCommit.run(() -> commentTreeCacheRepository.update(postId, change));
     }
 }
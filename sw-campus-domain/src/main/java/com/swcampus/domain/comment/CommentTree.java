@@ -0,0 +1,117 @@
+package com.swcampus.domain.comment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 한 건의 댓글 트리 (작성 순으로 정렬된 루트 댓글과 부모별 대댓글, 추천 수 포함)
+ * - 한 번 구성한 뒤에는 댓글 작성/수정/삭제/추천을 증분 반영하며, 다시 구성하지 않는다
+ * - 같은 댓글을 여러 번 반영해도 결과가 같도록(멱등) 처리한다
+ * - 여러 요청 스레드가 공유하므로 모든 접근은 동기화하고, 조회 결과는 복사본을 반환한다
+ */
+public final class CommentTree {
+
+    private final List<Comment> roots = new ArrayList<>();
+    private final Map<Long, Integer> rootPositions = new HashMap<>();
+    private final Map<Long, List<Comment>> replies = new HashMap<>();
+    private final Map<Long, Comment> comments = new HashMap<>();
+
+    private CommentTree() {
+    }
+
+    /**
+     * @param comments 게시글의 전체 댓글 (작성 순 정렬, 삭제된 댓글 포함)
+     */
+    public static CommentTree of(List<Comment> comments) {
+        CommentTree tree = new CommentTree();
+        for (Comment comment : comments) {
+            tree.add(comment);
+        }
+        return tree;
+    }
+
+    /**
+     * 댓글 추가 (이미 있는 댓글이면 내용만 교체)
+     * 부모가 트리에 없는 대댓글은 루트로 표시한다
+     */
+    public synchronized void add(Comment comment) {
+        if (comments.containsKey(comment.getId())) {
+            replace(comment);
+            return;
+        }
+        comments.put(comment.getId(), comment);
+        if (comment.isReply() && comments.containsKey(comment.getParentId())) {
+            replies.computeIfAbsent(comment.getParentId(), id -> new ArrayList<>()).add(comment);
+        } else {
+            rootPositions.put(comment.getId(), roots.size());
+            roots.add(comment);
+        }
+    }
+
+    /**
+     * 수정/삭제된 댓글 반영 (트리 내 위치는 유지)
+     */
+    public synchronized void replace(Comment comment) {
+        Comment previous = comments.get(comment.getId());
+        if (previous == null) {
+            add(comment);
+            return;
+        }
+        comments.put(comment.getId(), comment);
+        List<Comment> siblings = rootPositions.containsKey(comment.getId())
+                ? roots
+                : replies.getOrDefault(previous.getParentId(), List.of());
+        siblings.replaceAll(c -> c.getId().equals(comment.getId()) ? comment : c);
+    }
+
+    /**
+     * 추천 수를 DB에서 갱신된 값으로 덮어씀 (같은 값을 여러 번 반영해도 결과가 같음)
+     */
+    public synchronized void setLikeCount(Long commentId, long likeCount) {
+        Comment comment = comments.get(commentId);
+        if (comment == null) {
+            return;
+        }
+        replace(Comment.of(comment.getId(), comment.getPostId(), comment.getUserId(), comment.getParentId(),
+                comment.getBody(), comment.getImageUrl(), likeCount, comment.isDeleted(),
+                comment.getCreatedAt(), comment.getUpdatedAt()));
+    }
+
+    /**
+     * 전체 루트 댓글 (작성 순)
+     */
+    public synchronized List<Comment> getRoots() {
+        return List.copyOf(roots);
+    }
+
+    /**
+     * afterCommentId 다음 루트 댓글부터 최대 limit건 (afterCommentId가 null이면 처음부터)
+     *
+     * @throws IllegalArgumentException afterCommentId가 이 게시글의 루트 댓글이 아닌 경우
+     */
+    public synchronized List<Comment> getRootsAfter(Long afterCommentId, int limit) {
+        int from = 0;
+        if (afterCommentId != null) {
+            Integer position = rootPositions.get(afterCommentId);
+            if (position == null) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다");
+            }
+            from = position + 1;
+        }
+        int to = Math.min(roots.size(), from + limit);
+        return from < to ? List.copyOf(roots.subList(from, to)) : List.of();
+    }
+
+    /**
+     * 대댓글 목록 (작성 순)
+     */
+    public synchronized List<Comment> getReplies(Long parentId) {
+        return List.copyOf(replies.getOrDefault(parentId, List.of()));
+    }
+
+    public synchronized int getReplyCount(Long parentId) {
+        return replies.getOrDefault(parentId, List.of()).size();
+    }
+}
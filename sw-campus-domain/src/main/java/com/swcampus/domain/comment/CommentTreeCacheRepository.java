@@ -0,0 +1,28 @@
+package com.swcampus.domain.comment;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 게시글별 댓글 트리 캐시 저장소 인터페이스
+ */
+public interface CommentTreeCacheRepository {
+
+    /**
+     * 캐시된 댓글 트리 조회 (없으면 loader로 구성해 저장)
+     *
+     * @param postId 게시글 ID
+     * @param loader 캐시 미스 시 트리를 구성하는 함수
+     * @return 댓글 트리
+     */
+    CommentTree get(Long postId, Function<Long, CommentTree> loader);
+
+    /**
+     * 캐시된 댓글 트리에 변경을 증분 반영 (캐시에 없으면 다음 조회 시 새로 구성)
+     * - 다른 노드에 무효화를 알리므로 변경이 커밋된 뒤에 호출해야 한다
+     *
+     * @param postId 게시글 ID
+     * @param change 트리에 적용할 변경
+     */
+    void update(Long postId, Consumer<CommentTree> change);
+}
@@ -1,5 +1,6 @@
 package com.swcampus.domain.commentlike;
 
+import java.util.Collection;
 import java.util.Set;
 
 public interface CommentLikeRepository {
@@ -12,5 +13,5 @@ public interface CommentLikeRepository {
 
     long countByCommentId(Long commentId);
 
-    Set<Long> findCommentIdsByUserId(Long userId);
+    Set<Long> findCommentIdsByUserIdAndCommentIds(Long userId, Collection<Long> commentIds);
 }
@@ -1,9 +1,12 @@
 package com.swcampus.domain.commentlike;
 
+import com.swcampus.domain.comment.CommentLikeCount;
+import com.swcampus.domain.common.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Set;
 
 @Service
@@ -13,6 +16,7 @@ public class CommentLikeService {
 
     private final CommentLikeRepository commentLikeRepository;
     private final com.swcampus.domain.comment.CommentRepository commentRepository;
+    private final com.swcampus.domain.comment.CommentTreeCacheRepository commentTreeCacheRepository;
 
     /**
      * 댓글 추천 토글 - 이미 추천했으면 취소, 없으면 추천
@@ -22,12 +26,14 @@ public class CommentLikeService {
     public boolean toggleLike(Long userId, Long commentId) {
         if (commentLikeRepository.existsByUserIdAndCommentId(userId, commentId)) {
             commentLikeRepository.deleteByUserIdAndCommentId(userId, commentId);
-            commentRepository.decrementLikeCount(commentId);
+            commentRepository.decrementLikeCount(commentId)
+                    .ifPresent(updated -> updateCachedLikeCount(commentId, updated));
             return false;
         } else {
             CommentLike commentLike = CommentLike.create(userId, commentId);
             commentLikeRepository.save(commentLike);
-            commentRepository.incrementLikeCount(commentId);
+            commentRepository.incrementLikeCount(commentId)
+                    .ifPresent(updated -> updateCachedLikeCount(commentId, updated));
             return true;
         }
     }
@@ -50,12 +56,19 @@ public class CommentLikeService {
     }
 
     /**
-     * 사용자가 추천한 댓글 ID 목록 조회 (일괄 조회용)
+     * 주어진 댓글 중 사용자가 추천한 댓글 ID 목록 조회 (화면에 표시할 댓글만 일괄 조회)
      */
-    public Set<Long> getLikedCommentIds(Long userId) {
-        if (userId == null) {
+    public Set<Long> getLikedCommentIds(Long userId, Collection<Long> commentIds) {
+        if (userId == null || commentIds.isEmpty()) {
             return Set.of();
         }
-        return commentLikeRepository.findCommentIdsByUserId(userId);
+        return commentLikeRepository.findCommentIdsByUserIdAndCommentIds(userId, commentIds);
+    }
+
+    // 게시글 댓글 트리 캐시에 갱신된 추천 수 반영 (커밋 후, 롤백되면 반영하지 않음)
+    // 증분이 아니라 절댓값을 쓰므로 그 사이 트리가 DB에서 다시 만들어져도 이중 반영되지 않음
+    private void updateCachedLikeCount(Long commentId, CommentLikeCount updated) {
+        AfterCommit.run(() -> commentTreeCacheRepository.update(updated.postId(),
+                tree -> tree.setLikeCount(commentId, updated.likeCount())));
     }
 }
@@ -0,0 +1,39 @@
+package com.swcampus.domain.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션 커밋 이후 실행
+ * - 캐시 무효화나 Redis 반영이 커밋 전에 보이면, 다른 요청이 이전 DB 상태를 다시 읽어 캐시할 수 있다
+ * - 트랜잭션 밖에서 호출하면 바로 실행한다
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        run(action, null);
+    }
+
+    /**
+     * @param onRollback 롤백 시 실행 (null이면 생략)
+     */
+    public static void run(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else if (onRollback != null) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.swcampus.domain.common.AfterCommit;
 import com.swcampus.domain.common.ResourceNotFoundException;
 import com.swcampus.domain.lecture.dto.LectureSearchCondition;
 import com.swcampus.domain.lecture.dto.LectureSortType;
@@ -17,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 public class AdminLectureService {
 
     private final LectureRepository lectureRepository;
+    private final LectureCacheRepository lectureCacheRepository;
 
     /**
      * 관리자용 강의 목록을 조회합니다. 승인 상태와 키워드로 필터링할 수 있습니다.
@@ -44,7 +46,9 @@ public class AdminLectureService {
      */
     @Transactional
     public Lecture approveLecture(Long id) {
-        return lectureRepository.updateAuthStatus(id, LectureAuthStatus.APPROVED);
+        Lecture lecture = lectureRepository.updateAuthStatus(id, LectureAuthStatus.APPROVED);
+        AfterCommit.run(() -> lectureCacheRepository.deleteLecture(id));
+        return lecture;
     }
 
     /**
@@ -52,7 +56,9 @@ public class AdminLectureService {
      */
     @Transactional
     public Lecture rejectLecture(Long id) {
-        return lectureRepository.updateAuthStatus(id, LectureAuthStatus.REJECTED);
+        Lecture lecture = lectureRepository.updateAuthStatus(id, LectureAuthStatus.REJECTED);
+        AfterCommit.run(() -> lectureCacheRepository.deleteLecture(id));
+        return lecture;
     }
 
     /**
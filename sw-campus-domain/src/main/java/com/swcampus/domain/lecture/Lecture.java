@@ -45,6 +45,7 @@ public class Lecture {
 	private LectureAuthStatus lectureAuthStatus; // 승인 대기, 승인 완료, 승인 반려
 	private Double averageScore; // 평균 평점
 	private Long reviewCount; // 리뷰 수
+	private Double relevance; // 검색 결과용 (검색어 관련도)
 
 	// 프로젝트 관련
 	private Integer projectNum;
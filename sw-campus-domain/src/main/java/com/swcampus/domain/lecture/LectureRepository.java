@@ -22,6 +22,14 @@ public interface LectureRepository {
 
     Page<Lecture> searchLectures(LectureSearchCondition condition);
 
+    /**
+     * 커서(condition.cursor) 이후의 강의를 정렬 순서대로 최대 limit건 조회합니다.
+     * 커서가 없으면 첫 페이지를 조회합니다.
+     */
+    List<Lecture> searchLecturesAfter(LectureSearchCondition condition, int limit);
+
+    long countLectures(LectureSearchCondition condition);
+
     List<Lecture> findAllExpiredAndRecruiting(LocalDateTime now);
 
     /**
@@ -40,11 +48,6 @@ public interface LectureRepository {
 
     List<Lecture> findAllByIds(List<Long> lectureIds);
 
-    /**
-     * 리뷰 통계 없이 강의 목록 조회 (장바구니 등 리뷰 불필요한 경우 사용)
-     */
-    List<Lecture> findAllByIdsWithoutReviewStats(List<Long> lectureIds);
-
     /**
      * 강의의 승인 상태만 업데이트합니다.
      * 자식 컬렉션(quals, steps, adds 등)은 건드리지 않습니다.
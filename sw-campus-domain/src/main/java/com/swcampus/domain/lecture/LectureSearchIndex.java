@@ -0,0 +1,29 @@
+package com.swcampus.domain.lecture;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.swcampus.domain.lecture.dto.LectureSearchHit;
+
+/**
+ * 강의 키워드 검색 색인
+ * - 기본 구현은 DB 검색 컬럼(lectures.search_text/search_vector, 트리거로 유지)을 검색 쿼리에서 직접 매칭한다
+ * - 애플리케이션 내 역색인(예: 한글 n-gram 분석기를 쓰는 Lucene) 구현으로 교체하면
+ *   색인이 매칭·관련도 점수를 계산하고, DB는 나머지 필터·정렬만 수행한다
+ */
+public interface LectureSearchIndex {
+
+    /**
+     * 키워드에 매칭되는 강의를 조회합니다.
+     *
+     * @param text 검색어
+     * @param maxHits 최대 결과 수
+     * @return 관련도 내림차순 매칭 결과. DB 검색 컬럼으로 직접 매칭하는 구현은 Optional.empty()
+     */
+    Optional<List<LectureSearchHit>> search(String text, int maxHits);
+
+    /**
+     * 강의 등록/수정 후 색인을 갱신합니다. (DB 트리거로 유지되는 구현은 아무것도 하지 않음)
+     */
+    void index(Lecture lecture);
+}
@@ -5,6 +5,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -13,12 +16,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.swcampus.domain.category.CategoryRepository;
+import com.swcampus.domain.category.CategoryService;
 import com.swcampus.domain.category.CurriculumRepository;
+import com.swcampus.domain.common.AfterCommit;
+import com.swcampus.domain.common.CursorPage;
 import com.swcampus.domain.common.ResourceNotFoundException;
 import com.swcampus.domain.common.ApprovalStatus;
 import com.swcampus.shared.error.BusinessException;
 import com.swcampus.shared.error.ErrorCode;
+import com.swcampus.domain.lecture.dto.LectureCursor;
 import com.swcampus.domain.lecture.dto.LectureSearchCondition;
+import com.swcampus.domain.lecture.dto.LectureSearchHit;
 import com.swcampus.domain.lecture.dto.LectureSummaryDto;
 import com.swcampus.domain.lecture.exception.LectureNotModifiableException;
 import com.swcampus.domain.member.Role;
@@ -34,14 +42,20 @@ import lombok.RequiredArgsConstructor;
 public class LectureService {
 
 	private static final Long ROOT_CATEGORY_ID = 1L;
+	private static final int MAX_SEARCH_INDEX_HITS = 1000;
 
 	private final LectureRepository lectureRepository;
 	private final LectureCacheRepository lectureCacheRepository;
 	private final com.swcampus.domain.storage.FileStorageService fileStorageService;
 	private final com.swcampus.domain.review.ReviewRepository reviewRepository;
 	private final CategoryRepository categoryRepository;
+	private final CategoryService categoryService;
 	private final CurriculumRepository curriculumRepository;
 	private final OrganizationService organizationService;
+	private final LectureSearchIndex lectureSearchIndex;
+
+	// 캐시 미스 시 진행 중인 DB 로딩 (강의 ID별 Single-Flight)
+	private final Map<Long, CompletableFuture<Lecture>> inFlightLoads = new ConcurrentHashMap<>();
 
 	@Value("${app.default-image.base-url:}")
 	private String defaultImageBaseUrl;
@@ -80,7 +94,9 @@ public class LectureService {
 				.lectureAuthStatus(LectureAuthStatus.PENDING)
 				.teachers(updatedTeachers)
 				.build();
-		return lectureRepository.save(newLecture);
+		Lecture saved = lectureRepository.save(newLecture);
+		lectureSearchIndex.index(saved);
+		return saved;
 	}
 
 	public record ImageContent(byte[] content, String name, String contentType) {
@@ -139,9 +155,10 @@ public class LectureService {
 				.teachers(updatedTeachers)
 				.build();
 		Lecture saved = lectureRepository.save(updatedLecture);
+		lectureSearchIndex.index(saved);
 
-		// 캐시 무효화
-		lectureCacheRepository.deleteLecture(lectureId);
+		// 캐시 무효화 (커밋 전에 지우면 그 사이 조회가 이전 행을 다시 캐시함)
+		AfterCommit.run(() -> lectureCacheRepository.deleteLecture(lectureId));
 
 		return saved;
 	}
@@ -157,14 +174,44 @@ public class LectureService {
 			return cached.get();
 		}
 
-		// 2. DB 조회
-		Lecture lecture = lectureRepository.findById(lectureId)
-				.orElseThrow(() -> new ResourceNotFoundException("Lecture not found with id: " + lectureId));
+		// 2~3. DB 조회 후 캐시 저장
+		return loadLecture(lectureId);
+	}
 
-		// 3. 캐시 저장
-		lectureCacheRepository.saveLecture(lecture);
+	/**
+	 * 캐시 미스 시 DB 조회 (Single-Flight)
+	 * 같은 강의에 대한 동시 미스는 먼저 들어온 요청만 DB를 조회하고, 나머지는 그 결과를 함께 받는다.
+	 */
+	private Lecture loadLecture(Long lectureId) {
+		CompletableFuture<Lecture> load = new CompletableFuture<>();
+		CompletableFuture<Lecture> inFlight = inFlightLoads.putIfAbsent(lectureId, load);
+		if (inFlight != null) {
+			return awaitLoad(inFlight);
+		}
 
-		return lecture;
+		try {
+			Lecture lecture = lectureRepository.findById(lectureId)
+					.orElseThrow(() -> new ResourceNotFoundException("Lecture not found with id: " + lectureId));
+			lectureCacheRepository.saveLecture(lecture);
+			load.complete(lecture);
+			return lecture;
+		} catch (RuntimeException e) {
+			load.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightLoads.remove(lectureId, load);
+		}
+	}
+
+	private Lecture awaitLoad(CompletableFuture<Lecture> inFlight) {
+		try {
+			return inFlight.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
 	}
 
 	public List<Lecture> findAllByOrgId(Long orgId) {
@@ -180,7 +227,28 @@ public class LectureService {
 	}
 
 	public Page<Lecture> searchLectures(LectureSearchCondition condition) {
-		return lectureRepository.searchLectures(condition);
+		return lectureRepository.searchLectures(resolveCondition(condition));
+	}
+
+	/**
+	 * SQL에 넘기기 전 검색 조건 확정
+	 * - 카테고리: 하위 카테고리까지 펼친 ID 목록으로 바꾼다 (SQL에서 계층을 탐색하지 않도록)
+	 * - 검색어: 검색 색인이 키워드 매칭을 담당하는 경우, 색인 결과(강의 ID + 관련도)로 바꾼다
+	 */
+	private LectureSearchCondition resolveCondition(LectureSearchCondition condition) {
+		LectureSearchCondition resolved = condition;
+		if (condition.getCategoryIds() != null && !condition.getCategoryIds().isEmpty()) {
+			resolved = resolved.toBuilder()
+					.categoryIds(categoryService.getDescendantIds(condition.getCategoryIds()))
+					.build();
+		}
+		if (condition.getText() != null && !condition.getText().isBlank()) {
+			Optional<List<LectureSearchHit>> hits = lectureSearchIndex.search(condition.getText(), MAX_SEARCH_INDEX_HITS);
+			if (hits.isPresent()) {
+				resolved = resolved.toBuilder().text(null).searchHits(hits.get()).build();
+			}
+		}
+		return resolved;
 	}
 
 	public List<Lecture> getTopRatedLecturesByCategory(Long categoryId, int limit) {
@@ -212,20 +280,47 @@ public class LectureService {
 	 */
 	public Page<LectureSummaryDto> searchLecturesWithStats(LectureSearchCondition condition) {
 		Page<Lecture> lectures = searchLectures(condition);
+		Map<Long, Map<String, Number>> reviewStats = getReviewStats(lectures.getContent());
+		return lectures.map(lecture -> toSummary(lecture, reviewStats));
+	}
 
-		List<Long> lectureIds = lectures.getContent().stream()
-				.map(Lecture::getLectureId)
+	/**
+	 * 강의 커서 검색 (평점/리뷰 통계 포함)
+	 * - condition.cursor 이후 size건을 조회하고, 한 건을 더 읽어 다음 페이지 여부를 판단한다
+	 * - 전체 건수는 COUNT 쿼리가 필요하므로 includeTotal인 경우에만 계산한다
+	 */
+	public CursorPage<LectureSummaryDto> searchLecturesWithStatsByCursor(
+			LectureSearchCondition condition, int size, boolean includeTotal) {
+		LectureSearchCondition resolved = resolveCondition(condition);
+		List<Lecture> fetched = lectureRepository.searchLecturesAfter(resolved, size + 1);
+		boolean hasNext = fetched.size() > size;
+		List<Lecture> lectures = hasNext ? fetched.subList(0, size) : fetched;
+
+		String nextCursor = hasNext
+				? LectureCursor.of(condition.getSort(), lectures.get(lectures.size() - 1)).encode()
+				: null;
+		Long totalCount = includeTotal ? lectureRepository.countLectures(resolved) : null;
+
+		Map<Long, Map<String, Number>> reviewStats = getReviewStats(lectures);
+		List<LectureSummaryDto> content = lectures.stream()
+				.map(lecture -> toSummary(lecture, reviewStats))
 				.toList();
+		return new CursorPage<>(content, nextCursor, hasNext, totalCount);
+	}
 
-		// 2 쿼리 → 1 쿼리 최적화: 평균 점수와 리뷰 수를 한 번에 조회
-		Map<Long, Map<String, Number>> reviewStats = reviewRepository.getReviewStatsByLectureIds(lectureIds);
+	// 2 쿼리 → 1 쿼리 최적화: 평균 점수와 리뷰 수를 한 번에 조회
+	private Map<Long, Map<String, Number>> getReviewStats(List<Lecture> lectures) {
+		List<Long> lectureIds = lectures.stream()
+				.map(Lecture::getLectureId)
+				.toList();
+		return reviewRepository.getReviewStatsByLectureIds(lectureIds);
+	}
 
-		return lectures.map(lecture -> {
-			Map<String, Number> stats = reviewStats.getOrDefault(lecture.getLectureId(), Map.of());
-			Double avgScore = stats.getOrDefault("avgScore", 0.0).doubleValue();
-			Long reviewCount = stats.getOrDefault("reviewCount", 0L).longValue();
-			return LectureSummaryDto.from(lecture, avgScore, reviewCount);
-		});
+	private LectureSummaryDto toSummary(Lecture lecture, Map<Long, Map<String, Number>> reviewStats) {
+		Map<String, Number> stats = reviewStats.getOrDefault(lecture.getLectureId(), Map.of());
+		Double avgScore = stats.getOrDefault("avgScore", 0.0).doubleValue();
+		Long reviewCount = stats.getOrDefault("reviewCount", 0L).longValue();
+		return LectureSummaryDto.from(lecture, avgScore, reviewCount);
 	}
 
 	/**
@@ -233,21 +328,9 @@ public class LectureService {
 	 */
 	public List<LectureSummaryDto> getTopRatedLecturesByCategoryWithStats(Long categoryId, int limit) {
 		List<Lecture> lectures = getTopRatedLecturesByCategory(categoryId, limit);
-
-		List<Long> lectureIds = lectures.stream()
-				.map(Lecture::getLectureId)
-				.toList();
-
-		// 2 쿼리 → 1 쿼리 최적화
-		Map<Long, Map<String, Number>> reviewStats = reviewRepository.getReviewStatsByLectureIds(lectureIds);
-
+		Map<Long, Map<String, Number>> reviewStats = getReviewStats(lectures);
 		return lectures.stream()
-				.map(lecture -> {
-					Map<String, Number> stats = reviewStats.getOrDefault(lecture.getLectureId(), Map.of());
-					Double avgScore = stats.getOrDefault("avgScore", 0.0).doubleValue();
-					Long reviewCount = stats.getOrDefault("reviewCount", 0L).longValue();
-					return LectureSummaryDto.from(lecture, avgScore, reviewCount);
-				})
+				.map(lecture -> toSummary(lecture, reviewStats))
 				.toList();
 	}
 
@@ -255,12 +338,33 @@ public class LectureService {
 		return lectureRepository.findLectureNamesByIds(lectureIds);
 	}
 
+	/**
+	 * 여러 강의 조회 (Batch Read-Through)
+	 * 1. 캐시 일괄 조회(MGET) -> 2. 미스된 ID만 IN 쿼리로 DB 조회 -> 3. 조회분 캐시 일괄 저장
+	 */
 	public Map<Long, Lecture> getLecturesByIds(List<Long> lectureIds) {
 		if (lectureIds == null || lectureIds.isEmpty()) {
 			return java.util.Collections.emptyMap();
 		}
-		return lectureRepository.findAllByIds(lectureIds).stream()
-				.collect(Collectors.toMap(Lecture::getLectureId, lecture -> lecture));
+		List<Long> distinctIds = lectureIds.stream().distinct().toList();
+
+		// 1. 캐시 일괄 조회
+		Map<Long, Lecture> result = new java.util.HashMap<>(lectureCacheRepository.getLectures(distinctIds));
+		List<Long> missedIds = distinctIds.stream()
+				.filter(id -> !result.containsKey(id))
+				.toList();
+		if (missedIds.isEmpty()) {
+			return result;
+		}
+
+		// 2. 미스분만 DB 조회
+		List<Lecture> loaded = lectureRepository.findAllByIds(missedIds);
+
+		// 3. 캐시 일괄 저장
+		lectureCacheRepository.saveLectures(loaded);
+		result.putAll(loaded.stream()
+				.collect(Collectors.toMap(Lecture::getLectureId, lecture -> lecture)));
+		return result;
 	}
 
 	@Transactional(readOnly = true)
@@ -1,15 +1,31 @@
 package com.swcampus.domain.lecture;
 
+import java.util.Collection;
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
 public enum SelectionStepType {
-    DOCUMENT("서류심사"),
-    INTERVIEW("면접"),
-    CODING_TEST("코딩테스트"),
-    PRE_TASK("사전과제");
+    DOCUMENT("서류심사", 1),
+    INTERVIEW("면접", 1 << 1),
+    CODING_TEST("코딩테스트", 1 << 2),
+    PRE_TASK("사전과제", 1 << 3);
 
     private final String description;
+    private final int flag; // 강의 selection_flags 비트 (저장된 값이므로 변경 금지)
+
+    public static int toFlags(Collection<SelectionStepType> types) {
+        int flags = 0;
+        for (SelectionStepType type : types) {
+            flags |= type.flag;
+        }
+        return flags;
+    }
+
+    public static int allFlags() {
+        return toFlags(List.of(values()));
+    }
 }
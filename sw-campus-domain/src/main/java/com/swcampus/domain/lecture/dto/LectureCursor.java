@@ -0,0 +1,116 @@
+package com.swcampus.domain.lecture.dto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import com.swcampus.domain.lecture.Lecture;
+import com.swcampus.domain.lecture.LectureStatus;
+
+/**
+ * 강의 검색 커서 (키셋 페이지네이션)
+ * - 마지막으로 내려준 강의의 정렬 키 튜플을 담고, 다음 페이지는 이 튜플 이후부터 조회한다
+ * - 정렬 기준마다 사용하는 키가 다르며, 모든 정렬의 마지막 키는 (updated_at DESC, lecture_id DESC)
+ * - 클라이언트에는 Base64 문자열(불투명 토큰)로 전달한다
+ *
+ * @param sort 커서를 만든 정렬 기준 (다른 정렬로 요청하면 거부)
+ * @param statusRank 모집 상태 순위 (RECRUITING 0, 그 외 1)
+ * @param lectureFee 자기부담금
+ * @param deadline 모집 마감일
+ * @param totalDays 총 교육일수
+ * @param reviewCount 리뷰 수
+ * @param averageScore 평균 평점
+ * @param relevance 검색어 관련도
+ * @param updatedAt 수정 시각
+ * @param lectureId 강의 ID
+ */
+public record LectureCursor(
+        LectureSortType sort,
+        Integer statusRank,
+        BigDecimal lectureFee,
+        LocalDateTime deadline,
+        Integer totalDays,
+        Long reviewCount,
+        Double averageScore,
+        Double relevance,
+        LocalDateTime updatedAt,
+        Long lectureId
+) {
+
+    private static final String DELIMITER = "|";
+    private static final int FIELD_COUNT = 10;
+    private static final String INVALID_CURSOR_MESSAGE = "유효하지 않은 커서입니다";
+
+    public static LectureCursor of(LectureSortType sort, Lecture lecture) {
+        return new LectureCursor(
+                sort,
+                lecture.getStatus() == LectureStatus.RECRUITING ? 0 : 1,
+                lecture.getLectureFee(),
+                lecture.getDeadline(),
+                lecture.getTotalDays(),
+                lecture.getReviewCount() != null ? lecture.getReviewCount() : 0L,
+                lecture.getAverageScore() != null ? lecture.getAverageScore() : 0.0,
+                lecture.getRelevance() != null ? lecture.getRelevance() : 0.0,
+                lecture.getUpdatedAt(),
+                lecture.getLectureId());
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                sort.name(),
+                format(statusRank),
+                lectureFee != null ? lectureFee.toPlainString() : "",
+                format(deadline),
+                format(totalDays),
+                format(reviewCount),
+                format(averageScore),
+                format(relevance),
+                format(updatedAt),
+                format(lectureId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못되었거나 요청한 정렬 기준과 다른 커서인 경우
+     */
+    public static LectureCursor decode(String cursor, LectureSortType expectedSort) {
+        LectureCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] fields = raw.split(Pattern.quote(DELIMITER), -1);
+            if (fields.length != FIELD_COUNT) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+            }
+            decoded = new LectureCursor(
+                    LectureSortType.valueOf(fields[0]),
+                    parse(fields[1], Integer::valueOf),
+                    parse(fields[2], BigDecimal::new),
+                    parse(fields[3], LocalDateTime::parse),
+                    parse(fields[4], Integer::valueOf),
+                    parse(fields[5], Long::valueOf),
+                    parse(fields[6], Double::valueOf),
+                    parse(fields[7], Double::valueOf),
+                    parse(fields[8], LocalDateTime::parse),
+                    parse(fields[9], Long::valueOf));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE, e);
+        }
+
+        if (decoded.sort() != expectedSort || decoded.statusRank() == null || decoded.lectureId() == null) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+        }
+        return decoded;
+    }
+
+    private static String format(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static <T> T parse(String value, Function<String, T> parser) {
+        return value.isEmpty() ? null : parser.apply(value);
+    }
+}
@@ -1,19 +1,22 @@
 package com.swcampus.domain.lecture.dto;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 
 import com.swcampus.domain.lecture.LectureAuthStatus;
 import com.swcampus.domain.lecture.LectureStatus;
+import com.swcampus.domain.lecture.SelectionStepType;
 
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class LectureSearchCondition {
-    private String text; // 제목, 내용, 기관명 검색
+    private String text; // 강의명, 기관명, 커리큘럼명, 지원자격 검색
+    private List<LectureSearchHit> searchHits; // 외부 검색 색인 결과 (설정되면 text 대신 이 강의들로 한정하고 점수를 관련도로 사용)
     private List<String> regions; // 지역
     private List<Long> categoryIds; // 카테고리 ID 목록 (대/중/소 모두 ID)
 
@@ -34,9 +37,12 @@ public class LectureSearchCondition {
 
     private LectureSortType sort; // 정렬 순서
 
-    // 페이지
+    // 페이지 (오프셋 방식)
     private Pageable pageable;
 
+    // 커서 방식: 이 위치 이후부터 조회 (null이면 첫 페이지)
+    private LectureCursor cursor;
+
     public Integer getLimit() {
         return pageable != null ? pageable.getPageSize() : null;
     }
@@ -44,4 +50,33 @@ public class LectureSearchCondition {
     public Long getOffset() {
         return pageable != null ? pageable.getOffset() : null;
     }
-}
\ No newline at end of file
+
+    /**
+     * 선발 절차 필터를 만족하는 selection_flags 값 목록 (필터가 없으면 null)
+     * - 비트 조건 (flags & 필수) = 필수 AND (flags & 제외) = 0 을 만족하는 값을 모두 나열해
+     *   selection_flags = ANY(...) 로 Index를 탈 수 있게 한다 (절차 4종이므로 최대 16개)
+     */
+    public List<Integer> getSelectionFlagValues() {
+        int required = stepFlag(hasCodingTest, true, SelectionStepType.CODING_TEST)
+                | stepFlag(hasInterview, true, SelectionStepType.INTERVIEW)
+                | stepFlag(hasPreTask, true, SelectionStepType.PRE_TASK);
+        int excluded = stepFlag(hasCodingTest, false, SelectionStepType.CODING_TEST)
+                | stepFlag(hasInterview, false, SelectionStepType.INTERVIEW)
+                | stepFlag(hasPreTask, false, SelectionStepType.PRE_TASK);
+        if (required == 0 && excluded == 0) {
+            return null;
+        }
+
+        List<Integer> values = new ArrayList<>();
+        for (int flags = 0; flags <= SelectionStepType.allFlags(); flags++) {
+            if ((flags & required) == required && (flags & excluded) == 0) {
+                values.add(flags);
+            }
+        }
+        return values;
+    }
+
+    private static int stepFlag(Boolean filter, boolean expected, SelectionStepType type) {
+        return Boolean.valueOf(expected).equals(filter) ? type.getFlag() : 0;
+    }
+}
@@ -0,0 +1,10 @@
+package com.swcampus.domain.lecture.dto;
+
+/**
+ * 검색 색인의 매칭 결과
+ *
+ * @param lectureId 강의 ID
+ * @param score 관련도 점수 (클수록 관련도 높음)
+ */
+public record LectureSearchHit(Long lectureId, double score) {
+}
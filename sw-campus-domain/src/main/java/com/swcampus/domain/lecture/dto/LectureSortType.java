@@ -8,5 +8,6 @@ public enum LectureSortType {
     DURATION_ASC, // 교육기간 짧은 순
     DURATION_DESC, // 교육기간 긴 순
     REVIEW_COUNT_DESC, // 리뷰 많은 순
-    SCORE_DESC // 리뷰 평점 높은 순
+    SCORE_DESC, // 리뷰 평점 높은 순
+    RELEVANCE // 검색어 관련도 순 (검색어가 없으면 수정일 순)
 }
@@ -0,0 +1,31 @@
+package com.swcampus.domain.mail;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 메일 발송 대기열 (mail_outbox)
+ * - 여러 노드가 동시에 선점해도 같은 메일을 나눠 갖지 않는다 (FOR UPDATE SKIP LOCKED)
+ */
+public interface MailOutboxRepository {
+
+    /**
+     * 발송 대기 메일을 기록합니다.
+     * 같은 idempotencyKey의 메일이 이미 대기 중이면 기록하지 않습니다.
+     *
+     * @return 새로 기록했는지 여부
+     */
+    boolean saveIfAbsent(OutboxMail mail);
+
+    /**
+     * 발송 시각이 도래한 메일을 선점합니다. (선점·백오프 규칙은 NotificationOutboxRepository.claimDue와 같음)
+     */
+    List<OutboxMail> claimDue(int limit, int maxAttempts, Duration baseBackoff);
+
+    void deleteAllByIds(List<Long> ids);
+
+    /**
+     * 발송 대기 중인 메일 수 (최대 시도 횟수를 채운 메일 제외)
+     */
+    long countPending(int maxAttempts);
+}
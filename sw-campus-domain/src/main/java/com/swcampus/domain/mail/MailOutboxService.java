@@ -0,0 +1,59 @@
+package com.swcampus.domain.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 메일 transactional outbox
+ * - enqueue: 호출한 쪽의 트랜잭션에서 발송 대기 메일만 기록한다 (SMTP 지연이 요청과 DB 커넥션을 붙잡지 않음)
+ * - claim / markSent: 백그라운드 발송기가 메일을 선점해 발송하고, 성공한 메일만 대기열에서 삭제한다
+ *   (실패한 메일은 선점 시 미뤄 둔 시각 이후 다시 선점된다)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MailOutboxService {
+
+    // V21 idempotency_key 부분 유니크 인덱스 조건(attempts < 8)과 같아야 한다
+    static final int MAX_ATTEMPTS = 8;
+    static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    /**
+     * 발송 대기 메일 기록
+     *
+     * @param idempotencyKey 같은 메일을 구분하는 키 (대기 중인 메일과 같으면 무시)
+     */
+    @Transactional
+    public void enqueue(String idempotencyKey, String recipient, String subject, String content) {
+        mailOutboxRepository.saveIfAbsent(OutboxMail.create(idempotencyKey, recipient, subject, content));
+    }
+
+    /**
+     * 발송할 메일 선점
+     */
+    @Transactional
+    public List<OutboxMail> claim(int limit) {
+        return mailOutboxRepository.claimDue(limit, MAX_ATTEMPTS, BASE_BACKOFF);
+    }
+
+    /**
+     * 발송에 성공한 메일을 대기열에서 삭제
+     */
+    @Transactional
+    public void markSent(List<OutboxMail> mails) {
+        if (mails.isEmpty()) {
+            return;
+        }
+        mailOutboxRepository.deleteAllByIds(mails.stream().map(OutboxMail::getId).toList());
+    }
+
+    public long countPending() {
+        return mailOutboxRepository.countPending(MAX_ATTEMPTS);
+    }
+}
@@ -0,0 +1,48 @@
+package com.swcampus.domain.mail;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기 항목 (mail_outbox)
+ * - 원본 변경과 같은 트랜잭션에서 기록되고, 백그라운드 발송기가 SMTP로 보낸 뒤 삭제한다
+ * - idempotencyKey가 같은 항목이 대기 중이면 새로 기록하지 않는다 (중복 요청 방지)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxMail {
+    private Long id;
+    private String idempotencyKey;
+    private String recipient;
+    private String subject;
+    private String content;     // HTML 본문
+    private int attempts;
+    private LocalDateTime createdAt;
+
+    public static OutboxMail create(String idempotencyKey, String recipient, String subject, String content) {
+        OutboxMail mail = new OutboxMail();
+        mail.idempotencyKey = idempotencyKey;
+        mail.recipient = recipient;
+        mail.subject = subject;
+        mail.content = content;
+        mail.attempts = 0;
+        mail.createdAt = LocalDateTime.now();
+        return mail;
+    }
+
+    public static OutboxMail of(Long id, String idempotencyKey, String recipient, String subject,
+                                String content, int attempts, LocalDateTime createdAt) {
+        OutboxMail mail = new OutboxMail();
+        mail.id = id;
+        mail.idempotencyKey = idempotencyKey;
+        mail.recipient = recipient;
+        mail.subject = subject;
+        mail.content = content;
+        mail.attempts = attempts;
+        mail.createdAt = createdAt;
+        return mail;
+    }
+}
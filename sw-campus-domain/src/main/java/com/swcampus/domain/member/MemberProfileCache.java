@@ -0,0 +1,61 @@
+package com.swcampus.domain.member;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커뮤니티 API 전반에서 공유하는 회원 프로필(닉네임) 캐시
+ * - 캐시 저장소(L1 로컬 + L2 Redis)를 먼저 확인하고, 미스된 ID만 한 번의 일괄 조회로 채운다
+ * - 프로필 수정/탈퇴 시 MemberService가 무효화한다
+ * - 탈퇴 등으로 존재하지 않는 회원은 결과에 포함되지 않으므로 호출부에서 기본값을 정한다
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberProfileCache {
+
+    private final MemberProfileCacheRepository memberProfileCacheRepository;
+    private final MemberRepository memberRepository;
+
+    public Map<Long, ProfileSnapshot> getAll(Collection<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(memberIds);
+        distinctIds.remove(null);
+        Map<Long, ProfileSnapshot> result = new HashMap<>(memberProfileCacheRepository.getProfiles(distinctIds));
+
+        List<Long> missedIds = distinctIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .toList();
+        if (missedIds.isEmpty()) {
+            return result;
+        }
+
+        List<ProfileSnapshot> loaded = memberRepository.findAllByIds(missedIds).stream()
+                .map(ProfileSnapshot::from)
+                .toList();
+        memberProfileCacheRepository.saveProfiles(loaded);
+        loaded.forEach(profile -> result.put(profile.memberId(), profile));
+        return result;
+    }
+
+    public Optional<ProfileSnapshot> get(Long memberId) {
+        return Optional.ofNullable(getAll(List.of(memberId)).get(memberId));
+    }
+
+    public void evict(Long memberId) {
+        memberProfileCacheRepository.deleteProfile(memberId);
+    }
+}
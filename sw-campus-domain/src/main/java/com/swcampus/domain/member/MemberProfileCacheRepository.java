@@ -0,0 +1,33 @@
+package com.swcampus.domain.member;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 회원 프로필 캐시 저장소 인터페이스
+ * Redis 등 캐시 저장소에서 프로필 스냅샷을 조회/저장/삭제
+ */
+public interface MemberProfileCacheRepository {
+
+    /**
+     * 캐시에서 여러 프로필 조회
+     *
+     * @param memberIds 회원 ID 목록
+     * @return 캐시된 프로필 Map (ID -> ProfileSnapshot, 미스는 포함하지 않음)
+     */
+    Map<Long, ProfileSnapshot> getProfiles(Collection<Long> memberIds);
+
+    /**
+     * 캐시에 여러 프로필 저장
+     *
+     * @param profiles 저장할 프로필 목록
+     */
+    void saveProfiles(Collection<ProfileSnapshot> profiles);
+
+    /**
+     * 캐시에서 프로필 삭제
+     *
+     * @param memberId 삭제할 회원 ID
+     */
+    void deleteProfile(Long memberId);
+}
@@ -3,12 +3,15 @@ package com.swcampus.domain.member;
 import com.swcampus.domain.auth.RefreshTokenRepository;
 import com.swcampus.domain.cart.CartRepository;
 import com.swcampus.domain.certificate.CertificateRepository;
+import com.swcampus.domain.common.AfterCommit;
 import com.swcampus.domain.member.exception.DuplicateNicknameException;
 import com.swcampus.domain.member.exception.MemberNotFoundException;
 import com.swcampus.domain.oauth.OAuthProvider;
 import com.swcampus.domain.oauth.SocialAccount;
 import com.swcampus.domain.oauth.SocialAccountRepository;
 import com.swcampus.domain.organization.OrganizationRepository;
+import com.swcampus.domain.review.LectureReviewStatsRepository;
+import com.swcampus.domain.review.Review;
 import com.swcampus.domain.review.ReviewRepository;
 import com.swcampus.domain.survey.MemberSurveyRepository;
 import lombok.RequiredArgsConstructor;
@@ -29,19 +32,17 @@ public class MemberService {
     private final CartRepository cartRepository;
     private final CertificateRepository certificateRepository;
     private final ReviewRepository reviewRepository;
+    private final LectureReviewStatsRepository lectureReviewStatsRepository;
     private final MemberSurveyRepository memberSurveyRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final OrganizationRepository organizationRepository;
+    private final MemberProfileCache memberProfileCache;
 
     public Member getMember(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(MemberNotFoundException::new);
     }
 
-    public List<Member> getMembersByIds(List<Long> memberIds) {
-        return memberRepository.findAllByIds(memberIds);
-    }
-
     /**
      * 비밀번호 검증 (회원정보 수정 화면 진입 전 확인용)
      * @param memberId 사용자 ID
@@ -73,6 +74,7 @@ public class MemberService {
 
         member.updateProfile(nickname, phone, address);
         memberRepository.save(member);
+        evictProfileAfterCommit(memberId);
     }
 
     public boolean isNicknameAvailable(String nickname, Long excludeMemberId) {
@@ -121,13 +123,28 @@ public class MemberService {
         refreshTokenRepository.deleteByMemberId(memberId);
         socialAccountRepository.deleteByMemberId(memberId);
         cartRepository.deleteByUserId(memberId);
+        excludeApprovedReviewsFromStats(memberId);
         reviewRepository.deleteByMemberId(memberId);
         certificateRepository.deleteByMemberId(memberId);
         memberSurveyRepository.deleteByMemberId(memberId);
         
         // 마지막으로 회원 삭제
         memberRepository.deleteById(memberId);
+        evictProfileAfterCommit(memberId);
         
         return providers;
     }
+
+    // 커밋 전에 지우면 동시 조회가 이전 프로필을 다시 읽어 캐시할 수 있으므로 커밋 후 무효화
+    private void evictProfileAfterCommit(Long memberId) {
+        AfterCommit.run(() -> memberProfileCache.evict(memberId));
+    }
+
+    // 삭제되는 승인 후기를 강의 후기 통계에서 제외
+    private void excludeApprovedReviewsFromStats(Long memberId) {
+        reviewRepository.findAllByMemberId(memberId).stream()
+                .filter(Review::isApproved)
+                .forEach(review -> lectureReviewStatsRepository.applyDelta(review.getLectureId(), -1,
+                        review.getScore() != null ? -review.getScore() : 0.0));
+    }
 }
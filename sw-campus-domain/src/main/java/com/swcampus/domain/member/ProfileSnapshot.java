@@ -0,0 +1,11 @@
+package com.swcampus.domain.member;
+
+/**
+ * 커뮤니티 화면에 노출되는 회원 프로필 (작성자/발신자 닉네임 표시용)
+ */
+public record ProfileSnapshot(Long memberId, String nickname) {
+
+    public static ProfileSnapshot from(Member member) {
+        return new ProfileSnapshot(member.getId(), member.getNickname());
+    }
+}
@@ -0,0 +1,26 @@
+package com.swcampus.domain.notification;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 실시간 알림 전달 버스 (수신자 userId 단위 채널)
+ * - 알림을 만든 노드와 수신자가 연결된 노드가 달라도 전달되도록 한다
+ * - 수신자 연결이 있는 노드만 해당 userId를 구독한다
+ */
+public interface NotificationBus {
+
+    /**
+     * 수신자 채널로 알림 발행
+     */
+    void publish(Long userId, NotificationDetail notification);
+
+    /**
+     * 수신자 채널 구독 (이미 구독 중이면 handler 교체)
+     */
+    void subscribe(Long userId, Consumer<NotificationDetail> handler);
+
+    /**
+     * 수신자 채널 구독 해제
+     */
+    void unsubscribe(Long userId);
+}
@@ -0,0 +1,46 @@
+package com.swcampus.domain.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 알림 목록 커서 (키셋 페이지네이션)
+ * - 마지막으로 내려준 알림의 (created_at DESC, noti_id DESC) 정렬 키를 담는다
+ * - 클라이언트에는 Base64 문자열(불투명 토큰)로 전달한다
+ *
+ * @param createdAt 생성 시각
+ * @param notificationId 알림 ID
+ */
+public record NotificationCursor(LocalDateTime createdAt, Long notificationId) {
+
+    private static final String DELIMITER = "|";
+    private static final String INVALID_CURSOR_MESSAGE = "유효하지 않은 커서입니다";
+
+    public static NotificationCursor of(Notification notification) {
+        return new NotificationCursor(notification.getCreatedAt(), notification.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + notificationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서인 경우
+     */
+    public static NotificationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] fields = raw.split(Pattern.quote(DELIMITER), -1);
+            if (fields.length != 2) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+            }
+            return new NotificationCursor(LocalDateTime.parse(fields[0]), Long.valueOf(fields[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE, e);
+        }
+    }
+}
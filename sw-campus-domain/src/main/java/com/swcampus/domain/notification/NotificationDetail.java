@@ -20,12 +20,12 @@ public class NotificationDetail {
     private final boolean read;
     private final LocalDateTime createdAt;
 
-    public static NotificationDetail of(Notification notification, String senderNickname, Long postId) {
+    public static NotificationDetail of(Notification notification, String senderNickname) {
         return NotificationDetail.builder()
                 .id(notification.getId())
                 .type(notification.getType())
                 .targetId(notification.getTargetId())
-                .postId(postId)
+                .postId(notification.getPostId())
                 .senderId(notification.getSenderId())
                 .senderNickname(senderNickname)
                 .read(notification.isRead())
@@ -0,0 +1,56 @@
+package com.swcampus.domain.notification;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기 이벤트 (notification_outbox)
+ * - 원본 변경과 같은 트랜잭션에서 기록되고, NotificationOutboxService.deliver에서 알림으로 전환된다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutboxEvent {
+    private Long id;
+    private Long recipientId;   // 알림 수신자
+    private Long senderId;      // 알림 발신자
+    private Long targetId;      // 알림 대상 ID (댓글 ID 등)
+    private Long postId;        // 알림 대상 게시글 ID
+    private NotificationType type;
+    private int attempts;
+    private LocalDateTime createdAt;
+
+    public static NotificationOutboxEvent create(Long recipientId, Long senderId, Long targetId,
+                                                 Long postId, NotificationType type) {
+        NotificationOutboxEvent event = new NotificationOutboxEvent();
+        event.recipientId = recipientId;
+        event.senderId = senderId;
+        event.targetId = targetId;
+        event.postId = postId;
+        event.type = type;
+        event.attempts = 0;
+        event.createdAt = LocalDateTime.now();
+        return event;
+    }
+
+    public static NotificationOutboxEvent of(Long id, Long recipientId, Long senderId, Long targetId,
+                                             Long postId, NotificationType type, int attempts,
+                                             LocalDateTime createdAt) {
+        NotificationOutboxEvent event = new NotificationOutboxEvent();
+        event.id = id;
+        event.recipientId = recipientId;
+        event.senderId = senderId;
+        event.targetId = targetId;
+        event.postId = postId;
+        event.type = type;
+        event.attempts = attempts;
+        event.createdAt = createdAt;
+        return event;
+    }
+
+    public Notification toNotification() {
+        return Notification.create(recipientId, senderId, targetId, postId, type);
+    }
+}
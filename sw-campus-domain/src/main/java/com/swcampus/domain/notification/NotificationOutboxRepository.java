@@ -0,0 +1,26 @@
+package com.swcampus.domain.notification;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 알림 발송 대기열 (notification_outbox)
+ * - 여러 노드가 동시에 선점해도 같은 이벤트를 나눠 갖지 않는다 (FOR UPDATE SKIP LOCKED)
+ */
+public interface NotificationOutboxRepository {
+
+    NotificationOutboxEvent save(NotificationOutboxEvent event);
+
+    /**
+     * 발송 시각이 도래한 이벤트를 선점합니다.
+     * 선점된 이벤트는 시도 횟수가 1 늘고, 다음 시도 시각이 baseBackoff * 2^(이전 시도 횟수) 뒤로 밀린다.
+     * 발송에 실패해 삭제되지 않은 이벤트는 그 시각 이후 다시 선점된다.
+     *
+     * @param limit 최대 선점 건수
+     * @param maxAttempts 최대 시도 횟수 (이 횟수를 채운 이벤트는 선점하지 않음)
+     * @param baseBackoff 첫 재시도 대기 시간
+     */
+    List<NotificationOutboxEvent> claimDue(int limit, int maxAttempts, Duration baseBackoff);
+
+    void deleteAllByIds(List<Long> ids);
+}
@@ -0,0 +1,87 @@
+package com.swcampus.domain.notification;
+
+import com.swcampus.domain.common.AfterCommit;
+import com.swcampus.domain.member.MemberProfileCache;
+import com.swcampus.domain.member.ProfileSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 transactional outbox
+ * - enqueue: 원본 변경(댓글 생성 등)과 같은 트랜잭션에서 발송 대기 이벤트만 기록한다
+ * - claim / deliver: 백그라운드 디스패처가 이벤트를 선점하고, 알림 일괄 저장과 대기열 삭제를 한 트랜잭션으로 처리한다
+ *   (읽지 않은 알림 수 캐시는 커밋 후 수신자별로 올린다. 커밋 실패로 재시도될 때 두 번 오르지 않도록)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationOutboxService {
+
+    static final int MAX_ATTEMPTS = 10;
+    static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+    private static final String UNKNOWN_SENDER = "알 수 없음";
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+    private final MemberProfileCache memberProfileCache;
+
+    /**
+     * 알림 발송 대기 이벤트 기록 (본인에게는 알림을 보내지 않음)
+     */
+    @Transactional
+    public void enqueue(Long recipientId, Long senderId, Long targetId, Long postId, NotificationType type) {
+        if (recipientId.equals(senderId)) {
+            return;
+        }
+        notificationOutboxRepository.save(
+                NotificationOutboxEvent.create(recipientId, senderId, targetId, postId, type));
+    }
+
+    /**
+     * 발송할 이벤트 선점 (deliver되지 않은 이벤트는 백오프 후 다시 선점됨)
+     */
+    @Transactional
+    public List<NotificationOutboxEvent> claim(int limit) {
+        return notificationOutboxRepository.claimDue(limit, MAX_ATTEMPTS, BASE_BACKOFF);
+    }
+
+    /**
+     * 선점한 이벤트를 알림으로 일괄 저장하고 대기열에서 삭제
+     *
+     * @return 발신자 닉네임이 채워진 알림 (실시간 발행용, 이벤트 순서 유지)
+     */
+    @Transactional
+    public List<NotificationDetail> deliver(List<NotificationOutboxEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        List<Notification> saved = notificationRepository.saveAll(
+                events.stream().map(NotificationOutboxEvent::toNotification).toList());
+        notificationOutboxRepository.deleteAllByIds(
+                events.stream().map(NotificationOutboxEvent::getId).toList());
+        Map<Long, Long> unreadDeltas = events.stream()
+                .collect(Collectors.groupingBy(NotificationOutboxEvent::getRecipientId, Collectors.counting()));
+        AfterCommit.run(() -> notificationUnreadCountRepository.increment(unreadDeltas));
+
+        Map<Long, ProfileSnapshot> senders = memberProfileCache.getAll(
+                events.stream().map(NotificationOutboxEvent::getSenderId).toList());
+
+        List<NotificationDetail> details = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            NotificationOutboxEvent event = events.get(i);
+            ProfileSnapshot sender = senders.get(event.getSenderId());
+            String nickname = sender != null ? sender.nickname() : UNKNOWN_SENDER;
+            details.add(NotificationDetail.of(saved.get(i), nickname));
+        }
+        return details;
+    }
+}
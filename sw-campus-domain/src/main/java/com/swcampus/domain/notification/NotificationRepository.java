@@ -5,9 +5,17 @@ import java.util.Optional;
 
 public interface NotificationRepository {
     Notification save(Notification notification);
+    List<Notification> saveAll(List<Notification> notifications);
     Optional<Notification> findById(Long id);
     List<Notification> findByUserId(Long userId);
     List<Notification> findByUserIdAndReadFalse(Long userId);
+    /**
+     * 알림 목록 키셋 조회 (created_at DESC, noti_id DESC)
+     *
+     * @param cursor 이전 페이지의 마지막 알림 (첫 페이지는 null)
+     */
+    List<Notification> findFeed(Long userId, NotificationCursor cursor, int limit);
+    List<Notification> findByUserIdAndIdGreaterThan(Long userId, Long lastNotificationId);
     long countByUserIdAndReadFalse(Long userId);
     void markAllAsReadByUserId(Long userId);
 }
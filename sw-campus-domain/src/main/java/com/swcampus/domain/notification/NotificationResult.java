@@ -11,13 +11,19 @@ import java.util.List;
 public class NotificationResult {
     private final List<NotificationDetail> notifications;
     private final long unreadCount;
+    private final String nextCursor;
+    private final boolean hasNext;
 
-    private NotificationResult(List<NotificationDetail> notifications, long unreadCount) {
+    private NotificationResult(List<NotificationDetail> notifications, long unreadCount,
+                               String nextCursor, boolean hasNext) {
         this.notifications = notifications;
         this.unreadCount = unreadCount;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
     }
 
-    public static NotificationResult of(List<NotificationDetail> notifications, long unreadCount) {
-        return new NotificationResult(notifications, unreadCount);
+    public static NotificationResult of(List<NotificationDetail> notifications, long unreadCount,
+                                        String nextCursor, boolean hasNext) {
+        return new NotificationResult(notifications, unreadCount, nextCursor, hasNext);
     }
 }
@@ -1,9 +1,8 @@
 package com.swcampus.domain.notification;
 
-import com.swcampus.domain.comment.Comment;
-import com.swcampus.domain.comment.CommentRepository;
-import com.swcampus.domain.member.Member;
-import com.swcampus.domain.member.MemberRepository;
+import com.swcampus.domain.common.AfterCommit;
+import com.swcampus.domain.member.MemberProfileCache;
+import com.swcampus.domain.member.ProfileSnapshot;
 import com.swcampus.domain.notification.exception.NotificationAccessDeniedException;
 import com.swcampus.domain.notification.exception.NotificationNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -12,8 +11,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,66 +18,53 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final MemberRepository memberRepository;
-    private final CommentRepository commentRepository;
-
-    @Transactional
-    public Notification createNotification(Long userId, Long senderId, Long targetId, NotificationType type) {
-        // 본인에게 알림을 보내지 않음
-        if (userId.equals(senderId)) {
-            return null;
-        }
-
-        Notification notification = Notification.create(userId, senderId, targetId, type);
-        return notificationRepository.save(notification);
-    }
+    private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+    private final MemberProfileCache memberProfileCache;
 
     public List<Notification> getNotifications(Long userId) {
         return notificationRepository.findByUserId(userId);
     }
 
-    public NotificationResult getNotificationsWithDetails(Long userId) {
-        List<Notification> notifications = notificationRepository.findByUserId(userId);
-        long unreadCount = notificationRepository.countByUserIdAndReadFalse(userId);
-
-        // sender ID 목록 추출 및 Member 조회
-        List<Long> senderIds = notifications.stream()
-                .map(Notification::getSenderId)
-                .distinct()
-                .toList();
-
-        Map<Long, Member> senderMap = memberRepository.findAllByIds(senderIds).stream()
-                .collect(Collectors.toMap(Member::getId, Function.identity()));
-
-        // comment ID 목록 추출 및 Comment 조회 (postId를 가져오기 위해)
-        List<Long> commentIds = notifications.stream()
-                .map(Notification::getTargetId)
-                .distinct()
-                .toList();
-
-        Map<Long, Comment> commentMap = commentRepository.findAllByIds(commentIds).stream()
-                .collect(Collectors.toMap(Comment::getId, Function.identity()));
-
-        // NotificationDetail 생성
-        List<NotificationDetail> details = notifications.stream()
-                .map(n -> {
-                    Member sender = senderMap.get(n.getSenderId());
-                    String nickname = sender != null ? sender.getNickname() : "알 수 없음";
-                    Comment comment = commentMap.get(n.getTargetId());
-                    Long postId = comment != null ? comment.getPostId() : null;
-                    return NotificationDetail.of(n, nickname, postId);
-                })
-                .toList();
+    /**
+     * 알림 목록 커서 조회 (최신순)
+     * - cursor는 이전 응답의 nextCursor이며, 한 건을 더 읽어 다음 페이지 여부를 판단한다
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서인 경우
+     */
+    public NotificationResult getNotificationFeed(Long userId, String cursor, int size) {
+        NotificationCursor after = (cursor != null && !cursor.isBlank()) ? NotificationCursor.decode(cursor) : null;
+
+        List<Notification> fetched = notificationRepository.findFeed(userId, after, size + 1);
+        boolean hasNext = fetched.size() > size;
+        List<Notification> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? NotificationCursor.of(content.get(content.size() - 1)).encode() : null;
+
+        return NotificationResult.of(toDetails(content), getUnreadCount(userId), nextCursor, hasNext);
+    }
 
-        return NotificationResult.of(details, unreadCount);
+    /**
+     * 재연결 시 놓친 알림 조회 (Last-Event-ID 이후, 오래된 순)
+     */
+    public List<NotificationDetail> getNotificationsAfter(Long userId, Long lastNotificationId) {
+        return toDetails(notificationRepository.findByUserIdAndIdGreaterThan(userId, lastNotificationId));
     }
 
     public List<Notification> getUnreadNotifications(Long userId) {
         return notificationRepository.findByUserIdAndReadFalse(userId);
     }
 
+    /**
+     * 읽지 않은 알림 수 (캐시 미스 시에만 DB에서 세어 캐시에 기록)
+     */
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndReadFalse(userId);
+        Long cached = notificationUnreadCountRepository.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long count = notificationRepository.countByUserIdAndReadFalse(userId);
+        notificationUnreadCountRepository.set(userId, count);
+        return count;
     }
 
     @Transactional
@@ -92,12 +76,40 @@ public class NotificationService {
             throw new NotificationAccessDeniedException("본인의 알림만 읽음 처리할 수 있습니다.");
         }
 
+        // 이미 읽은 알림은 카운터를 건드리지 않음
+        if (notification.isRead()) {
+            return notification;
+        }
+
         notification.markAsRead();
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        // 롤백되면 카운터만 어긋나므로 커밋 후 반영
+        AfterCommit.run(() -> notificationUnreadCountRepository.decrement(userId));
+        return saved;
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
         notificationRepository.markAllAsReadByUserId(userId);
+        AfterCommit.run(() -> notificationUnreadCountRepository.set(userId, 0));
+    }
+
+    private List<NotificationDetail> toDetails(List<Notification> notifications) {
+        // sender ID 목록 추출 및 프로필 조회
+        List<Long> senderIds = notifications.stream()
+                .map(Notification::getSenderId)
+                .distinct()
+                .toList();
+
+        Map<Long, ProfileSnapshot> senderMap = memberProfileCache.getAll(senderIds);
+
+        // NotificationDetail 생성 (postId는 알림 생성 시 기록됨)
+        return notifications.stream()
+                .map(n -> {
+                    ProfileSnapshot sender = senderMap.get(n.getSenderId());
+                    String nickname = sender != null ? sender.nickname() : "알 수 없음";
+                    return NotificationDetail.of(n, nickname);
+                })
+                .toList();
     }
 }
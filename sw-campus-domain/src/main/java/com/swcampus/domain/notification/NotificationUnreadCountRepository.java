@@ -0,0 +1,28 @@
+package com.swcampus.domain.notification;
+
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 수 캐시
+ * - 증감은 이미 캐시된 사용자에게만 반영하고, 캐시가 없으면 다음 조회 때 DB에서 다시 센다
+ * - 짧은 TTL로 증감 누락에 의한 오차가 오래 남지 않게 한다
+ */
+public interface NotificationUnreadCountRepository {
+
+    /**
+     * @return 캐시된 읽지 않은 알림 수 (캐시에 없거나 조회 실패 시 null)
+     */
+    Long get(Long userId);
+
+    void set(Long userId, long count);
+
+    /**
+     * @param deltas 사용자 ID -> 증가분
+     */
+    void increment(Map<Long, Long> deltas);
+
+    /**
+     * 1 감소 (0 미만으로 내려가지 않음)
+     */
+    void decrement(Long userId);
+}
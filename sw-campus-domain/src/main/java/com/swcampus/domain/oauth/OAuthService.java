@@ -1,7 +1,6 @@
 package com.swcampus.domain.oauth;
 
-import com.swcampus.domain.auth.RefreshToken;
-import com.swcampus.domain.auth.RefreshTokenRepository;
+import com.swcampus.domain.auth.RefreshTokenService;
 import com.swcampus.domain.auth.TokenProvider;
 import com.swcampus.domain.member.Member;
 import com.swcampus.domain.member.MemberRepository;
@@ -20,7 +19,7 @@ public class OAuthService {
     private final SocialAccountRepository socialAccountRepository;
     private final MemberRepository memberRepository;
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * OAuth 로그인 또는 회원가입 처리
@@ -102,21 +101,10 @@ public class OAuthService {
      * 토큰 발급
      */
     private OAuthLoginResult issueTokens(Member member) {
-        // 기존 RT 삭제
-        refreshTokenRepository.deleteByMemberId(member.getId());
-
-        // 토큰 생성
+        // 토큰 생성 (새 로그인 세션, 최대 세션 수를 넘으면 오래된 세션 폐기)
         String accessToken = tokenProvider.createAccessToken(
                 member.getId(), member.getEmail(), member.getRole());
-        String refreshToken = tokenProvider.createRefreshToken(member.getId());
-
-        // RT 저장
-        RefreshToken refreshTokenEntity = RefreshToken.create(
-                member.getId(),
-                refreshToken,
-                tokenProvider.getRefreshTokenValidity()
-        );
-        refreshTokenRepository.save(refreshTokenEntity);
+        String refreshToken = refreshTokenService.issue(member);
 
         return new OAuthLoginResult(accessToken, refreshToken, member);
     }
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.swcampus.domain.auth.EmailService;
 import com.swcampus.domain.member.Member;
 import com.swcampus.domain.member.MemberRepository;
 import com.swcampus.domain.member.Role;
@@ -22,6 +23,7 @@ public class AdminOrganizationService {
 
     private final OrganizationRepository organizationRepository;
     private final MemberRepository memberRepository;
+    private final EmailService emailService;
 
     public Page<Organization> searchOrganizations(ApprovalStatus status, String keyword, Pageable pageable) {
         return organizationRepository.searchByStatusAndKeyword(status, keyword, pageable);
@@ -45,6 +47,9 @@ public class AdminOrganizationService {
         organization.approve();
 
         Organization savedOrg = organizationRepository.save(organization);
+
+        // 승인 안내 메일은 승인과 같은 트랜잭션에서 발송 대기열에 기록
+        emailService.sendApprovalEmail(id, member.getEmail(), savedOrg.getName());
         return new ApproveOrganizationResult(savedOrg, member.getEmail());
     }
 
@@ -65,6 +70,9 @@ public class AdminOrganizationService {
         organization.reject();
         organizationRepository.save(organization);
 
+        // 반려 안내 메일은 반려와 같은 트랜잭션에서 발송 대기열에 기록
+        emailService.sendRejectionEmail(id, member.getEmail(), admin.getEmail(), admin.getPhone());
+
         return new RejectOrganizationResult(member.getEmail(), admin.getEmail(), admin.getPhone());
     }
 
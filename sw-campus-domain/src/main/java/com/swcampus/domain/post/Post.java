@@ -16,6 +16,8 @@ public class Post {
     private Long userId;
     private String title;
     private String body;
+    private String preview;     // 비로그인 미리보기 (본문 저장 시 계산)
+    private String bodyText;    // 검색용 본문 텍스트 (본문 저장 시 계산)
     private List<String> images = new ArrayList<>();
     private List<String> tags = new ArrayList<>();
     private Long viewCount;
@@ -34,6 +36,7 @@ public class Post {
         post.userId = userId;
         post.title = title;
         post.body = body;
+        post.extractText();
         post.images = images != null ? images : new ArrayList<>();
         post.tags = tags != null ? tags : new ArrayList<>();
         post.viewCount = 0L;
@@ -49,12 +52,23 @@ public class Post {
                           List<String> images, List<String> tags, Long viewCount, Long likeCount,
                           Long commentCount, Long selectedCommentId, boolean pinned, boolean deleted,
                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return of(id, boardCategoryId, userId, title, body, null, null, images, tags, viewCount, likeCount,
+                commentCount, selectedCommentId, pinned, deleted, createdAt, updatedAt);
+    }
+
+    public static Post of(Long id, Long boardCategoryId, Long userId, String title, String body,
+                          String preview, String bodyText,
+                          List<String> images, List<String> tags, Long viewCount, Long likeCount,
+                          Long commentCount, Long selectedCommentId, boolean pinned, boolean deleted,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
         Post post = new Post();
         post.id = id;
         post.boardCategoryId = boardCategoryId;
         post.userId = userId;
         post.title = title;
         post.body = body;
+        post.preview = preview;
+        post.bodyText = bodyText;
         post.images = images != null ? images : new ArrayList<>();
         post.tags = tags != null ? tags : new ArrayList<>();
         post.viewCount = viewCount;
@@ -71,6 +85,7 @@ public class Post {
     public void update(String title, String body, List<String> images, List<String> tags) {
         this.title = title;
         this.body = body;
+        extractText();
         this.images = images != null ? images : new ArrayList<>();
         this.tags = tags != null ? tags : new ArrayList<>();
         this.updatedAt = LocalDateTime.now();
@@ -81,8 +96,11 @@ public class Post {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void incrementViewCount() {
-        this.viewCount = this.viewCount + 1;
+    /**
+     * DB에 아직 반영되지 않은 조회수 증가분을 더합니다.
+     */
+    public void addPendingViewCount(long pendingViewCount) {
+        this.viewCount = this.viewCount + pendingViewCount;
     }
 
     public void incrementCommentCount() {
@@ -100,6 +118,25 @@ public class Post {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 비로그인 미리보기 (아직 계산되지 않은 게시글은 본문에서 바로 추출)
+     */
+    public String getPreview() {
+        return preview != null ? preview : PostTextExtractor.preview(body);
+    }
+
+    /**
+     * 검색용 본문 텍스트 (아직 계산되지 않은 게시글은 본문에서 바로 추출)
+     */
+    public String getBodyText() {
+        return bodyText != null ? bodyText : PostTextExtractor.plainText(body);
+    }
+
+    private void extractText() {
+        this.preview = PostTextExtractor.preview(body);
+        this.bodyText = PostTextExtractor.plainText(body);
+    }
+
     public boolean isAuthor(Long userId) {
         return this.userId.equals(userId);
     }
@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PostRepository {
@@ -14,7 +15,11 @@ public interface PostRepository {
     
     Page<Post> findAll(List<Long> categoryIds, List<String> tags, Pageable pageable);
     
-    void incrementViewCount(Long id);
+    /**
+     * 게시글별 조회수 증가분을 한 번에 반영합니다.
+     * @param deltas 게시글 ID별 증가분
+     */
+    void addViewCounts(Map<Long, Long> deltas);
 
     void incrementCommentCount(Long id);
 
@@ -24,6 +29,28 @@ public interface PostRepository {
 
     void decrementLikeCount(Long id);
     
+    /**
+     * 미리보기/본문 텍스트가 아직 저장되지 않은 게시글 조회 (ID 순, 백필용)
+     */
+    List<Post> findWithoutExtractedText(int limit);
+
+    /**
+     * 미리보기/본문 텍스트만 갱신 (updated_at 변경 없음)
+     */
+    void updateExtractedText(Long id, String preview, String bodyText);
+
+    /**
+     * 게시글 ID 최댓값 (카운터 보정 범위 계산용, 게시글이 없으면 0)
+     */
+    long findMaxId();
+
+    /**
+     * (fromId, toId] 구간 게시글의 comment_count, like_count를 원본(삭제되지 않은 댓글, 추천) 기준으로 다시 맞춥니다.
+     *
+     * @return 보정된 게시글 수
+     */
+    int reconcileCounters(long fromId, long toId);
+
     void deleteById(Long id);
     
     boolean existsById(Long id);
@@ -31,7 +58,7 @@ public interface PostRepository {
     /**
      * 게시글 목록을 작성자 닉네임, 카테고리 이름과 함께 조회합니다.
      * N+1 문제를 해결하기 위해 JOIN 쿼리를 사용합니다.
-     * @param keyword 검색어 (제목, 본문, 태그에서 검색)
+     * @param keyword 검색어 (제목, 본문 텍스트, 태그에서 검색)
      */
     Page<PostSummary> findAllWithDetails(List<Long> categoryIds, List<String> tags, String keyword, Pageable pageable);
 
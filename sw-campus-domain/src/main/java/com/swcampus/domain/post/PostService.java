@@ -1,9 +1,8 @@
 package com.swcampus.domain.post;
 
 import com.swcampus.domain.board.BoardCategoryService;
-import com.swcampus.domain.comment.CommentService;
-import com.swcampus.domain.member.MemberService;
-import com.swcampus.domain.member.exception.MemberNotFoundException;
+import com.swcampus.domain.member.MemberProfileCache;
+import com.swcampus.domain.member.ProfileSnapshot;
 import com.swcampus.domain.post.exception.PostAccessDeniedException;
 import com.swcampus.domain.post.exception.PostNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +25,7 @@ public class PostService {
     private final PostRepository postRepository;
     private final PostViewRepository postViewRepository;
     private final BoardCategoryService boardCategoryService;
-    private final MemberService memberService;
-    private final CommentService commentService;
+    private final MemberProfileCache memberProfileCache;
 
     @Transactional
     public Post createPost(Long userId, Long boardCategoryId, String title, String body,
@@ -39,7 +38,9 @@ public class PostService {
         List<Long> categoryIds = (categoryId != null)
                 ? boardCategoryService.getChildCategoryIds(categoryId)
                 : null;
-        return postRepository.findAll(categoryIds, tags, pageable);
+        Page<Post> posts = postRepository.findAll(categoryIds, tags, pageable);
+        applyPendingViewCounts(posts.getContent());
+        return posts;
     }
 
     /**
@@ -51,7 +52,9 @@ public class PostService {
         List<Long> categoryIds = (categoryId != null)
                 ? boardCategoryService.getChildCategoryIds(categoryId)
                 : null;
-        return postRepository.findAllWithDetails(categoryIds, tags, keyword, pageable);
+        Page<PostSummary> summaries = postRepository.findAllWithDetails(categoryIds, tags, keyword, pageable);
+        applyPendingViewCounts(summaries.getContent().stream().map(PostSummary::getPost).toList());
+        return summaries;
     }
 
     public Post getPost(Long postId) {
@@ -59,13 +62,11 @@ public class PostService {
                 .orElseThrow(() -> new PostNotFoundException(postId));
     }
 
-    @Transactional
     public Post getPostWithViewCount(Long postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException(postId));
 
-        postRepository.incrementViewCount(postId);
-        post.incrementViewCount();
+        post.addPendingViewCount(postViewRepository.incrementPendingViewCount(postId));
 
         return post;
     }
@@ -73,45 +74,50 @@ public class PostService {
     /**
      * 게시글 상세 정보를 조회합니다.
      * 동일 사용자가 1시간 내 중복 조회 시 조회수가 증가하지 않습니다.
+     * 조회수 증가는 버퍼에 쌓였다가 주기적으로 DB에 반영되며, 응답에는 DB 값과 증가분을 합산합니다.
      * 탈퇴한 회원의 경우 작성자 닉네임이 "알 수 없음"으로 표시됩니다.
+     * 댓글 수는 게시글의 비정규화 카운터(comment_count)를 그대로 사용합니다.
      *
      * @param postId 게시글 ID
      * @param userId 조회하는 사용자 ID
      */
-    @Transactional
     public PostDetail getPostDetailWithViewCount(Long postId, Long userId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException(postId));
 
-        // 중복 조회 체크: 이미 조회한 경우 조회수 증가하지 않음
-        boolean alreadyViewed = postViewRepository.hasViewed(postId, userId, VIEW_COUNT_TTL_SECONDS);
-        if (!alreadyViewed) {
-            postRepository.incrementViewCount(postId);
-            post.incrementViewCount();
-        }
+        // 중복 조회 체크: 처음 조회한 경우에만 증가분 반영
+        post.addPendingViewCount(postViewRepository.recordView(postId, userId, VIEW_COUNT_TTL_SECONDS));
 
         String authorNickname = getAuthorNickname(post.getUserId());
         String categoryName = boardCategoryService.getCategoryName(post.getBoardCategoryId());
-        long commentCount = commentService.countByPostId(postId);
 
         return PostDetail.builder()
                 .post(post)
                 .authorNickname(authorNickname)
                 .categoryName(categoryName)
-                .commentCount(commentCount)
+                .commentCount(post.getCommentCount())
                 .build();
     }
 
+    private void applyPendingViewCounts(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> pending = postViewRepository.getPendingViewCounts(
+                posts.stream().map(Post::getId).toList());
+        for (Post post : posts) {
+            post.addPendingViewCount(pending.getOrDefault(post.getId(), 0L));
+        }
+    }
+
     /**
      * 작성자 닉네임을 조회합니다.
      * 탈퇴한 회원의 경우 "알 수 없음"을 반환합니다.
      */
     private String getAuthorNickname(Long userId) {
-        try {
-            return memberService.getMember(userId).getNickname();
-        } catch (MemberNotFoundException e) {
-            return UNKNOWN_AUTHOR;
-        }
+        return memberProfileCache.get(userId)
+                .map(ProfileSnapshot::nickname)
+                .orElse(UNKNOWN_AUTHOR);
     }
 
     @Transactional
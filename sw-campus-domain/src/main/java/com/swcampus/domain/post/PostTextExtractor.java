@@ -0,0 +1,265 @@
+package com.swcampus.domain.post;
+
+import org.jsoup.nodes.Entities;
+
+/**
+ * 게시글 HTML 본문 텍스트 추출
+ * - DOM을 만들지 않고 본문을 한 번 훑으면서 태그를 건너뛰고 텍스트만 모은다
+ * - 공백은 하나로 합치고, 블록 태그 경계는 공백으로 바꾼다 (Jsoup Element.text()와 같은 방식)
+ * - 이름 있는 엔티티는 Jsoup의 HTML5 엔티티 표로 디코딩한다
+ * - 미리보기는 PREVIEW_LENGTH자를 채우면 나머지 본문을 읽지 않고 멈춘다
+ */
+public final class PostTextExtractor {
+
+    public static final int PREVIEW_LENGTH = 200;
+    private static final String ELLIPSIS = "...";
+    private static final char NBSP = '\u00a0';
+    // '&' 부터 ';' 까지 최대 길이 (가장 긴 HTML5 엔티티 이름 31자)
+    private static final int MAX_ENTITY_LENGTH = 33;
+
+    // 경계에서 단어가 붙지 않도록 공백으로 바꾸는 태그
+    private static final String[] BLOCK_TAGS = {
+            "p", "div", "br", "li", "ul", "ol", "h1", "h2", "h3", "h4", "h5", "h6",
+            "blockquote", "pre", "table", "tr", "td", "th", "hr", "figure", "figcaption"
+    };
+
+    private PostTextExtractor() {
+    }
+
+    /**
+     * 비로그인 사용자용 미리보기 (h3 질문/제목 제외, PREVIEW_LENGTH자 초과 시 "..." 추가)
+     */
+    public static String preview(String html) {
+        return extract(html, PREVIEW_LENGTH, true);
+    }
+
+    /**
+     * 검색용 전체 본문 텍스트
+     */
+    public static String plainText(String html) {
+        return extract(html, Integer.MAX_VALUE, false);
+    }
+
+    private static String extract(String html, int limit, boolean skipHeadings) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+
+        TextBuffer out = new TextBuffer(Math.min(html.length(), limit), limit);
+        String skippedTag = null;   // 내용을 버리는 중인 태그 (h3, script, style)
+        int skippedDepth = 0;
+
+        int length = html.length();
+        int i = 0;
+        while (i < length) {
+            char c = html.charAt(i);
+
+            if (c == '<' && isMarkupStart(html, i)) {
+                // 주석, 선언(<!DOCTYPE> 등)
+                if (html.charAt(i + 1) == '!') {
+                    int end = html.startsWith("<!--", i) ? html.indexOf("-->", i + 4) : html.indexOf('>', i + 2);
+                    i = end < 0 ? length : end + (html.startsWith("<!--", i) ? 3 : 1);
+                    continue;
+                }
+                int end = findTagEnd(html, i + 1);
+                if (end < 0) {
+                    break;
+                }
+                int nameStart = html.charAt(i + 1) == '/' ? i + 2 : i + 1;
+                boolean closing = nameStart == i + 2;
+                int nameEnd = nameStart;
+                while (nameEnd < end && Character.isLetterOrDigit(html.charAt(nameEnd))) {
+                    nameEnd++;
+                }
+                boolean selfClosing = html.charAt(end - 1) == '/';
+                i = end + 1;
+
+                if (skippedTag != null) {
+                    if (regionEquals(html, nameStart, nameEnd, skippedTag) && !selfClosing) {
+                        skippedDepth += closing ? -1 : 1;
+                        if (skippedDepth == 0) {
+                            skippedTag = null;
+                            out.space();
+                        }
+                    }
+                    continue;
+                }
+
+                if (!closing && !selfClosing) {
+                    String skipped = skippedTagOf(html, nameStart, nameEnd, skipHeadings);
+                    if (skipped != null) {
+                        skippedTag = skipped;
+                        skippedDepth = 1;
+                        continue;
+                    }
+                }
+                if (isBlockTag(html, nameStart, nameEnd)) {
+                    out.space();
+                }
+                continue;
+            }
+
+            if (skippedTag != null) {
+                i++;
+                continue;
+            }
+
+            if (c == '&') {
+                int semicolon = html.indexOf(';', i + 1);
+                String decoded = semicolon > 0 && semicolon - i <= MAX_ENTITY_LENGTH
+                        ? decodeEntity(html, i + 1, semicolon) : null;
+                if (decoded != null) {
+                    i = semicolon + 1;
+                    for (int k = 0; k < decoded.length(); ) {
+                        int codePoint = decoded.codePointAt(k);
+                        if (!out.append(codePoint)) {
+                            return out.truncated();
+                        }
+                        k += Character.charCount(codePoint);
+                    }
+                    continue;
+                }
+            }
+            i++;
+            if (!out.append(c)) {
+                return out.truncated();
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * 태그의 끝 '>' 위치 (따옴표로 감싼 속성 값 안의 '>'는 건너뜀, 닫히지 않았으면 -1)
+     */
+    private static int findTagEnd(String html, int from) {
+        int length = html.length();
+        int i = from;
+        while (i < length) {
+            char c = html.charAt(i);
+            if (c == '>') {
+                return i;
+            }
+            if (c == '=') {
+                i++;
+                while (i < length && Character.isWhitespace(html.charAt(i))) {
+                    i++;
+                }
+                if (i < length && (html.charAt(i) == '"' || html.charAt(i) == '\'')) {
+                    int close = html.indexOf(html.charAt(i), i + 1);
+                    if (close < 0) {
+                        return -1;
+                    }
+                    i = close + 1;
+                }
+                continue;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * '<' 다음이 태그 이름, '/', '!'인 경우만 마크업으로 본다 ("a < b" 같은 본문의 '<'는 글자)
+     */
+    private static boolean isMarkupStart(String html, int index) {
+        if (index + 1 >= html.length()) {
+            return false;
+        }
+        char next = html.charAt(index + 1);
+        if (next == '/') {
+            return index + 2 < html.length() && Character.isLetter(html.charAt(index + 2));
+        }
+        return next == '!' || Character.isLetter(next);
+    }
+
+    private static String skippedTagOf(String html, int nameStart, int nameEnd, boolean skipHeadings) {
+        if (skipHeadings && regionEquals(html, nameStart, nameEnd, "h3")) {
+            return "h3";
+        }
+        if (regionEquals(html, nameStart, nameEnd, "script")) {
+            return "script";
+        }
+        if (regionEquals(html, nameStart, nameEnd, "style")) {
+            return "style";
+        }
+        return null;
+    }
+
+    private static boolean isBlockTag(String html, int nameStart, int nameEnd) {
+        for (String tag : BLOCK_TAGS) {
+            if (regionEquals(html, nameStart, nameEnd, tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionEquals(String html, int start, int end, String name) {
+        return end - start == name.length() && html.regionMatches(true, start, name, 0, name.length());
+    }
+
+    /**
+     * @return 디코딩한 글자 (알 수 없는 엔티티면 null)
+     */
+    private static String decodeEntity(String html, int start, int end) {
+        if (start < end && html.charAt(start) == '#') {
+            boolean hex = start + 1 < end && (html.charAt(start + 1) == 'x' || html.charAt(start + 1) == 'X');
+            try {
+                int codePoint = Integer.parseInt(html, hex ? start + 2 : start + 1, end, hex ? 16 : 10);
+                return Character.isValidCodePoint(codePoint) ? Character.toString(codePoint) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        String name = html.substring(start, end);
+        return Entities.isNamedEntity(name) ? Entities.getByName(name) : null;
+    }
+
+    /**
+     * 추출 결과 버퍼 (연속 공백은 하나로 합치고, limit자를 넘으면 더 받지 않음)
+     */
+    private static final class TextBuffer {
+
+        private final StringBuilder out;
+        private final int limit;
+        private boolean pendingSpace;
+
+        TextBuffer(int capacity, int limit) {
+            this.out = new StringBuilder(capacity + ELLIPSIS.length());
+            this.limit = limit;
+        }
+
+        void space() {
+            pendingSpace = out.length() > 0;
+        }
+
+        /**
+         * @return limit 안에 들어갔는지 여부 (false면 미리보기 길이를 넘는 글자가 더 있음)
+         */
+        boolean append(int codePoint) {
+            if (Character.isWhitespace(codePoint) || codePoint == NBSP) {
+                space();
+                return true;
+            }
+            int needed = (pendingSpace ? 1 : 0) + Character.charCount(codePoint);
+            if (out.length() + needed > limit) {
+                return false;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.appendCodePoint(codePoint);
+            return true;
+        }
+
+        String truncated() {
+            return out.append(ELLIPSIS).toString();
+        }
+
+        @Override
+        public String toString() {
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.swcampus.domain.post;
+
+import com.swcampus.domain.common.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 버퍼에 쌓인 게시글 조회수 증가분을 DB에 일괄 반영
+ * - 반영 실패 시 증가분은 버퍼에 남아 다음 주기에 다시 반영된다
+ * - 커밋 직전에 반영 잠금을 아직 가지고 있는지 확인하고, 잃었으면 롤백한다
+ *   (잠금 TTL이 지나 다른 노드가 같은 증가분을 가져갔을 수 있으므로)
+ * - 커밋 후 완료 처리 전에 장애가 나면 같은 증가분이 한 번 더 반영될 수 있다 (at-least-once)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCountService {
+
+    private final PostRepository postRepository;
+    private final PostViewRepository postViewRepository;
+
+    /**
+     * @return 반영한 게시글 수
+     */
+    @Transactional
+    public int flushPendingViewCounts() {
+        PostViewFlush flush = postViewRepository.drainPendingViewCounts();
+        if (flush.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            postRepository.addViewCounts(flush.deltas());
+        } catch (RuntimeException e) {
+            postViewRepository.abortFlush(flush.token());
+            throw e;
+        }
+        if (!postViewRepository.prepareFlushCommit(flush.token())) {
+            throw new IllegalStateException("Post view flush lock was lost before commit");
+        }
+        AfterCommit.run(
+                () -> postViewRepository.completeFlush(flush.token()),
+                () -> postViewRepository.abortFlush(flush.token()));
+        log.debug("Flushed pending view counts for {} posts", flush.deltas().size());
+        return flush.deltas().size();
+    }
+}
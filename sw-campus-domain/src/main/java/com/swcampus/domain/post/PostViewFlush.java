@@ -0,0 +1,20 @@
+package com.swcampus.domain.post;
+
+import java.util.Map;
+
+/**
+ * DB 반영을 위해 가져온 조회수 증가분
+ *
+ * @param token 반영 잠금 소유 토큰 (완료/취소 시 본인 잠금인지 확인)
+ * @param deltas 게시글 ID별 증가분
+ */
+public record PostViewFlush(String token, Map<Long, Long> deltas) {
+
+    public static PostViewFlush empty() {
+        return new PostViewFlush(null, Map.of());
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+}
@@ -1,18 +1,57 @@
 package com.swcampus.domain.post;
 
+import java.util.List;
+import java.util.Map;
+
 /**
- * 게시글 조회 기록 저장소 인터페이스
- * 중복 조회수 증가를 방지하기 위해 사용
+ * 게시글 조회수 버퍼 저장소 인터페이스
+ * - 중복 조회 방지 기록과 DB 반영 전 조회수 증가분(pending)을 관리
+ * - 증가분은 주기적으로 DB에 일괄 반영 (write-behind)
  */
 public interface PostViewRepository {
 
     /**
-     * 이미 조회한 게시글인지 확인하고, 아니라면 조회 기록을 저장
+     * 처음 조회한 경우에만 조회 기록을 남기고 증가분을 1 올린 뒤, 현재 증가분을 반환
      *
      * @param postId 게시글 ID
      * @param userId 사용자 ID
      * @param ttlSeconds 조회 기록 유지 시간 (초 단위)
-     * @return 이미 조회한 경우 true, 처음 조회인 경우 false
+     * @return DB에 아직 반영되지 않은 조회수 증가분
+     */
+    long recordView(Long postId, Long userId, long ttlSeconds);
+
+    /**
+     * 중복 체크 없이 증가분을 1 올린 뒤, 현재 증가분을 반환
+     */
+    long incrementPendingViewCount(Long postId);
+
+    /**
+     * DB에 아직 반영되지 않은 조회수 증가분 조회 (증가분이 없는 게시글은 결과에서 제외)
+     */
+    Map<Long, Long> getPendingViewCounts(List<Long> postIds);
+
+    /**
+     * DB 반영을 위해 증가분을 가져온다 (반영 잠금을 가진 동안 다른 노드는 가져가지 못함)
+     *
+     * @return 잠금 토큰과 게시글 ID별 증가분 (다른 노드가 반영 중이거나 증가분이 없으면 빈 결과)
+     */
+    PostViewFlush drainPendingViewCounts();
+
+    /**
+     * DB 커밋 직전 확인: 잠금을 아직 가지고 있으면 잠금을 연장하고,
+     * 가져간 증가분을 조회 합산에서 제외한다 (커밋 후 DB 값과 이중으로 더해지지 않도록)
+     *
+     * @return 잠금을 잃었으면 false (다른 노드가 같은 증가분을 가져갔을 수 있음)
+     */
+    boolean prepareFlushCommit(String token);
+
+    /**
+     * DB 반영 완료 처리 (본인 잠금인 경우에만 가져간 증가분과 잠금 삭제)
+     */
+    void completeFlush(String token);
+
+    /**
+     * DB 반영 취소 (가져간 증가분은 남겨 다음 주기에 다시 반영하고, 본인 잠금이면 해제)
      */
-    boolean hasViewed(Long postId, Long userId, long ttlSeconds);
+    void abortFlush(String token);
 }
@@ -1,7 +1,7 @@
 package com.swcampus.domain.postlike;
 
-import com.swcampus.domain.member.Member;
-import com.swcampus.domain.member.MemberRepository;
+import com.swcampus.domain.member.MemberProfileCache;
+import com.swcampus.domain.member.ProfileSnapshot;
 import com.swcampus.domain.post.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,8 +10,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,7 +18,7 @@ public class PostLikeService {
 
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
-    private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
 
     /**
      * 게시글 추천 토글 - 이미 추천했으면 취소, 없으면 추천
@@ -84,14 +82,13 @@ public class PostLikeService {
             return List.of();
         }
 
-        Map<Long, Member> memberMap = memberRepository.findAllByIds(likerIds).stream()
-                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        Map<Long, ProfileSnapshot> profileMap = memberProfileCache.getAll(likerIds);
 
         return likerIds.stream()
                 .map(id -> {
-                    Member member = memberMap.get(id);
-                    return member != null
-                            ? LikerInfo.of(member.getId(), member.getNickname())
+                    ProfileSnapshot profile = profileMap.get(id);
+                    return profile != null
+                            ? LikerInfo.of(profile.memberId(), profile.nickname())
                             : LikerInfo.of(id, "알 수 없음");
                 })
                 .toList();
@@ -0,0 +1,18 @@
+package com.swcampus.domain.ratelimit;
+
+/**
+ * Rate Limiting 알고리즘
+ */
+public enum RateLimitAlgorithm {
+    /**
+     * 슬라이딩 윈도우 카운터 (직전 윈도우 횟수를 경과 비율만큼 가중 합산)
+     * - 윈도우 경계에서 limit의 2배까지 허용되는 고정 윈도우의 문제를 보완
+     */
+    SLIDING_WINDOW,
+
+    /**
+     * 토큰 버킷 (용량 = limit, 윈도우 시간 동안 limit개 충전)
+     * - 순간적인 버스트를 허용하면서 평균 처리율을 제한
+     */
+    TOKEN_BUCKET
+}
@@ -6,11 +6,13 @@ package com.swcampus.domain.ratelimit;
 public interface RateLimitRepository {
 
     /**
-     * 주어진 키에 대한 요청 횟수를 증가시키고 현재 횟수를 반환
+     * 주어진 키에 대해 요청 1회를 원자적으로 판정하고, 허용되면 사용량에 반영
      *
      * @param key 요청 식별 키 (예: "nickname-check:192.168.1.1")
+     * @param algorithm 적용할 알고리즘
+     * @param limit 윈도우 내 최대 요청 횟수 (토큰 버킷은 버킷 용량)
      * @param windowSeconds 윈도우 크기 (초 단위)
-     * @return 현재 윈도우 내 요청 횟수
+     * @return 판정 결과
      */
-    long incrementAndGet(String key, long windowSeconds);
+    RateLimitResult tryAcquire(String key, RateLimitAlgorithm algorithm, int limit, long windowSeconds);
 }
@@ -0,0 +1,23 @@
+package com.swcampus.domain.ratelimit;
+
+/**
+ * Rate Limit 판정 결과
+ *
+ * @param allowed 요청 허용 여부
+ * @param remaining 남은 허용 횟수 (추정치)
+ * @param retryAfterMillis 거절 시 재시도까지 남은 시간 (밀리초)
+ */
+public record RateLimitResult(
+        boolean allowed,
+        long remaining,
+        long retryAfterMillis
+) {
+
+    public static RateLimitResult allowed(long remaining) {
+        return new RateLimitResult(true, remaining, 0L);
+    }
+
+    public static RateLimitResult rejected(long retryAfterMillis) {
+        return new RateLimitResult(false, 0L, retryAfterMillis);
+    }
+}
@@ -29,6 +29,7 @@ public class AdminReviewService {
     private final MemberRepository memberRepository;
     private final LectureService lectureService;
     private final EmailService emailService;
+    private final LectureReviewStatsRepository lectureReviewStatsRepository;
 
     /**
      * 대기 중인 후기 목록 조회 (수료증 또는 후기가 PENDING)
@@ -97,7 +98,7 @@ public class AdminReviewService {
         Member member = memberRepository.findById(certificate.getMemberId())
                 .orElse(null);
         if (member != null) {
-            emailService.sendCertificateRejectionEmail(member.getEmail());
+            emailService.sendCertificateRejectionEmail(certificateId, member.getEmail());
         }
 
         return saved;
@@ -113,19 +114,27 @@ public class AdminReviewService {
 
     /**
      * 후기 승인 (2단계)
+     * - 새로 승인된 경우 강의 후기 통계에 반영
      */
     @Transactional
     public Review approveReview(Long reviewId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(ReviewNotFoundException::new);
 
+        boolean wasApproved = review.isApproved();
         review.approve();
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+
+        if (!wasApproved) {
+            lectureReviewStatsRepository.applyDelta(review.getLectureId(), 1, scoreOf(review));
+        }
+        return saved;
     }
 
     /**
      * 후기 반려 (2단계)
      * - 후기만 REJECTED (수료증은 이미 승인 상태)
+     * - 승인되어 있던 후기면 강의 후기 통계에서 제외
      * - 반려 이메일 발송
      */
     @Transactional
@@ -133,19 +142,28 @@ public class AdminReviewService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(ReviewNotFoundException::new);
 
+        boolean wasApproved = review.isApproved();
         review.reject();
         Review saved = reviewRepository.save(review);
 
+        if (wasApproved) {
+            lectureReviewStatsRepository.applyDelta(review.getLectureId(), -1, -scoreOf(review));
+        }
+
         // 반려 이메일 발송
         Member member = memberRepository.findById(review.getMemberId())
                 .orElse(null);
         if (member != null) {
-            emailService.sendReviewRejectionEmail(member.getEmail());
+            emailService.sendReviewRejectionEmail(reviewId, member.getEmail());
         }
 
         return saved;
     }
 
+    private double scoreOf(Review review) {
+        return review.getScore() != null ? review.getScore() : 0.0;
+    }
+
     /**
      * 후기 블라인드 처리
      */
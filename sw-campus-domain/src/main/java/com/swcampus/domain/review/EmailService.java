@@ -2,8 +2,9 @@ package com.swcampus.domain.review;
 
 /**
  * 이메일 발송 서비스 인터페이스
+ * - 호출한 트랜잭션에서 발송 대기열(mail_outbox)에 기록하며, 실제 발송은 백그라운드에서 처리된다
  */
 public interface EmailService {
-    void sendCertificateRejectionEmail(String email);
-    void sendReviewRejectionEmail(String email);
+    void sendCertificateRejectionEmail(Long certificateId, String email);
+    void sendReviewRejectionEmail(Long reviewId, String email);
 }
@@ -0,0 +1,25 @@
+package com.swcampus.domain.review;
+
+/**
+ * 강의별 승인 후기 통계 (lecture_review_stats)
+ * - 후기가 승인 상태에 들어가거나 나올 때 증분으로 갱신한다
+ * - 증분 갱신이 누락·중복된 경우는 reconcile()로 보정한다
+ */
+public interface LectureReviewStatsRepository {
+
+    /**
+     * 통계에 증감분을 반영합니다. (행이 없으면 생성)
+     *
+     * @param lectureId 강의 ID
+     * @param countDelta 후기 수 증감 (+1: 승인, -1: 승인 취소/삭제)
+     * @param scoreDelta 점수 합계 증감
+     */
+    void applyDelta(Long lectureId, long countDelta, double scoreDelta);
+
+    /**
+     * 승인 후기 원본과 비교하여 어긋난 통계를 다시 계산합니다.
+     *
+     * @return 보정된 강의 수
+     */
+    int reconcile();
+}
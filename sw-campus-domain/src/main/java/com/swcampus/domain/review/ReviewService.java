@@ -5,7 +5,9 @@ import com.swcampus.domain.certificate.CertificateRepository;
 import com.swcampus.domain.certificate.exception.CertificateNotVerifiedException;
 import com.swcampus.domain.common.ApprovalStatus;
 import com.swcampus.domain.member.Member;
+import com.swcampus.domain.member.MemberProfileCache;
 import com.swcampus.domain.member.MemberRepository;
+import com.swcampus.domain.member.ProfileSnapshot;
 import com.swcampus.domain.member.exception.MemberNotFoundException;
 import com.swcampus.domain.review.exception.ReviewAlreadyExistsException;
 import com.swcampus.domain.review.exception.ReviewNotFoundException;
@@ -30,6 +32,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final CertificateRepository certificateRepository;
     private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
 
     /**
      * 후기 작성 가능 여부 확인
@@ -141,18 +144,15 @@ public class ReviewService {
             throw new ReviewNotFoundException();
         }
 
-        String nickname = memberRepository.findById(review.getMemberId())
-                .map(Member::getNickname)
-                .orElse(null);
-        return ReviewWithNickname.of(review, nickname);
+        return ReviewWithNickname.of(review, getNickname(review.getMemberId()));
     }
 
     /**
      * 회원 닉네임 조회
      */
     public String getNickname(Long memberId) {
-        return memberRepository.findById(memberId)
-                .map(Member::getNickname)
+        return memberProfileCache.get(memberId)
+                .map(ProfileSnapshot::nickname)
                 .orElse(null);
     }
 
@@ -212,11 +212,10 @@ public class ReviewService {
                 .distinct()
                 .toList();
 
-        Map<Long, String> nicknameMap = memberRepository.findAllByIds(memberIds).stream()
+        Map<Long, String> nicknameMap = memberProfileCache.getAll(memberIds).values().stream()
                 .collect(Collectors.toMap(
-                        Member::getId,
-                        member -> member.getNickname() != null ? member.getNickname() : "",
-                        (existing, replacement) -> existing
+                        ProfileSnapshot::memberId,
+                        profile -> profile.nickname() != null ? profile.nickname() : ""
                 ));
 
         return reviewPage.map(review -> ReviewWithNickname.of(
@@ -255,11 +254,10 @@ public class ReviewService {
                 .distinct()
                 .toList();
 
-        Map<Long, String> nicknameMap = memberRepository.findAllByIds(memberIds).stream()
+        Map<Long, String> nicknameMap = memberProfileCache.getAll(memberIds).values().stream()
                 .collect(Collectors.toMap(
-                        Member::getId,
-                        member -> member.getNickname() != null ? member.getNickname() : "",
-                        (existing, replacement) -> existing
+                        ProfileSnapshot::memberId,
+                        profile -> profile.nickname() != null ? profile.nickname() : ""
                 ));
 
         return reviews.stream()
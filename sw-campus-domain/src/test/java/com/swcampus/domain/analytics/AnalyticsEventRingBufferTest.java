@@ -0,0 +1,91 @@
+package com.swcampus.domain.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AnalyticsEventRingBuffer 테스트")
+class AnalyticsEventRingBufferTest {
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림")
+    void capacity_roundedUpToPowerOfTwo() {
+        assertThat(new AnalyticsEventRingBuffer<Integer>(100).capacity()).isEqualTo(128);
+        assertThat(new AnalyticsEventRingBuffer<Integer>(64).capacity()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("가득 차면 버리고, 비운 만큼 다시 기록할 수 있다")
+    void offer_full_rejected() {
+        // given
+        AnalyticsEventRingBuffer<Integer> buffer = new AnalyticsEventRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when & then
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 기록해도 기록에 성공한 항목은 빠짐없이 한 번씩 꺼낸다")
+    void concurrentProducers_noLossOrDuplicate() throws Exception {
+        // given
+        int producers = 4;
+        int perProducer = 50_000;
+        AnalyticsEventRingBuffer<Integer> buffer = new AnalyticsEventRingBuffer<>(1024);
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(base + i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+
+        List<Integer> drained = new ArrayList<>();
+        executor.shutdown();
+        while (!executor.isTerminated()) {
+            buffer.drainTo(drained, 256);
+        }
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+
+        // then
+        Set<Integer> unique = new HashSet<>(drained);
+        assertThat(drained).hasSize(accepted.get());
+        assertThat(unique).hasSize(drained.size());
+        assertThat(buffer.size()).isZero();
+    }
+}
@@ -0,0 +1,203 @@
+package com.swcampus.domain.analytics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsEventService 테스트")
+class AnalyticsEventServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 1, 10, 30, 15);
+
+    @Mock
+    private AnalyticsEventRollupRepository analyticsEventRollupRepository;
+
+    @Captor
+    private ArgumentCaptor<List<AnalyticsEventCount>> countsCaptor;
+
+    private AnalyticsEventService analyticsEventService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsEventService = new AnalyticsEventService(analyticsEventRollupRepository, 4, 3);
+        // 기본: 조회한 ID가 모두 존재
+        lenient().when(analyticsEventRollupRepository.findExistingTargetIds(any(), anyCollection()))
+                .thenAnswer(invocation -> Set.copyOf(invocation.<Collection<Long>>getArgument(1)));
+    }
+
+    @Nested
+    @DisplayName("이벤트 생성")
+    class CreateEvent {
+
+        @Test
+        @DisplayName("대상이 필요한 유형에 ID가 없으면 만들지 않는다")
+        void targeted_withoutId_null() {
+            assertThat(AnalyticsEvent.of(AnalyticsEventType.LECTURE_VIEW, null, null, NOW)).isNull();
+            assertThat(AnalyticsEvent.of(AnalyticsEventType.BANNER_CLICK, 0L, null, NOW)).isNull();
+        }
+
+        @Test
+        @DisplayName("검색어는 앞뒤 공백을 제거하고, 대상 유형의 검색어는 비운다")
+        void normalize() {
+            assertThat(AnalyticsEvent.of(AnalyticsEventType.SEARCH, 3L, "  자바 ", NOW))
+                    .isEqualTo(new AnalyticsEvent(AnalyticsEventType.SEARCH, 0L, "자바", NOW));
+            assertThat(AnalyticsEvent.of(AnalyticsEventType.LECTURE_VIEW, 3L, "자바", NOW))
+                    .isEqualTo(new AnalyticsEvent(AnalyticsEventType.LECTURE_VIEW, 3L, "", NOW));
+            assertThat(AnalyticsEvent.of(AnalyticsEventType.SEARCH, null, " ", NOW)).isNull();
+        }
+
+        @Test
+        @DisplayName("검색어는 대소문자와 연속 공백, 제어 문자를 정규화해 같은 키로 모은다")
+        void normalize_searchTerm() {
+            assertThat(AnalyticsEvent.of(AnalyticsEventType.SEARCH, null, "Spring\t  Boot\u0000", NOW).term())
+                    .isEqualTo("spring boot");
+        }
+    }
+
+    @Nested
+    @DisplayName("버퍼 적재")
+    class Record {
+
+        @Test
+        @DisplayName("버퍼가 가득 차면 나머지 이벤트는 버리고 버린 수를 센다")
+        void full_dropped() {
+            // given
+            List<AnalyticsEvent> events = List.of(
+                    view(1L, NOW), view(2L, NOW), view(3L, NOW), view(4L, NOW), view(5L, NOW), view(6L, NOW));
+
+            // when
+            int accepted = analyticsEventService.record(events);
+
+            // then
+            assertThat(accepted).isEqualTo(4);
+            assertThat(analyticsEventService.getDroppedCount()).isEqualTo(2);
+            assertThat(analyticsEventService.getBufferedCount()).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("집계 반영")
+    class Flush {
+
+        @Test
+        @DisplayName("같은 분, 같은 대상의 이벤트는 합산해 반영한다")
+        void aggregatesPerMinute() {
+            // given
+            analyticsEventService.record(List.of(
+                    view(1L, NOW),
+                    view(1L, NOW.plusSeconds(30)),
+                    view(1L, NOW.plusMinutes(1)),
+                    view(2L, NOW)));
+
+            // when
+            int flushed = analyticsEventService.flush();
+
+            // then
+            assertThat(flushed).isEqualTo(3);
+            verify(analyticsEventRollupRepository).addCounts(countsCaptor.capture());
+            LocalDateTime minute = NOW.withSecond(0);
+            assertThat(countsCaptor.getValue()).containsExactlyInAnyOrder(
+                    new AnalyticsEventCount(minute, AnalyticsEventType.LECTURE_VIEW, 1L, "", 2),
+                    new AnalyticsEventCount(minute.plusMinutes(1), AnalyticsEventType.LECTURE_VIEW, 1L, "", 1),
+                    new AnalyticsEventCount(minute, AnalyticsEventType.LECTURE_VIEW, 2L, "", 1));
+            assertThat(analyticsEventService.getBufferedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("없는 강의/배너 ID의 이벤트는 반영하지 않고 거절 수로 센다")
+        void unknownTarget_rejected() {
+            // given
+            given(analyticsEventRollupRepository.findExistingTargetIds(AnalyticsEventType.Target.LECTURE, Set.of(1L, 999L)))
+                    .willReturn(Set.of(1L));
+            analyticsEventService.record(List.of(view(1L, NOW), view(999L, NOW), view(999L, NOW)));
+
+            // when
+            analyticsEventService.flush();
+
+            // then
+            verify(analyticsEventRollupRepository).addCounts(countsCaptor.capture());
+            assertThat(countsCaptor.getValue()).containsExactly(
+                    new AnalyticsEventCount(NOW.withSecond(0), AnalyticsEventType.LECTURE_VIEW, 1L, "", 1));
+            assertThat(analyticsEventService.getRejectedCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("반영 전 합계 키가 상한을 넘으면 새 키의 이벤트는 버린다")
+        void pendingKeys_capped() {
+            // given
+            analyticsEventService.record(List.of(
+                    search("a"), search("b"), search("c"), search("d")));
+
+            // when
+            analyticsEventService.flush();
+
+            // then
+            verify(analyticsEventRollupRepository).addCounts(countsCaptor.capture());
+            assertThat(countsCaptor.getValue()).hasSize(3);
+            assertThat(analyticsEventService.getDroppedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("버퍼가 비어 있으면 반영하지 않는다")
+        void empty_skipped() {
+            // when
+            int flushed = analyticsEventService.flush();
+
+            // then
+            assertThat(flushed).isZero();
+            verify(analyticsEventRollupRepository, never()).addCounts(anyList());
+        }
+
+        @Test
+        @DisplayName("반영에 실패한 합계는 다음 반영에 함께 더한다")
+        void failure_retriedWithNextFlush() {
+            // given
+            analyticsEventService.record(List.of(view(1L, NOW)));
+            doThrow(new IllegalStateException("db down"))
+                    .doNothing()
+                    .when(analyticsEventRollupRepository).addCounts(anyList());
+            assertThatThrownBy(() -> analyticsEventService.flush()).isInstanceOf(IllegalStateException.class);
+
+            // when
+            analyticsEventService.record(List.of(view(1L, NOW)));
+            analyticsEventService.flush();
+
+            // then
+            verify(analyticsEventRollupRepository, times(2)).addCounts(countsCaptor.capture());
+            assertThat(countsCaptor.getValue()).containsExactly(
+                    new AnalyticsEventCount(NOW.withSecond(0), AnalyticsEventType.LECTURE_VIEW, 1L, "", 2));
+        }
+    }
+
+    private AnalyticsEvent search(String term) {
+        return AnalyticsEvent.of(AnalyticsEventType.SEARCH, null, term, NOW);
+    }
+
+    private AnalyticsEvent view(Long lectureId, LocalDateTime occurredAt) {
+        return AnalyticsEvent.of(AnalyticsEventType.LECTURE_VIEW, lectureId, null, occurredAt);
+    }
+}
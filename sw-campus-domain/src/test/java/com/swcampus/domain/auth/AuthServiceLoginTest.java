@@ -40,7 +40,7 @@ class AuthServiceLoginTest {
     private EmailVerificationRepository emailVerificationRepository;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenService refreshTokenService;
 
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -77,8 +77,7 @@ class AuthServiceLoginTest {
             when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
             when(passwordEncoder.matches(password, "encodedPassword")).thenReturn(true);
             when(tokenProvider.createAccessToken(1L, email, Role.USER)).thenReturn("access-token");
-            when(tokenProvider.createRefreshToken(1L)).thenReturn("refresh-token");
-            when(tokenProvider.getRefreshTokenValidity()).thenReturn(86400L);
+            when(refreshTokenService.issue(member)).thenReturn("refresh-token");
 
             // when
             LoginResult result = authService.login(email, password);
@@ -112,8 +111,7 @@ class AuthServiceLoginTest {
             when(passwordEncoder.matches(password, "encodedPassword")).thenReturn(true);
             when(organizationRepository.findById(10L)).thenReturn(Optional.of(organization));
             when(tokenProvider.createAccessToken(1L, email, Role.ORGANIZATION)).thenReturn("access-token");
-            when(tokenProvider.createRefreshToken(1L)).thenReturn("refresh-token");
-            when(tokenProvider.getRefreshTokenValidity()).thenReturn(86400L);
+            when(refreshTokenService.issue(member)).thenReturn("refresh-token");
 
             // when
             LoginResult result = authService.login(email, password);
@@ -152,8 +150,8 @@ class AuthServiceLoginTest {
         }
 
         @Test
-        @DisplayName("로그인 시 기존 Refresh Token이 삭제된다 (동시 로그인 제한)")
-        void loginDeletesExistingRefreshToken() {
+        @DisplayName("로그인 시 새 로그인 세션의 Refresh Token을 발급한다")
+        void loginIssuesRefreshTokenSession() {
             // given
             String email = "user@example.com";
             String password = "Password1!";
@@ -167,15 +165,41 @@ class AuthServiceLoginTest {
             when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
             when(passwordEncoder.matches(password, "encodedPassword")).thenReturn(true);
             when(tokenProvider.createAccessToken(any(), any(), any())).thenReturn("access-token");
-            when(tokenProvider.createRefreshToken(any())).thenReturn("refresh-token");
-            when(tokenProvider.getRefreshTokenValidity()).thenReturn(86400L);
+            when(refreshTokenService.issue(any())).thenReturn("refresh-token");
 
             // when
             authService.login(email, password);
 
             // then
-            verify(refreshTokenRepository).deleteByMemberId(1L);
-            verify(refreshTokenRepository).save(any(RefreshToken.class));
+            verify(refreshTokenService).issue(member);
+        }
+
+        @Test
+        @DisplayName("해싱 비용이 바뀐 비밀번호는 로그인 시 다시 해싱해 저장한다")
+        void loginRehashesPassword() {
+            // given
+            String email = "user@example.com";
+            String password = "Password1!";
+
+            Member member = mock(Member.class);
+            when(member.getId()).thenReturn(1L);
+            when(member.getEmail()).thenReturn(email);
+            when(member.getPassword()).thenReturn("oldCostPassword");
+            when(member.getRole()).thenReturn(Role.USER);
+
+            when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
+            when(passwordEncoder.matches(password, "oldCostPassword")).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding("oldCostPassword")).thenReturn(true);
+            when(passwordEncoder.encode(password)).thenReturn("newCostPassword");
+            when(tokenProvider.createAccessToken(any(), any(), any())).thenReturn("access-token");
+            when(refreshTokenService.issue(any())).thenReturn("refresh-token");
+
+            // when
+            authService.login(email, password);
+
+            // then
+            verify(member).changePassword("newCostPassword");
+            verify(memberRepository).save(member);
         }
     }
 
@@ -184,16 +208,16 @@ class AuthServiceLoginTest {
     class Logout {
 
         @Test
-        @DisplayName("로그아웃 시 Refresh Token이 삭제된다")
+        @DisplayName("로그아웃 시 Refresh Token의 세션이 폐기된다")
         void logout() {
             // given
             Long memberId = 1L;
 
             // when
-            authService.logout(memberId);
+            authService.logout(memberId, "refresh-token");
 
             // then
-            verify(refreshTokenRepository).deleteByMemberId(memberId);
+            verify(refreshTokenService).revoke(memberId, "refresh-token");
         }
     }
 }
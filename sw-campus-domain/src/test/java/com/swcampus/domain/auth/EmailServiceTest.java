@@ -3,6 +3,7 @@ package com.swcampus.domain.auth;
 import com.swcampus.domain.auth.exception.DuplicateEmailException;
 import com.swcampus.domain.auth.exception.EmailVerificationExpiredException;
 import com.swcampus.domain.auth.exception.InvalidTokenException;
+import com.swcampus.domain.mail.MailOutboxService;
 import com.swcampus.domain.member.MemberRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -37,7 +39,7 @@ class EmailServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private MailSender mailSender;
+    private MailOutboxService mailOutboxService;
 
     @InjectMocks
     private EmailService emailService;
@@ -72,7 +74,7 @@ class EmailServiceTest {
             
             // 인증 링크에 type=personal 포함 확인
             ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass(String.class);
-            verify(mailSender).send(eq(email), anyString(), contentCaptor.capture());
+            verify(mailOutboxService).enqueue(startsWith("email-verification:"), eq(email), anyString(), contentCaptor.capture());
             assertThat(contentCaptor.getValue()).contains("type=personal");
         }
 
@@ -99,7 +101,7 @@ class EmailServiceTest {
             
             // 인증 링크에 type=organization 포함 확인
             ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass(String.class);
-            verify(mailSender).send(eq(email), anyString(), contentCaptor.capture());
+            verify(mailOutboxService).enqueue(startsWith("email-verification:"), eq(email), anyString(), contentCaptor.capture());
             assertThat(contentCaptor.getValue()).contains("type=organization");
         }
 
@@ -115,7 +117,7 @@ class EmailServiceTest {
                     .isInstanceOf(DuplicateEmailException.class);
             
             verify(emailVerificationRepository, never()).save(any());
-            verify(mailSender, never()).send(anyString(), anyString(), anyString());
+            verify(mailOutboxService, never()).enqueue(anyString(), anyString(), anyString(), anyString());
         }
 
         @Test
@@ -0,0 +1,283 @@
+package com.swcampus.domain.auth;
+
+import com.swcampus.domain.auth.exception.InvalidTokenException;
+import com.swcampus.domain.auth.exception.TokenExpiredException;
+import com.swcampus.domain.member.Member;
+import com.swcampus.domain.member.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService 테스트")
+class RefreshTokenServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String SESSION_ID = "session-1";
+    private static final long VALIDITY = 604800;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, tokenProvider, 2, 10);
+    }
+
+    private void givenParsedToken(String token) {
+        when(tokenProvider.validateToken(token)).thenReturn(true);
+        when(tokenProvider.getMemberId(token)).thenReturn(MEMBER_ID);
+        when(tokenProvider.getSessionId(token)).thenReturn(SESSION_ID);
+    }
+
+    private RefreshToken session(String currentToken, String previousToken, LocalDateTime rotatedAt) {
+        LocalDateTime now = LocalDateTime.now();
+        return RefreshToken.of(SESSION_ID, MEMBER_ID, RefreshToken.hash(currentToken),
+                previousToken != null ? RefreshToken.hash(previousToken) : null, rotatedAt,
+                "user@example.com", Role.USER, now.plusDays(7), now.minusDays(1));
+    }
+
+    @Nested
+    @DisplayName("발급")
+    class Issue {
+
+        @Test
+        @DisplayName("새 세션을 만들고 최대 세션 수와 함께 저장한다")
+        void issue() {
+            // given
+            Member member = mock(Member.class);
+            when(member.getId()).thenReturn(MEMBER_ID);
+            when(member.getEmail()).thenReturn("user@example.com");
+            when(member.getRole()).thenReturn(Role.USER);
+            when(tokenProvider.createRefreshToken(eq(MEMBER_ID), anyString())).thenReturn("refresh-token");
+            when(tokenProvider.getRefreshTokenValidity()).thenReturn(VALIDITY);
+
+            // when
+            String token = refreshTokenService.issue(member);
+
+            // then
+            assertThat(token).isEqualTo("refresh-token");
+            ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenRepository).save(captor.capture(), eq(2));
+            RefreshToken saved = captor.getValue();
+            assertThat(saved.getSessionId()).isNotBlank();
+            assertThat(saved.getMemberId()).isEqualTo(MEMBER_ID);
+            assertThat(saved.isCurrent("refresh-token")).isTrue();
+            assertThat(saved.getRole()).isEqualTo(Role.USER);
+        }
+    }
+
+    @Nested
+    @DisplayName("회전 성공")
+    class RotateSuccess {
+
+        @Test
+        @DisplayName("현재 토큰으로 갱신하면 세션 스냅샷으로 Access Token을 발급하고 Refresh Token을 회전한다")
+        void rotate() {
+            // given
+            String token = "current-token";
+            givenParsedToken(token);
+            when(refreshTokenRepository.findBySessionId(MEMBER_ID, SESSION_ID)).thenReturn(Optional.of(session(token, null, null)));
+            when(tokenProvider.createAccessToken(MEMBER_ID, "user@example.com", Role.USER)).thenReturn("new-access-token");
+            when(tokenProvider.createRefreshToken(MEMBER_ID, SESSION_ID)).thenReturn("rotated-token");
+            when(tokenProvider.getRefreshTokenValidity()).thenReturn(VALIDITY);
+            when(refreshTokenRepository.rotate(eq(MEMBER_ID), eq(SESSION_ID), eq(RefreshToken.hash(token)),
+                    eq(RefreshToken.hash("rotated-token")), any(LocalDateTime.class))).thenReturn(true);
+
+            // when
+            TokenInfo result = refreshTokenService.rotate(token);
+
+            // then
+            assertThat(result.getAccessToken()).isEqualTo("new-access-token");
+            assertThat(result.getRefreshToken()).isEqualTo("rotated-token");
+        }
+
+        @Test
+        @DisplayName("다른 요청이 먼저 회전했다면 Access Token만 발급한다")
+        void rotate_lostRace() {
+            // given
+            String token = "current-token";
+            givenParsedToken(token);
+            when(refreshTokenRepository.findBySessionId(MEMBER_ID, SESSION_ID)).thenReturn(Optional.of(session(token, null, null)));
+            when(tokenProvider.createAccessToken(MEMBER_ID, "user@example.com", Role.USER)).thenReturn("new-access-token");
+            when(tokenProvider.createRefreshToken(MEMBER_ID, SESSION_ID)).thenReturn("rotated-token");
+            when(tokenProvider.getRefreshTokenValidity()).thenReturn(VALIDITY);
+            when(refreshTokenRepository.rotate(any(), anyString(), anyString(), anyString(), any(LocalDateTime.class)))
+                    .thenReturn(false);
+
+            // when
+            TokenInfo result = refreshTokenService.rotate(token);
+
+            // then
+            assertThat(result.getAccessToken()).isEqualTo("new-access-token");
+            assertThat(result.getRefreshToken()).isNull();
+        }
+
+        @Test
+        @DisplayName("유예 시간 안에 직전 토큰으로 갱신하면 Access Token만 발급한다")
+        void rotate_withinGracePeriod() {
+            // given
+            String token = "previous-token";
+            givenParsedToken(token);
+            when(refreshTokenRepository.findBySessionId(MEMBER_ID, SESSION_ID))
+                    .thenReturn(Optional.of(session("current-token", token, LocalDateTime.now().minusSeconds(2))));
+            when(tokenProvider.createAccessToken(MEMBER_ID, "user@example.com", Role.USER)).thenReturn("new-access-token");
+
+            // when
+            TokenInfo result = refreshTokenService.rotate(token);
+
+            // then
+            assertThat(result.getAccessToken()).isEqualTo("new-access-token");
+            assertThat(result.getRefreshToken()).isNull();
+            verify(refreshTokenRepository, never()).rotate(any(), anyString(), anyString(), anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("회전 실패")
+    class RotateFailure {
+
+        @Test
+        @DisplayName("유효하지 않은 Refresh Token으로 갱신 시 실패한다")
+        void rotate_invalidToken() {
+            // given
+            when(tokenProvider.validateToken("invalid-token")).thenReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotate("invalid-token"))
+                    .isInstanceOf(InvalidTokenException.class);
+        }
+
+        @Test
+        @DisplayName("세션 ID가 없는 토큰으로 갱신 시 실패한다")
+        void rotate_noSessionId() {
+            // given
+            String token = "legacy-token";
+            when(tokenProvider.validateToken(token)).thenReturn(true);
+            when(tokenProvider.getMemberId(token)).thenReturn(MEMBER_ID);
+            when(tokenProvider.getSessionId(token)).thenReturn(null);
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                    .isInstanceOf(InvalidTokenException.class);
+        }
+
+        @Test
+        @DisplayName("폐기된 세션의 토큰으로 갱신 시 실패한다")
+        void rotate_sessionNotFound() {
+            // given
+            String token = "revoked-token";
+            givenParsedToken(token);
+            when(refreshTokenRepository.findBySessionId(MEMBER_ID, SESSION_ID)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                    .isInstanceOf(InvalidTokenException.class);
+        }
+
+        @Test
+        @DisplayName("다른 회원의 세션이면 갱신 실패한다")
+        void rotate_memberMismatch() {
+            // given
+            String token = "current-token";
+            when(tokenProvider.validateToken(token)).thenReturn(true);
+            when(tokenProvider.getMemberId(token)).thenReturn(2L);
+            when(tokenProvider.getSessionId(token)).thenReturn(SESSION_ID);
+            when(refreshTokenRepository.findBySessionId(2L, SESSION_ID)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                    .isInstanceOf(InvalidTokenException.class);
+        }
+
+        @Test
+        @DisplayName("만료된 세션이면 갱신 실패하고 세션이 삭제된다")
+        void rotate_expired() {
+            // given
+            String token = "expired-token";
+            givenParsedToken(token);
+            LocalDateTime now = LocalDateTime.now();
+            RefreshToken expired = RefreshToken.of(SESSION_ID, MEMBER_ID, RefreshToken.hash(token), null, null,
+                    "user@example.com", Role.USER, now.minusSeconds(1), now.minusDays(7));
+            when(refreshTokenRepository.findBySessionId(MEMBER_ID, SESSION_ID)).thenReturn(Optional.of(expired));
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                    .isInstanceOf(TokenExpiredException.class);
+
+            verify(refreshTokenRepository).deleteBySessionId(MEMBER_ID, SESSION_ID);
+        }
+
+        @Test
+        @DisplayName("유예 시간이 지난 직전 토큰을 재사용하면 세션을 폐기하고 실패한다")
+        void rotate_reuseDetected() {
+            // given
+            String token = "previous-token";
+            givenParsedToken(token);
+            when(refreshTokenRepository.findBySessionId(MEMBER_ID, SESSION_ID))
+                    .thenReturn(Optional.of(session("current-token", token, LocalDateTime.now().minusMinutes(5))));
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                    .isInstanceOf(InvalidTokenException.class);
+
+            verify(refreshTokenRepository).deleteBySessionId(MEMBER_ID, SESSION_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("폐기")
+    class Revoke {
+
+        @Test
+        @DisplayName("Refresh Token의 세션만 폐기한다")
+        void revoke_session() {
+            // given
+            when(tokenProvider.validateToken("refresh-token")).thenReturn(true);
+            when(tokenProvider.getSessionId("refresh-token")).thenReturn(SESSION_ID);
+
+            // when
+            refreshTokenService.revoke(MEMBER_ID, "refresh-token");
+
+            // then
+            verify(refreshTokenRepository).deleteBySessionId(MEMBER_ID, SESSION_ID);
+            verify(refreshTokenRepository, never()).deleteByMemberId(any());
+        }
+
+        @Test
+        @DisplayName("Refresh Token이 없으면 회원의 모든 세션을 폐기한다")
+        void revoke_withoutToken() {
+            // given
+            when(tokenProvider.validateToken(null)).thenReturn(false);
+
+            // when
+            refreshTokenService.revoke(MEMBER_ID, null);
+
+            // then
+            verify(refreshTokenRepository).deleteByMemberId(MEMBER_ID);
+        }
+    }
+}
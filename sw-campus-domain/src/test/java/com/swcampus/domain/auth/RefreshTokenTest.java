@@ -1,14 +1,18 @@
 package com.swcampus.domain.auth;
 
+import com.swcampus.domain.member.Role;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class RefreshTokenTest {
 
     @Test
-    @DisplayName("RefreshToken 생성")
+    @DisplayName("RefreshToken 생성 시 토큰 원문 대신 해시를 보관")
     void create() {
         // given
         Long memberId = 1L;
@@ -16,34 +20,52 @@ class RefreshTokenTest {
         long expirationSeconds = 604800; // 7일
 
         // when
-        RefreshToken rt = RefreshToken.create(memberId, token, expirationSeconds);
+        RefreshToken rt = RefreshToken.create("session-1", memberId, token, "user@example.com", Role.USER, expirationSeconds);
 
         // then
+        assertThat(rt.getSessionId()).isEqualTo("session-1");
         assertThat(rt.getMemberId()).isEqualTo(memberId);
-        assertThat(rt.getToken()).isEqualTo(token);
+        assertThat(rt.getTokenHash()).isEqualTo(RefreshToken.hash(token)).isNotEqualTo(token);
+        assertThat(rt.getEmail()).isEqualTo("user@example.com");
+        assertThat(rt.getRole()).isEqualTo(Role.USER);
         assertThat(rt.getExpiresAt()).isNotNull();
         assertThat(rt.getCreatedAt()).isNotNull();
     }
 
     @Test
-    @DisplayName("토큰 갱신")
-    void updateToken() {
+    @DisplayName("현재 토큰이면 isCurrent가 true")
+    void isCurrent() {
         // given
-        RefreshToken rt = RefreshToken.create(1L, "old-token", 604800);
-        String newToken = "new-token";
+        RefreshToken rt = RefreshToken.create("session-1", 1L, "token", "user@example.com", Role.USER, 604800);
 
-        // when
-        rt.updateToken(newToken, 604800);
+        // when & then
+        assertThat(rt.isCurrent("token")).isTrue();
+        assertThat(rt.isCurrent("other-token")).isFalse();
+    }
 
-        // then
-        assertThat(rt.getToken()).isEqualTo(newToken);
+    @Test
+    @DisplayName("유예 시간 안에 회전된 직전 토큰만 isRecentlyRotated가 true")
+    void isRecentlyRotated() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken recent = RefreshToken.of("session-1", 1L, RefreshToken.hash("new-token"),
+                RefreshToken.hash("old-token"), now.minusSeconds(3), "user@example.com", Role.USER,
+                now.plusDays(7), now.minusDays(1));
+        RefreshToken stale = RefreshToken.of("session-1", 1L, RefreshToken.hash("new-token"),
+                RefreshToken.hash("old-token"), now.minusSeconds(30), "user@example.com", Role.USER,
+                now.plusDays(7), now.minusDays(1));
+
+        // when & then
+        assertThat(recent.isRecentlyRotated("old-token", Duration.ofSeconds(10))).isTrue();
+        assertThat(recent.isRecentlyRotated("another-token", Duration.ofSeconds(10))).isFalse();
+        assertThat(stale.isRecentlyRotated("old-token", Duration.ofSeconds(10))).isFalse();
     }
 
     @Test
     @DisplayName("만료되지 않은 토큰은 isExpired가 false")
     void isExpired_notExpired() {
         // given
-        RefreshToken rt = RefreshToken.create(1L, "token", 604800);
+        RefreshToken rt = RefreshToken.create("session-1", 1L, "token", "user@example.com", Role.USER, 604800);
 
         // when & then
         assertThat(rt.isExpired()).isFalse();
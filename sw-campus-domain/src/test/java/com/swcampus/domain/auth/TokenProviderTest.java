@@ -6,6 +6,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("TokenProvider 테스트")
@@ -96,7 +98,7 @@ class TokenProviderTest {
             Long memberId = 1L;
 
             // when
-            String token = tokenProvider.createRefreshToken(memberId);
+            String token = tokenProvider.createRefreshToken(memberId, "session-1");
 
             // then
             assertThat(token).isNotBlank();
@@ -108,7 +110,7 @@ class TokenProviderTest {
         void extractMemberIdFromRefreshToken() {
             // given
             Long memberId = 1L;
-            String token = tokenProvider.createRefreshToken(memberId);
+            String token = tokenProvider.createRefreshToken(memberId, "session-1");
 
             // when
             Long extractedMemberId = tokenProvider.getMemberId(token);
@@ -116,6 +118,30 @@ class TokenProviderTest {
             // then
             assertThat(extractedMemberId).isEqualTo(memberId);
         }
+
+        @Test
+        @DisplayName("Refresh Token에서 세션 ID를 추출할 수 있다")
+        void extractSessionIdFromRefreshToken() {
+            // given
+            String token = tokenProvider.createRefreshToken(1L, "session-1");
+
+            // when
+            String sessionId = tokenProvider.getSessionId(token);
+
+            // then
+            assertThat(sessionId).isEqualTo("session-1");
+        }
+
+        @Test
+        @DisplayName("같은 세션으로 연달아 발급해도 토큰 값이 다르다 (회전)")
+        void refreshTokensAreUnique() {
+            // when
+            String first = tokenProvider.createRefreshToken(1L, "session-1");
+            String second = tokenProvider.createRefreshToken(1L, "session-1");
+
+            // then
+            assertThat(first).isNotEqualTo(second);
+        }
     }
 
     @Nested
@@ -183,6 +209,80 @@ class TokenProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("Access Token 파싱")
+    class ParseAccessToken {
+
+        @Test
+        @DisplayName("유효한 토큰은 한 번의 파싱으로 모든 클레임을 반환한다")
+        void parseValidToken() {
+            // given
+            String token = tokenProvider.createAccessToken(1L, "user@example.com", Role.ADMIN);
+
+            // when
+            ParsedToken parsed = tokenProvider.parseAccessToken(token);
+
+            // then
+            assertThat(parsed.result()).isEqualTo(TokenValidationResult.VALID);
+            assertThat(parsed.memberId()).isEqualTo(1L);
+            assertThat(parsed.email()).isEqualTo("user@example.com");
+            assertThat(parsed.role()).isEqualTo(Role.ADMIN);
+            assertThat(parsed.expiresAt()).isAfter(Instant.now());
+        }
+
+        @Test
+        @DisplayName("이미 검증된 토큰은 캐시된 결과를 반환한다")
+        void parseCachedToken() {
+            // given
+            String token = tokenProvider.createAccessToken(1L, "user@example.com", Role.USER);
+            ParsedToken first = tokenProvider.parseAccessToken(token);
+
+            // when
+            ParsedToken second = tokenProvider.parseAccessToken(token);
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("만료된 토큰은 EXPIRED를 반환한다")
+        void parseExpiredToken() {
+            // given
+            TokenProvider shortLivedProvider = new TokenProvider(TEST_SECRET, 0L, 0L);
+            String token = shortLivedProvider.createAccessToken(1L, "user@example.com", Role.USER);
+
+            // when
+            ParsedToken parsed = tokenProvider.parseAccessToken(token);
+
+            // then
+            assertThat(parsed.result()).isEqualTo(TokenValidationResult.EXPIRED);
+            assertThat(parsed.isValid()).isFalse();
+        }
+
+        @Test
+        @DisplayName("잘못된 형식의 토큰은 INVALID를 반환한다")
+        void parseMalformedToken() {
+            // when
+            ParsedToken parsed = tokenProvider.parseAccessToken("invalid.token.here");
+
+            // then
+            assertThat(parsed.result()).isEqualTo(TokenValidationResult.INVALID);
+        }
+
+        @Test
+        @DisplayName("role 클레임이 없는 Refresh Token은 INVALID를 반환한다")
+        void parseRefreshToken() {
+            // given
+            String token = tokenProvider.createRefreshToken(1L, "session-1");
+
+            // when
+            ParsedToken parsed = tokenProvider.parseAccessToken(token);
+
+            // then
+            assertThat(parsed.result()).isEqualTo(TokenValidationResult.INVALID);
+        }
+    }
+
     @Nested
     @DisplayName("토큰 유효시간 조회")
     class GetTokenValidity {
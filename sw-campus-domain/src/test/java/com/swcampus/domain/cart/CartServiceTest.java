@@ -3,7 +3,7 @@ package com.swcampus.domain.cart;
 import com.swcampus.domain.cart.exception.AlreadyInCartException;
 import com.swcampus.domain.cart.exception.CartLimitExceededException;
 import com.swcampus.domain.lecture.Lecture;
-import com.swcampus.domain.lecture.LectureRepository;
+import com.swcampus.domain.lecture.LectureService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,7 +37,7 @@ class CartServiceTest {
     private CartCacheRepository cartCacheRepository;
 
     @Mock
-    private LectureRepository lectureRepository;
+    private LectureService lectureService;
 
     @InjectMocks
     private CartService cartService;
@@ -116,7 +117,7 @@ class CartServiceTest {
             Lecture l2 = mock(Lecture.class);
 
             when(cartCacheRepository.getCartLectureIds(userId)).thenReturn(cachedIds);
-            when(lectureRepository.findAllByIdsWithoutReviewStats(cachedIds)).thenReturn(List.of(l1, l2));
+            when(lectureService.getLecturesByIds(cachedIds)).thenReturn(Map.of(100L, l1, 101L, l2));
 
             // when
             List<Lecture> result = cartService.getCartList(userId);
@@ -139,7 +140,7 @@ class CartServiceTest {
 
             Lecture l1 = mock(Lecture.class);
             Lecture l2 = mock(Lecture.class);
-            when(lectureRepository.findAllByIdsWithoutReviewStats(anyList())).thenReturn(List.of(l1, l2));
+            when(lectureService.getLecturesByIds(anyList())).thenReturn(Map.of(100L, l1, 200L, l2));
 
             // when
             List<Lecture> result = cartService.getCartList(userId);
@@ -163,7 +164,7 @@ class CartServiceTest {
             // then
             assertThat(result).isEmpty();
             verify(cartCacheRepository).saveCartLectureIds(userId, Collections.emptyList());
-            verify(lectureRepository, never()).findAllByIdsWithoutReviewStats(anyList());
+            verify(lectureService, never()).getLecturesByIds(anyList());
         }
     }
 }
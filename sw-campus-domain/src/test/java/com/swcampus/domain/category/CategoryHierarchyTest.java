@@ -0,0 +1,59 @@
+package com.swcampus.domain.category;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryHierarchyTest {
+
+    // 1 -> (2 -> (4, 5), 3 -> 6)
+    private final CategoryHierarchy hierarchy = CategoryHierarchy.of(parents(
+            1L, null,
+            2L, 1L,
+            3L, 1L,
+            4L, 2L,
+            5L, 2L,
+            6L, 3L));
+
+    @Test
+    @DisplayName("자기 자신을 포함한 모든 자손을 반환한다")
+    void getDescendantIds_includesAllLevels() {
+        assertThat(hierarchy.getDescendantIds(1L)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(hierarchy.getDescendantIds(2L)).containsExactlyInAnyOrder(2L, 4L, 5L);
+        assertThat(hierarchy.getDescendantIds(6L)).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("계층에 없는 카테고리는 자기 자신만 반환한다")
+    void getDescendantIds_unknownCategory() {
+        assertThat(hierarchy.getDescendantIds(99L)).containsExactly(99L);
+    }
+
+    @Test
+    @DisplayName("여러 카테고리의 자손은 중복 없이 합친다")
+    void getDescendantIds_multipleCategories() {
+        assertThat(hierarchy.getDescendantIds(List.of(2L, 4L, 3L)))
+                .containsExactlyInAnyOrder(2L, 4L, 5L, 3L, 6L);
+    }
+
+    @Test
+    @DisplayName("순환 참조가 있어도 무한 루프 없이 계산한다")
+    void of_cyclicParents() {
+        CategoryHierarchy cyclic = CategoryHierarchy.of(parents(1L, 2L, 2L, 1L));
+
+        assertThat(cyclic.getDescendantIds(1L)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private static Map<Long, Long> parents(Long... idAndParent) {
+        Map<Long, Long> parentIds = new HashMap<>();
+        for (int i = 0; i < idAndParent.length; i += 2) {
+            parentIds.put(idAndParent[i], idAndParent[i + 1]);
+        }
+        return parentIds;
+    }
+}
@@ -2,7 +2,13 @@ package com.swcampus.domain.comment;
 
 import com.swcampus.domain.comment.exception.CommentAccessDeniedException;
 import com.swcampus.domain.comment.exception.CommentNotFoundException;
+import com.swcampus.domain.common.CursorPage;
+import com.swcampus.domain.notification.NotificationOutboxService;
+import com.swcampus.domain.notification.NotificationType;
+import com.swcampus.domain.post.Post;
 import com.swcampus.domain.post.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,17 +16,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -36,6 +48,12 @@ class CommentServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private CommentTreeCacheRepository commentTreeCacheRepository;
+
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
     @Nested
     @DisplayName("댓글 작성")
     class CreateCommentTest {
@@ -131,6 +149,52 @@ class CommentServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getImageUrl()).isEqualTo(imageUrl);
         }
+
+        @Test
+        @DisplayName("댓글 작성 시 게시글 작성자에게 COMMENT 알림 발송 예약")
+        void createCommentWithNotification_enqueuesForPostAuthor() {
+            // given
+            Long postId = 1L;
+            Long userId = 2L;
+            Long postAuthorId = 3L;
+            Comment saved = Comment.of(10L, postId, userId, null, "댓글", null, 0L, false,
+                    LocalDateTime.now(), LocalDateTime.now());
+
+            given(commentRepository.save(any(Comment.class))).willReturn(saved);
+            given(postRepository.findById(postId))
+                    .willReturn(Optional.of(Post.create(1L, postAuthorId, "제목", "본문", null, null)));
+
+            // when
+            Comment result = commentService.createCommentWithNotification(postId, userId, null, "댓글", null);
+
+            // then
+            assertThat(result).isEqualTo(saved);
+            verify(notificationOutboxService)
+                    .enqueue(postAuthorId, userId, 10L, postId, NotificationType.COMMENT);
+        }
+
+        @Test
+        @DisplayName("대댓글 작성 시 부모 댓글 작성자에게 REPLY 알림 발송 예약")
+        void createCommentWithNotification_enqueuesForParentAuthor() {
+            // given
+            Long postId = 1L;
+            Long userId = 2L;
+            Long parentAuthorId = 4L;
+            Comment parent = Comment.of(5L, postId, parentAuthorId, null, "부모 댓글", null, 0L, false,
+                    LocalDateTime.now(), LocalDateTime.now());
+            Comment saved = Comment.of(11L, postId, userId, 5L, "답글", null, 0L, false,
+                    LocalDateTime.now(), LocalDateTime.now());
+
+            given(commentRepository.save(any(Comment.class))).willReturn(saved);
+            given(commentRepository.findById(5L)).willReturn(Optional.of(parent));
+
+            // when
+            commentService.createCommentWithNotification(postId, userId, 5L, "답글", null);
+
+            // then
+            verify(notificationOutboxService)
+                    .enqueue(parentAuthorId, userId, 11L, postId, NotificationType.REPLY);
+        }
     }
 
     @Nested
@@ -171,44 +235,119 @@ class CommentServiceTest {
     }
 
     @Nested
-    @DisplayName("게시글별 댓글 목록 조회")
-    class GetCommentsByPostIdTest {
+    @DisplayName("게시글별 댓글 트리 조회")
+    class GetCommentTreeTest {
 
         @Test
-        @DisplayName("댓글 목록 조회 성공")
-        void getCommentsByPostId_success() {
+        @DisplayName("캐시 미스 시 게시글의 전체 댓글로 트리 구성")
+        void getCommentTree_loadsOnMiss() {
             // given
             Long postId = 1L;
-            List<Comment> comments = List.of(
-                    createMockComment(1L, postId, 1L, null),
-                    createMockComment(2L, postId, 2L, null),
-                    createMockComment(3L, postId, 1L, 1L)  // 대댓글
-            );
-
             given(commentRepository.findByPostId(postId))
-                    .willReturn(comments);
+                    .willReturn(List.of(
+                            createMockComment(1L, postId, 1L, null),
+                            createMockComment(2L, postId, 2L, null),
+                            createMockComment(3L, postId, 1L, 1L)  // 대댓글
+                    ));
+            givenTreeCacheMiss(postId);
 
             // when
-            List<Comment> result = commentService.getCommentsByPostId(postId);
+            CommentTree result = commentService.getCommentTree(postId);
 
             // then
-            assertThat(result).hasSize(3);
+            assertThat(result.getRoots()).hasSize(2);
+            assertThat(result.getReplyCount(1L)).isEqualTo(1);
         }
 
         @Test
-        @DisplayName("댓글이 없는 경우 빈 리스트 반환")
-        void getCommentsByPostId_empty() {
+        @DisplayName("루트 댓글 커서 조회 - 다음 페이지가 있으면 마지막 루트 댓글 ID를 커서로 반환")
+        void getRootComments_hasNext() {
             // given
             Long postId = 1L;
-
             given(commentRepository.findByPostId(postId))
-                    .willReturn(List.of());
+                    .willReturn(List.of(
+                            createMockComment(1L, postId, 1L, null),
+                            createMockComment(2L, postId, 2L, null),
+                            createMockComment(3L, postId, 1L, 1L),
+                            createMockComment(4L, postId, 2L, null)
+                    ));
+            givenTreeCacheMiss(postId);
+
+            // when
+            CursorPage<Comment> first = commentService.getRootComments(postId, null, 2);
+            CursorPage<Comment> second = commentService.getRootComments(postId, Long.valueOf(first.nextCursor()), 2);
+
+            // then
+            assertThat(first.content()).extracting(Comment::getId).containsExactly(1L, 2L);
+            assertThat(first.nextCursor()).isEqualTo("2");
+            assertThat(second.content()).extracting(Comment::getId).containsExactly(4L);
+            assertThat(second.hasNext()).isFalse();
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        private void givenTreeCacheMiss(Long postId) {
+            given(commentTreeCacheRepository.get(eq(postId), any()))
+                    .willAnswer(invocation -> invocation.<Function<Long, CommentTree>>getArgument(1).apply(postId));
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 트리 캐시 반영")
+    class CommentTreeCacheTest {
+
+        private final Long postId = 1L;
+        private CommentTree cachedTree;
+
+        @BeforeEach
+        void setUp() {
+            cachedTree = CommentTree.of(List.of(createMockComment(1L, postId, 2L, null)));
+            // 롤백 테스트에서는 호출되지 않아야 하므로 lenient
+            lenient().doAnswer(invocation -> {
+                invocation.<Consumer<CommentTree>>getArgument(1).accept(cachedTree);
+                return null;
+            }).when(commentTreeCacheRepository).update(eq(postId), any());
+            given(commentRepository.save(any(Comment.class)))
+                    .willAnswer(invocation -> {
+                        Comment comment = invocation.getArgument(0);
+                        return Comment.of(3L, comment.getPostId(), comment.getUserId(), comment.getParentId(),
+                                comment.getBody(), comment.getImageUrl(), 0L, false,
+                                LocalDateTime.now(), LocalDateTime.now());
+                    });
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
 
+        @Test
+        @DisplayName("트리 반영과 무효화 발행은 커밋 후에 한다")
+        void createComment_updatesTreeAfterCommit() {
             // when
-            List<Comment> result = commentService.getCommentsByPostId(postId);
+            commentService.createComment(postId, 1L, null, "새 댓글", null);
 
             // then
-            assertThat(result).isEmpty();
+            verify(commentTreeCacheRepository, never()).update(anyLong(), any());
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+            assertThat(cachedTree.getRoots()).extracting(Comment::getId).containsExactly(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("롤백되면 캐시된 트리를 바꾸지 않는다")
+        void createComment_rollback_leavesTreeUnchanged() {
+            // when
+            commentService.createComment(postId, 1L, null, "새 댓글", null);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            verify(commentTreeCacheRepository, never()).update(anyLong(), any());
+            assertThat(cachedTree.getRoots()).extracting(Comment::getId).containsExactly(1L);
+        }
+
+        private void completeTransaction(int status) {
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), status);
         }
     }
 
@@ -415,48 +554,6 @@ class CommentServiceTest {
         }
     }
 
-    @Nested
-    @DisplayName("댓글 수 조회")
-    class CountCommentTest {
-
-        @Test
-        @DisplayName("게시글별 댓글 수 조회 성공")
-        void countByPostId_success() {
-            // given
-            Long postId = 1L;
-            long expectedCount = 5L;
-
-            given(commentRepository.countByPostId(postId))
-                    .willReturn(expectedCount);
-
-            // when
-            long result = commentService.countByPostId(postId);
-
-            // then
-            assertThat(result).isEqualTo(expectedCount);
-        }
-
-        @Test
-        @DisplayName("여러 게시글의 댓글 수 일괄 조회 성공")
-        void getCommentCounts_success() {
-            // given
-            List<Long> postIds = List.of(1L, 2L, 3L);
-            Map<Long, Long> expectedCounts = Map.of(1L, 5L, 2L, 3L, 3L, 0L);
-
-            given(commentRepository.countByPostIds(postIds))
-                    .willReturn(expectedCounts);
-
-            // when
-            Map<Long, Long> result = commentService.getCommentCounts(postIds);
-
-            // then
-            assertThat(result).hasSize(3);
-            assertThat(result.get(1L)).isEqualTo(5L);
-            assertThat(result.get(2L)).isEqualTo(3L);
-            assertThat(result.get(3L)).isEqualTo(0L);
-        }
-    }
-
     // 헬퍼 메서드
     private Comment createMockComment(Long id, Long postId, Long userId, Long parentId) {
         return Comment.of(
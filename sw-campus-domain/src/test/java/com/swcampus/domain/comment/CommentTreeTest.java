@@ -0,0 +1,77 @@
+package com.swcampus.domain.comment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentTreeTest {
+
+    @Test
+    @DisplayName("루트 댓글과 대댓글을 작성 순으로 구성")
+    void of_buildsOrderedTree() {
+        // when
+        CommentTree tree = CommentTree.of(List.of(
+                comment(1L, null), comment(2L, null), comment(3L, 1L), comment(4L, 1L), comment(5L, 99L)));
+
+        // then
+        assertThat(tree.getRoots()).extracting(Comment::getId).containsExactly(1L, 2L, 5L);
+        assertThat(tree.getReplies(1L)).extracting(Comment::getId).containsExactly(3L, 4L);
+        assertThat(tree.getReplyCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("커서 이후 루트 댓글을 limit건 조회")
+    void getRootsAfter() {
+        // given
+        CommentTree tree = CommentTree.of(List.of(comment(1L, null), comment(2L, null), comment(3L, null)));
+
+        // when & then
+        assertThat(tree.getRootsAfter(null, 2)).extracting(Comment::getId).containsExactly(1L, 2L);
+        assertThat(tree.getRootsAfter(2L, 2)).extracting(Comment::getId).containsExactly(3L);
+        assertThat(tree.getRootsAfter(3L, 2)).isEmpty();
+        assertThatThrownBy(() -> tree.getRootsAfter(99L, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 댓글을 다시 추가하면 위치를 유지한 채 교체")
+    void add_isIdempotent() {
+        // given
+        CommentTree tree = CommentTree.of(List.of(comment(1L, null), comment(2L, 1L)));
+
+        // when
+        tree.add(comment(2L, 1L));
+        tree.add(comment(3L, 1L));
+
+        // then
+        assertThat(tree.getReplies(1L)).extracting(Comment::getId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제/추천 수 변경을 제자리에서 반영")
+    void replaceAndSetLikeCount() {
+        // given
+        CommentTree tree = CommentTree.of(List.of(comment(1L, null), comment(2L, 1L)));
+        Comment deleted = comment(2L, 1L);
+        deleted.delete();
+
+        // when
+        tree.replace(deleted);
+        tree.setLikeCount(1L, 1);
+        tree.setLikeCount(1L, 1);
+
+        // then
+        assertThat(tree.getReplies(1L).get(0).isDeleted()).isTrue();
+        assertThat(tree.getRoots().get(0).getLikeCount()).isEqualTo(1L);
+    }
+
+    private Comment comment(Long id, Long parentId) {
+        return Comment.of(id, 1L, 1L, parentId, "댓글 " + id, null, 0L, false,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,46 @@
+package com.swcampus.domain.lecture;
+
+import com.swcampus.domain.lecture.dto.LectureSearchCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LectureSearchConditionTest {
+
+    @Test
+    @DisplayName("선발 절차 필터가 없으면 selection_flags 조건을 만들지 않는다")
+    void selectionFlagValues_noFilter() {
+        LectureSearchCondition condition = LectureSearchCondition.builder().build();
+
+        assertThat(condition.getSelectionFlagValues()).isNull();
+    }
+
+    @Test
+    @DisplayName("필수 절차 비트는 켜져 있고 제외 절차 비트는 꺼진 조합만 반환한다")
+    void selectionFlagValues_requiredAndExcluded() {
+        // given: 코딩테스트 있음(4), 면접 없음(2)
+        LectureSearchCondition condition = LectureSearchCondition.builder()
+                .hasCodingTest(true)
+                .hasInterview(false)
+                .build();
+
+        // when
+        List<Integer> values = condition.getSelectionFlagValues();
+
+        // then: 서류(1), 사전과제(8)는 무관
+        assertThat(values).containsExactly(4, 5, 12, 13);
+    }
+
+    @Test
+    @DisplayName("절차 목록을 비트 합으로 변환한다")
+    void toFlags() {
+        int flags = SelectionStepType.toFlags(List.of(
+                SelectionStepType.DOCUMENT, SelectionStepType.PRE_TASK));
+
+        assertThat(flags).isEqualTo(9);
+        assertThat(SelectionStepType.allFlags()).isEqualTo(15);
+    }
+}
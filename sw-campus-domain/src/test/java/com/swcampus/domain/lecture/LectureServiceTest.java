@@ -1,26 +1,50 @@
 package com.swcampus.domain.lecture;
 
+import com.swcampus.domain.category.CategoryService;
+import com.swcampus.domain.common.CursorPage;
+import com.swcampus.domain.lecture.dto.LectureCursor;
+import com.swcampus.domain.lecture.dto.LectureSearchCondition;
+import com.swcampus.domain.lecture.dto.LectureSearchHit;
+import com.swcampus.domain.lecture.dto.LectureSortType;
+import com.swcampus.domain.lecture.dto.LectureSummaryDto;
+import com.swcampus.domain.review.ReviewRepository;
 import com.swcampus.domain.storage.FileStorageService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import com.swcampus.domain.organization.Organization;
 import com.swcampus.domain.organization.OrganizationService;
 import com.swcampus.domain.member.Role;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class LectureServiceTest {
@@ -40,6 +64,15 @@ class LectureServiceTest {
     @Mock
     private OrganizationService organizationService;
 
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private LectureSearchIndex lectureSearchIndex;
+
+    @Mock
+    private CategoryService categoryService;
+
     @Nested
     @DisplayName("강의 수정")
     class ModifyLectureTest {
@@ -165,4 +198,225 @@ class LectureServiceTest {
                     .isInstanceOf(com.swcampus.domain.common.ResourceNotFoundException.class);
         }
     }
+
+    @Nested
+    @DisplayName("강의 조회")
+    class GetLectureTest {
+
+        @Test
+        @DisplayName("동시 캐시 미스 시 DB 조회는 한 번만 수행된다")
+        void getLecture_concurrentMiss_loadsOnce() throws Exception {
+            // given
+            Long lectureId = 1L;
+            Lecture lecture = Lecture.builder().lectureId(lectureId).build();
+            CountDownLatch secondCallerMissed = new CountDownLatch(2);
+
+            given(lectureCacheRepository.getLecture(lectureId))
+                    .willAnswer(invocation -> {
+                        secondCallerMissed.countDown();
+                        return Optional.empty();
+                    });
+            given(lectureRepository.findById(lectureId))
+                    .willAnswer(invocation -> {
+                        secondCallerMissed.await(1, TimeUnit.SECONDS);
+                        Thread.sleep(100);
+                        return Optional.of(lecture);
+                    });
+
+            // when
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            Future<Lecture> first = executor.submit(() -> lectureService.getLecture(lectureId));
+            Future<Lecture> second = executor.submit(() -> lectureService.getLecture(lectureId));
+
+            // then
+            assertThat(first.get(2, TimeUnit.SECONDS)).isSameAs(lecture);
+            assertThat(second.get(2, TimeUnit.SECONDS)).isSameAs(lecture);
+            verify(lectureRepository, times(1)).findById(lectureId);
+            verify(lectureCacheRepository, times(1)).saveLecture(lecture);
+            executor.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("강의 일괄 조회")
+    class GetLecturesByIdsTest {
+
+        @Test
+        @DisplayName("캐시 미스된 강의만 DB에서 조회하고 캐시에 저장한다")
+        void getLecturesByIds_loadsOnlyMisses() {
+            // given
+            Lecture cached = Lecture.builder().lectureId(1L).build();
+            Lecture loaded = Lecture.builder().lectureId(2L).build();
+
+            given(lectureCacheRepository.getLectures(List.of(1L, 2L)))
+                    .willReturn(Map.of(1L, cached));
+            given(lectureRepository.findAllByIds(List.of(2L)))
+                    .willReturn(List.of(loaded));
+
+            // when
+            Map<Long, Lecture> result = lectureService.getLecturesByIds(List.of(1L, 2L));
+
+            // then
+            assertThat(result).containsOnlyKeys(1L, 2L);
+            verify(lectureCacheRepository).saveLectures(List.of(loaded));
+        }
+
+        @Test
+        @DisplayName("모두 캐시 히트면 DB를 조회하지 않는다")
+        void getLecturesByIds_allHit() {
+            // given
+            Lecture cached = Lecture.builder().lectureId(1L).build();
+            given(lectureCacheRepository.getLectures(List.of(1L)))
+                    .willReturn(Map.of(1L, cached));
+
+            // when
+            Map<Long, Lecture> result = lectureService.getLecturesByIds(List.of(1L));
+
+            // then
+            assertThat(result).containsEntry(1L, cached);
+            verify(lectureRepository, times(0)).findAllByIds(org.mockito.ArgumentMatchers.anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("강의 커서 검색")
+    class SearchLecturesByCursorTest {
+
+        private LectureSearchCondition condition() {
+            return LectureSearchCondition.builder()
+                    .lectureAuthStatus(LectureAuthStatus.APPROVED)
+                    .sort(LectureSortType.FEE_ASC)
+                    .build();
+        }
+
+        private Lecture lecture(Long lectureId) {
+            return Lecture.builder()
+                    .lectureId(lectureId)
+                    .status(LectureStatus.RECRUITING)
+                    .lectureFee(BigDecimal.valueOf(1000))
+                    .updatedAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("size보다 한 건 더 조회되면 다음 페이지 커서를 마지막 강의로 만든다")
+        void hasNext_returnsCursorOfLastLecture() {
+            // given
+            LectureSearchCondition condition = condition();
+            given(lectureRepository.searchLecturesAfter(condition, 3))
+                    .willReturn(List.of(lecture(3L), lecture(2L), lecture(1L)));
+            given(reviewRepository.getReviewStatsByLectureIds(anyList())).willReturn(Map.of());
+
+            // when
+            CursorPage<LectureSummaryDto> result = lectureService.searchLecturesWithStatsByCursor(condition, 2, false);
+
+            // then
+            assertThat(result.content()).extracting(dto -> dto.lecture().getLectureId()).containsExactly(3L, 2L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(LectureCursor.decode(result.nextCursor(), LectureSortType.FEE_ASC))
+                    .isEqualTo(LectureCursor.of(LectureSortType.FEE_ASC, lecture(2L)));
+            assertThat(result.totalCount()).isNull();
+            verify(lectureRepository, never()).countLectures(any());
+        }
+
+        @Test
+        @DisplayName("마지막 페이지는 커서가 없고, includeTotal이면 전체 건수를 포함한다")
+        void lastPage_withTotal() {
+            // given
+            LectureSearchCondition condition = condition();
+            given(lectureRepository.searchLecturesAfter(eq(condition), eq(3))).willReturn(List.of(lecture(1L)));
+            given(lectureRepository.countLectures(condition)).willReturn(5L);
+            given(reviewRepository.getReviewStatsByLectureIds(anyList())).willReturn(Map.of());
+
+            // when
+            CursorPage<LectureSummaryDto> result = lectureService.searchLecturesWithStatsByCursor(condition, 2, true);
+
+            // then
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            assertThat(result.totalCount()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("다른 정렬 기준으로 만든 커서는 거부한다")
+        void decode_rejectsCursorOfOtherSort() {
+            // given
+            String cursor = LectureCursor.of(LectureSortType.FEE_ASC, lecture(1L)).encode();
+
+            // when & then
+            assertThatThrownBy(() -> LectureCursor.decode(cursor, LectureSortType.LATEST))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> LectureCursor.decode("not-a-cursor", LectureSortType.LATEST))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("검색 색인")
+    class SearchIndexTest {
+
+        @Test
+        @DisplayName("색인이 매칭 결과를 주면 검색어 대신 결과 강의로 한정하여 조회한다")
+        void searchLectures_usesIndexHits() {
+            // given
+            LectureSearchCondition condition = LectureSearchCondition.builder()
+                    .text("자바")
+                    .sort(LectureSortType.RELEVANCE)
+                    .build();
+            List<LectureSearchHit> hits = List.of(new LectureSearchHit(2L, 0.9), new LectureSearchHit(1L, 0.5));
+            given(lectureSearchIndex.search("자바", 1000)).willReturn(Optional.of(hits));
+            given(lectureRepository.searchLectures(any(LectureSearchCondition.class))).willReturn(Page.empty());
+
+            // when
+            lectureService.searchLectures(condition);
+
+            // then
+            ArgumentCaptor<LectureSearchCondition> captor = ArgumentCaptor.forClass(LectureSearchCondition.class);
+            verify(lectureRepository).searchLectures(captor.capture());
+            assertThat(captor.getValue().getText()).isNull();
+            assertThat(captor.getValue().getSearchHits()).isEqualTo(hits);
+        }
+
+        @Test
+        @DisplayName("DB 검색 컬럼 기반 색인이면 검색어를 그대로 전달한다")
+        void searchLectures_keepsTextForDatabaseIndex() {
+            // given
+            LectureSearchCondition condition = LectureSearchCondition.builder()
+                    .text("자바")
+                    .sort(LectureSortType.RELEVANCE)
+                    .build();
+            given(lectureSearchIndex.search("자바", 1000)).willReturn(Optional.empty());
+            given(lectureRepository.searchLectures(condition)).willReturn(Page.empty());
+
+            // when
+            lectureService.searchLectures(condition);
+
+            // then
+            verify(lectureRepository).searchLectures(condition);
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리 필터")
+    class CategoryFilterTest {
+
+        @Test
+        @DisplayName("선택한 카테고리를 하위 카테고리까지 펼친 ID 목록으로 조회한다")
+        void searchLectures_expandsCategoryIds() {
+            // given
+            LectureSearchCondition condition = LectureSearchCondition.builder()
+                    .categoryIds(List.of(2L))
+                    .build();
+            given(categoryService.getDescendantIds(List.of(2L))).willReturn(List.of(2L, 5L, 9L));
+            given(lectureRepository.searchLectures(any(LectureSearchCondition.class))).willReturn(Page.empty());
+
+            // when
+            lectureService.searchLectures(condition);
+
+            // then
+            ArgumentCaptor<LectureSearchCondition> captor = ArgumentCaptor.forClass(LectureSearchCondition.class);
+            verify(lectureRepository).searchLectures(captor.capture());
+            assertThat(captor.getValue().getCategoryIds()).containsExactly(2L, 5L, 9L);
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package com.swcampus.domain.mail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    @InjectMocks
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Nested
+    @DisplayName("발송 예약")
+    class EnqueueTest {
+
+        @Test
+        @DisplayName("멱등 키와 함께 대기열에 기록")
+        void enqueue_savesMail() {
+            // when
+            mailOutboxService.enqueue("email-verification:token", "user@example.com", "제목", "<p>본문</p>");
+
+            // then
+            ArgumentCaptor<OutboxMail> captor = ArgumentCaptor.forClass(OutboxMail.class);
+            verify(mailOutboxRepository).saveIfAbsent(captor.capture());
+            OutboxMail saved = captor.getValue();
+            assertThat(saved.getIdempotencyKey()).isEqualTo("email-verification:token");
+            assertThat(saved.getRecipient()).isEqualTo("user@example.com");
+            assertThat(saved.getAttempts()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("선점 및 완료 처리")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("최대 시도 횟수와 백오프 기준으로 선점")
+        void claim_usesRetryPolicy() {
+            // when
+            mailOutboxService.claim(50);
+
+            // then
+            verify(mailOutboxRepository).claimDue(50, MailOutboxService.MAX_ATTEMPTS, MailOutboxService.BASE_BACKOFF);
+        }
+
+        @Test
+        @DisplayName("발송에 성공한 메일만 대기열에서 삭제")
+        void markSent_deletesByIds() {
+            // given
+            List<OutboxMail> mails = List.of(mail(1L), mail(2L));
+
+            // when
+            mailOutboxService.markSent(mails);
+
+            // then
+            verify(mailOutboxRepository).deleteAllByIds(List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("발송한 메일이 없으면 삭제하지 않음")
+        void markSent_empty_skipped() {
+            // when
+            mailOutboxService.markSent(List.of());
+
+            // then
+            verify(mailOutboxRepository, never()).deleteAllByIds(anyList());
+        }
+    }
+
+    private OutboxMail mail(Long id) {
+        return OutboxMail.of(id, "key-" + id, "user@example.com", "제목", "<p>본문</p>", 1, LocalDateTime.now());
+    }
+}
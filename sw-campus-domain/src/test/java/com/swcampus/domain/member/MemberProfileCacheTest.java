@@ -0,0 +1,84 @@
+package com.swcampus.domain.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MemberProfileCacheTest {
+
+    @InjectMocks
+    private MemberProfileCache memberProfileCache;
+
+    @Mock
+    private MemberProfileCacheRepository memberProfileCacheRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 DB를 조회하지 않음")
+    void getAll_allCached() {
+        // given
+        ProfileSnapshot profile1 = new ProfileSnapshot(1L, "사용자1");
+        ProfileSnapshot profile2 = new ProfileSnapshot(2L, "사용자2");
+        given(memberProfileCacheRepository.getProfiles(any()))
+                .willReturn(Map.of(1L, profile1, 2L, profile2));
+
+        // when
+        Map<Long, ProfileSnapshot> result = memberProfileCache.getAll(List.of(1L, 2L, 1L));
+
+        // then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        verify(memberRepository, never()).findAllByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("캐시 미스는 한 번의 일괄 조회로 채우고 캐시에 저장")
+    void getAll_loadsMissesInOneQuery() {
+        // given
+        given(memberProfileCacheRepository.getProfiles(any()))
+                .willReturn(Map.of(1L, new ProfileSnapshot(1L, "사용자1")));
+        given(memberRepository.findAllByIds(List.of(2L, 3L)))
+                .willReturn(List.of(createMember(2L, "사용자2")));
+
+        // when
+        Map<Long, ProfileSnapshot> result = memberProfileCache.getAll(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(result.get(2L).nickname()).isEqualTo("사용자2");
+        verify(memberRepository).findAllByIds(List.of(2L, 3L));
+        verify(memberProfileCacheRepository).saveProfiles(List.of(new ProfileSnapshot(2L, "사용자2")));
+    }
+
+    @Test
+    @DisplayName("빈 ID 목록은 캐시와 DB를 조회하지 않음")
+    void getAll_empty() {
+        // when
+        Map<Long, ProfileSnapshot> result = memberProfileCache.getAll(List.of());
+
+        // then
+        assertThat(result).isEmpty();
+        verify(memberProfileCacheRepository, never()).getProfiles(any());
+    }
+
+    private Member createMember(Long id, String nickname) {
+        return Member.of(id, "test" + id + "@example.com", "pwd", "홍길동", nickname,
+                "010-1234-5678", Role.USER, null, "서울", LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -8,6 +8,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.util.Optional;
 
@@ -15,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +33,9 @@ class MemberServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MemberProfileCache memberProfileCache;
+
     @Test
     @DisplayName("일반 사용자 비밀번호 검증 성공")
     void validatePassword_success() {
@@ -122,4 +129,43 @@ class MemberServiceTest {
         assertThatThrownBy(() -> memberService.validatePassword(memberId, "password"))
                 .isInstanceOf(MemberNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("프로필 수정 시 프로필 캐시 무효화")
+    void updateProfile_evictsProfileCache() {
+        // given
+        Long memberId = 1L;
+        Member member = Member.createUser("test@example.com", "encodedPassword", "name", "nickname", "010-1234-5678", "Seoul");
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+
+        // when
+        memberService.updateProfile(memberId, null, "010-0000-0000", null);
+
+        // then
+        verify(memberRepository).save(member);
+        verify(memberProfileCache).evict(memberId);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에 프로필 캐시 무효화")
+    void updateProfile_evictsProfileCacheAfterCommit() {
+        // given
+        Long memberId = 1L;
+        Member member = Member.createUser("test@example.com", "encodedPassword", "name", "nickname", "010-1234-5678", "Seoul");
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            memberService.updateProfile(memberId, null, "010-0000-0000", null);
+
+            // then
+            verify(memberProfileCache, never()).evict(memberId);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+            verify(memberProfileCache).evict(memberId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }
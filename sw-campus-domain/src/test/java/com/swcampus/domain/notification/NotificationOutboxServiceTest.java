@@ -0,0 +1,142 @@
+package com.swcampus.domain.notification;
+
+import com.swcampus.domain.member.MemberProfileCache;
+import com.swcampus.domain.member.ProfileSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+
+    @InjectMocks
+    private NotificationOutboxService notificationOutboxService;
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    @Mock
+    private MemberProfileCache memberProfileCache;
+
+    @Nested
+    @DisplayName("발송 예약")
+    class EnqueueTest {
+
+        @Test
+        @DisplayName("다른 사용자에게 보내는 알림은 대기열에 기록")
+        void enqueue_savesEvent() {
+            // when
+            notificationOutboxService.enqueue(1L, 2L, 10L, 100L, NotificationType.COMMENT);
+
+            // then
+            verify(notificationOutboxRepository).save(any(NotificationOutboxEvent.class));
+        }
+
+        @Test
+        @DisplayName("본인에게 보내는 알림은 기록하지 않음")
+        void enqueue_self_skipped() {
+            // when
+            notificationOutboxService.enqueue(1L, 1L, 10L, 100L, NotificationType.COMMENT);
+
+            // then
+            verify(notificationOutboxRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("발송")
+    class DeliverTest {
+
+        @Test
+        @DisplayName("알림 일괄 저장 후 대기열에서 삭제하고 읽지 않은 알림 수를 올린 뒤 발신자 닉네임을 채워 반환")
+        void deliver_savesAllAndDeletes() {
+            // given
+            NotificationOutboxEvent first = event(1L, 10L, 20L, 100L);
+            NotificationOutboxEvent second = event(2L, 11L, 21L, 200L);
+            LocalDateTime now = LocalDateTime.now();
+
+            given(notificationRepository.saveAll(anyList())).willReturn(List.of(
+                    Notification.of(501L, 10L, 20L, 1000L, 100L, NotificationType.COMMENT, false, now),
+                    Notification.of(502L, 11L, 21L, 1000L, 200L, NotificationType.COMMENT, false, now)));
+            given(memberProfileCache.getAll(List.of(20L, 21L)))
+                    .willReturn(Map.of(20L, new ProfileSnapshot(20L, "작성자")));
+
+            // when
+            List<NotificationDetail> result = notificationOutboxService.deliver(List.of(first, second));
+
+            // then
+            verify(notificationOutboxRepository).deleteAllByIds(List.of(1L, 2L));
+            verify(notificationUnreadCountRepository).increment(Map.of(10L, 1L, 11L, 1L));
+            assertThat(result).extracting(NotificationDetail::getId).containsExactly(501L, 502L);
+            assertThat(result).extracting(NotificationDetail::getPostId).containsExactly(100L, 200L);
+            assertThat(result).extracting(NotificationDetail::getSenderNickname)
+                    .containsExactly("작성자", "알 수 없음");
+        }
+
+        @Test
+        @DisplayName("커밋에 실패하면 읽지 않은 알림 수를 올리지 않음 (재시도 시 중복 증가 방지)")
+        void deliver_rollback_counterUntouched() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            given(notificationRepository.saveAll(anyList())).willReturn(List.of(
+                    Notification.of(501L, 10L, 20L, 1000L, 100L, NotificationType.COMMENT, false, now)));
+            given(memberProfileCache.getAll(anyList())).willReturn(Map.of());
+            TransactionSynchronizationManager.initSynchronization();
+
+            try {
+                // when
+                notificationOutboxService.deliver(List.of(event(1L, 10L, 20L, 100L)));
+                TransactionSynchronizationUtils.invokeAfterCompletion(
+                        TransactionSynchronizationManager.getSynchronizations(),
+                        TransactionSynchronization.STATUS_ROLLED_BACK);
+
+                // then
+                verifyNoInteractions(notificationUnreadCountRepository);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("선점한 이벤트가 없으면 아무것도 하지 않음")
+        void deliver_empty() {
+            // when
+            List<NotificationDetail> result = notificationOutboxService.deliver(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(notificationRepository, notificationOutboxRepository,
+                    notificationUnreadCountRepository, memberProfileCache);
+        }
+
+        private NotificationOutboxEvent event(Long id, Long recipientId, Long senderId, Long postId) {
+            return NotificationOutboxEvent.of(id, recipientId, senderId, 1000L, postId,
+                    NotificationType.COMMENT, 1, LocalDateTime.now());
+        }
+    }
+}
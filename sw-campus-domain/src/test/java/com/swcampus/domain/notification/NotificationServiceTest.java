@@ -0,0 +1,213 @@
+package com.swcampus.domain.notification;
+
+import com.swcampus.domain.member.MemberProfileCache;
+import com.swcampus.domain.member.ProfileSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    @Mock
+    private MemberProfileCache memberProfileCache;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Nested
+    @DisplayName("알림 목록 커서 조회")
+    class GetNotificationFeedTest {
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 알림의 정렬 키를 커서로 반환")
+        void getNotificationFeed_hasNext() {
+            // given
+            Long userId = 1L;
+            given(notificationRepository.findFeed(userId, null, 3)).willReturn(List.of(
+                    notification(30L, userId, NOW),
+                    notification(29L, userId, NOW),
+                    notification(28L, userId, NOW.minusMinutes(1))));
+            given(memberProfileCache.getAll(anyList()))
+                    .willReturn(Map.of(2L, new ProfileSnapshot(2L, "발신자")));
+            given(notificationUnreadCountRepository.get(userId)).willReturn(5L);
+
+            // when
+            NotificationResult result = notificationService.getNotificationFeed(userId, null, 2);
+
+            // then
+            assertThat(result.getNotifications()).extracting(NotificationDetail::getId).containsExactly(30L, 29L);
+            assertThat(result.getNotifications()).extracting(NotificationDetail::getPostId).containsOnly(50L);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(NotificationCursor.decode(result.getNextCursor()))
+                    .isEqualTo(new NotificationCursor(NOW, 29L));
+            assertThat(result.getUnreadCount()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("커서 이후 알림을 조회하고 마지막 페이지면 커서를 반환하지 않음")
+        void getNotificationFeed_lastPage() {
+            // given
+            Long userId = 1L;
+            NotificationCursor cursor = new NotificationCursor(NOW, 29L);
+            given(notificationRepository.findFeed(userId, cursor, 3))
+                    .willReturn(List.of(notification(28L, userId, NOW.minusMinutes(1))));
+            given(memberProfileCache.getAll(anyList())).willReturn(Map.of());
+            given(notificationUnreadCountRepository.get(userId)).willReturn(0L);
+
+            // when
+            NotificationResult result = notificationService.getNotificationFeed(userId, cursor.encode(), 2);
+
+            // then
+            assertThat(result.getNotifications()).hasSize(1);
+            assertThat(result.getNotifications().get(0).getSenderNickname()).isEqualTo("알 수 없음");
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 커서는 예외 발생")
+        void getNotificationFeed_invalidCursor() {
+            assertThatThrownBy(() -> notificationService.getNotificationFeed(1L, "not-a-cursor", 20))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("읽지 않은 알림 수")
+    class UnreadCountTest {
+
+        @Test
+        @DisplayName("캐시에 있으면 DB를 조회하지 않음")
+        void getUnreadCount_cacheHit() {
+            // given
+            given(notificationUnreadCountRepository.get(1L)).willReturn(3L);
+
+            // when
+            long count = notificationService.getUnreadCount(1L);
+
+            // then
+            assertThat(count).isEqualTo(3L);
+            verify(notificationRepository, never()).countByUserIdAndReadFalse(anyLong());
+        }
+
+        @Test
+        @DisplayName("캐시 미스 시 DB에서 세어 캐시에 기록")
+        void getUnreadCount_cacheMiss() {
+            // given
+            given(notificationUnreadCountRepository.get(1L)).willReturn(null);
+            given(notificationRepository.countByUserIdAndReadFalse(1L)).willReturn(7L);
+
+            // when
+            long count = notificationService.getUnreadCount(1L);
+
+            // then
+            assertThat(count).isEqualTo(7L);
+            verify(notificationUnreadCountRepository).set(1L, 7L);
+        }
+
+        @Test
+        @DisplayName("읽지 않은 알림을 읽음 처리하면 카운터 감소")
+        void markAsRead_decrements() {
+            // given
+            Notification notification = Notification.of(10L, 1L, 2L, 100L, 50L,
+                    NotificationType.COMMENT, false, NOW);
+            given(notificationRepository.findById(10L)).willReturn(Optional.of(notification));
+            given(notificationRepository.save(any(Notification.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            Notification result = notificationService.markAsRead(10L, 1L);
+
+            // then
+            assertThat(result.isRead()).isTrue();
+            verify(notificationUnreadCountRepository).decrement(1L);
+        }
+
+        @Test
+        @DisplayName("이미 읽은 알림은 카운터를 건드리지 않음")
+        void markAsRead_alreadyRead() {
+            // given
+            Notification notification = Notification.of(10L, 1L, 2L, 100L, 50L,
+                    NotificationType.COMMENT, true, NOW);
+            given(notificationRepository.findById(10L)).willReturn(Optional.of(notification));
+
+            // when
+            notificationService.markAsRead(10L, 1L);
+
+            // then
+            verify(notificationRepository, never()).save(any());
+            verify(notificationUnreadCountRepository, never()).decrement(anyLong());
+        }
+
+        @Test
+        @DisplayName("전체 읽음 처리 시 카운터를 0으로 설정")
+        void markAllAsRead_resets() {
+            // when
+            notificationService.markAllAsRead(1L);
+
+            // then
+            verify(notificationRepository).markAllAsReadByUserId(1L);
+            verify(notificationUnreadCountRepository).set(eq(1L), eq(0L));
+        }
+
+        @Test
+        @DisplayName("트랜잭션이 롤백되면 카운터를 건드리지 않음")
+        void markAsRead_rollback_counterUntouched() {
+            // given
+            Notification notification = Notification.of(10L, 1L, 2L, 100L, 50L,
+                    NotificationType.COMMENT, false, NOW);
+            given(notificationRepository.findById(10L)).willReturn(Optional.of(notification));
+            given(notificationRepository.save(any(Notification.class))).willAnswer(invocation -> invocation.getArgument(0));
+            TransactionSynchronizationManager.initSynchronization();
+
+            try {
+                // when
+                notificationService.markAsRead(10L, 1L);
+                notificationService.markAllAsRead(1L);
+                TransactionSynchronizationUtils.invokeAfterCompletion(
+                        TransactionSynchronizationManager.getSynchronizations(),
+                        TransactionSynchronization.STATUS_ROLLED_BACK);
+
+                // then
+                verifyNoInteractions(notificationUnreadCountRepository);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+
+    private Notification notification(Long id, Long userId, LocalDateTime createdAt) {
+        return Notification.of(id, userId, 2L, 100L, 50L, NotificationType.COMMENT, false, createdAt);
+    }
+}
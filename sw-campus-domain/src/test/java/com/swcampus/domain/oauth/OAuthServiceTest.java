@@ -1,6 +1,6 @@
 package com.swcampus.domain.oauth;
 
-import com.swcampus.domain.auth.RefreshTokenRepository;
+import com.swcampus.domain.auth.RefreshTokenService;
 import com.swcampus.domain.auth.TokenProvider;
 import com.swcampus.domain.member.Member;
 import com.swcampus.domain.member.MemberRepository;
@@ -33,7 +33,7 @@ class OAuthServiceTest {
     private SocialAccountRepository socialAccountRepository;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenService refreshTokenService;
 
     @Mock
     private TokenProvider tokenProvider;
@@ -75,8 +75,7 @@ class OAuthServiceTest {
                     .thenReturn(Optional.of(socialAccount));
             when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
             when(tokenProvider.createAccessToken(any(), any(), any())).thenReturn("access-token");
-            when(tokenProvider.createRefreshToken(any())).thenReturn("refresh-token");
-            when(tokenProvider.getRefreshTokenValidity()).thenReturn(86400L);
+            when(refreshTokenService.issue(any())).thenReturn("refresh-token");
 
             // when
             OAuthLoginResult result = oAuthService.loginOrRegister(provider, code);
@@ -117,8 +116,7 @@ class OAuthServiceTest {
                     .thenReturn(Optional.empty());
             when(memberRepository.save(any(Member.class))).thenReturn(savedMember);
             when(tokenProvider.createAccessToken(any(), any(), any())).thenReturn("access-token");
-            when(tokenProvider.createRefreshToken(any())).thenReturn("refresh-token");
-            when(tokenProvider.getRefreshTokenValidity()).thenReturn(86400L);
+            when(refreshTokenService.issue(any())).thenReturn("refresh-token");
 
             // when
             OAuthLoginResult result = oAuthService.loginOrRegister(provider, code);
@@ -157,8 +155,7 @@ class OAuthServiceTest {
             when(memberRepository.findByEmail("existing@example.com"))
                     .thenReturn(Optional.of(existingMember));
             when(tokenProvider.createAccessToken(any(), any(), any())).thenReturn("access-token");
-            when(tokenProvider.createRefreshToken(any())).thenReturn("refresh-token");
-            when(tokenProvider.getRefreshTokenValidity()).thenReturn(86400L);
+            when(refreshTokenService.issue(any())).thenReturn("refresh-token");
 
             // when
             OAuthLoginResult result = oAuthService.loginOrRegister(provider, code);
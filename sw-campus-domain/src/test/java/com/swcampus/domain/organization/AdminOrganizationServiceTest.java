@@ -19,6 +19,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.swcampus.domain.auth.EmailService;
 import com.swcampus.domain.member.Member;
 import com.swcampus.domain.member.MemberRepository;
 import com.swcampus.domain.member.Role;
@@ -36,6 +37,9 @@ class AdminOrganizationServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private EmailService emailService;
+
     @Test
     @DisplayName("기관 목록 조회/검색 성공")
     void searchOrganizations_Success() {
@@ -100,6 +104,7 @@ class AdminOrganizationServiceTest {
         assertThat(result.getMemberEmail()).isEqualTo("test@test.com");
         verify(organizationRepository).save(organization);
         verify(memberRepository).findByOrgId(orgId);
+        verify(emailService).sendApprovalEmail(orgId, "test@test.com", "Test Org");
     }
 
     @Test
@@ -124,5 +129,6 @@ class AdminOrganizationServiceTest {
         assertThat(result.getAdminPhone()).isEqualTo("010-9999-9999");
         assertThat(organization.getApprovalStatus()).isEqualTo(ApprovalStatus.REJECTED);
         verify(organizationRepository).save(organization);
+        verify(emailService).sendRejectionEmail(orgId, "test@test.com", "admin@test.com", "010-9999-9999");
     }
 }
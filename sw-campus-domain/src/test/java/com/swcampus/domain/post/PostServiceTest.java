@@ -1,6 +1,7 @@
 package com.swcampus.domain.post;
 
 import com.swcampus.domain.board.BoardCategoryService;
+import com.swcampus.domain.member.MemberProfileCache;
 import com.swcampus.domain.post.exception.PostAccessDeniedException;
 import com.swcampus.domain.post.exception.PostNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +18,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +41,12 @@ class PostServiceTest {
     @Mock
     private BoardCategoryService boardCategoryService;
 
+    @Mock
+    private PostViewRepository postViewRepository;
+
+    @Mock
+    private MemberProfileCache memberProfileCache;
+
     @Nested
     @DisplayName("게시글 작성")
     class CreatePostTest {
@@ -172,7 +180,7 @@ class PostServiceTest {
     class GetPostWithViewCountTest {
 
         @Test
-        @DisplayName("게시글 조회 시 조회수 증가")
+        @DisplayName("게시글 조회 시 조회수 증가분을 버퍼에 쌓고 DB 값에 합산")
         void getPostWithViewCount_success() {
             // given
             Long postId = 1L;
@@ -180,13 +188,15 @@ class PostServiceTest {
 
             given(postRepository.findById(postId))
                     .willReturn(Optional.of(post));
+            given(postViewRepository.incrementPendingViewCount(postId))
+                    .willReturn(3L);
 
             // when
             Post result = postService.getPostWithViewCount(postId);
 
             // then
-            assertThat(result).isNotNull();
-            verify(postRepository).incrementViewCount(postId);
+            assertThat(result.getViewCount()).isEqualTo(3L);
+            verify(postViewRepository).incrementPendingViewCount(postId);
         }
 
         @Test
@@ -202,7 +212,54 @@ class PostServiceTest {
             assertThatThrownBy(() -> postService.getPostWithViewCount(postId))
                     .isInstanceOf(PostNotFoundException.class);
 
-            verify(postRepository, never()).incrementViewCount(anyLong());
+            verify(postViewRepository, never()).incrementPendingViewCount(anyLong());
+        }
+
+        @Test
+        @DisplayName("게시글 목록 조회 시 DB 반영 전 조회수 증가분을 합산")
+        void getPosts_appliesPendingViewCounts() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            Post post1 = createMockPost(1L, 1L, 1L);
+            Post post2 = createMockPost(2L, 1L, 1L);
+
+            given(postRepository.findAll(any(), any(), any()))
+                    .willReturn(new PageImpl<>(List.of(post1, post2), pageable, 2));
+            given(postViewRepository.getPendingViewCounts(List.of(1L, 2L)))
+                    .willReturn(Map.of(1L, 5L));
+
+            // when
+            Page<Post> result = postService.getPosts(null, null, pageable);
+
+            // then
+            assertThat(result.getContent()).extracting(Post::getViewCount)
+                    .containsExactly(5L, 0L);
+        }
+
+        @Test
+        @DisplayName("게시글 상세 조회 시 댓글 수는 게시글의 comment_count를 그대로 사용")
+        void getPostDetailWithViewCount_usesDenormalizedCommentCount() {
+            // given
+            Long postId = 1L;
+            Post post = Post.of(postId, 1L, 1L, "제목", "본문", List.of(), List.of(),
+                    10L, 2L, 7L, null, false, false, LocalDateTime.now(), LocalDateTime.now());
+
+            given(postRepository.findById(postId))
+                    .willReturn(Optional.of(post));
+            given(postViewRepository.recordView(anyLong(), any(), anyLong()))
+                    .willReturn(1L);
+            given(memberProfileCache.get(1L))
+                    .willReturn(Optional.empty());
+            given(boardCategoryService.getCategoryName(1L))
+                    .willReturn("자유게시판");
+
+            // when
+            PostDetail result = postService.getPostDetailWithViewCount(postId, 2L);
+
+            // then
+            assertThat(result.getCommentCount()).isEqualTo(7L);
+            assertThat(result.getAuthorNickname()).isEqualTo("알 수 없음");
+            assertThat(result.getPost().getViewCount()).isEqualTo(11L);
         }
     }
 
@@ -0,0 +1,125 @@
+package com.swcampus.domain.post;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostTextExtractor 테스트")
+class PostTextExtractorTest {
+
+    @Nested
+    @DisplayName("preview")
+    class Preview {
+
+        @Test
+        @DisplayName("h3 질문/제목을 제외하고 본문 텍스트만 추출")
+        void excludesHeadings() {
+            // given
+            String html = "<h3>질문 제목</h3><p>본문 <b>굵게</b></p><p>다음 문단</p>";
+
+            // when
+            String preview = PostTextExtractor.preview(html);
+
+            // then
+            assertThat(preview).isEqualTo("본문 굵게 다음 문단");
+        }
+
+        @Test
+        @DisplayName("200자를 넘으면 200자에서 자르고 ... 추가")
+        void truncatesLongBody() {
+            // given
+            String html = "<p>" + "가".repeat(250) + "</p>";
+
+            // when
+            String preview = PostTextExtractor.preview(html);
+
+            // then
+            assertThat(preview).isEqualTo("가".repeat(PostTextExtractor.PREVIEW_LENGTH) + "...");
+        }
+
+        @Test
+        @DisplayName("정확히 200자면 ...을 붙이지 않음")
+        void keepsExactLength() {
+            // given
+            String html = "<p>" + "가".repeat(PostTextExtractor.PREVIEW_LENGTH) + "</p>";
+
+            // when
+            String preview = PostTextExtractor.preview(html);
+
+            // then
+            assertThat(preview).hasSize(PostTextExtractor.PREVIEW_LENGTH).doesNotEndWith("...");
+        }
+
+        @Test
+        @DisplayName("본문이 비어 있으면 빈 문자열")
+        void emptyBody() {
+            assertThat(PostTextExtractor.preview(null)).isEmpty();
+            assertThat(PostTextExtractor.preview("  ")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("plainText")
+    class PlainText {
+
+        @Test
+        @DisplayName("h3를 포함한 전체 텍스트를 공백 하나로 합쳐 추출")
+        void keepsHeadingsAndCollapsesWhitespace() {
+            // given
+            String html = "<h3>제목</h3>\n<p>첫째   줄<br>둘째 줄</p>";
+
+            // when
+            String text = PostTextExtractor.plainText(html);
+
+            // then
+            assertThat(text).isEqualTo("제목 첫째 줄 둘째 줄");
+        }
+
+        @Test
+        @DisplayName("엔티티를 디코딩하고 script/style/주석은 제외")
+        void decodesEntitiesAndSkipsNonText() {
+            // given
+            String html = "<!-- 주석 --><style>p{}</style><p>A &amp; B&nbsp;&lt;&#54620;&#xAE00;&gt;</p><script>alert(1)</script>";
+
+            // when
+            String text = PostTextExtractor.plainText(html);
+
+            // then
+            assertThat(text).isEqualTo("A & B <한글>");
+        }
+
+        @Test
+        @DisplayName("태그가 아닌 '<'는 글자로 유지")
+        void keepsLiteralLessThan() {
+            assertThat(PostTextExtractor.plainText("<p>a < b</p>")).isEqualTo("a < b");
+        }
+
+        @Test
+        @DisplayName("따옴표로 감싼 속성 값 안의 '>'는 태그 끝으로 보지 않음")
+        void skipsQuotedAttributeValues() {
+            // given
+            String html = "<p>앞<img alt=\"a>b\" src='x>y'>뒤</p><a title = \">\">링크</a>";
+
+            // when
+            String text = PostTextExtractor.plainText(html);
+
+            // then
+            assertThat(text).isEqualTo("앞뒤 링크");
+        }
+
+        @Test
+        @DisplayName("HTML5 이름 있는 엔티티를 디코딩하고 모르는 엔티티는 그대로 둠")
+        void decodesNamedEntities() {
+            // given
+            String html = "<p>더 보기&hellip; A&middot;B &copy; 2025 &rarr; &unknown;</p>";
+
+            // when
+            String text = PostTextExtractor.plainText(html);
+
+            // then
+            assertThat(text).isEqualTo("더 보기… A·B © 2025 → &unknown;");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.swcampus.domain.post;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostViewCountService 테스트")
+class PostViewCountServiceTest {
+
+    private static final String TOKEN = "token";
+
+    @InjectMocks
+    private PostViewCountService postViewCountService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostViewRepository postViewRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼의 증가분을 DB에 일괄 반영하고, 잠금을 확인한 뒤 완료 처리")
+    void flushPendingViewCounts_success() {
+        // given
+        Map<Long, Long> deltas = Map.of(1L, 3L, 2L, 1L);
+        given(postViewRepository.drainPendingViewCounts()).willReturn(new PostViewFlush(TOKEN, deltas));
+        given(postViewRepository.prepareFlushCommit(TOKEN)).willReturn(true);
+
+        // when
+        int flushed = postViewCountService.flushPendingViewCounts();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        InOrder inOrder = inOrder(postRepository, postViewRepository);
+        inOrder.verify(postRepository).addViewCounts(deltas);
+        inOrder.verify(postViewRepository).prepareFlushCommit(TOKEN);
+        inOrder.verify(postViewRepository).completeFlush(TOKEN);
+    }
+
+    @Test
+    @DisplayName("완료 처리는 트랜잭션 커밋 이후에 하고, 롤백되면 취소한다")
+    void flushPendingViewCounts_completesAfterCommitOnly() {
+        // given
+        Map<Long, Long> deltas = Map.of(1L, 3L);
+        given(postViewRepository.drainPendingViewCounts()).willReturn(new PostViewFlush(TOKEN, deltas));
+        given(postViewRepository.prepareFlushCommit(TOKEN)).willReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        postViewCountService.flushPendingViewCounts();
+        verify(postViewRepository, never()).completeFlush(any());
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        verify(postViewRepository).abortFlush(TOKEN);
+        verify(postViewRepository, never()).completeFlush(any());
+    }
+
+    @Test
+    @DisplayName("반영할 증가분이 없으면 DB를 호출하지 않음")
+    void flushPendingViewCounts_empty() {
+        // given
+        given(postViewRepository.drainPendingViewCounts()).willReturn(PostViewFlush.empty());
+
+        // when
+        int flushed = postViewCountService.flushPendingViewCounts();
+
+        // then
+        assertThat(flushed).isZero();
+        verify(postRepository, never()).addViewCounts(any());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 완료 처리하지 않고 잠금만 풀어 다음 주기에 재시도")
+    void flushPendingViewCounts_dbFailure_keepsBuffer() {
+        // given
+        Map<Long, Long> deltas = Map.of(1L, 3L);
+        given(postViewRepository.drainPendingViewCounts()).willReturn(new PostViewFlush(TOKEN, deltas));
+        willThrow(new RuntimeException("DB error")).given(postRepository).addViewCounts(deltas);
+
+        // when & then
+        assertThatThrownBy(() -> postViewCountService.flushPendingViewCounts())
+                .isInstanceOf(RuntimeException.class);
+        verify(postViewRepository).abortFlush(TOKEN);
+        verify(postViewRepository, never()).completeFlush(any());
+    }
+
+    @Test
+    @DisplayName("커밋 전에 반영 잠금을 잃었으면 예외로 DB 반영을 롤백")
+    void flushPendingViewCounts_lockLost_rollsBack() {
+        // given
+        Map<Long, Long> deltas = Map.of(1L, 3L);
+        given(postViewRepository.drainPendingViewCounts()).willReturn(new PostViewFlush(TOKEN, deltas));
+        given(postViewRepository.prepareFlushCommit(TOKEN)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> postViewCountService.flushPendingViewCounts())
+                .isInstanceOf(IllegalStateException.class);
+        verify(postViewRepository, never()).completeFlush(any());
+    }
+}
@@ -0,0 +1,105 @@
+package com.swcampus.domain.review;
+
+import com.swcampus.domain.certificate.CertificateRepository;
+import com.swcampus.domain.common.ApprovalStatus;
+import com.swcampus.domain.lecture.LectureService;
+import com.swcampus.domain.member.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminReviewServiceTest {
+
+    @InjectMocks
+    private AdminReviewService adminReviewService;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private LectureService lectureService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private LectureReviewStatsRepository lectureReviewStatsRepository;
+
+    private Review createReview(ApprovalStatus status) {
+        return Review.of(1L, 10L, 100L, 1000L, "좋아요", 4.5, status, false,
+                LocalDateTime.now(), LocalDateTime.now(), List.of());
+    }
+
+    @Nested
+    @DisplayName("후기 통계 증분 갱신")
+    class LectureReviewStatsTest {
+
+        @Test
+        @DisplayName("대기 중인 후기를 승인하면 통계에 후기 수와 점수를 더한다")
+        void approveReview_pending_addsToStats() {
+            // given
+            Review review = createReview(ApprovalStatus.PENDING);
+            given(reviewRepository.findById(1L)).willReturn(Optional.of(review));
+            given(reviewRepository.save(any(Review.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            adminReviewService.approveReview(1L);
+
+            // then
+            verify(lectureReviewStatsRepository).applyDelta(100L, 1, 4.5);
+        }
+
+        @Test
+        @DisplayName("이미 승인된 후기를 다시 승인하면 통계를 변경하지 않는다")
+        void approveReview_alreadyApproved_keepsStats() {
+            // given
+            Review review = createReview(ApprovalStatus.APPROVED);
+            given(reviewRepository.findById(1L)).willReturn(Optional.of(review));
+            given(reviewRepository.save(any(Review.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            adminReviewService.approveReview(1L);
+
+            // then
+            verify(lectureReviewStatsRepository, never()).applyDelta(anyLong(), anyLong(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("승인된 후기를 반려하면 통계에서 후기 수와 점수를 뺀다")
+        void rejectReview_approved_subtractsFromStats() {
+            // given
+            Review review = createReview(ApprovalStatus.APPROVED);
+            given(reviewRepository.findById(1L)).willReturn(Optional.of(review));
+            given(reviewRepository.save(any(Review.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(memberRepository.findById(10L)).willReturn(Optional.empty());
+
+            // when
+            adminReviewService.rejectReview(1L);
+
+            // then
+            verify(lectureReviewStatsRepository).applyDelta(100L, -1, -4.5);
+        }
+    }
+}
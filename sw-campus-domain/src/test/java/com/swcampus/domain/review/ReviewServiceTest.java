@@ -5,7 +5,9 @@ import com.swcampus.domain.certificate.CertificateRepository;
 import com.swcampus.domain.certificate.exception.CertificateNotVerifiedException;
 import com.swcampus.domain.common.ApprovalStatus;
 import com.swcampus.domain.member.Member;
+import com.swcampus.domain.member.MemberProfileCache;
 import com.swcampus.domain.member.MemberRepository;
+import com.swcampus.domain.member.ProfileSnapshot;
 import com.swcampus.domain.member.Role;
 import com.swcampus.domain.member.exception.MemberNotFoundException;
 import com.swcampus.domain.review.exception.ReviewAlreadyExistsException;
@@ -26,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,6 +53,9 @@ class ReviewServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberProfileCache memberProfileCache;
+
     @Nested
     @DisplayName("후기 작성 가능 여부 확인")
     class CheckEligibilityTest {
@@ -428,8 +434,8 @@ class ReviewServiceTest {
 
             given(reviewRepository.findById(reviewId))
                     .willReturn(Optional.of(review));
-            given(memberRepository.findById(memberId))
-                    .willReturn(Optional.of(member));
+            given(memberProfileCache.get(memberId))
+                    .willReturn(Optional.of(ProfileSnapshot.from(member)));
 
             // when
             ReviewWithNickname result = reviewService.getReviewWithNickname(reviewId, memberId);
@@ -455,8 +461,8 @@ class ReviewServiceTest {
 
             given(reviewRepository.findById(reviewId))
                     .willReturn(Optional.of(review));
-            given(memberRepository.findById(memberId))
-                    .willReturn(Optional.of(member));
+            given(memberProfileCache.get(memberId))
+                    .willReturn(Optional.of(ProfileSnapshot.from(member)));
 
             // when
             ReviewWithNickname result = reviewService.getReviewWithNickname(reviewId, memberId);
@@ -482,8 +488,8 @@ class ReviewServiceTest {
 
             given(reviewRepository.findById(reviewId))
                     .willReturn(Optional.of(review));
-            given(memberRepository.findById(ownerId))
-                    .willReturn(Optional.of(owner));
+            given(memberProfileCache.get(ownerId))
+                    .willReturn(Optional.of(ProfileSnapshot.from(owner)));
 
             // when
             ReviewWithNickname result = reviewService.getReviewWithNickname(reviewId, requesterId);
@@ -508,8 +514,8 @@ class ReviewServiceTest {
 
             given(reviewRepository.findById(reviewId))
                     .willReturn(Optional.of(review));
-            given(memberRepository.findById(ownerId))
-                    .willReturn(Optional.of(owner));
+            given(memberProfileCache.get(ownerId))
+                    .willReturn(Optional.of(ProfileSnapshot.from(owner)));
 
             // when (null requesterId = 미인증)
             ReviewWithNickname result = reviewService.getReviewWithNickname(reviewId, null);
@@ -654,8 +660,8 @@ class ReviewServiceTest {
             given(reviewRepository.findByOrganizationIdAndApprovalStatusWithPagination(
                     eq(organizationId), eq(ApprovalStatus.APPROVED), any(Pageable.class)))
                     .willReturn(reviewPage);
-            given(memberRepository.findAllByIds(anyList()))
-                    .willReturn(List.of(member1, member2));
+            given(memberProfileCache.getAll(anyList()))
+                    .willReturn(Map.of(1L, ProfileSnapshot.from(member1), 2L, ProfileSnapshot.from(member2)));
 
             // when
             Page<ReviewWithNickname> result = reviewService.getApprovedReviewsByOrganizationWithPagination(
@@ -718,8 +724,8 @@ class ReviewServiceTest {
             given(reviewRepository.findByOrganizationIdAndApprovalStatusWithPagination(
                     eq(organizationId), eq(ApprovalStatus.APPROVED), any(Pageable.class)))
                     .willReturn(reviewPage);
-            given(memberRepository.findAllByIds(anyList()))
-                    .willReturn(List.of(member1, member2));
+            given(memberProfileCache.getAll(anyList()))
+                    .willReturn(Map.of(1L, ProfileSnapshot.from(member1), 2L, ProfileSnapshot.from(member2)));
 
             // when
             Page<ReviewWithNickname> result = reviewService.getApprovedReviewsByOrganizationWithPagination(
@@ -752,8 +758,8 @@ class ReviewServiceTest {
             given(reviewRepository.findByOrganizationIdAndApprovalStatusWithPagination(
                     eq(organizationId), eq(ApprovalStatus.APPROVED), any(Pageable.class)))
                     .willReturn(reviewPage);
-            given(memberRepository.findAllByIds(anyList()))
-                    .willReturn(List.of(member));
+            given(memberProfileCache.getAll(anyList()))
+                    .willReturn(Map.of(11L, ProfileSnapshot.from(member)));
 
             // when
             Page<ReviewWithNickname> result = reviewService.getApprovedReviewsByOrganizationWithPagination(
@@ -0,0 +1,129 @@
+package com.swcampus.infra.analytics;
+
+import com.swcampus.domain.analytics.AnalyticsReport;
+import com.swcampus.domain.analytics.AnalyticsRepository;
+import com.swcampus.domain.analytics.BannerClickStats;
+import com.swcampus.domain.analytics.EventStats;
+import com.swcampus.domain.analytics.LectureClickStats;
+import com.swcampus.domain.analytics.PopularLecture;
+import com.swcampus.domain.analytics.PopularSearchTerm;
+import com.swcampus.domain.analytics.TrafficSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트용 Analytics Repository
+ * - GA4를 호출하지 않고 기간(daysAgo)에 비례하는 고정 데이터를 반환한다
+ * - 호출마다 latency-ms만큼 대기해 GA4 RPC 한 번의 지연을 흉내낸다 (캐시 갱신/예열 경로 측정용)
+ * - analytics.fake.enabled=true일 때만 등록되며, GA4 credentials가 함께 설정되어 있어도 이 구현을 사용한다
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "analytics.fake.enabled", havingValue = "true")
+public class FakeAnalyticsRepository implements AnalyticsRepository {
+
+    private static final String[] DEVICES = {"desktop", "mobile", "tablet"};
+    private static final String[] BANNER_TYPES = {"BIG", "MIDDLE", "SMALL"};
+
+    private final long latencyMillis;
+
+    public FakeAnalyticsRepository(@Value("${analytics.fake.latency-ms:300}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public AnalyticsReport getReport(int daysAgo) {
+        simulateLatency();
+        LocalDate today = LocalDate.now();
+        List<AnalyticsReport.DailyStats> dailyStats = IntStream.range(0, daysAgo)
+            .mapToObj(i -> new AnalyticsReport.DailyStats(today.minusDays(daysAgo - 1 - i), 120 + i, 30 + i % 7, 900 + i * 3))
+            .toList();
+        List<AnalyticsReport.DeviceStat> deviceStats = new ArrayList<>();
+        for (int i = 0; i < DEVICES.length; i++) {
+            deviceStats.add(new AnalyticsReport.DeviceStat(DEVICES[i], 60L * daysAgo / (i + 1)));
+        }
+        return new AnalyticsReport(120L * daysAgo, 80L * daysAgo, 30L * daysAgo, 95.5, 900L * daysAgo, 150L * daysAgo,
+            dailyStats, deviceStats);
+    }
+
+    @Override
+    public EventStats getEventStats(int daysAgo) {
+        simulateLatency();
+        long bannerClicks = 60L * daysAgo;
+        long applyClicks = 25L * daysAgo;
+        long shareClicks = 8L * daysAgo;
+        List<EventStats.EventDetail> details = List.of(
+            new EventStats.EventDetail("page_view", 900L * daysAgo),
+            new EventStats.EventDetail("banner_click", bannerClicks),
+            new EventStats.EventDetail("apply_button_click", applyClicks),
+            new EventStats.EventDetail("share", shareClicks)
+        );
+        return new EventStats(bannerClicks, bannerClicks / 2, bannerClicks / 3, bannerClicks / 6, applyClicks, shareClicks,
+            details);
+    }
+
+    @Override
+    public List<BannerClickStats> getTopBannersByClicks(int daysAgo, int limit) {
+        simulateLatency();
+        return IntStream.range(0, limit)
+            .mapToObj(i -> new BannerClickStats(String.valueOf(i + 1), "배너 " + (i + 1),
+                BANNER_TYPES[i % BANNER_TYPES.length], (long) daysAgo * (limit - i) * 5))
+            .toList();
+    }
+
+    @Override
+    public List<LectureClickStats> getTopLecturesByClicks(int daysAgo, int limit) {
+        simulateLatency();
+        return IntStream.range(0, limit)
+            .mapToObj(i -> {
+                long applyClicks = (long) daysAgo * (limit - i) * 3;
+                long shareClicks = (long) daysAgo * (limit - i);
+                return new LectureClickStats(String.valueOf(i + 1), "강의 #" + (i + 1),
+                    (long) daysAgo * (limit - i) * 40, applyClicks, shareClicks, applyClicks + shareClicks);
+            })
+            .toList();
+    }
+
+    @Override
+    public List<PopularLecture> getPopularLectures(int daysAgo, int limit) {
+        simulateLatency();
+        return IntStream.range(0, limit)
+            .mapToObj(i -> new PopularLecture(String.valueOf(i + 1), "강의 #" + (i + 1), (long) daysAgo * (limit - i) * 40))
+            .toList();
+    }
+
+    @Override
+    public List<PopularSearchTerm> getPopularSearchTerms(int daysAgo, int limit) {
+        simulateLatency();
+        return IntStream.range(0, limit)
+            .mapToObj(i -> new PopularSearchTerm("검색어 " + (i + 1), (long) daysAgo * (limit - i) * 2))
+            .toList();
+    }
+
+    @Override
+    public List<TrafficSource> getTrafficSources(int daysAgo, int limit) {
+        simulateLatency();
+        return IntStream.range(0, limit)
+            .mapToObj(i -> new TrafficSource("source-" + (i + 1), i % 2 == 0 ? "organic" : "referral",
+                (long) daysAgo * (limit - i) * 10, (long) daysAgo * (limit - i) * 7))
+            .toList();
+    }
+
+    private void simulateLatency() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
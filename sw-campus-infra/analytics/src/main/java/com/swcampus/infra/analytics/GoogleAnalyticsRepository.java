@@ -24,7 +24,6 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Google Analytics Data API를 사용하여 Analytics 데이터를 조회하는 Repository 구현체
@@ -53,67 +52,52 @@ public class GoogleAnalyticsRepository implements AnalyticsRepository {
         String startDate = (daysAgo - 1) + "daysAgo";
         String endDate = "today";
 
-        // 병렬 실행: 3개의 GA API 요청을 동시에 실행
-        CompletableFuture<RunReportResponse> summaryFuture = CompletableFuture.supplyAsync(() ->
-            analyticsClient.runReport(
-                RunReportRequest.newBuilder()
-                    .setProperty("properties/" + propertyId)
-                    .addDateRanges(DateRange.newBuilder()
-                        .setStartDate(startDate)
-                        .setEndDate(endDate)
-                        .build())
-                    .addMetrics(Metric.newBuilder().setName("totalUsers"))
-                    .addMetrics(Metric.newBuilder().setName("activeUsers"))
-                    .addMetrics(Metric.newBuilder().setName("newUsers"))
-                    .addMetrics(Metric.newBuilder().setName("averageSessionDuration"))
-                    .addMetrics(Metric.newBuilder().setName("screenPageViews"))
-                    .addMetrics(Metric.newBuilder().setName("sessions"))
-                    .build()
-            )
-        );
-
-        CompletableFuture<RunReportResponse> dailyFuture = CompletableFuture.supplyAsync(() ->
-            analyticsClient.runReport(
-                RunReportRequest.newBuilder()
-                    .setProperty("properties/" + propertyId)
-                    .addDateRanges(DateRange.newBuilder()
-                        .setStartDate(startDate)
-                        .setEndDate(endDate)
-                        .build())
-                    .addDimensions(Dimension.newBuilder().setName("date"))
-                    .addMetrics(Metric.newBuilder().setName("totalUsers"))
-                    .addMetrics(Metric.newBuilder().setName("newUsers"))
-                    .addMetrics(Metric.newBuilder().setName("screenPageViews"))
-                    .addOrderBys(OrderBy.newBuilder()
-                        .setDimension(OrderBy.DimensionOrderBy.newBuilder()
-                            .setDimensionName("date")
-                            .build())
-                        .build())
-                    .build()
-            )
-        );
-
-        CompletableFuture<RunReportResponse> deviceFuture = CompletableFuture.supplyAsync(() ->
-            analyticsClient.runReport(
-                RunReportRequest.newBuilder()
-                    .setProperty("properties/" + propertyId)
-                    .addDateRanges(DateRange.newBuilder()
-                        .setStartDate(startDate)
-                        .setEndDate(endDate)
-                        .build())
-                    .addDimensions(Dimension.newBuilder().setName("deviceCategory"))
-                    .addMetrics(Metric.newBuilder().setName("activeUsers"))
-                    .build()
-            )
-        );
-
-        // 모든 Future 완료 대기
-        CompletableFuture.allOf(summaryFuture, dailyFuture, deviceFuture).join();
-
-        // 결과 추출
-        RunReportResponse summaryResponse = summaryFuture.join();
-        RunReportResponse dailyResponse = dailyFuture.join();
-        RunReportResponse deviceResponse = deviceFuture.join();
+        // 요약, 일별, 기기별 리포트를 한 번의 batchRunReports 호출로 조회
+        RunReportRequest summaryRequest = RunReportRequest.newBuilder()
+            .setProperty("properties/" + propertyId)
+            .addDateRanges(DateRange.newBuilder()
+                .setStartDate(startDate)
+                .setEndDate(endDate)
+                .build())
+            .addMetrics(Metric.newBuilder().setName("totalUsers"))
+            .addMetrics(Metric.newBuilder().setName("activeUsers"))
+            .addMetrics(Metric.newBuilder().setName("newUsers"))
+            .addMetrics(Metric.newBuilder().setName("averageSessionDuration"))
+            .addMetrics(Metric.newBuilder().setName("screenPageViews"))
+            .addMetrics(Metric.newBuilder().setName("sessions"))
+            .build();
+
+        RunReportRequest dailyRequest = RunReportRequest.newBuilder()
+            .setProperty("properties/" + propertyId)
+            .addDateRanges(DateRange.newBuilder()
+                .setStartDate(startDate)
+                .setEndDate(endDate)
+                .build())
+            .addDimensions(Dimension.newBuilder().setName("date"))
+            .addMetrics(Metric.newBuilder().setName("totalUsers"))
+            .addMetrics(Metric.newBuilder().setName("newUsers"))
+            .addMetrics(Metric.newBuilder().setName("screenPageViews"))
+            .addOrderBys(OrderBy.newBuilder()
+                .setDimension(OrderBy.DimensionOrderBy.newBuilder()
+                    .setDimensionName("date")
+                    .build())
+                .build())
+            .build();
+
+        RunReportRequest deviceRequest = RunReportRequest.newBuilder()
+            .setProperty("properties/" + propertyId)
+            .addDateRanges(DateRange.newBuilder()
+                .setStartDate(startDate)
+                .setEndDate(endDate)
+                .build())
+            .addDimensions(Dimension.newBuilder().setName("deviceCategory"))
+            .addMetrics(Metric.newBuilder().setName("activeUsers"))
+            .build();
+
+        List<RunReportResponse> responses = batchRunReports(summaryRequest, dailyRequest, deviceRequest);
+        RunReportResponse summaryResponse = responses.get(0);
+        RunReportResponse dailyResponse = responses.get(1);
+        RunReportResponse deviceResponse = responses.get(2);
 
         long totalUsers = 0;
         long activeUsers = 0;
@@ -158,51 +142,40 @@ public class GoogleAnalyticsRepository implements AnalyticsRepository {
         String startDate = (daysAgo - 1) + "daysAgo";
         String endDate = "today";
 
-        // 병렬 실행: 2개의 GA API 요청을 동시에 실행
-        CompletableFuture<RunReportResponse> eventFuture = CompletableFuture.supplyAsync(() ->
-            analyticsClient.runReport(
-                RunReportRequest.newBuilder()
-                    .setProperty("properties/" + propertyId)
-                    .addDateRanges(DateRange.newBuilder()
-                        .setStartDate(startDate)
-                        .setEndDate(endDate)
-                        .build())
-                    .addDimensions(Dimension.newBuilder().setName("eventName"))
-                    .addMetrics(Metric.newBuilder().setName("eventCount"))
-                    .build()
-            )
-        );
-
-        CompletableFuture<RunReportResponse> bannerFuture = CompletableFuture.supplyAsync(() ->
-            analyticsClient.runReport(
-                RunReportRequest.newBuilder()
-                    .setProperty("properties/" + propertyId)
-                    .addDateRanges(DateRange.newBuilder()
-                        .setStartDate(startDate)
-                        .setEndDate(endDate)
-                        .build())
-                    .addDimensions(Dimension.newBuilder().setName("customEvent:banner_type"))
-                    .addMetrics(Metric.newBuilder().setName("eventCount"))
-                    .setDimensionFilter(FilterExpression.newBuilder()
-                        .setFilter(Filter.newBuilder()
-                            .setFieldName("eventName")
-                            .setStringFilter(Filter.StringFilter.newBuilder()
-                                .setMatchType(Filter.StringFilter.MatchType.EXACT)
-                                .setValue("banner_click")
-                                .setCaseSensitive(false)
-                            )
-                        )
-                        .build())
-                    .build()
-            )
-        );
-
-        // 모든 Future 완료 대기
-        CompletableFuture.allOf(eventFuture, bannerFuture).join();
-
-        // 결과 추출
-        RunReportResponse eventResponse = eventFuture.join();
-        RunReportResponse bannerResponse = bannerFuture.join();
+        // 이벤트별, 배너 유형별 리포트를 한 번의 batchRunReports 호출로 조회
+        RunReportRequest eventRequest = RunReportRequest.newBuilder()
+            .setProperty("properties/" + propertyId)
+            .addDateRanges(DateRange.newBuilder()
+                .setStartDate(startDate)
+                .setEndDate(endDate)
+                .build())
+            .addDimensions(Dimension.newBuilder().setName("eventName"))
+            .addMetrics(Metric.newBuilder().setName("eventCount"))
+            .build();
+
+        RunReportRequest bannerRequest = RunReportRequest.newBuilder()
+            .setProperty("properties/" + propertyId)
+            .addDateRanges(DateRange.newBuilder()
+                .setStartDate(startDate)
+                .setEndDate(endDate)
+                .build())
+            .addDimensions(Dimension.newBuilder().setName("customEvent:banner_type"))
+            .addMetrics(Metric.newBuilder().setName("eventCount"))
+            .setDimensionFilter(FilterExpression.newBuilder()
+                .setFilter(Filter.newBuilder()
+                    .setFieldName("eventName")
+                    .setStringFilter(Filter.StringFilter.newBuilder()
+                        .setMatchType(Filter.StringFilter.MatchType.EXACT)
+                        .setValue("banner_click")
+                        .setCaseSensitive(false)
+                    )
+                )
+                .build())
+            .build();
+
+        List<RunReportResponse> responses = batchRunReports(eventRequest, bannerRequest);
+        RunReportResponse eventResponse = responses.get(0);
+        RunReportResponse bannerResponse = responses.get(1);
 
         long bannerClicks = 0;
         long applyButtonClicks = 0;
@@ -309,65 +282,54 @@ public class GoogleAnalyticsRepository implements AnalyticsRepository {
         String startDate = (daysAgo - 1) + "daysAgo";
         String endDate = "today";
 
-        // 병렬 실행: 2개의 GA API 요청을 동시에 실행
-        CompletableFuture<RunReportResponse> clickFuture = CompletableFuture.supplyAsync(() ->
-            analyticsClient.runReport(
-                RunReportRequest.newBuilder()
-                    .setProperty("properties/" + propertyId)
-                    .addDateRanges(DateRange.newBuilder()
-                        .setStartDate(startDate)
-                        .setEndDate(endDate)
-                        .build())
-                    .addDimensions(Dimension.newBuilder().setName("eventName"))
-                    .addDimensions(Dimension.newBuilder().setName("customEvent:lecture_id"))
-                    .addDimensions(Dimension.newBuilder().setName("customEvent:lecture_name"))
-                    .addMetrics(Metric.newBuilder().setName("eventCount"))
-                    .setDimensionFilter(FilterExpression.newBuilder()
-                        .setFilter(Filter.newBuilder()
-                            .setFieldName("eventName")
-                            .setInListFilter(Filter.InListFilter.newBuilder()
-                                .addValues("apply_button_click")
-                                .addValues("share")
-                                .setCaseSensitive(false)
-                            )
-                        )
-                        .build())
-                    .build()
-            )
-        );
-
-        CompletableFuture<RunReportResponse> viewFuture = CompletableFuture.supplyAsync(() ->
-            analyticsClient.runReport(
-                RunReportRequest.newBuilder()
-                    .setProperty("properties/" + propertyId)
-                    .addDateRanges(DateRange.newBuilder()
-                        .setStartDate(startDate)
-                        .setEndDate(endDate)
-                        .build())
-                    .addDimensions(Dimension.newBuilder().setName("pagePath"))
-                    .addDimensions(Dimension.newBuilder().setName("pageTitle"))
-                    .addMetrics(Metric.newBuilder().setName("screenPageViews"))
-                    .setDimensionFilter(FilterExpression.newBuilder()
-                        .setFilter(Filter.newBuilder()
-                            .setFieldName("pagePath")
-                            .setStringFilter(Filter.StringFilter.newBuilder()
-                                .setMatchType(Filter.StringFilter.MatchType.BEGINS_WITH)
-                                .setValue("/lectures/")
-                                .setCaseSensitive(false)
-                            )
-                        )
-                        .build())
-                    .setLimit(Math.max(limit * 3, 50))
-                    .build()
-            )
-        );
-
-        // 모든 Future 완료 대기
-        CompletableFuture.allOf(clickFuture, viewFuture).join();
-
-        // 결과 추출
-        RunReportResponse clickResponse = clickFuture.join();
-        RunReportResponse viewResponse = viewFuture.join();
+        // 강의별 클릭, 강의 페이지 조회수 리포트를 한 번의 batchRunReports 호출로 조회
+        RunReportRequest clickRequest = RunReportRequest.newBuilder()
+            .setProperty("properties/" + propertyId)
+            .addDateRanges(DateRange.newBuilder()
+                .setStartDate(startDate)
+                .setEndDate(endDate)
+                .build())
+            .addDimensions(Dimension.newBuilder().setName("eventName"))
+            .addDimensions(Dimension.newBuilder().setName("customEvent:lecture_id"))
+            .addDimensions(Dimension.newBuilder().setName("customEvent:lecture_name"))
+            .addMetrics(Metric.newBuilder().setName("eventCount"))
+            .setDimensionFilter(FilterExpression.newBuilder()
+                .setFilter(Filter.newBuilder()
+                    .setFieldName("eventName")
+                    .setInListFilter(Filter.InListFilter.newBuilder()
+                        .addValues("apply_button_click")
+                        .addValues("share")
+                        .setCaseSensitive(false)
+                    )
+                )
+                .build())
+            .build();
+
+        RunReportRequest viewRequest = RunReportRequest.newBuilder()
+            .setProperty("properties/" + propertyId)
+            .addDateRanges(DateRange.newBuilder()
+                .setStartDate(startDate)
+                .setEndDate(endDate)
+                .build())
+            .addDimensions(Dimension.newBuilder().setName("pagePath"))
+            .addDimensions(Dimension.newBuilder().setName("pageTitle"))
+            .addMetrics(Metric.newBuilder().setName("screenPageViews"))
+            .setDimensionFilter(FilterExpression.newBuilder()
+                .setFilter(Filter.newBuilder()
+                    .setFieldName("pagePath")
+                    .setStringFilter(Filter.StringFilter.newBuilder()
+                        .setMatchType(Filter.StringFilter.MatchType.BEGINS_WITH)
+                        .setValue("/lectures/")
+                        .setCaseSensitive(false)
+                    )
+                )
+                .build())
+            .setLimit(Math.max(limit * 3, 50))
+            .build();
+
+        List<RunReportResponse> responses = batchRunReports(clickRequest, viewRequest);
+        RunReportResponse clickResponse = responses.get(0);
+        RunReportResponse viewResponse = responses.get(1);
 
         // Map to aggregate lecture stats
         Map<String, LectureData> lectureMap = new HashMap<>();
@@ -612,6 +574,21 @@ public class GoogleAnalyticsRepository implements AnalyticsRepository {
         return result;
     }
 
+    /**
+     * 여러 리포트를 한 번의 RPC로 조회합니다. (GA Data API는 요청당 최대 5개)
+     * @param requests 조회할 리포트 요청
+     * @return 요청 순서와 같은 순서의 리포트 응답
+     */
+    private List<RunReportResponse> batchRunReports(RunReportRequest... requests) {
+        BatchRunReportsResponse response = analyticsClient.batchRunReports(
+            BatchRunReportsRequest.newBuilder()
+                .setProperty("properties/" + propertyId)
+                .addAllRequests(List.of(requests))
+                .build()
+        );
+        return response.getReportsList();
+    }
+
     /**
      * 응답 헤더에서 dimension 이름으로 인덱스를 찾습니다.
      * @param response GA API 응답
@@ -0,0 +1,178 @@
+package com.swcampus.infra.postgres.lecture;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 강의 키워드 검색 지연 시간 (SampleTime → p0.50 / p0.99 확인)
+ * - legacyIlike: 기존 방식 (lecture_name/org_name ILIKE, Index 없음)
+ * - searchColumn: search_text ILIKE(pg_trgm) OR search_vector @@ (V13 Index 사용)
+ * - searchColumnRanked: searchColumn + 관련도(ts_rank + word_similarity) 정렬
+ * - datasetSize: 강의 수 (검색 컬럼 구성과 Index는 V13과 동일)
+ *
+ * 검색 술어 비용만 비교하기 위해 조인 없는 전용 스키마(lecture_search_bench)를 만들어 측정한다.
+ * 실행: BENCH_JDBC_URL=jdbc:postgresql://localhost:5432/bench ./gradlew :sw-campus-infra:db-postgres:jmh
+ *       (BENCH_JDBC_USER, BENCH_JDBC_PASSWORD, 스키마는 Trial 종료 시 삭제)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LectureSearchBenchmark {
+
+    private static final String SCHEMA = "lecture_search_bench";
+    private static final String[] KEYWORDS = { "자바", "스프링 백엔드", "데이터 분석", "프론트엔드", "클라우드 데브옵스", "AI" };
+
+    private static final String LEGACY_SQL = """
+            SELECT lecture_id FROM lectures
+            WHERE lecture_name ILIKE '%' || ? || '%' OR org_name ILIKE '%' || ? || '%'
+            ORDER BY updated_at DESC, lecture_id DESC
+            LIMIT 20
+            """;
+
+    private static final String SEARCH_COLUMN_SQL = """
+            SELECT lecture_id FROM lectures
+            WHERE search_text ILIKE '%' || ? || '%' OR search_vector @@ plainto_tsquery('simple', ?)
+            ORDER BY updated_at DESC, lecture_id DESC
+            LIMIT 20
+            """;
+
+    private static final String SEARCH_COLUMN_RANKED_SQL = """
+            SELECT lecture_id FROM lectures
+            WHERE search_text ILIKE '%' || ? || '%' OR search_vector @@ plainto_tsquery('simple', ?)
+            ORDER BY ts_rank(search_vector, plainto_tsquery('simple', ?)) + word_similarity(?, search_text) DESC,
+                     lecture_id DESC
+            LIMIT 20
+            """;
+
+    @Param({ "10000", "100000" })
+    private int datasetSize;
+
+    private Connection connection;
+    private PreparedStatement legacy;
+    private PreparedStatement searchColumn;
+    private PreparedStatement searchColumnRanked;
+    private int keywordIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/postgres"),
+                env("BENCH_JDBC_USER", "postgres"),
+                env("BENCH_JDBC_PASSWORD", "postgres"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA + ", public");
+            statement.execute("""
+                    CREATE TABLE lectures (
+                        lecture_id BIGINT PRIMARY KEY,
+                        lecture_name TEXT NOT NULL,
+                        org_name TEXT NOT NULL,
+                        curriculum_names TEXT NOT NULL,
+                        updated_at TIMESTAMP NOT NULL,
+                        search_text TEXT,
+                        search_vector TSVECTOR
+                    )
+                    """);
+            // 단어 조합으로 강의명/기관명/커리큘럼명 생성 (키워드별 매칭 비율이 데이터 크기와 무관하게 일정)
+            statement.execute("""
+                    INSERT INTO lectures (lecture_id, lecture_name, org_name, curriculum_names, updated_at)
+                    SELECT g,
+                           (ARRAY['자바', '스프링', '파이썬', '리액트', '데이터', 'AI', '클라우드', '보안'])[1 + g % 8]
+                               || ' ' || (ARRAY['백엔드', '프론트엔드', '풀스택', '분석', '엔지니어링', '데브옵스'])[1 + (g / 8) % 6]
+                               || ' 부트캠프 ' || g || '기',
+                           (ARRAY['한빛', '코드', '멀티', '그린', '패스트', '에이콘'])[1 + (g / 48) % 6] || '아카데미 ' || (g % 97),
+                           (ARRAY['자바 기초', '스프링 부트', 'SQL 분석', '리액트 실무', '머신러닝', 'AWS 배포'])[1 + (g / 5) % 6]
+                               || ' ' || (ARRAY['자료구조', '알고리즘', '네트워크', '운영체제'])[1 + (g / 3) % 4],
+                           now() - (g % 365) * INTERVAL '1 day'
+                    FROM generate_series(1, %d) AS g
+                    """.formatted(datasetSize));
+            statement.execute("""
+                    UPDATE lectures
+                    SET search_text = concat_ws(' ', lecture_name, org_name, curriculum_names),
+                        search_vector = setweight(to_tsvector('simple', lecture_name), 'A')
+                            || setweight(to_tsvector('simple', org_name), 'B')
+                            || setweight(to_tsvector('simple', curriculum_names), 'C')
+                    """);
+            statement.execute("CREATE INDEX ON lectures USING gin (search_text gin_trgm_ops)");
+            statement.execute("CREATE INDEX ON lectures USING gin (search_vector)");
+            statement.execute("ANALYZE lectures");
+        }
+
+        legacy = connection.prepareStatement(LEGACY_SQL);
+        searchColumn = connection.prepareStatement(SEARCH_COLUMN_SQL);
+        searchColumnRanked = connection.prepareStatement(SEARCH_COLUMN_RANKED_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int legacyIlike() throws SQLException {
+        String keyword = nextKeyword();
+        legacy.setString(1, keyword);
+        legacy.setString(2, keyword);
+        return count(legacy);
+    }
+
+    @Benchmark
+    public int searchColumn() throws SQLException {
+        String keyword = nextKeyword();
+        searchColumn.setString(1, keyword);
+        searchColumn.setString(2, keyword);
+        return count(searchColumn);
+    }
+
+    @Benchmark
+    public int searchColumnRanked() throws SQLException {
+        String keyword = nextKeyword();
+        for (int i = 1; i <= 4; i++) {
+            searchColumnRanked.setString(i, keyword);
+        }
+        return count(searchColumnRanked);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private String nextKeyword() {
+        keywordIndex = (keywordIndex + 1) % KEYWORDS.length;
+        return KEYWORDS[keywordIndex];
+    }
+
+    private int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
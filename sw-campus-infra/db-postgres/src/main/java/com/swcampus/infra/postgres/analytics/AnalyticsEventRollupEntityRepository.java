@@ -0,0 +1,140 @@
+package com.swcampus.infra.postgres.analytics;
+
+import com.swcampus.domain.analytics.AnalyticsEventCount;
+import com.swcampus.domain.analytics.AnalyticsEventRollupRepository;
+import com.swcampus.domain.analytics.AnalyticsEventType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@Repository
+@RequiredArgsConstructor
+public class AnalyticsEventRollupEntityRepository implements AnalyticsEventRollupRepository {
+
+    private static final int UPSERT_BATCH_SIZE = 500;
+    private static final int ID_LOOKUP_BATCH_SIZE = 1000;
+
+    private static final Comparator<AnalyticsEventCount> KEY_ORDER = Comparator
+            .comparing(AnalyticsEventCount::bucketAt)
+            .thenComparing(AnalyticsEventCount::type)
+            .thenComparingLong(AnalyticsEventCount::targetId)
+            .thenComparing(AnalyticsEventCount::term);
+
+    private final EntityManager entityManager;
+
+    /**
+     * 분/일 집계 일괄 반영: INSERT ... VALUES (...), (...) ON CONFLICT DO UPDATE 한 문장으로 여러 행을 더한다
+     * - 키 순으로 정렬하여 여러 노드가 동시에 반영할 때 행 잠금 순서를 고정 (데드락 방지)
+     */
+    @Override
+    @Transactional
+    public void addCounts(List<AnalyticsEventCount> counts) {
+        List<AnalyticsEventCount> minuteCounts = counts.stream().sorted(KEY_ORDER).toList();
+        upsert("analytics_event_minute", "bucket_at", "TIMESTAMP", minuteCounts, AnalyticsEventCount::bucketAt);
+
+        // 같은 날짜의 분 단위 합계를 모아 일 단위로 반영 (키 비교용으로 count는 0으로 둔다)
+        Map<AnalyticsEventCount, Long> dailyTotals = new LinkedHashMap<>();
+        for (AnalyticsEventCount count : minuteCounts) {
+            AnalyticsEventCount dailyKey = new AnalyticsEventCount(count.bucketAt().truncatedTo(ChronoUnit.DAYS),
+                    count.type(), count.targetId(), count.term(), 0);
+            dailyTotals.merge(dailyKey, count.count(), Long::sum);
+        }
+        List<AnalyticsEventCount> dailyCounts = dailyTotals.entrySet().stream()
+                .map(entry -> new AnalyticsEventCount(entry.getKey().bucketAt(), entry.getKey().type(),
+                        entry.getKey().targetId(), entry.getKey().term(), entry.getValue()))
+                .sorted(KEY_ORDER)
+                .toList();
+        upsert("analytics_event_daily", "bucket_date", "DATE", dailyCounts, count -> count.bucketAt().toLocalDate());
+    }
+
+    @Override
+    @Transactional
+    public int deleteMinuteCountsBefore(LocalDateTime before) {
+        return entityManager.createNativeQuery("DELETE FROM analytics_event_minute WHERE bucket_at < ?1")
+                .setParameter(1, before)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteDailyCountsBefore(LocalDate before) {
+        return entityManager.createNativeQuery("DELETE FROM analytics_event_daily WHERE bucket_date < ?1")
+                .setParameter(1, before)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findExistingTargetIds(AnalyticsEventType.Target target, Collection<Long> ids) {
+        String sql = switch (target) {
+            case LECTURE -> "SELECT lecture_id FROM lectures WHERE lecture_id IN (:ids)";
+            case BANNER -> "SELECT banner_id FROM banners WHERE banner_id IN (:ids)";
+            case NONE -> null;
+        };
+        if (sql == null || ids.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> idList = List.copyOf(ids);
+        Set<Long> existing = new HashSet<>();
+        for (int from = 0; from < idList.size(); from += ID_LOOKUP_BATCH_SIZE) {
+            List<?> rows = entityManager.createNativeQuery(sql)
+                    .setParameter("ids", idList.subList(from, Math.min(from + ID_LOOKUP_BATCH_SIZE, idList.size())))
+                    .getResultList();
+            for (Object row : rows) {
+                existing.add(((Number) row).longValue());
+            }
+        }
+        return existing;
+    }
+
+    private void upsert(String table, String bucketColumn, String bucketType, List<AnalyticsEventCount> counts,
+                        Function<AnalyticsEventCount, Object> bucketValue) {
+        for (int from = 0; from < counts.size(); from += UPSERT_BATCH_SIZE) {
+            List<AnalyticsEventCount> chunk = counts.subList(from, Math.min(from + UPSERT_BATCH_SIZE, counts.size()));
+
+            StringBuilder values = new StringBuilder();
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    values.append(", ");
+                }
+                int base = 5 * i;
+                values.append("(CAST(?").append(base + 1).append(" AS ").append(bucketType).append(')')
+                        .append(", ?").append(base + 2)
+                        .append(", CAST(?").append(base + 3).append(" AS BIGINT)")
+                        .append(", ?").append(base + 4)
+                        .append(", CAST(?").append(base + 5).append(" AS BIGINT))");
+            }
+
+            Query query = entityManager.createNativeQuery(
+                    "INSERT INTO " + table + " (" + bucketColumn + ", event_type, target_id, term, event_count) " +
+                    "VALUES " + values + " " +
+                    "ON CONFLICT (" + bucketColumn + ", event_type, target_id, term) " +
+                    "DO UPDATE SET event_count = " + table + ".event_count + EXCLUDED.event_count");
+            for (int i = 0; i < chunk.size(); i++) {
+                AnalyticsEventCount count = chunk.get(i);
+                int base = 5 * i;
+                query.setParameter(base + 1, bucketValue.apply(count));
+                query.setParameter(base + 2, count.type().name());
+                query.setParameter(base + 3, count.targetId());
+                query.setParameter(base + 4, count.term());
+                query.setParameter(base + 5, count.count());
+            }
+            query.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.swcampus.infra.postgres.analytics;
+
+import com.swcampus.domain.analytics.AnalyticsEventType;
+import com.swcampus.domain.analytics.AnalyticsReport;
+import com.swcampus.domain.analytics.AnalyticsRepository;
+import com.swcampus.domain.analytics.BannerClickStats;
+import com.swcampus.domain.analytics.EventStats;
+import com.swcampus.domain.analytics.LectureClickStats;
+import com.swcampus.domain.analytics.PopularLecture;
+import com.swcampus.domain.analytics.PopularSearchTerm;
+import com.swcampus.domain.analytics.TrafficSource;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 자체 수집 이벤트 일 단위 집계(analytics_event_daily)로 통계를 조회하는 Repository 구현체
+ * - 배너/강의/검색어 통계는 외부 호출 없이 집계 테이블에서 바로 조회한다
+ * - 방문자/세션 리포트와 유입 경로는 자체 수집하지 않으므로 Google Analytics 구현체가 있으면 그쪽에 위임한다
+ * - analytics.first-party.enabled=true일 때만 등록된다
+ *   부하 테스트용 FakeAnalyticsRepository(analytics.fake.enabled=true)와 둘 다 @Primary이므로, fake가 켜져 있으면 등록하지 않는다
+ */
+@Primary
+@Repository
+@Transactional(readOnly = true)
+@ConditionalOnExpression("${analytics.first-party.enabled:false} and !${analytics.fake.enabled:false}")
+public class FirstPartyAnalyticsRepository implements AnalyticsRepository {
+
+    private final EntityManager entityManager;
+    private final ObjectProvider<AnalyticsRepository> googleAnalyticsRepository;
+
+    public FirstPartyAnalyticsRepository(
+            EntityManager entityManager,
+            @Qualifier("googleAnalyticsRepository") ObjectProvider<AnalyticsRepository> googleAnalyticsRepository) {
+        this.entityManager = entityManager;
+        this.googleAnalyticsRepository = googleAnalyticsRepository;
+    }
+
+    @Override
+    public AnalyticsReport getReport(int daysAgo) {
+        AnalyticsRepository delegate = googleAnalyticsRepository.getIfAvailable();
+        if (delegate != null) {
+            return delegate.getReport(daysAgo);
+        }
+        return new AnalyticsReport(0, 0, 0, 0, 0, 0, Collections.emptyList(), Collections.emptyList());
+    }
+
+    @Override
+    public EventStats getEventStats(int daysAgo) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                SELECT d.event_type, b.banner_type, SUM(d.event_count)
+                FROM analytics_event_daily d
+                LEFT JOIN banners b ON d.event_type = 'BANNER_CLICK' AND b.banner_id = d.target_id
+                WHERE d.bucket_date >= ?1
+                GROUP BY d.event_type, b.banner_type
+                """)
+                .setParameter(1, startDate(daysAgo))
+                .getResultList();
+
+        long[] totals = new long[AnalyticsEventType.values().length];
+        long bigBannerClicks = 0;
+        long middleBannerClicks = 0;
+        long smallBannerClicks = 0;
+        for (Object[] row : rows) {
+            AnalyticsEventType type = AnalyticsEventType.valueOf((String) row[0]);
+            long count = ((Number) row[2]).longValue();
+            totals[type.ordinal()] += count;
+            if (type == AnalyticsEventType.BANNER_CLICK && row[1] != null) {
+                switch ((String) row[1]) {
+                    case "BIG" -> bigBannerClicks += count;
+                    case "MIDDLE" -> middleBannerClicks += count;
+                    case "SMALL" -> smallBannerClicks += count;
+                }
+            }
+        }
+
+        List<EventStats.EventDetail> eventDetails = new ArrayList<>();
+        for (AnalyticsEventType type : AnalyticsEventType.values()) {
+            if (totals[type.ordinal()] > 0) {
+                eventDetails.add(new EventStats.EventDetail(type.getEventName(), totals[type.ordinal()]));
+            }
+        }
+
+        return new EventStats(
+            totals[AnalyticsEventType.BANNER_CLICK.ordinal()],
+            bigBannerClicks,
+            middleBannerClicks,
+            smallBannerClicks,
+            totals[AnalyticsEventType.LECTURE_APPLY_CLICK.ordinal()],
+            totals[AnalyticsEventType.LECTURE_SHARE.ordinal()],
+            eventDetails
+        );
+    }
+
+    @Override
+    public List<BannerClickStats> getTopBannersByClicks(int daysAgo, int limit) {
+        // 배너 이름은 연결된 강의명으로 표시
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                SELECT d.target_id, l.lecture_name, b.banner_type, SUM(d.event_count) AS clicks
+                FROM analytics_event_daily d
+                LEFT JOIN banners b ON b.banner_id = d.target_id
+                LEFT JOIN lectures l ON l.lecture_id = b.lecture_id
+                WHERE d.event_type = 'BANNER_CLICK'
+                  AND d.bucket_date >= ?1
+                GROUP BY d.target_id, l.lecture_name, b.banner_type
+                ORDER BY clicks DESC, d.target_id
+                LIMIT ?2
+                """)
+                .setParameter(1, startDate(daysAgo))
+                .setParameter(2, limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> {
+                    String bannerId = String.valueOf(((Number) row[0]).longValue());
+                    String bannerName = row[1] != null ? (String) row[1] : "배너 #" + bannerId;
+                    return new BannerClickStats(bannerId, bannerName, (String) row[2], ((Number) row[3]).longValue());
+                })
+                .toList();
+    }
+
+    @Override
+    public List<LectureClickStats> getTopLecturesByClicks(int daysAgo, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                SELECT d.target_id, l.lecture_name,
+                       SUM(CASE WHEN d.event_type = 'LECTURE_VIEW' THEN d.event_count ELSE 0 END),
+                       SUM(CASE WHEN d.event_type = 'LECTURE_APPLY_CLICK' THEN d.event_count ELSE 0 END),
+                       SUM(CASE WHEN d.event_type = 'LECTURE_SHARE' THEN d.event_count ELSE 0 END)
+                FROM analytics_event_daily d
+                LEFT JOIN lectures l ON l.lecture_id = d.target_id
+                WHERE d.event_type IN ('LECTURE_VIEW', 'LECTURE_APPLY_CLICK', 'LECTURE_SHARE')
+                  AND d.bucket_date >= ?1
+                GROUP BY d.target_id, l.lecture_name
+                ORDER BY SUM(CASE WHEN d.event_type <> 'LECTURE_VIEW' THEN d.event_count ELSE 0 END) DESC,
+                         SUM(CASE WHEN d.event_type = 'LECTURE_VIEW' THEN d.event_count ELSE 0 END) DESC,
+                         d.target_id
+                LIMIT ?2
+                """)
+                .setParameter(1, startDate(daysAgo))
+                .setParameter(2, limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> {
+                    String lectureId = String.valueOf(((Number) row[0]).longValue());
+                    long views = ((Number) row[2]).longValue();
+                    long applyClicks = ((Number) row[3]).longValue();
+                    long shareClicks = ((Number) row[4]).longValue();
+                    return new LectureClickStats(lectureId, lectureName(lectureId, row[1]), views,
+                            applyClicks, shareClicks, applyClicks + shareClicks);
+                })
+                .toList();
+    }
+
+    @Override
+    public List<PopularLecture> getPopularLectures(int daysAgo, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                SELECT d.target_id, l.lecture_name, SUM(d.event_count) AS views
+                FROM analytics_event_daily d
+                LEFT JOIN lectures l ON l.lecture_id = d.target_id
+                WHERE d.event_type = 'LECTURE_VIEW'
+                  AND d.bucket_date >= ?1
+                GROUP BY d.target_id, l.lecture_name
+                ORDER BY views DESC, d.target_id
+                LIMIT ?2
+                """)
+                .setParameter(1, startDate(daysAgo))
+                .setParameter(2, limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> {
+                    String lectureId = String.valueOf(((Number) row[0]).longValue());
+                    return new PopularLecture(lectureId, lectureName(lectureId, row[1]), ((Number) row[2]).longValue());
+                })
+                .toList();
+    }
+
+    @Override
+    public List<PopularSearchTerm> getPopularSearchTerms(int daysAgo, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                SELECT d.term, SUM(d.event_count) AS searches
+                FROM analytics_event_daily d
+                WHERE d.event_type = 'SEARCH'
+                  AND d.bucket_date >= ?1
+                GROUP BY d.term
+                ORDER BY searches DESC, d.term
+                LIMIT ?2
+                """)
+                .setParameter(1, startDate(daysAgo))
+                .setParameter(2, limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new PopularSearchTerm((String) row[0], ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    @Override
+    public List<TrafficSource> getTrafficSources(int daysAgo, int limit) {
+        AnalyticsRepository delegate = googleAnalyticsRepository.getIfAvailable();
+        if (delegate != null) {
+            return delegate.getTrafficSources(daysAgo, limit);
+        }
+        return Collections.emptyList();
+    }
+
+    // daysAgo=1이면 오늘만, daysAgo=7이면 오늘 포함 7일 (GoogleAnalyticsRepository와 같은 기준)
+    private LocalDate startDate(int daysAgo) {
+        return LocalDate.now().minusDays(daysAgo - 1L);
+    }
+
+    private String lectureName(String lectureId, Object name) {
+        return name != null ? (String) name : "강의 #" + lectureId;
+    }
+}
@@ -1,6 +1,7 @@
 package com.swcampus.infra.postgres.auth;
 
 import com.swcampus.domain.auth.RefreshToken;
+import com.swcampus.domain.member.Role;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -15,27 +16,41 @@ import java.time.LocalDateTime;
 public class RefreshTokenEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
-    @SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_id_seq", allocationSize = 1)
-    private Long id;
+    @Column(name = "session_id")
+    private String sessionId;
 
-    @Column(name = "user_id", nullable = false, unique = true)
+    @Column(name = "user_id", nullable = false)
     private Long memberId;
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    @Column(name = "token_hash", nullable = false)
+    private String tokenHash;
+
+    @Column(name = "previous_token_hash")
+    private String previousTokenHash;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    private Role role;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     public static RefreshTokenEntity from(RefreshToken rt) {
         RefreshTokenEntity entity = new RefreshTokenEntity();
-        entity.id = rt.getId();
+        entity.sessionId = rt.getSessionId();
         entity.memberId = rt.getMemberId();
-        entity.token = rt.getToken();
+        entity.tokenHash = rt.getTokenHash();
+        entity.previousTokenHash = rt.getPreviousTokenHash();
+        entity.rotatedAt = rt.getRotatedAt();
+        entity.email = rt.getEmail();
+        entity.role = rt.getRole();
         entity.expiresAt = rt.getExpiresAt();
         entity.createdAt = rt.getCreatedAt();
         return entity;
@@ -43,9 +58,13 @@ public class RefreshTokenEntity {
 
     public RefreshToken toDomain() {
         return RefreshToken.of(
-                id,
+                sessionId,
                 memberId,
-                token,
+                tokenHash,
+                previousTokenHash,
+                rotatedAt,
+                email,
+                role,
                 expiresAt,
                 createdAt
         );
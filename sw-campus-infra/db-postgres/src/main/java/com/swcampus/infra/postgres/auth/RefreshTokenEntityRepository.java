@@ -3,36 +3,62 @@ package com.swcampus.infra.postgres.auth;
 import com.swcampus.domain.auth.RefreshToken;
 import com.swcampus.domain.auth.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * DB 기반 Refresh Token 저장소 (auth.refresh-token.store=postgres)
+ * 기본 저장소는 Redis이며, Redis를 쓸 수 없는 환경과 테스트에서 사용한다
+ */
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "postgres")
 public class RefreshTokenEntityRepository implements RefreshTokenRepository {
 
     private final RefreshTokenJpaRepository jpaRepository;
 
     @Override
-    public RefreshToken save(RefreshToken refreshToken) {
-        RefreshTokenEntity entity = RefreshTokenEntity.from(refreshToken);
-        RefreshTokenEntity saved = jpaRepository.save(entity);
-        return saved.toDomain();
+    @Transactional
+    public void save(RefreshToken refreshToken, int maxSessions) {
+        jpaRepository.saveAndFlush(RefreshTokenEntity.from(refreshToken));
+
+        // 만료된 세션과 최근 maxSessions개를 넘는 세션 정리
+        LocalDateTime now = LocalDateTime.now();
+        jpaRepository.deleteExpired(refreshToken.getMemberId(), now);
+
+        List<String> activeSessionIds = jpaRepository.findActiveSessionIds(refreshToken.getMemberId(), now);
+        if (activeSessionIds.size() > maxSessions) {
+            jpaRepository.deleteAllByIdInBatch(activeSessionIds.subList(maxSessions, activeSessionIds.size()));
+        }
     }
 
     @Override
-    public Optional<RefreshToken> findByMemberId(Long memberId) {
-        return jpaRepository.findByMemberId(memberId)
+    public Optional<RefreshToken> findBySessionId(Long memberId, String sessionId) {
+        return jpaRepository.findById(sessionId)
+                .filter(entity -> entity.getMemberId().equals(memberId))
                 .map(RefreshTokenEntity::toDomain);
     }
 
     @Override
-    public Optional<RefreshToken> findByToken(String token) {
-        return jpaRepository.findByToken(token)
-                .map(RefreshTokenEntity::toDomain);
+    @Transactional
+    public boolean rotate(Long memberId, String sessionId, String expectedTokenHash, String newTokenHash,
+                          LocalDateTime expiresAt) {
+        return jpaRepository.rotate(memberId, sessionId, expectedTokenHash, newTokenHash, expiresAt, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void deleteBySessionId(Long memberId, String sessionId) {
+        jpaRepository.deleteByMemberIdAndSessionId(memberId, sessionId);
     }
 
     @Override
+    @Transactional
     public void deleteByMemberId(Long memberId) {
         jpaRepository.deleteByMemberId(memberId);
     }
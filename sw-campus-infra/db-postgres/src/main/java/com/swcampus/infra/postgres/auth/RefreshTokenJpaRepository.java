@@ -5,12 +5,36 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+    @Query("SELECT r.sessionId FROM RefreshTokenEntity r " +
+           "WHERE r.memberId = :memberId AND r.expiresAt > :now " +
+           "ORDER BY r.createdAt DESC")
+    List<String> findActiveSessionIds(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshTokenEntity r " +
+           "SET r.previousTokenHash = r.tokenHash, r.tokenHash = :newTokenHash, " +
+           "    r.rotatedAt = :now, r.expiresAt = :expiresAt " +
+           "WHERE r.memberId = :memberId AND r.sessionId = :sessionId AND r.tokenHash = :expectedTokenHash")
+    int rotate(@Param("memberId") Long memberId,
+               @Param("sessionId") String sessionId,
+               @Param("expectedTokenHash") String expectedTokenHash,
+               @Param("newTokenHash") String newTokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.memberId = :memberId AND r.sessionId = :sessionId")
+    void deleteByMemberIdAndSessionId(@Param("memberId") Long memberId, @Param("sessionId") String sessionId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.memberId = :memberId AND r.expiresAt <= :now")
+    void deleteExpired(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
 
-public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, Long> {
-    Optional<RefreshTokenEntity> findByMemberId(Long memberId);
-    Optional<RefreshTokenEntity> findByToken(String token);
-    
     @Modifying
     @Query("DELETE FROM RefreshTokenEntity r WHERE r.memberId = :memberId")
     void deleteByMemberId(@Param("memberId") Long memberId);
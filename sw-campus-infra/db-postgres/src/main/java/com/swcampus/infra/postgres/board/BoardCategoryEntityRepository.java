@@ -32,9 +32,4 @@ public class BoardCategoryEntityRepository implements BoardCategoryRepository {
         BoardCategoryEntity entity = BoardCategoryEntity.from(boardCategory);
         return jpaRepository.save(entity).toDomain();
     }
-
-    @Override
-    public List<Long> findRecursiveChildIds(Long parentId) {
-        return jpaRepository.findRecursiveChildIds(parentId);
-    }
 }
@@ -1,16 +1,16 @@
 package com.swcampus.infra.postgres.comment;
 
 import com.swcampus.domain.comment.Comment;
+import com.swcampus.domain.comment.CommentLikeCount;
 import com.swcampus.domain.comment.CommentRepository;
 import com.swcampus.domain.comment.exception.CommentNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -59,30 +59,31 @@ public class CommentEntityRepository implements CommentRepository {
     }
 
     @Override
-    public long countByPostId(Long postId) {
-        return jpaRepository.countByPostIdAndNotDeleted(postId);
+    public Optional<CommentLikeCount> incrementLikeCount(Long commentId) {
+        return toLikeCount(jpaRepository.incrementLikeCount(commentId));
     }
 
     @Override
-    public Map<Long, Long> countByPostIds(List<Long> postIds) {
-        if (postIds == null || postIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        return jpaRepository.countByPostIds(postIds).stream()
-                .collect(Collectors.toMap(
-                        row -> (Long) row[0],
-                        row -> (Long) row[1]
-                ));
+    public Optional<CommentLikeCount> decrementLikeCount(Long commentId) {
+        return toLikeCount(jpaRepository.decrementLikeCount(commentId));
     }
 
     @Override
-    public void incrementLikeCount(Long commentId) {
-        jpaRepository.incrementLikeCount(commentId);
+    public long findMaxId() {
+        return jpaRepository.findMaxId();
     }
 
     @Override
-    public void decrementLikeCount(Long commentId) {
-        jpaRepository.decrementLikeCount(commentId);
+    @Transactional
+    public int reconcileLikeCounts(long fromId, long toId) {
+        return jpaRepository.reconcileLikeCounts(fromId, toId);
+    }
+
+    private Optional<CommentLikeCount> toLikeCount(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        return Optional.of(new CommentLikeCount(((Number) row[0]).longValue(), ((Number) row[1]).longValue()));
     }
 }
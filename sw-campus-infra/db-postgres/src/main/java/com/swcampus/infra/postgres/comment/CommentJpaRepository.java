@@ -18,17 +18,41 @@ public interface CommentJpaRepository extends JpaRepository<CommentEntity, Long>
     @Query("SELECT DISTINCT c FROM CommentEntity c WHERE c.postId = :postId ORDER BY c.createdAt ASC")
     List<CommentEntity> findAllByPostId(@Param("postId") Long postId);
 
-    @Query("SELECT COUNT(c) FROM CommentEntity c WHERE c.postId = :postId AND c.deleted = false")
-    long countByPostIdAndNotDeleted(@Param("postId") Long postId);
-
-    @Query("SELECT c.postId, COUNT(c) FROM CommentEntity c WHERE c.postId IN :postIds AND c.deleted = false GROUP BY c.postId")
-    List<Object[]> countByPostIds(@Param("postIds") List<Long> postIds);
-
-    @org.springframework.data.jpa.repository.Modifying
-    @Query("UPDATE CommentEntity c SET c.likeCount = c.likeCount + 1 WHERE c.id = :commentId")
-    void incrementLikeCount(@Param("commentId") Long commentId);
-
+    /**
+     * 반환: [post_id, comment_like_count] 한 행 (댓글이 없으면 빈 목록)
+     */
+    @Query(value = "UPDATE comments SET comment_like_count = comment_like_count + 1 " +
+            "WHERE comment_id = :commentId RETURNING post_id, comment_like_count", nativeQuery = true)
+    List<Object[]> incrementLikeCount(@Param("commentId") Long commentId);
+
+    /**
+     * 반환: [post_id, comment_like_count] 한 행 (추천 수가 이미 0이거나 댓글이 없으면 빈 목록)
+     */
+    @Query(value = "UPDATE comments SET comment_like_count = comment_like_count - 1 " +
+            "WHERE comment_id = :commentId AND comment_like_count > 0 RETURNING post_id, comment_like_count",
+            nativeQuery = true)
+    List<Object[]> decrementLikeCount(@Param("commentId") Long commentId);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CommentEntity c")
+    long findMaxId();
+
+    /**
+     * (fromId, toId] 구간 댓글의 추천 수를 comment_likes에서 다시 세어 어긋난 행만 덮어쓴다.
+     * 반환: 보정된 행 수
+     */
     @org.springframework.data.jpa.repository.Modifying
-    @Query("UPDATE CommentEntity c SET c.likeCount = c.likeCount - 1 WHERE c.id = :commentId AND c.likeCount > 0")
-    void decrementLikeCount(@Param("commentId") Long commentId);
+    @Query(value = """
+            WITH actual AS (
+                SELECT c.comment_id,
+                       (SELECT COUNT(*) FROM comment_likes l WHERE l.comment_id = c.comment_id) AS like_count
+                FROM comments c
+                WHERE c.comment_id > :fromId AND c.comment_id <= :toId
+            )
+            UPDATE comments c
+            SET comment_like_count = a.like_count
+            FROM actual a
+            WHERE c.comment_id = a.comment_id
+              AND c.comment_like_count <> a.like_count
+            """, nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -39,7 +40,7 @@ public class CommentLikeEntityRepository implements CommentLikeRepository {
     }
 
     @Override
-    public Set<Long> findCommentIdsByUserId(Long userId) {
-        return new HashSet<>(jpaRepository.findCommentIdsByUserId(userId));
+    public Set<Long> findCommentIdsByUserIdAndCommentIds(Long userId, Collection<Long> commentIds) {
+        return new HashSet<>(jpaRepository.findCommentIdsByUserIdAndCommentIds(userId, commentIds));
     }
 }
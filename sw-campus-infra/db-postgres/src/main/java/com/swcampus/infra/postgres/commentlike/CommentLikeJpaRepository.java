@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,7 @@ public interface CommentLikeJpaRepository extends JpaRepository<CommentLikeEntit
 
     long countByCommentId(Long commentId);
 
-    @Query("SELECT cl.commentId FROM CommentLikeEntity cl WHERE cl.userId = :userId")
-    List<Long> findCommentIdsByUserId(@Param("userId") Long userId);
+    @Query("SELECT cl.commentId FROM CommentLikeEntity cl WHERE cl.userId = :userId AND cl.commentId IN :commentIds")
+    List<Long> findCommentIdsByUserIdAndCommentIds(@Param("userId") Long userId,
+                                                   @Param("commentIds") Collection<Long> commentIds);
 }
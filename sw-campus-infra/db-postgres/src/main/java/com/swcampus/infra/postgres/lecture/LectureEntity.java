@@ -6,6 +6,7 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -13,6 +14,8 @@ import org.hibernate.annotations.CreationTimestamp;
 
 import com.swcampus.domain.lecture.Lecture;
 import com.swcampus.domain.lecture.LectureDay;
+import com.swcampus.domain.lecture.LectureStep;
+import com.swcampus.domain.lecture.SelectionStepType;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -80,6 +83,9 @@ public class LectureEntity {
 	@Transient
 	private Long reviewCount;
 
+	@Transient
+	private Double relevance;
+
 	@Column(name = "LECTURE_NAME", nullable = false)
 	private String lectureName;
 
@@ -193,6 +199,15 @@ public class LectureEntity {
 	@Column(name = "UPDATED_AT")
 	private LocalDateTime updatedAt;
 
+	// 선발 절차 비정규화 (steps 저장 시 함께 갱신, 검색 필터/결과용)
+	@Column(name = "SELECTION_FLAGS", nullable = false)
+	@Builder.Default
+	private Short selectionFlags = 0;
+
+	@Column(name = "SELECTION_STEPS", nullable = false)
+	@Builder.Default
+	private String selectionSteps = "";
+
 	// --- 1:N Relationships ---
 	@OneToMany(mappedBy = "lecture", cascade = CascadeType.ALL, orphanRemoval = true)
 	@Builder.Default
@@ -343,10 +358,12 @@ public class LectureEntity {
 				.projectMentor(projectMentor)
 				.startAt(startAt).endAt(endAt).deadline(deadline).totalDays(totalDays).totalTimes(totalTimes)
 
-				.averageScore(averageScore).reviewCount(reviewCount)
+				.averageScore(averageScore).reviewCount(reviewCount).relevance(relevance)
 				.createdAt(createdAt).updatedAt(updatedAt)
 				// Lists mapping
-				.steps(steps.stream().map(s -> s.toDomain(this.lectureId)).toList())
+				.steps(!steps.isEmpty()
+						? steps.stream().map(s -> s.toDomain(this.lectureId)).toList()
+						: stepsFromSelectionSteps())
 				.adds(adds.stream().map(LectureAddEntity::toDomain).toList())
 				.quals(quals.stream().map(LectureQualEntity::toDomain).toList())
 				// N:M mapping (Entity -> Domain)
@@ -362,6 +379,40 @@ public class LectureEntity {
 				.build();
 	}
 
+	/**
+	 * 선발 절차 비정규화 컬럼 갱신 (비트 + step_order 순 유형 목록)
+	 */
+	public void updateSelectionSteps(List<LectureStep> lectureSteps) {
+		List<SelectionStepType> types = lectureSteps == null ? List.of()
+				: lectureSteps.stream()
+						.filter(s -> s.getStepType() != null)
+						.sorted(Comparator.comparing(LectureStep::getStepOrder,
+								Comparator.nullsLast(Comparator.naturalOrder())))
+						.map(LectureStep::getStepType)
+						.toList();
+		this.selectionFlags = (short) SelectionStepType.toFlags(types);
+		this.selectionSteps = types.stream().map(Enum::name).collect(Collectors.joining(","));
+	}
+
+	/**
+	 * 검색 결과(MyBatis)는 LECTURE_STEPS를 조회하지 않으므로 비정규화 컬럼으로 절차 목록을 만든다
+	 */
+	private List<LectureStep> stepsFromSelectionSteps() {
+		if (selectionSteps == null || selectionSteps.isEmpty()) {
+			return List.of();
+		}
+		String[] types = selectionSteps.split(",");
+		List<LectureStep> result = new ArrayList<>(types.length);
+		for (int i = 0; i < types.length; i++) {
+			result.add(LectureStep.builder()
+					.lectureId(lectureId)
+					.stepType(SelectionStepType.valueOf(types[i]))
+					.stepOrder(i + 1)
+					.build());
+		}
+		return result;
+	}
+
 	public void updateFields(Lecture lecture) {
 		this.orgId = lecture.getOrgId();
 		this.lectureName = lecture.getLectureName();
@@ -17,6 +17,8 @@ import com.swcampus.domain.lecture.LectureStatus;
 import com.swcampus.domain.lecture.dto.LectureSearchCondition;
 import com.swcampus.infra.postgres.category.CurriculumEntity;
 import com.swcampus.infra.postgres.lecture.mapper.LectureMapper;
+import com.swcampus.infra.postgres.review.LectureReviewStatsEntity;
+import com.swcampus.infra.postgres.review.LectureReviewStatsJpaRepository;
 import com.swcampus.infra.postgres.teacher.TeacherEntity;
 
 import jakarta.persistence.EntityManager;
@@ -31,6 +33,7 @@ public class LectureEntityRepository implements LectureRepository {
 	private final EntityManager entityManager;
 	private final LectureMapper lectureMapper;
 	private final com.swcampus.domain.review.ReviewRepository reviewRepository;
+	private final LectureReviewStatsJpaRepository reviewStatsJpaRepository;
 
 	@Override
 	public Lecture save(Lecture lecture) {
@@ -83,7 +86,8 @@ public class LectureEntityRepository implements LectureRepository {
 		// Force flush to execute deletes before inserts (prevents PK/UK violation)
 		entityManager.flush();
 
-		// Now add new Step entities
+		// Now add new Step entities (검색용 비정규화 컬럼도 함께 갱신)
+		entity.updateSelectionSteps(lecture.getSteps());
 		if (lecture.getSteps() != null) {
 			entity.getSteps().addAll(lecture.getSteps().stream()
 					.map(s -> LectureStepEntity.builder()
@@ -176,15 +180,14 @@ public class LectureEntityRepository implements LectureRepository {
 
 		LectureEntity entity = entityOpt.get();
 
-		// 2. 리뷰 통계 별도 조회 (GROUP BY 충돌 방지)
-		List<Object[]> reviewStatsList = jpaRepository.findReviewStatsByLectureId(id);
-		Object[] reviewStats = reviewStatsList.isEmpty() ? null : reviewStatsList.get(0);
-		Double avgScore = reviewStats != null && reviewStats[0] != null ? ((Number) reviewStats[0]).doubleValue() : 0.0;
-		Long reviewCount = reviewStats != null && reviewStats[1] != null ? ((Number) reviewStats[1]).longValue() : 0L;
+		// 2. 리뷰 통계 조회 (사전 집계 테이블)
+		Optional<LectureReviewStatsEntity> reviewStats = reviewStatsJpaRepository.findById(id);
+		Double avgScore = reviewStats.map(LectureReviewStatsEntity::getAverageScore).orElse(0.0);
+		Long reviewCount = reviewStats.map(LectureReviewStatsEntity::getReviewCount).orElse(0L);
 
 		return Optional.of(entity.toDomain().toBuilder()
-				.averageScore(avgScore != null ? avgScore : 0.0)
-				.reviewCount(reviewCount != null ? reviewCount : 0L)
+				.averageScore(avgScore)
+				.reviewCount(reviewCount)
 				.build());
 	}
 
@@ -211,6 +214,18 @@ public class LectureEntityRepository implements LectureRepository {
 		return new PageImpl<>(content, condition.getPageable(), total);
 	}
 
+	@Override
+	public List<Lecture> searchLecturesAfter(LectureSearchCondition condition, int limit) {
+		return lectureMapper.selectLecturesAfter(condition, limit).stream()
+				.map(LectureEntity::toDomain)
+				.toList();
+	}
+
+	@Override
+	public long countLectures(LectureSearchCondition condition) {
+		return lectureMapper.countLectures(condition);
+	}
+
 	@Override
 	public List<Lecture> findAllExpiredAndRecruiting(LocalDateTime now) {
 		return jpaRepository.findAllByDeadlineBeforeAndStatus(now, LectureStatus.RECRUITING)
@@ -283,20 +298,6 @@ public class LectureEntityRepository implements LectureRepository {
 				.toList();
 	}
 
-	/**
-	 * 리뷰 통계 없이 강의 목록 조회 (장바구니 등 리뷰 불필요한 경우)
-	 * findAllByIds() 대비 1회 쿼리 감소
-	 */
-	@Override
-	public List<Lecture> findAllByIdsWithoutReviewStats(List<Long> lectureIds) {
-		if (lectureIds == null || lectureIds.isEmpty()) {
-			return Collections.emptyList();
-		}
-		return jpaRepository.findAllByIdInWithCurriculums(lectureIds).stream()
-				.map(LectureEntity::toDomain)
-				.toList();
-	}
-
 	@Override
 	public long countAll() {
 		return jpaRepository.count();
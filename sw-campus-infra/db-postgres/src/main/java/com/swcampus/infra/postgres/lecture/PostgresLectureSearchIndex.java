@@ -0,0 +1,29 @@
+package com.swcampus.infra.postgres.lecture;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import com.swcampus.domain.lecture.Lecture;
+import com.swcampus.domain.lecture.LectureSearchIndex;
+import com.swcampus.domain.lecture.dto.LectureSearchHit;
+
+/**
+ * DB 검색 컬럼 기반 검색 색인 (기본 구현)
+ * - lectures.search_text(pg_trgm)/search_vector(tsvector)는 V13 트리거가 원본 변경 시 갱신한다
+ * - 매칭과 관련도 계산은 LectureMapper 검색 쿼리에서 수행하므로 여기서는 위임만 표시한다
+ */
+@Repository
+public class PostgresLectureSearchIndex implements LectureSearchIndex {
+
+	@Override
+	public Optional<List<LectureSearchHit>> search(String text, int maxHits) {
+		return Optional.empty();
+	}
+
+	@Override
+	public void index(Lecture lecture) {
+		// DB 트리거가 색인을 유지
+	}
+}
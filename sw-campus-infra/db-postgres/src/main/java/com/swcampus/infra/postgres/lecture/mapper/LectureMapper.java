@@ -10,5 +10,6 @@ import java.util.List;
 @Mapper
 public interface LectureMapper {
 	List<LectureEntity> selectLectures(@Param("cond") LectureSearchCondition condition);
+    List<LectureEntity> selectLecturesAfter(@Param("cond") LectureSearchCondition condition, @Param("limit") int limit);
     long countLectures(@Param("cond") LectureSearchCondition condition);
 }
@@ -0,0 +1,47 @@
+package com.swcampus.infra.postgres.lecture.mapper;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Long 목록과 PostgreSQL bigint[] 간 변환
+ * - IN 목록 대신 배열 파라미터 하나로 바인딩하여 = ANY(?) 조건에 사용한다 (목록 길이와 무관하게 같은 SQL)
+ */
+public class LongListArrayTypeHandler extends BaseTypeHandler<List<Long>> {
+
+	@Override
+	public void setNonNullParameter(PreparedStatement ps, int i, List<Long> parameter, JdbcType jdbcType)
+			throws SQLException {
+		ps.setArray(i, ps.getConnection().createArrayOf("bigint", parameter.toArray()));
+	}
+
+	@Override
+	public List<Long> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+		return toList(rs.getArray(columnName));
+	}
+
+	@Override
+	public List<Long> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+		return toList(rs.getArray(columnIndex));
+	}
+
+	@Override
+	public List<Long> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+		return toList(cs.getArray(columnIndex));
+	}
+
+	private List<Long> toList(Array array) throws SQLException {
+		if (array == null) {
+			return null;
+		}
+		return Arrays.asList((Long[]) array.getArray());
+	}
+}
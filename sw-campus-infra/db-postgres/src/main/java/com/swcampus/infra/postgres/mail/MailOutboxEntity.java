@@ -0,0 +1,58 @@
+package com.swcampus.infra.postgres.mail;
+
+import com.swcampus.domain.mail.OutboxMail;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기열
+ * - 기록은 insertIfAbsent native 쿼리로만 하고(idempotency_key 충돌 시 무시), next_attempt_at은 선점 쿼리에서만 갱신한다
+ */
+@Entity
+@Table(name = "mail_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxMail toDomain() {
+        return OutboxMail.of(
+                this.id,
+                this.idempotencyKey,
+                this.recipient,
+                this.subject,
+                this.content,
+                this.attempts,
+                this.createdAt
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.swcampus.infra.postgres.mail;
+
+import com.swcampus.domain.mail.MailOutboxRepository;
+import com.swcampus.domain.mail.OutboxMail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MailOutboxEntityRepository implements MailOutboxRepository {
+
+    private final MailOutboxJpaRepository jpaRepository;
+
+    @Override
+    public boolean saveIfAbsent(OutboxMail mail) {
+        return jpaRepository.insertIfAbsent(
+                mail.getIdempotencyKey(),
+                mail.getRecipient(),
+                mail.getSubject(),
+                mail.getContent(),
+                mail.getCreatedAt()
+        ) == 1;
+    }
+
+    @Override
+    public List<OutboxMail> claimDue(int limit, int maxAttempts, Duration baseBackoff) {
+        // RETURNING 순서는 보장되지 않으므로 기록 순으로 정렬
+        return jpaRepository.claimDue(limit, maxAttempts, baseBackoff.toMillis() / 1000.0).stream()
+                .sorted(Comparator.comparing(MailOutboxEntity::getId))
+                .map(MailOutboxEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteAllByIds(ids);
+    }
+
+    @Override
+    public long countPending(int maxAttempts) {
+        return jpaRepository.countByAttemptsLessThan(maxAttempts);
+    }
+}
@@ -0,0 +1,57 @@
+package com.swcampus.infra.postgres.mail;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxJpaRepository extends JpaRepository<MailOutboxEntity, Long> {
+
+    /**
+     * 같은 idempotency_key로 대기 중인 행이 없을 때만 기록한다 (시도 횟수를 다 쓴 행은 무시).
+     *
+     * @return 기록한 행 수 (이미 대기 중이면 0)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO mail_outbox (idempotency_key, recipient, subject, content, attempts, next_attempt_at, created_at)
+            VALUES (:idempotencyKey, :recipient, :subject, :content, 0, :now, :now)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("idempotencyKey") String idempotencyKey,
+                       @Param("recipient") String recipient,
+                       @Param("subject") String subject,
+                       @Param("content") String content,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * NotificationOutboxJpaRepository.claimDue와 같은 선점 쿼리 (대상 테이블만 다름)
+     */
+    @Query(value = """
+            UPDATE mail_outbox o
+            SET attempts = o.attempts + 1,
+                next_attempt_at = NOW() + make_interval(secs => :baseBackoffSeconds * power(2, o.attempts))
+            WHERE o.outbox_id IN (
+                SELECT d.outbox_id
+                FROM mail_outbox d
+                WHERE d.next_attempt_at <= NOW()
+                  AND d.attempts < :maxAttempts
+                ORDER BY d.next_attempt_at, d.outbox_id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING o.*
+            """, nativeQuery = true)
+    List<MailOutboxEntity> claimDue(@Param("limit") int limit,
+                                    @Param("maxAttempts") int maxAttempts,
+                                    @Param("baseBackoffSeconds") double baseBackoffSeconds);
+
+    @Modifying
+    @Query("DELETE FROM MailOutboxEntity o WHERE o.id IN :ids")
+    void deleteAllByIds(@Param("ids") List<Long> ids);
+
+    long countByAttemptsLessThan(int maxAttempts);
+}
@@ -33,6 +33,9 @@ public class NotificationEntity {
     @Column(name = "target_id", nullable = false)
     private Long targetId;
 
+    @Column(name = "post_id")
+    private Long postId;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "type", nullable = false)
     private NotificationType type;
@@ -50,6 +53,7 @@ public class NotificationEntity {
         entity.userId = notification.getUserId();
         entity.senderId = notification.getSenderId();
         entity.targetId = notification.getTargetId();
+        entity.postId = notification.getPostId();
         entity.type = notification.getType();
         entity.read = notification.isRead();
         return entity;
@@ -65,6 +69,7 @@ public class NotificationEntity {
                 this.userId,
                 this.senderId,
                 this.targetId,
+                this.postId,
                 this.type,
                 this.read,
                 this.createdAt
@@ -1,10 +1,15 @@
 package com.swcampus.infra.postgres.notification;
 
 import com.swcampus.domain.notification.Notification;
+import com.swcampus.domain.notification.NotificationCursor;
 import com.swcampus.domain.notification.NotificationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +17,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class NotificationEntityRepository implements NotificationRepository {
 
+    private static final int INSERT_BATCH_SIZE = 200;
+
     private final NotificationJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Notification save(Notification notification) {
@@ -29,6 +37,49 @@ public class NotificationEntityRepository implements NotificationRepository {
         return jpaRepository.save(entity).toDomain();
     }
 
+    /**
+     * 알림 일괄 저장: INSERT ... VALUES (...), (...) RETURNING 한 문장으로 여러 행을 기록
+     * - 시퀀스가 VALUES 순으로 채번되므로 ID 순으로 정렬하면 입력 순서와 같아진다
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Notification> saveAll(List<Notification> notifications) {
+        List<Notification> saved = new ArrayList<>(notifications.size());
+
+        for (int from = 0; from < notifications.size(); from += INSERT_BATCH_SIZE) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + INSERT_BATCH_SIZE, notifications.size()));
+
+            StringBuilder values = new StringBuilder();
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    values.append(", ");
+                }
+                int base = 5 * i;
+                values.append("(CAST(?").append(base + 1).append(" AS BIGINT), CAST(?").append(base + 2)
+                        .append(" AS BIGINT), CAST(?").append(base + 3).append(" AS BIGINT), CAST(?").append(base + 4)
+                        .append(" AS BIGINT), ?").append(base + 5).append(", FALSE)");
+            }
+
+            Query query = entityManager.createNativeQuery(
+                    "INSERT INTO notifications (user_id, sender_id, target_id, post_id, type, is_read) " +
+                    "VALUES " + values + " RETURNING *", NotificationEntity.class);
+            for (int i = 0; i < chunk.size(); i++) {
+                Notification notification = chunk.get(i);
+                query.setParameter(5 * i + 1, notification.getUserId());
+                query.setParameter(5 * i + 2, notification.getSenderId());
+                query.setParameter(5 * i + 3, notification.getTargetId());
+                query.setParameter(5 * i + 4, notification.getPostId());
+                query.setParameter(5 * i + 5, notification.getType().name());
+            }
+
+            ((List<NotificationEntity>) query.getResultList()).stream()
+                    .sorted(Comparator.comparing(NotificationEntity::getId))
+                    .map(NotificationEntity::toDomain)
+                    .forEach(saved::add);
+        }
+        return saved;
+    }
+
     @Override
     public Optional<Notification> findById(Long id) {
         return jpaRepository.findById(id)
@@ -42,6 +93,16 @@ public class NotificationEntityRepository implements NotificationRepository {
                 .toList();
     }
 
+    @Override
+    public List<Notification> findFeed(Long userId, NotificationCursor cursor, int limit) {
+        List<NotificationEntity> entities = cursor == null
+                ? jpaRepository.findFeed(userId, limit)
+                : jpaRepository.findFeedAfter(userId, cursor.createdAt(), cursor.notificationId(), limit);
+        return entities.stream()
+                .map(NotificationEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Notification> findByUserIdAndReadFalse(Long userId) {
         return jpaRepository.findByUserIdAndReadFalseOrderByCreatedAtDesc(userId).stream()
@@ -49,6 +110,13 @@ public class NotificationEntityRepository implements NotificationRepository {
                 .toList();
     }
 
+    @Override
+    public List<Notification> findByUserIdAndIdGreaterThan(Long userId, Long lastNotificationId) {
+        return jpaRepository.findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastNotificationId).stream()
+                .map(NotificationEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public long countByUserIdAndReadFalse(Long userId) {
         return jpaRepository.countByUserIdAndReadFalse(userId);
@@ -5,14 +5,39 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationJpaRepository extends JpaRepository<NotificationEntity, Long> {
 
     List<NotificationEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    // 키셋 조회: idx_notifications_user_created (user_id, created_at DESC, noti_id DESC) 범위 스캔
+    @Query(value = """
+            SELECT * FROM notifications
+            WHERE user_id = :userId
+            ORDER BY created_at DESC, noti_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<NotificationEntity> findFeed(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM notifications
+            WHERE user_id = :userId
+              AND (created_at, noti_id) < (CAST(:createdAt AS TIMESTAMP), :notificationId)
+            ORDER BY created_at DESC, noti_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<NotificationEntity> findFeedAfter(@Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("notificationId") Long notificationId,
+                                           @Param("limit") int limit);
+
     List<NotificationEntity> findByUserIdAndReadFalseOrderByCreatedAtDesc(Long userId);
 
+    // 재연결 시 재전송 상한 100건
+    List<NotificationEntity> findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id);
+
     long countByUserIdAndReadFalse(Long userId);
 
     @Modifying
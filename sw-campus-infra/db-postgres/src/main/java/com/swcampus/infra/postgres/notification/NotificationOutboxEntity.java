@@ -0,0 +1,76 @@
+package com.swcampus.infra.postgres.notification;
+
+import com.swcampus.domain.notification.NotificationOutboxEvent;
+import com.swcampus.domain.notification.NotificationType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기열
+ * - next_attempt_at은 DB 기본값(NOW())으로 기록하고, 이후에는 선점 native 쿼리에서만 갱신한다
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class NotificationOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public static NotificationOutboxEntity from(NotificationOutboxEvent event) {
+        NotificationOutboxEntity entity = new NotificationOutboxEntity();
+        entity.recipientId = event.getRecipientId();
+        entity.senderId = event.getSenderId();
+        entity.targetId = event.getTargetId();
+        entity.postId = event.getPostId();
+        entity.type = event.getType();
+        entity.attempts = event.getAttempts();
+        return entity;
+    }
+
+    public NotificationOutboxEvent toDomain() {
+        return NotificationOutboxEvent.of(
+                this.id,
+                this.recipientId,
+                this.senderId,
+                this.targetId,
+                this.postId,
+                this.type,
+                this.attempts,
+                this.createdAt
+        );
+    }
+}
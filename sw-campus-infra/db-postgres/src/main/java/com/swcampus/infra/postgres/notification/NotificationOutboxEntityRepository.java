@@ -0,0 +1,39 @@
+package com.swcampus.infra.postgres.notification;
+
+import com.swcampus.domain.notification.NotificationOutboxEvent;
+import com.swcampus.domain.notification.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxEntityRepository implements NotificationOutboxRepository {
+
+    private final NotificationOutboxJpaRepository jpaRepository;
+
+    @Override
+    public NotificationOutboxEvent save(NotificationOutboxEvent event) {
+        return jpaRepository.save(NotificationOutboxEntity.from(event)).toDomain();
+    }
+
+    @Override
+    public List<NotificationOutboxEvent> claimDue(int limit, int maxAttempts, Duration baseBackoff) {
+        // RETURNING 순서는 보장되지 않으므로 기록 순으로 정렬
+        return jpaRepository.claimDue(limit, maxAttempts, baseBackoff.toMillis() / 1000.0).stream()
+                .sorted(Comparator.comparing(NotificationOutboxEntity::getId))
+                .map(NotificationOutboxEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteAllByIds(ids);
+    }
+}
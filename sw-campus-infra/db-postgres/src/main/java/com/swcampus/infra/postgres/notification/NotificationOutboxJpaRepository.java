@@ -0,0 +1,38 @@
+package com.swcampus.infra.postgres.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface NotificationOutboxJpaRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    /**
+     * 발송 시각이 도래한 행을 잠그고(다른 노드가 잠근 행은 건너뜀) 시도 횟수와 다음 시도 시각을 갱신한 뒤 반환한다.
+     * 다음 시도 시각: baseBackoffSeconds * 2^(이전 시도 횟수)
+     */
+    @Query(value = """
+            UPDATE notification_outbox o
+            SET attempts = o.attempts + 1,
+                next_attempt_at = NOW() + make_interval(secs => :baseBackoffSeconds * power(2, o.attempts))
+            WHERE o.outbox_id IN (
+                SELECT d.outbox_id
+                FROM notification_outbox d
+                WHERE d.next_attempt_at <= NOW()
+                  AND d.attempts < :maxAttempts
+                ORDER BY d.next_attempt_at, d.outbox_id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING o.*
+            """, nativeQuery = true)
+    List<NotificationOutboxEntity> claimDue(@Param("limit") int limit,
+                                            @Param("maxAttempts") int maxAttempts,
+                                            @Param("baseBackoffSeconds") double baseBackoffSeconds);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxEntity o WHERE o.id IN :ids")
+    void deleteAllByIds(@Param("ids") List<Long> ids);
+}
@@ -36,6 +36,12 @@ public class PostEntity extends BaseEntity {
     @Column(name = "post_body", nullable = false, columnDefinition = "TEXT")
     private String body;
 
+    @Column(name = "post_preview", columnDefinition = "TEXT")
+    private String preview;
+
+    @Column(name = "post_body_text", columnDefinition = "TEXT")
+    private String bodyText;
+
     @JdbcTypeCode(SqlTypes.ARRAY)
     @Column(name = "post_images", columnDefinition = "TEXT[]")
     private List<String> images = new ArrayList<>();
@@ -69,6 +75,8 @@ public class PostEntity extends BaseEntity {
         entity.userId = post.getUserId();
         entity.title = post.getTitle();
         entity.body = post.getBody();
+        entity.preview = post.getPreview();
+        entity.bodyText = post.getBodyText();
         entity.images = post.getImages() != null ? new ArrayList<>(post.getImages()) : new ArrayList<>();
         entity.tags = post.getTags() != null ? new ArrayList<>(post.getTags()) : new ArrayList<>();
         entity.viewCount = post.getViewCount();
@@ -82,6 +90,8 @@ public class PostEntity extends BaseEntity {
     public void update(Post post) {
         this.title = post.getTitle();
         this.body = post.getBody();
+        this.preview = post.getPreview();
+        this.bodyText = post.getBodyText();
         this.images = post.getImages() != null ? new ArrayList<>(post.getImages()) : new ArrayList<>();
         this.tags = post.getTags() != null ? new ArrayList<>(post.getTags()) : new ArrayList<>();
         this.selectedCommentId = post.getSelectedCommentId();
@@ -96,6 +106,8 @@ public class PostEntity extends BaseEntity {
                 this.userId,
                 this.title,
                 this.body,
+                this.preview,
+                this.bodyText,
                 this.images != null ? new ArrayList<>(this.images) : new ArrayList<>(),
                 this.tags != null ? new ArrayList<>(this.tags) : new ArrayList<>(),
                 this.viewCount,
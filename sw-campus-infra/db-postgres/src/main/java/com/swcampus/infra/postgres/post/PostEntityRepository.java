@@ -4,19 +4,27 @@ import com.swcampus.domain.post.Post;
 import com.swcampus.domain.post.PostRepository;
 import com.swcampus.domain.post.PostSummary;
 import com.swcampus.domain.post.exception.PostNotFoundException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class PostEntityRepository implements PostRepository {
 
+    private static final int VIEW_COUNT_BATCH_SIZE = 500;
+
     private final PostJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Post save(Post post) {
@@ -48,9 +56,38 @@ public class PostEntityRepository implements PostRepository {
                 .map(PostEntity::toDomain);
     }
 
+    /**
+     * 조회수 증가분 일괄 반영: UPDATE ... FROM (VALUES ...) 한 문장으로 여러 행을 갱신
+     * - 게시글 ID 순으로 정렬하여 동시 갱신 시 행 잠금 순서를 고정 (데드락 방지)
+     */
     @Override
-    public void incrementViewCount(Long id) {
-        jpaRepository.incrementViewCount(id);
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+
+        for (int from = 0; from < entries.size(); from += VIEW_COUNT_BATCH_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + VIEW_COUNT_BATCH_SIZE, entries.size()));
+
+            StringBuilder values = new StringBuilder();
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    values.append(", ");
+                }
+                values.append("(CAST(?").append(2 * i + 1).append(" AS BIGINT), CAST(?").append(2 * i + 2).append(" AS BIGINT))");
+            }
+
+            Query query = entityManager.createNativeQuery(
+                    "UPDATE posts p SET view_count = p.view_count + v.delta " +
+                    "FROM (VALUES " + values + ") AS v(post_id, delta) " +
+                    "WHERE p.post_id = v.post_id");
+            for (int i = 0; i < chunk.size(); i++) {
+                query.setParameter(2 * i + 1, chunk.get(i).getKey());
+                query.setParameter(2 * i + 2, chunk.get(i).getValue());
+            }
+            query.executeUpdate();
+        }
     }
 
     @Override
@@ -73,6 +110,29 @@ public class PostEntityRepository implements PostRepository {
         jpaRepository.decrementLikeCount(id);
     }
 
+    @Override
+    public List<Post> findWithoutExtractedText(int limit) {
+        return jpaRepository.findWithoutExtractedText(PageRequest.of(0, limit)).stream()
+                .map(PostEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void updateExtractedText(Long id, String preview, String bodyText) {
+        jpaRepository.updateExtractedText(id, preview, bodyText);
+    }
+
+    @Override
+    public long findMaxId() {
+        return jpaRepository.findMaxId();
+    }
+
+    @Override
+    @Transactional
+    public int reconcileCounters(long fromId, long toId) {
+        return jpaRepository.reconcileCounters(fromId, toId);
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -7,8 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-
-
+import java.util.List;
 import java.util.Optional;
 
 public interface PostJpaRepository extends JpaRepository<PostEntity, Long> {
@@ -34,9 +33,40 @@ public interface PostJpaRepository extends JpaRepository<PostEntity, Long> {
             @Param("tags") String[] tags,
             Pageable pageable);
 
+    /**
+     * 미리보기/검색용 텍스트가 아직 계산되지 않은 게시글 (삭제된 게시글 포함, ID 순)
+     */
+    @Query("SELECT p FROM PostEntity p WHERE p.preview IS NULL ORDER BY p.id")
+    List<PostEntity> findWithoutExtractedText(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.preview = :preview, p.bodyText = :bodyText WHERE p.id = :id")
+    void updateExtractedText(@Param("id") Long id, @Param("preview") String preview, @Param("bodyText") String bodyText);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM PostEntity p")
+    long findMaxId();
+
+    /**
+     * (fromId, toId] 구간 게시글의 댓글 수(삭제 제외)와 추천 수를 원본 테이블에서 다시 세어 어긋난 행만 덮어쓴다.
+     * 반환: 보정된 행 수
+     */
     @Modifying
-    @Query("UPDATE PostEntity p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
-    void incrementViewCount(@Param("id") Long id);
+    @Query(value = """
+            WITH actual AS (
+                SELECT p.post_id,
+                       (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id AND c.is_deleted = FALSE) AS comment_count,
+                       (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.post_id) AS like_count
+                FROM posts p
+                WHERE p.post_id > :fromId AND p.post_id <= :toId
+            )
+            UPDATE posts p
+            SET comment_count = a.comment_count,
+                like_count = a.like_count
+            FROM actual a
+            WHERE p.post_id = a.post_id
+              AND (p.comment_count <> a.comment_count OR p.like_count <> a.like_count)
+            """, nativeQuery = true)
+    int reconcileCounters(@Param("fromId") long fromId, @Param("toId") long toId);
 
     @Modifying
     @Query("UPDATE PostEntity p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
@@ -57,7 +87,7 @@ public interface PostJpaRepository extends JpaRepository<PostEntity, Long> {
     /**
      * 게시글 목록을 작성자 닉네임, 카테고리 이름과 함께 조회합니다.
      * N+1 문제를 해결하기 위해 JOIN 쿼리를 사용합니다.
-     * @param keyword 검색어 (제목, 본문, 태그에서 검색)
+     * @param keyword 검색어 (제목, 본문 텍스트, 태그에서 검색 - 본문은 HTML 태그를 제외한 post_body_text 기준)
      */
     @Query(value = """
             SELECT 
@@ -86,7 +116,7 @@ public interface PostJpaRepository extends JpaRepository<PostEntity, Long> {
             AND (CAST(:tags AS text[]) IS NULL OR p.tags @> CAST(:tags AS text[]))
             AND (:keyword IS NULL OR :keyword = '' OR 
                  p.post_title ILIKE '%' || :keyword || '%' OR 
-                 p.post_body ILIKE '%' || :keyword || '%' OR 
+                 COALESCE(p.post_body_text, p.post_body) ILIKE '%' || :keyword || '%' OR 
                  :keyword = ANY(p.tags))
             """,
             countQuery = """
@@ -96,7 +126,7 @@ public interface PostJpaRepository extends JpaRepository<PostEntity, Long> {
             AND (CAST(:tags AS text[]) IS NULL OR p.tags @> CAST(:tags AS text[]))
             AND (:keyword IS NULL OR :keyword = '' OR 
                  p.post_title ILIKE '%' || :keyword || '%' OR 
-                 p.post_body ILIKE '%' || :keyword || '%' OR 
+                 COALESCE(p.post_body_text, p.post_body) ILIKE '%' || :keyword || '%' OR 
                  :keyword = ANY(p.tags))
             """,
             nativeQuery = true)
@@ -0,0 +1,37 @@
+package com.swcampus.infra.postgres.review;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 강의별 승인 후기 통계 (조회 전용, 갱신은 LectureReviewStatsJpaRepository의 native 쿼리로만 수행)
+ */
+@Entity
+@Table(name = "lecture_review_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LectureReviewStatsEntity {
+
+    @Id
+    @Column(name = "lecture_id")
+    private Long lectureId;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private Double scoreSum;
+
+    @Column(name = "average_score", nullable = false)
+    private Double averageScore;
+
+    @Column(name = "last_updated", nullable = false)
+    private LocalDateTime lastUpdated;
+}
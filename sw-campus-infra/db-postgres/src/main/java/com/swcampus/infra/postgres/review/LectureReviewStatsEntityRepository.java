@@ -0,0 +1,22 @@
+package com.swcampus.infra.postgres.review;
+
+import com.swcampus.domain.review.LectureReviewStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class LectureReviewStatsEntityRepository implements LectureReviewStatsRepository {
+
+    private final LectureReviewStatsJpaRepository jpaRepository;
+
+    @Override
+    public void applyDelta(Long lectureId, long countDelta, double scoreDelta) {
+        jpaRepository.applyDelta(lectureId, countDelta, scoreDelta);
+    }
+
+    @Override
+    public int reconcile() {
+        return jpaRepository.reconcile();
+    }
+}
@@ -0,0 +1,73 @@
+package com.swcampus.infra.postgres.review;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LectureReviewStatsJpaRepository extends JpaRepository<LectureReviewStatsEntity, Long> {
+
+    /**
+     * 증감분 반영 (행이 없으면 생성). 후기 수가 0 이하가 되면 0으로 초기화한다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO lecture_review_stats (lecture_id, review_count, score_sum, average_score, last_updated)
+            VALUES (
+                :lectureId,
+                GREATEST(:countDelta, 0),
+                CASE WHEN :countDelta > 0 THEN :scoreDelta ELSE 0 END,
+                CASE WHEN :countDelta > 0 THEN :scoreDelta / :countDelta ELSE 0 END,
+                now()
+            )
+            ON CONFLICT (lecture_id) DO UPDATE SET
+                review_count = GREATEST(lecture_review_stats.review_count + :countDelta, 0),
+                score_sum = CASE WHEN lecture_review_stats.review_count + :countDelta > 0
+                    THEN lecture_review_stats.score_sum + :scoreDelta ELSE 0 END,
+                average_score = CASE WHEN lecture_review_stats.review_count + :countDelta > 0
+                    THEN (lecture_review_stats.score_sum + :scoreDelta) / (lecture_review_stats.review_count + :countDelta)
+                    ELSE 0 END,
+                last_updated = now()
+            """, nativeQuery = true)
+    int applyDelta(@Param("lectureId") Long lectureId,
+                   @Param("countDelta") long countDelta,
+                   @Param("scoreDelta") double scoreDelta);
+
+    /**
+     * 승인 후기 원본으로 다시 집계하여 어긋난 행만 덮어쓴다.
+     * 반환: 보정된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            WITH actual AS (
+                SELECT r.lecture_id, COUNT(*) AS review_count, SUM(COALESCE(r.score, 0)) AS score_sum
+                FROM reviews r
+                JOIN lectures l ON l.lecture_id = r.lecture_id
+                WHERE r.approval_status = 'APPROVED'
+                GROUP BY r.lecture_id
+            ),
+            drifted AS (
+                SELECT COALESCE(a.lecture_id, s.lecture_id) AS lecture_id,
+                       COALESCE(a.review_count, 0) AS review_count,
+                       COALESCE(a.score_sum, 0) AS score_sum
+                FROM actual a
+                FULL JOIN lecture_review_stats s ON s.lecture_id = a.lecture_id
+                WHERE s.lecture_id IS NULL
+                   OR s.review_count <> COALESCE(a.review_count, 0)
+                   OR ABS(s.score_sum - COALESCE(a.score_sum, 0)) > 1e-6
+            )
+            INSERT INTO lecture_review_stats (lecture_id, review_count, score_sum, average_score, last_updated)
+            SELECT lecture_id,
+                   review_count,
+                   score_sum,
+                   CASE WHEN review_count > 0 THEN score_sum / review_count ELSE 0 END,
+                   now()
+            FROM drifted
+            ON CONFLICT (lecture_id) DO UPDATE SET
+                review_count = EXCLUDED.review_count,
+                score_sum = EXCLUDED.score_sum,
+                average_score = EXCLUDED.average_score,
+                last_updated = EXCLUDED.last_updated
+            """, nativeQuery = true)
+    int reconcile();
+}
@@ -18,6 +18,7 @@ import java.util.Optional;
 public class ReviewEntityRepository implements ReviewRepository {
 
     private final ReviewJpaRepository jpaRepository;
+    private final LectureReviewStatsJpaRepository statsJpaRepository;
 
     @Override
     public Review save(Review review) {
@@ -124,7 +125,7 @@ public class ReviewEntityRepository implements ReviewRepository {
     }
 
     /**
-     * 여러 강의의 리뷰 통계(평균점수, 리뷰수)를 한 번에 조회 (2 쿼리 → 1 쿼리 최적화)
+     * 여러 강의의 리뷰 통계(평균점수, 리뷰수)를 사전 집계 테이블(lecture_review_stats)에서 조회
      * 
      * @return Map<lectureId, Map<"avgScore"|"reviewCount", value>>
      */
@@ -133,13 +134,12 @@ public class ReviewEntityRepository implements ReviewRepository {
         if (lectureIds == null || lectureIds.isEmpty()) {
             return java.util.Collections.emptyMap();
         }
-        List<Object[]> results = jpaRepository.findReviewStatsByLectureIds(lectureIds, ApprovalStatus.APPROVED);
-        return results.stream()
+        return statsJpaRepository.findAllById(lectureIds).stream()
                 .collect(java.util.stream.Collectors.toMap(
-                        row -> (Long) row[0],
-                        row -> Map.of(
-                                "avgScore", (Number) row[1],
-                                "reviewCount", (Number) row[2])));
+                        LectureReviewStatsEntity::getLectureId,
+                        stats -> Map.<String, Number>of(
+                                "avgScore", stats.getAverageScore(),
+                                "reviewCount", stats.getReviewCount())));
     }
 
     @Override
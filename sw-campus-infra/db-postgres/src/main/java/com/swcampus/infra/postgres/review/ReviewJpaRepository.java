@@ -62,19 +62,6 @@ public interface ReviewJpaRepository extends JpaRepository<ReviewEntity, Long> {
         List<Object[]> countReviewsByLectureIds(@Param("lectureIds") List<Long> lectureIds,
                         @Param("status") ApprovalStatus status);
 
-        /**
-         * 여러 강의의 리뷰 통계(평균점수, 리뷰수)를 한 번에 조회 (2 쿼리 → 1 쿼리 최적화)
-         * 반환: List of Object[] { lectureId, avgScore, reviewCount }
-         */
-        @Query("""
-                        SELECT r.lectureId, COALESCE(AVG(r.score), 0.0), COUNT(r)
-                        FROM ReviewEntity r
-                        WHERE r.lectureId IN :lectureIds AND r.approvalStatus = :status
-                        GROUP BY r.lectureId
-                        """)
-        List<Object[]> findReviewStatsByLectureIds(@Param("lectureIds") List<Long> lectureIds,
-                        @Param("status") ApprovalStatus status);
-
         @Query(value = """
                         SELECT DISTINCT r FROM ReviewEntity r
                         LEFT JOIN FETCH r.details
@@ -0,0 +1,38 @@
+-- V12: Add lecture review stats projection
+-- 강의별 승인 후기 통계 (후기 승인/반려/삭제 시 증분 갱신, 배치로 정합성 보정)
+
+CREATE TABLE swcampus.lecture_review_stats (
+    lecture_id BIGINT NOT NULL,
+    review_count BIGINT NOT NULL DEFAULT 0,
+    score_sum DOUBLE PRECISION NOT NULL DEFAULT 0,
+    average_score DOUBLE PRECISION NOT NULL DEFAULT 0,
+    last_updated TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT lecture_review_stats_pkey PRIMARY KEY (lecture_id),
+    CONSTRAINT fk_lecture_review_stats_lecture FOREIGN KEY (lecture_id)
+        REFERENCES swcampus.lectures(lecture_id) ON DELETE CASCADE
+);
+
+-- 평점순/리뷰순 정렬용 Index
+CREATE INDEX idx_lecture_review_stats_average_score
+    ON swcampus.lecture_review_stats(average_score DESC, lecture_id DESC);
+CREATE INDEX idx_lecture_review_stats_review_count
+    ON swcampus.lecture_review_stats(review_count DESC, lecture_id DESC);
+
+-- 기존 승인 후기로 초기 데이터 적재
+INSERT INTO swcampus.lecture_review_stats (lecture_id, review_count, score_sum, average_score, last_updated)
+SELECT r.lecture_id,
+       COUNT(*),
+       SUM(COALESCE(r.score, 0)),
+       SUM(COALESCE(r.score, 0)) / COUNT(*),
+       now()
+FROM swcampus.reviews r
+JOIN swcampus.lectures l ON l.lecture_id = r.lecture_id
+WHERE r.approval_status = 'APPROVED'
+GROUP BY r.lecture_id;
+
+COMMENT ON TABLE swcampus.lecture_review_stats IS '강의별 승인 후기 통계 (검색 정렬/상세 조회용 사전 집계)';
+COMMENT ON COLUMN swcampus.lecture_review_stats.lecture_id IS '강의 ID';
+COMMENT ON COLUMN swcampus.lecture_review_stats.review_count IS '승인된 후기 수';
+COMMENT ON COLUMN swcampus.lecture_review_stats.score_sum IS '승인된 후기 점수 합계';
+COMMENT ON COLUMN swcampus.lecture_review_stats.average_score IS '승인된 후기 평균 점수 (score_sum / review_count)';
+COMMENT ON COLUMN swcampus.lecture_review_stats.last_updated IS '마지막 갱신 시각';
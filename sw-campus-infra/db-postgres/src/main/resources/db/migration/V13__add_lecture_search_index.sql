@@ -0,0 +1,122 @@
+-- V13: Add lecture search index
+-- 강의 키워드 검색용 컬럼 (강의명 + 기관명 + 커리큘럼명 + 지원자격)
+-- - search_text: 부분 일치(ILIKE)용 원문, pg_trgm GIN Index로 한글 부분 검색도 Index 사용
+-- - search_vector: 관련도 정렬용 tsvector (강의명 A > 기관명 B > 커리큘럼/지원자격 C 가중치)
+-- - 원본 테이블 변경 시 트리거로 갱신
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE swcampus.lectures ADD COLUMN search_text TEXT NOT NULL DEFAULT '';
+ALTER TABLE swcampus.lectures ADD COLUMN search_vector TSVECTOR;
+
+-- 강의 검색 컬럼 재계산
+CREATE OR REPLACE FUNCTION swcampus.refresh_lecture_search(p_lecture_ids BIGINT[])
+RETURNS VOID
+LANGUAGE sql
+AS $$
+    UPDATE swcampus.lectures l
+    SET search_text = concat_ws(' ', base.lecture_name, o.org_name, cur.names, q.texts),
+        search_vector = setweight(to_tsvector('simple', coalesce(base.lecture_name, '')), 'A')
+            || setweight(to_tsvector('simple', coalesce(o.org_name, '')), 'B')
+            || setweight(to_tsvector('simple', concat_ws(' ', cur.names, q.texts)), 'C')
+    FROM swcampus.lectures base
+    LEFT JOIN swcampus.organizations o ON o.org_id = base.org_id
+    LEFT JOIN LATERAL (
+        SELECT string_agg(c.curriculum_name, ' ') AS names
+        FROM swcampus.lecture_curriculums lc
+        JOIN swcampus.curriculums c ON c.curriculum_id = lc.curriculum_id
+        WHERE lc.lecture_id = base.lecture_id
+    ) cur ON TRUE
+    LEFT JOIN LATERAL (
+        SELECT string_agg(lq.text, ' ') AS texts
+        FROM swcampus.lecture_quals lq
+        WHERE lq.lecture_id = base.lecture_id
+    ) q ON TRUE
+    WHERE l.lecture_id = base.lecture_id
+      AND base.lecture_id = ANY(p_lecture_ids);
+$$;
+
+-- 강의명/기관 변경 (search_* 컬럼 갱신은 컬럼 목록에 없으므로 재귀 호출되지 않음)
+CREATE OR REPLACE FUNCTION swcampus.lecture_search_on_lecture()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM swcampus.refresh_lecture_search(ARRAY[NEW.lecture_id]);
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_lecture_search_on_lecture
+    AFTER INSERT OR UPDATE OF lecture_name, org_id ON swcampus.lectures
+    FOR EACH ROW EXECUTE FUNCTION swcampus.lecture_search_on_lecture();
+
+-- 커리큘럼 연결/지원자격 변경 (lecture_id 컬럼을 가진 자식 테이블 공용)
+CREATE OR REPLACE FUNCTION swcampus.lecture_search_on_child()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.lecture_id IS NOT NULL THEN
+        PERFORM swcampus.refresh_lecture_search(ARRAY[OLD.lecture_id]);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.lecture_id IS NOT NULL THEN
+        PERFORM swcampus.refresh_lecture_search(ARRAY[NEW.lecture_id]);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_lecture_search_on_curriculum_link
+    AFTER INSERT OR UPDATE OR DELETE ON swcampus.lecture_curriculums
+    FOR EACH ROW EXECUTE FUNCTION swcampus.lecture_search_on_child();
+
+CREATE TRIGGER trg_lecture_search_on_qual
+    AFTER INSERT OR UPDATE OR DELETE ON swcampus.lecture_quals
+    FOR EACH ROW EXECUTE FUNCTION swcampus.lecture_search_on_child();
+
+-- 기관명 변경
+CREATE OR REPLACE FUNCTION swcampus.lecture_search_on_organization()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM swcampus.refresh_lecture_search(
+        ARRAY(SELECT l.lecture_id FROM swcampus.lectures l WHERE l.org_id = NEW.org_id));
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_lecture_search_on_organization
+    AFTER UPDATE OF org_name ON swcampus.organizations
+    FOR EACH ROW EXECUTE FUNCTION swcampus.lecture_search_on_organization();
+
+-- 커리큘럼명 변경
+CREATE OR REPLACE FUNCTION swcampus.lecture_search_on_curriculum()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM swcampus.refresh_lecture_search(
+        ARRAY(SELECT lc.lecture_id FROM swcampus.lecture_curriculums lc WHERE lc.curriculum_id = NEW.curriculum_id));
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_lecture_search_on_curriculum
+    AFTER UPDATE OF curriculum_name ON swcampus.curriculums
+    FOR EACH ROW EXECUTE FUNCTION swcampus.lecture_search_on_curriculum();
+
+-- 기존 강의 색인
+SELECT swcampus.refresh_lecture_search(ARRAY(SELECT lecture_id FROM swcampus.lectures));
+
+-- Index 생성
+CREATE INDEX idx_lectures_search_text_trgm
+    ON swcampus.lectures USING gin (search_text gin_trgm_ops);
+CREATE INDEX idx_lectures_search_vector
+    ON swcampus.lectures USING gin (search_vector);
+CREATE INDEX idx_lectures_location_trgm
+    ON swcampus.lectures USING gin (location gin_trgm_ops);
+
+COMMENT ON COLUMN swcampus.lectures.search_text IS '키워드 검색용 원문 (강의명, 기관명, 커리큘럼명, 지원자격) - 트리거로 갱신';
+COMMENT ON COLUMN swcampus.lectures.search_vector IS '관련도 정렬용 tsvector - 트리거로 갱신';
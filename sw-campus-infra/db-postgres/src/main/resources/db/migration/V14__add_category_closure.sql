@@ -0,0 +1,54 @@
+-- V14: Add category closure table
+-- 강의 카테고리 계층의 (조상, 자손) 전체 쌍 (자기 자신 포함, depth 0)
+-- - 하위 카테고리 조회를 재귀/중첩 서브쿼리 없이 단일 JOIN으로 처리하기 위한 테이블
+-- - categories 변경 시 트리거로 전체 재계산 (카테고리 수가 적어 전체 재계산 비용이 작음)
+
+CREATE TABLE swcampus.category_closure (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INTEGER NOT NULL,
+    CONSTRAINT category_closure_pkey PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+-- 자손 -> 조상 역방향 조회용 Index
+CREATE INDEX idx_category_closure_descendant
+    ON swcampus.category_closure(descendant_id, ancestor_id);
+
+-- 클로저 전체 재계산 (순환 참조 방지를 위해 깊이 제한)
+CREATE OR REPLACE FUNCTION swcampus.rebuild_category_closure()
+RETURNS VOID
+LANGUAGE sql
+AS $$
+    DELETE FROM swcampus.category_closure;
+
+    INSERT INTO swcampus.category_closure (ancestor_id, descendant_id, depth)
+    WITH RECURSIVE tree AS (
+        SELECT category_id AS ancestor_id, category_id AS descendant_id, 0 AS depth
+        FROM swcampus.categories
+        UNION ALL
+        SELECT t.ancestor_id, c.category_id, t.depth + 1
+        FROM tree t
+        JOIN swcampus.categories c ON c.pid = t.descendant_id AND c.category_id <> c.pid
+        WHERE t.depth < 10
+    )
+    SELECT ancestor_id, descendant_id, MIN(depth)
+    FROM tree
+    GROUP BY ancestor_id, descendant_id;
+$$;
+
+CREATE OR REPLACE FUNCTION swcampus.category_closure_on_change()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM swcampus.rebuild_category_closure();
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_category_closure
+    AFTER INSERT OR DELETE OR UPDATE OF category_id, pid ON swcampus.categories
+    FOR EACH STATEMENT EXECUTE FUNCTION swcampus.category_closure_on_change();
+
+-- 기존 카테고리로 초기 데이터 적재
+SELECT swcampus.rebuild_category_closure();
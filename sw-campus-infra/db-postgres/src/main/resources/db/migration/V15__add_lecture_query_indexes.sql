@@ -0,0 +1,77 @@
+-- V15: Add lecture query indexes
+-- 강의 검색/정렬/배치 쿼리별 Index (LectureMapper 검색 조건 + LectureSortType 정렬 키)
+-- - 검색 조건의 승인 상태는 바인딩 파라미터이므로 partial Index 대신 선두 컬럼으로 둔다
+--   (generic plan에서도 Index 사용 가능)
+-- - 정렬 키는 모두 (updated_at DESC, lecture_id DESC)로 끝나므로 같은 순서로 둔다
+-- - 쿼리 플랜 회귀는 LectureQueryPlanTest(EXPLAIN)로 검증한다
+
+-- ========================================
+-- 1. lectures
+-- ========================================
+
+-- LATEST (기본 정렬): 승인 상태 + 모집중 우선 + 수정일 순, 관리자 승인 대기 목록
+CREATE INDEX idx_lectures_auth_status_updated
+    ON swcampus.lectures(lecture_auth_status, status, updated_at DESC, lecture_id DESC);
+
+-- FEE_ASC / FEE_DESC, 자부담 상한(maxFee), 유료 필터
+CREATE INDEX idx_lectures_auth_fee
+    ON swcampus.lectures(lecture_auth_status, lecture_fee, updated_at DESC, lecture_id DESC);
+
+-- DURATION_ASC / DURATION_DESC
+CREATE INDEX idx_lectures_auth_total_days
+    ON swcampus.lectures(lecture_auth_status, total_days, updated_at DESC, lecture_id DESC);
+
+-- 국비/비국비 무료 필터
+CREATE INDEX idx_lectures_auth_recruit_type
+    ON swcampus.lectures(lecture_auth_status, recruit_type);
+
+-- START_SOON (모집중 강의의 마감 임박 순), 모집 마감 배치 (closeExpiredLectures)
+CREATE INDEX idx_lectures_recruiting_deadline
+    ON swcampus.lectures(deadline, lecture_id)
+    WHERE status = 'RECRUITING';
+
+-- 기관별 강의 목록
+CREATE INDEX idx_lectures_org_id
+    ON swcampus.lectures(org_id, lecture_auth_status);
+
+-- ========================================
+-- 2. 강의 자식 테이블
+-- ========================================
+
+-- 선발 절차 필터 EXISTS (lecture_id + step_type), 검색 결과 단계 조회 (lecture_id)
+CREATE INDEX idx_lecture_steps_lecture_type
+    ON swcampus.lecture_steps(lecture_id, step_type);
+
+-- 검색 JOIN (강의 -> 커리큘럼), 카테고리 필터 (커리큘럼 -> 강의)
+CREATE INDEX idx_lecture_curriculums_lecture_id
+    ON swcampus.lecture_curriculums(lecture_id, curriculum_id);
+CREATE INDEX idx_lecture_curriculums_curriculum_id
+    ON swcampus.lecture_curriculums(curriculum_id, lecture_id);
+
+-- 카테고리 필터 (카테고리 -> 커리큘럼)
+CREATE INDEX idx_curriculums_category_id
+    ON swcampus.curriculums(category_id);
+
+-- 강의 상세 조회, 검색 컬럼 재계산 (V13 트리거)
+CREATE INDEX idx_lecture_quals_lecture_id
+    ON swcampus.lecture_quals(lecture_id);
+CREATE INDEX idx_lecture_adds_lecture_id
+    ON swcampus.lecture_adds(lecture_id);
+CREATE INDEX idx_lecture_teachers_lecture_id
+    ON swcampus.lecture_teachers(lecture_id);
+
+-- ========================================
+-- 3. reviews
+-- ========================================
+
+-- 강의 상세 후기 목록 (lecture_id + 승인 상태)
+CREATE INDEX idx_reviews_lecture_status
+    ON swcampus.reviews(lecture_id, approval_status);
+
+-- 내 후기 조회, 후기 중복 작성 확인 (user_id + lecture_id)
+CREATE INDEX idx_reviews_user_lecture
+    ON swcampus.reviews(user_id, lecture_id);
+
+-- 관리자 후기 승인 대기 목록
+CREATE INDEX idx_reviews_approval_status
+    ON swcampus.reviews(approval_status, created_at DESC);
@@ -0,0 +1,35 @@
+-- V16: Add lecture selection step flags
+-- 선발 절차 비정규화 컬럼 (강의 저장 시 LectureEntityRepository에서 함께 기록)
+-- - selection_flags: 절차 유형별 비트 (DOCUMENT 1, INTERVIEW 2, CODING_TEST 4, PRE_TASK 8)
+--   검색의 선발 절차 필터를 LECTURE_STEPS EXISTS 서브쿼리 대신 이 컬럼 하나로 처리
+-- - selection_steps: step_order 순 절차 유형 (콤마 구분), 검색 결과에서 LECTURE_STEPS 재조회 없이 절차 목록 구성
+
+ALTER TABLE swcampus.lectures ADD COLUMN selection_flags SMALLINT NOT NULL DEFAULT 0;
+ALTER TABLE swcampus.lectures ADD COLUMN selection_steps VARCHAR(255) NOT NULL DEFAULT '';
+
+-- 기존 강의 절차로 초기 데이터 적재
+UPDATE swcampus.lectures l
+SET selection_flags = s.flags,
+    selection_steps = s.steps
+FROM (
+    SELECT ls.lecture_id,
+           bit_or(CASE ls.step_type
+                      WHEN 'DOCUMENT' THEN 1
+                      WHEN 'INTERVIEW' THEN 2
+                      WHEN 'CODING_TEST' THEN 4
+                      WHEN 'PRE_TASK' THEN 8
+                      ELSE 0
+                  END)::SMALLINT AS flags,
+           string_agg(ls.step_type, ',' ORDER BY ls.step_order, ls.step_id) AS steps
+    FROM swcampus.lecture_steps ls
+    WHERE ls.lecture_id IS NOT NULL
+    GROUP BY ls.lecture_id
+) s
+WHERE l.lecture_id = s.lecture_id;
+
+-- 선발 절차 필터 (승인 상태 + 절차 비트 조합)
+CREATE INDEX idx_lectures_auth_selection_flags
+    ON swcampus.lectures(lecture_auth_status, selection_flags);
+
+COMMENT ON COLUMN swcampus.lectures.selection_flags IS '선발 절차 비트 (DOCUMENT 1, INTERVIEW 2, CODING_TEST 4, PRE_TASK 8)';
+COMMENT ON COLUMN swcampus.lectures.selection_steps IS 'step_order 순 선발 절차 유형 (콤마 구분)';
@@ -0,0 +1,31 @@
+-- V17: Add notification outbox
+-- 댓글 알림 발송 대기열 (댓글과 같은 트랜잭션에서 기록, NotificationOutboxDispatcher가 비동기로 알림 생성 및 SSE 발행)
+-- - attempts / next_attempt_at: 선점 시 시도 횟수를 올리고 다음 시도 시각을 지수 백오프로 미뤄 둔다
+--   발송에 성공하면 행을 삭제하고, 실패하면 next_attempt_at 이후 다시 선점된다
+-- - 최대 시도 횟수를 넘긴 행은 삭제하지 않고 남겨 둔다 (수동 확인용)
+
+CREATE TABLE swcampus.notification_outbox (
+    outbox_id BIGSERIAL NOT NULL,
+    recipient_id BIGINT NOT NULL,
+    sender_id BIGINT NOT NULL,
+    target_id BIGINT NOT NULL,
+    post_id BIGINT,
+    type TEXT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    CONSTRAINT notification_outbox_pkey PRIMARY KEY (outbox_id),
+    CONSTRAINT notification_outbox_type_check CHECK (type IN ('COMMENT', 'LIKE', 'REPLY', 'ADOPT'))
+);
+
+-- 발송 대상 선점 (next_attempt_at 도래 순)
+CREATE INDEX idx_notification_outbox_next_attempt
+    ON swcampus.notification_outbox(next_attempt_at, outbox_id);
+
+COMMENT ON TABLE swcampus.notification_outbox IS '알림 발송 대기열 (transactional outbox)';
+COMMENT ON COLUMN swcampus.notification_outbox.recipient_id IS '알림 수신자 ID';
+COMMENT ON COLUMN swcampus.notification_outbox.sender_id IS '알림 발신자 ID';
+COMMENT ON COLUMN swcampus.notification_outbox.target_id IS '알림 대상 ID (댓글 ID)';
+COMMENT ON COLUMN swcampus.notification_outbox.post_id IS '알림 대상 게시글 ID';
+COMMENT ON COLUMN swcampus.notification_outbox.attempts IS '발송 시도 횟수';
+COMMENT ON COLUMN swcampus.notification_outbox.next_attempt_at IS '다음 발송 시도 가능 시각';
@@ -0,0 +1,25 @@
+-- V18: Add notification post_id and feed index
+-- 알림 목록 키셋 페이지네이션 (user_id, created_at DESC, noti_id DESC)
+-- - post_id: 알림 생성 시 함께 기록해, 조회 시 댓글 테이블을 다시 읽지 않는다
+-- - 일괄 저장된 알림은 created_at이 같을 수 있어 noti_id를 마지막 정렬 키로 둔다
+
+ALTER TABLE swcampus.notifications ADD COLUMN post_id BIGINT;
+
+-- 기존 알림의 게시글 ID 적재 (대상이 댓글인 알림)
+UPDATE swcampus.notifications n
+SET post_id = c.post_id
+FROM swcampus.comments c
+WHERE c.comment_id = n.target_id;
+
+CREATE INDEX idx_notifications_user_created
+    ON swcampus.notifications(user_id, created_at DESC, noti_id DESC);
+
+-- 읽지 않은 알림 수 재계산용 (Redis 카운터 미스 시)
+CREATE INDEX idx_notifications_user_unread
+    ON swcampus.notifications(user_id) WHERE is_read = FALSE;
+
+-- 위 두 인덱스로 대체
+DROP INDEX IF EXISTS swcampus.idx_notifications_user_id;
+DROP INDEX IF EXISTS swcampus.idx_notifications_is_read;
+
+COMMENT ON COLUMN swcampus.notifications.post_id IS '알림 대상 게시글 ID (생성 시 기록)';
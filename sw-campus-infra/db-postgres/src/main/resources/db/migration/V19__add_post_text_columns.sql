@@ -0,0 +1,15 @@
+-- V19: Add post preview / body text columns
+-- 게시글 작성·수정 시 HTML 본문에서 한 번만 추출해 저장한다
+-- - post_preview: 비로그인 사용자용 미리보기 (h3 제외, 200자)
+-- - post_body_text: 태그를 제거한 본문 텍스트 (키워드 검색용)
+-- 기존 게시글은 postTextBackfillJob이 채우며, 채워지기 전에는 조회 시 본문에서 추출한다
+
+ALTER TABLE swcampus.posts ADD COLUMN post_preview TEXT;
+ALTER TABLE swcampus.posts ADD COLUMN post_body_text TEXT;
+
+-- 백필 대상 조회용 (백필이 끝나면 비게 됨)
+CREATE INDEX idx_posts_text_backfill
+    ON swcampus.posts(post_id) WHERE post_preview IS NULL;
+
+COMMENT ON COLUMN swcampus.posts.post_preview IS '비로그인 사용자용 본문 미리보기';
+COMMENT ON COLUMN swcampus.posts.post_body_text IS 'HTML 태그를 제거한 본문 텍스트 (검색용)';
@@ -0,0 +1,35 @@
+-- V20: Rework refresh tokens into login sessions
+-- 회원당 토큰 한 개 대신 로그인 세션(기기)마다 한 행을 둔다 (auth.refresh-token.store=postgres일 때 사용, 기본 저장소는 Redis)
+-- - token_hash: 토큰 원문 대신 SHA-256 해시를 저장한다
+-- - previous_token_hash / rotated_at: 회전 직후 동시 갱신 요청을 허용하기 위한 직전 토큰 해시
+-- - email / role: 갱신 시 회원을 다시 조회하지 않기 위한 스냅샷
+-- 기존 토큰에는 세션 ID가 없어 이어 쓸 수 없으므로 테이블을 새로 만든다 (배포 후 재로그인 필요)
+
+DROP TABLE swcampus.refresh_tokens;
+DROP SEQUENCE IF EXISTS swcampus.refresh_tokens_id_seq;
+
+CREATE TABLE swcampus.refresh_tokens (
+    session_id TEXT NOT NULL,
+    user_id BIGINT NOT NULL,
+    token_hash TEXT NOT NULL,
+    previous_token_hash TEXT,
+    rotated_at TIMESTAMP(6) WITHOUT TIME ZONE,
+    email TEXT,
+    role TEXT,
+    expires_at TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL,
+    created_at TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT refresh_tokens_pkey PRIMARY KEY (session_id)
+);
+
+-- 회원별 세션 수 제한 (오래된 세션부터 폐기)
+CREATE INDEX idx_refresh_tokens_user_created
+    ON swcampus.refresh_tokens(user_id, created_at);
+
+COMMENT ON TABLE swcampus.refresh_tokens IS '로그인 세션별 Refresh Token';
+COMMENT ON COLUMN swcampus.refresh_tokens.session_id IS '로그인 세션 ID (Refresh Token의 sid 클레임)';
+COMMENT ON COLUMN swcampus.refresh_tokens.user_id IS '회원 ID';
+COMMENT ON COLUMN swcampus.refresh_tokens.token_hash IS '현재 Refresh Token의 SHA-256 해시';
+COMMENT ON COLUMN swcampus.refresh_tokens.previous_token_hash IS '직전 Refresh Token의 SHA-256 해시';
+COMMENT ON COLUMN swcampus.refresh_tokens.rotated_at IS '마지막 회전 시각';
+COMMENT ON COLUMN swcampus.refresh_tokens.email IS '발급 시점 회원 이메일';
+COMMENT ON COLUMN swcampus.refresh_tokens.role IS '발급 시점 회원 권한';
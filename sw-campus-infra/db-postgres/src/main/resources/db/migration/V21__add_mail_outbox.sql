@@ -0,0 +1,34 @@
+-- V21: Add mail outbox
+-- 메일 발송 대기열 (원본 변경과 같은 트랜잭션에서 기록, MailOutboxDispatcher가 배치로 SMTP 발송)
+-- - idempotency_key: 같은 메일을 구분하는 키, 대기 중인 메일과 같으면 기록하지 않는다
+--   발송에 성공한 행은 삭제되고, 최대 시도 횟수를 넘긴 행은 유니크 인덱스에서 빠지므로
+--   중복 방지는 대기 중인 메일에만 적용된다 (인덱스 조건은 MailOutboxService.MAX_ATTEMPTS와 같아야 한다)
+-- - attempts / next_attempt_at: 선점과 재시도 방식은 V17 notification_outbox와 같다
+
+CREATE TABLE swcampus.mail_outbox (
+    outbox_id BIGSERIAL NOT NULL,
+    idempotency_key TEXT NOT NULL,
+    recipient TEXT NOT NULL,
+    subject TEXT NOT NULL,
+    content TEXT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    CONSTRAINT mail_outbox_pkey PRIMARY KEY (outbox_id)
+);
+
+-- 대기 중인 메일의 중복 방지 (시도 횟수를 다 쓴 행이 같은 키의 새 메일을 막지 않도록 부분 인덱스)
+CREATE UNIQUE INDEX uk_mail_outbox_pending_idempotency_key
+    ON swcampus.mail_outbox(idempotency_key) WHERE attempts < 8;
+
+-- 발송 대상 선점 (next_attempt_at 도래 순)
+CREATE INDEX idx_mail_outbox_next_attempt
+    ON swcampus.mail_outbox(next_attempt_at, outbox_id);
+
+COMMENT ON TABLE swcampus.mail_outbox IS '메일 발송 대기열 (transactional outbox)';
+COMMENT ON COLUMN swcampus.mail_outbox.idempotency_key IS '중복 발송 방지 키 (예: email-verification:{token})';
+COMMENT ON COLUMN swcampus.mail_outbox.recipient IS '수신자 이메일';
+COMMENT ON COLUMN swcampus.mail_outbox.subject IS '메일 제목';
+COMMENT ON COLUMN swcampus.mail_outbox.content IS '메일 본문 (HTML)';
+COMMENT ON COLUMN swcampus.mail_outbox.attempts IS '발송 시도 횟수';
+COMMENT ON COLUMN swcampus.mail_outbox.next_attempt_at IS '다음 발송 시도 가능 시각';
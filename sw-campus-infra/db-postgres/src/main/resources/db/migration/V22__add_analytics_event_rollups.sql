@@ -0,0 +1,36 @@
+-- V22: Add first-party analytics event rollups
+-- 자체 수집 이벤트(강의 조회/신청·공유 클릭, 배너 클릭, 검색) 집계 테이블
+-- - 원본 이벤트는 저장하지 않고, AnalyticsEventService가 메모리에서 (분, 유형, 대상) 단위로 합산한 값을 더한다
+-- - analytics_event_minute: 분 단위 집계 (최근 구간 확인용, 보관 기간이 지나면 삭제)
+-- - analytics_event_daily: 일 단위 집계 (관리자 통계 조회용, 기간 조건은 bucket_date로 필터)
+-- - target_id: 강의/배너 ID (검색은 0), term: 검색어 (검색 외에는 빈 문자열)
+
+CREATE TABLE swcampus.analytics_event_minute (
+    bucket_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    event_type TEXT NOT NULL,
+    target_id BIGINT NOT NULL DEFAULT 0,
+    term TEXT NOT NULL DEFAULT '',
+    event_count BIGINT NOT NULL,
+    CONSTRAINT analytics_event_minute_pkey PRIMARY KEY (bucket_at, event_type, target_id, term)
+);
+
+CREATE TABLE swcampus.analytics_event_daily (
+    event_type TEXT NOT NULL,
+    bucket_date DATE NOT NULL,
+    target_id BIGINT NOT NULL DEFAULT 0,
+    term TEXT NOT NULL DEFAULT '',
+    event_count BIGINT NOT NULL,
+    CONSTRAINT analytics_event_daily_pkey PRIMARY KEY (event_type, bucket_date, target_id, term)
+);
+
+COMMENT ON TABLE swcampus.analytics_event_minute IS '자체 수집 이벤트 분 단위 집계';
+COMMENT ON COLUMN swcampus.analytics_event_minute.bucket_at IS '집계 구간 시작 시각 (분 단위)';
+COMMENT ON COLUMN swcampus.analytics_event_minute.event_type IS '이벤트 유형 (LECTURE_VIEW, LECTURE_APPLY_CLICK, LECTURE_SHARE, BANNER_CLICK, SEARCH)';
+COMMENT ON COLUMN swcampus.analytics_event_minute.target_id IS '강의 또는 배너 ID (검색은 0)';
+COMMENT ON COLUMN swcampus.analytics_event_minute.term IS '검색어 (검색 외에는 빈 문자열)';
+
+COMMENT ON TABLE swcampus.analytics_event_daily IS '자체 수집 이벤트 일 단위 집계';
+COMMENT ON COLUMN swcampus.analytics_event_daily.bucket_date IS '집계 날짜';
+COMMENT ON COLUMN swcampus.analytics_event_daily.event_type IS '이벤트 유형';
+COMMENT ON COLUMN swcampus.analytics_event_daily.target_id IS '강의 또는 배너 ID (검색은 0)';
+COMMENT ON COLUMN swcampus.analytics_event_daily.term IS '검색어 (검색 외에는 빈 문자열)';
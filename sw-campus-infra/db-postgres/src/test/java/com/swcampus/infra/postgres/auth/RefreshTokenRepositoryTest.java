@@ -2,6 +2,7 @@ package com.swcampus.infra.postgres.auth;
 
 import com.swcampus.domain.auth.RefreshToken;
 import com.swcampus.domain.auth.RefreshTokenRepository;
+import com.swcampus.domain.member.Role;
 import com.swcampus.infra.postgres.TestApplication;
 import com.swcampus.infra.postgres.TestJpaConfig;
 import org.junit.jupiter.api.DisplayName;
@@ -11,7 +12,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,50 +22,105 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 @ContextConfiguration(classes = TestApplication.class)
 @Import({RefreshTokenEntityRepository.class, TestJpaConfig.class})
+@TestPropertySource(properties = "auth.refresh-token.store=postgres")
 @ActiveProfiles("test")
 class RefreshTokenRepositoryTest {
 
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
+    private RefreshToken session(String sessionId, Long memberId, String token, LocalDateTime createdAt) {
+        return RefreshToken.of(sessionId, memberId, RefreshToken.hash(token), null, null,
+                "user@example.com", Role.USER, createdAt.plusDays(7), createdAt);
+    }
+
     @Test
-    @DisplayName("RefreshToken 저장 및 memberId로 조회")
-    void saveAndFindByMemberId() {
+    @DisplayName("RefreshToken 저장 및 sessionId로 조회")
+    void saveAndFindBySessionId() {
         // given
-        RefreshToken rt = RefreshToken.create(1L, "test-refresh-token", 604800);
+        RefreshToken rt = RefreshToken.create("session-1", 1L, "test-refresh-token", "user@example.com", Role.USER, 604800);
 
         // when
-        refreshTokenRepository.save(rt);
-        Optional<RefreshToken> found = refreshTokenRepository.findByMemberId(1L);
+        refreshTokenRepository.save(rt, 1);
+        Optional<RefreshToken> found = refreshTokenRepository.findBySessionId(1L, "session-1");
 
         // then
         assertThat(found).isPresent();
         assertThat(found.get().getMemberId()).isEqualTo(1L);
-        assertThat(found.get().getToken()).isEqualTo("test-refresh-token");
+        assertThat(found.get().isCurrent("test-refresh-token")).isTrue();
+        assertThat(found.get().getRole()).isEqualTo(Role.USER);
     }
 
     @Test
-    @DisplayName("token 값으로 조회")
-    void findByToken() {
+    @DisplayName("존재하지 않는 sessionId로 조회")
+    void findBySessionId_notFound() {
+        // when
+        Optional<RefreshToken> found = refreshTokenRepository.findBySessionId(1L, "unknown");
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 세션 수를 넘으면 가장 오래된 세션부터 폐기")
+    void save_evictsOldestSession() {
         // given
-        RefreshToken rt = RefreshToken.create(2L, "unique-token-value", 604800);
-        refreshTokenRepository.save(rt);
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(session("session-1", 1L, "token-1", now.minusMinutes(3)), 2);
+        refreshTokenRepository.save(session("session-2", 1L, "token-2", now.minusMinutes(2)), 2);
+        refreshTokenRepository.save(session("other", 2L, "token-x", now.minusMinutes(1)), 2);
 
         // when
-        Optional<RefreshToken> found = refreshTokenRepository.findByToken("unique-token-value");
+        refreshTokenRepository.save(session("session-3", 1L, "token-3", now), 2);
 
         // then
-        assertThat(found).isPresent();
-        assertThat(found.get().getMemberId()).isEqualTo(2L);
+        assertThat(refreshTokenRepository.findBySessionId(1L, "session-1")).isEmpty();
+        assertThat(refreshTokenRepository.findBySessionId(1L, "session-2")).isPresent();
+        assertThat(refreshTokenRepository.findBySessionId(1L, "session-3")).isPresent();
+        assertThat(refreshTokenRepository.findBySessionId(2L, "other")).isPresent();
     }
 
     @Test
-    @DisplayName("존재하지 않는 memberId로 조회")
-    void findByMemberId_notFound() {
+    @DisplayName("현재 토큰 해시가 일치할 때만 회전")
+    void rotate_compareAndSet() {
+        // given
+        refreshTokenRepository.save(session("session-1", 1L, "token-1", LocalDateTime.now()), 1);
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(7);
+
         // when
-        Optional<RefreshToken> found = refreshTokenRepository.findByMemberId(999L);
+        boolean first = refreshTokenRepository.rotate(1L, "session-1", RefreshToken.hash("token-1"),
+                RefreshToken.hash("token-2"), expiresAt);
+        boolean second = refreshTokenRepository.rotate(1L, "session-1", RefreshToken.hash("token-1"),
+                RefreshToken.hash("token-3"), expiresAt);
 
         // then
-        assertThat(found).isEmpty();
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        RefreshToken found = refreshTokenRepository.findBySessionId(1L, "session-1").orElseThrow();
+        assertThat(found.isCurrent("token-2")).isTrue();
+        assertThat(found.getPreviousTokenHash()).isEqualTo(RefreshToken.hash("token-1"));
+        assertThat(found.getRotatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("세션 단위 삭제와 회원 단위 삭제")
+    void delete() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(session("session-1", 1L, "token-1", now.minusMinutes(1)), 3);
+        refreshTokenRepository.save(session("session-2", 1L, "token-2", now), 3);
+
+        // when
+        refreshTokenRepository.deleteBySessionId(1L, "session-1");
+
+        // then
+        assertThat(refreshTokenRepository.findBySessionId(1L, "session-1")).isEmpty();
+        assertThat(refreshTokenRepository.findBySessionId(1L, "session-2")).isPresent();
+
+        // when
+        refreshTokenRepository.deleteByMemberId(1L);
+
+        // then
+        assertThat(refreshTokenRepository.findBySessionId(1L, "session-2")).isEmpty();
     }
 }
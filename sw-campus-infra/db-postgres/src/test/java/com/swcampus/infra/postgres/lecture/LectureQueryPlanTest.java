@@ -0,0 +1,279 @@
+package com.swcampus.infra.postgres.lecture;
+
+import com.swcampus.domain.lecture.LectureAuthStatus;
+import com.swcampus.domain.lecture.dto.LectureSearchCondition;
+import com.swcampus.domain.lecture.dto.LectureSortType;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 강의 핫 쿼리 플랜 회귀 테스트
+ * - 임베디드 PostgreSQL에 Flyway 마이그레이션 적용 후 합성 데이터를 적재하고 EXPLAIN 결과를 검사한다
+ * - 선택도가 낮은(결과가 적은) 조건에서 대용량 테이블을 Seq Scan 하면 Index가 빠졌거나 쿼리가 Index를 못 타는 것
+ * - 검색 쿼리는 LectureMapper.xml을 그대로 파싱해 실제 바인딩된 SQL로 검사한다
+ */
+class LectureQueryPlanTest {
+
+    private static final int LECTURE_COUNT = 50_000;
+    private static final long SYNTHETIC_ID_OFFSET = 1_000_000L;
+    private static final String RARE_KEYWORD = "zqxrare";
+
+    // Seq Scan 금지 대상 (데이터가 많은 테이블)
+    private static final Set<String> LARGE_TABLES =
+            Set.of("lectures", "lecture_curriculums", "lecture_steps", "reviews");
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    private static final String MAPPER_NAMESPACE = "com.swcampus.infra.postgres.lecture.mapper.LectureMapper";
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+    private static Configuration mybatis;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = postgres.getPostgresDatabase();
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("ALTER DATABASE postgres SET search_path TO swcampus, public");
+            seed(statement);
+        }
+
+        mybatis = new Configuration();
+        String resource = "mapper/lecture/LectureMapper.xml";
+        try (InputStream in = new ClassPathResource(resource).getInputStream()) {
+            new XMLMapperBuilder(in, mybatis, resource, mybatis.getSqlFragments()).parse();
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    /**
+     * 시드 강의를 복제해 합성 데이터 적재 (트리거/FK 검사 생략 후 검색 컬럼 일괄 계산)
+     * - 승인 대기 0.2%, 모집중 10% (그중 마감 지난 강의 0.5%), 희귀 키워드 0.1%
+     */
+    private static void seed(Statement statement) throws SQLException {
+        statement.execute("SET search_path TO swcampus, public");
+        statement.execute("SET session_replication_role = replica");
+
+        statement.execute("""
+                INSERT INTO lectures (lecture_id, org_id, lecture_name, lecture_loc, recruit_type, start_date, end_date,
+                        deadline, total_days, total_times, start_time, end_time, days, lecture_fee, subsidy, edu_subsidy,
+                        books, employment_help, resume, mock_interview, status, lecture_auth_status, location,
+                        selection_flags, selection_steps, created_at, updated_at)
+                SELECT %d + g, s.org_id,
+                       s.lecture_name || CASE WHEN g %% 1000 = 0 THEN ' %s' ELSE '' END || ' ' || g,
+                       s.lecture_loc, s.recruit_type, s.start_date, s.end_date,
+                       CASE WHEN g %% 10 <> 0 THEN now() - interval '30 days'
+                            WHEN g %% 200 = 0 THEN now() - interval '1 day'
+                            ELSE now() + (g %% 60) * interval '1 day' END,
+                       s.total_days + g %% 30, s.total_times, s.start_time, s.end_time, s.days,
+                       (g %% 50) * 10000, s.subsidy, s.edu_subsidy,
+                       s.books, s.employment_help, s.resume, s.mock_interview,
+                       CASE WHEN g %% 10 = 0 THEN 'RECRUITING' ELSE 'FINISHED' END,
+                       CASE WHEN g %% 500 = 1 THEN 'PENDING' WHEN g %% 100 = 2 THEN 'REJECTED' ELSE 'APPROVED' END,
+                       s.location,
+                       CASE WHEN g %% 3 = 0 THEN 1 | 4 ELSE 1 | 2 END,
+                       CASE WHEN g %% 3 = 0 THEN 'DOCUMENT,CODING_TEST' ELSE 'DOCUMENT,INTERVIEW' END,
+                       now() - g * interval '1 minute', now() - g * interval '1 minute'
+                FROM generate_series(1, %d) g
+                JOIN (SELECT l.*, row_number() OVER (ORDER BY l.lecture_id) - 1 AS idx FROM lectures l) s
+                  ON s.idx = g %% (SELECT COUNT(*) FROM lectures)
+                """.formatted(SYNTHETIC_ID_OFFSET, RARE_KEYWORD, LECTURE_COUNT));
+
+        statement.execute("""
+                INSERT INTO lecture_curriculums (id, lecture_id, curriculum_id, level)
+                SELECT %d + g * 3 + k, %d + g, c.curriculum_id, 'BASIC'
+                FROM generate_series(1, %d) g
+                CROSS JOIN generate_series(0, 2) k
+                JOIN (SELECT curriculum_id, row_number() OVER (ORDER BY curriculum_id) - 1 AS idx FROM curriculums) c
+                  ON c.idx = (g * 7 + k * 31) %% (SELECT COUNT(*) FROM curriculums)
+                """.formatted(SYNTHETIC_ID_OFFSET, SYNTHETIC_ID_OFFSET, LECTURE_COUNT));
+
+        statement.execute("""
+                INSERT INTO lecture_steps (step_id, lecture_id, step_type, step_order, created_at, updated_at)
+                SELECT %d + g * 2 + k, %d + g,
+                       CASE WHEN k = 0 THEN 'DOCUMENT' WHEN g %% 3 = 0 THEN 'CODING_TEST' ELSE 'INTERVIEW' END,
+                       k + 1, now(), now()
+                FROM generate_series(1, %d) g
+                CROSS JOIN generate_series(0, 1) k
+                """.formatted(SYNTHETIC_ID_OFFSET, SYNTHETIC_ID_OFFSET, LECTURE_COUNT));
+
+        statement.execute("""
+                INSERT INTO reviews (review_id, lecture_id, user_id, certificate_id, score, comment, blurred,
+                        approval_status, created_at, updated_at)
+                SELECT %d + g * 2 + k, %d + g, 1, %d + g * 2 + k, 4.0, '후기', false,
+                       CASE WHEN g %% 50 = 0 THEN 'PENDING' ELSE 'APPROVED' END, now(), now()
+                FROM generate_series(1, %d) g
+                CROSS JOIN generate_series(0, 1) k
+                """.formatted(SYNTHETIC_ID_OFFSET, SYNTHETIC_ID_OFFSET, SYNTHETIC_ID_OFFSET, LECTURE_COUNT));
+
+        statement.execute("SET session_replication_role = DEFAULT");
+        statement.execute("SELECT refresh_lecture_search(ARRAY(SELECT lecture_id FROM lectures WHERE lecture_id > %d))"
+                .formatted(SYNTHETIC_ID_OFFSET));
+        statement.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("관리자 승인 대기 강의 검색은 승인 상태 Index를 사용한다")
+    void search_pendingLectures() throws SQLException {
+        LectureSearchCondition condition = LectureSearchCondition.builder()
+                .lectureAuthStatus(LectureAuthStatus.PENDING)
+                .sort(LectureSortType.LATEST)
+                .pageable(PageRequest.of(0, 20))
+                .build();
+
+        assertNoSeqScanOnLargeTables(explainMapper("selectLectures", condition));
+        assertNoSeqScanOnLargeTables(explainMapper("countLectures", condition));
+    }
+
+    @Test
+    @DisplayName("키워드 검색은 검색 컬럼 Index를 사용한다")
+    void search_keyword() throws SQLException {
+        LectureSearchCondition condition = LectureSearchCondition.builder()
+                .text(RARE_KEYWORD)
+                .lectureAuthStatus(LectureAuthStatus.APPROVED)
+                .sort(LectureSortType.RELEVANCE)
+                .pageable(PageRequest.of(0, 20))
+                .build();
+
+        assertNoSeqScanOnLargeTables(explainMapper("selectLectures", condition));
+    }
+
+    @Test
+    @DisplayName("선발 절차 필터와 검색 결과 절차 목록은 LECTURE_STEPS를 조회하지 않는다")
+    void search_keywordWithStepFilter() throws SQLException {
+        LectureSearchCondition condition = LectureSearchCondition.builder()
+                .text(RARE_KEYWORD)
+                .hasCodingTest(true)
+                .hasInterview(false)
+                .lectureAuthStatus(LectureAuthStatus.APPROVED)
+                .sort(LectureSortType.LATEST)
+                .build();
+
+        String plan = explainMapper("selectLecturesAfter", condition, 21);
+
+        assertNoSeqScanOnLargeTables(plan);
+        assertThat(plan).doesNotContain("lecture_steps");
+    }
+
+    @Test
+    @DisplayName("모집 마감 배치는 모집중 마감일 partial Index를 사용한다")
+    void closeExpiredLectures() throws SQLException {
+        assertNoSeqScanOnLargeTables(explain("""
+                UPDATE lectures SET status = 'FINISHED', updated_at = ?
+                WHERE deadline < ? AND status = 'RECRUITING'
+                """, Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    @Test
+    @DisplayName("강의 상세 후기 목록은 강의별 후기 Index를 사용한다")
+    void approvedReviewsByLecture() throws SQLException {
+        assertNoSeqScanOnLargeTables(explain("""
+                SELECT r.* FROM reviews r WHERE r.lecture_id = ? AND r.approval_status = ?
+                """, SYNTHETIC_ID_OFFSET + 100, "APPROVED"));
+    }
+
+    @Test
+    @DisplayName("기관별 강의 목록은 기관 Index를 사용한다")
+    void lecturesByOrganization() throws SQLException {
+        assertNoSeqScanOnLargeTables(explain("""
+                SELECT l.* FROM lectures l WHERE l.org_id = ? AND l.lecture_auth_status = ?
+                """, 1L, "APPROVED"));
+    }
+
+    private String explainMapper(String statementId, LectureSearchCondition condition) throws SQLException {
+        return explainMapper(statementId, condition, null);
+    }
+
+    private String explainMapper(String statementId, LectureSearchCondition condition, Integer limit)
+            throws SQLException {
+        MappedStatement mappedStatement = mybatis.getMappedStatement(MAPPER_NAMESPACE + "." + statementId);
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put("cond", condition);
+        parameter.put("limit", limit);
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            new DefaultParameterHandler(mappedStatement, parameter, boundSql).setParameters(ps);
+            return readPlan(ps);
+        }
+    }
+
+    private String explain(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                ps.setObject(i + 1, parameters[i]);
+            }
+            return readPlan(ps);
+        }
+    }
+
+    private String readPlan(PreparedStatement ps) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private void assertNoSeqScanOnLargeTables(String plan) {
+        List<String> seqScans = new ArrayList<>();
+        Matcher matcher = SEQ_SCAN.matcher(plan);
+        while (matcher.find()) {
+            if (LARGE_TABLES.contains(matcher.group(1))) {
+                seqScans.add(matcher.group(1));
+            }
+        }
+        assertThat(seqScans)
+                .as("Seq Scan on large tables%n%s", plan)
+                .isEmpty();
+    }
+}
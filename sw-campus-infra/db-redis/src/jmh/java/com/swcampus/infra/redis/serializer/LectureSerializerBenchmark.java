@@ -0,0 +1,183 @@
+package com.swcampus.infra.redis.serializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.swcampus.domain.category.Category;
+import com.swcampus.domain.category.Curriculum;
+import com.swcampus.domain.lecture.CurriculumLevel;
+import com.swcampus.domain.lecture.Lecture;
+import com.swcampus.domain.lecture.LectureAdd;
+import com.swcampus.domain.lecture.LectureAuthStatus;
+import com.swcampus.domain.lecture.LectureCurriculum;
+import com.swcampus.domain.lecture.LectureDay;
+import com.swcampus.domain.lecture.LectureLocation;
+import com.swcampus.domain.lecture.LectureQual;
+import com.swcampus.domain.lecture.LectureQualType;
+import com.swcampus.domain.lecture.LectureStatus;
+import com.swcampus.domain.lecture.LectureStep;
+import com.swcampus.domain.lecture.RecruitType;
+import com.swcampus.domain.lecture.SelectionStepType;
+import com.swcampus.domain.teacher.Teacher;
+
+/**
+ * 강의 캐시 값 직렬화 포맷 비교 (ns/op, bytes/op)
+ * - json: 현재 GenericJackson2JsonRedisSerializer (default typing)
+ * - binary: LectureBinaryRedisSerializer (압축 없음)
+ * - binary-deflate: LectureBinaryRedisSerializer (1KB 이상 압축)
+ * - size: small(커리큘럼/강사 1개) / large(커리큘럼 10개, 강사 5개, 긴 소개 문구)
+ *
+ * bytes/op는 값 크기가 입력에 의해 결정되므로 Trial 시작 시 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LectureSerializerBenchmark {
+
+    @Param({ "json", "binary", "binary-deflate" })
+    private String format;
+
+    @Param({ "small", "large" })
+    private String size;
+
+    private RedisSerializer<Object> serializer;
+    private Lecture lecture;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        GenericJackson2JsonRedisSerializer json = jsonSerializer();
+        serializer = switch (format) {
+            case "binary" -> (RedisSerializer<Object>) (RedisSerializer<?>) new LectureBinaryRedisSerializer(0, json);
+            case "binary-deflate" -> (RedisSerializer<Object>) (RedisSerializer<?>) new LectureBinaryRedisSerializer(1024, json);
+            default -> json;
+        };
+        lecture = "large".equals(size) ? createLecture(10, 5, 20) : createLecture(1, 1, 1);
+        serialized = serializer.serialize(lecture);
+        System.out.printf("%n[%s/%s] bytes/op = %d%n", format, size, serialized.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(lecture);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+    private static GenericJackson2JsonRedisSerializer jsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfBaseType(Object.class)
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    private static Lecture createLecture(int curriculumCount, int teacherCount, int descriptionRepeat) {
+        List<LectureCurriculum> curriculums = new ArrayList<>();
+        for (long i = 1; i <= curriculumCount; i++) {
+            Category category = Category.builder()
+                    .categoryId(i)
+                    .pid(1L)
+                    .categoryName("카테고리 " + i)
+                    .sort((int) i)
+                    .build();
+            curriculums.add(LectureCurriculum.builder()
+                    .lectureId(1L)
+                    .curriculumId(i)
+                    .level(CurriculumLevel.BASIC)
+                    .curriculum(Curriculum.builder()
+                            .curriculumId(i)
+                            .categoryId(i)
+                            .curriculumName("커리큘럼 " + i)
+                            .curriculumDesc("커리큘럼 설명 ".repeat(descriptionRepeat))
+                            .category(category)
+                            .build())
+                    .build());
+        }
+
+        List<Teacher> teachers = new ArrayList<>();
+        for (long i = 1; i <= teacherCount; i++) {
+            teachers.add(Teacher.builder()
+                    .teacherId(i)
+                    .teacherName("강사 " + i)
+                    .teacherDescription("현업 10년차 개발자입니다. ".repeat(descriptionRepeat))
+                    .teacherImageUrl("https://bucket.s3.ap-northeast-2.amazonaws.com/teachers/" + i + ".png")
+                    .build());
+        }
+
+        return Lecture.builder()
+                .lectureId(1L)
+                .orgId(1L)
+                .orgName("테스트 기관")
+                .lectureName("풀스택 웹 개발자 양성과정")
+                .days(Set.of(LectureDay.MONDAY, LectureDay.TUESDAY, LectureDay.WEDNESDAY,
+                        LectureDay.THURSDAY, LectureDay.FRIDAY))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .lectureLoc(LectureLocation.OFFLINE)
+                .location("서울특별시 강남구 테헤란로 123")
+                .recruitType(RecruitType.CARD_REQUIRED)
+                .subsidy(BigDecimal.valueOf(316_000))
+                .lectureFee(BigDecimal.valueOf(12_000_000))
+                .eduSubsidy(BigDecimal.valueOf(116_000))
+                .goal("실무형 풀스택 개발자 양성 ".repeat(descriptionRepeat))
+                .maxCapacity(30)
+                .books(true)
+                .resume(true)
+                .mockInterview(true)
+                .employmentHelp(true)
+                .afterCompletion(false)
+                .url("https://example.com/apply")
+                .lectureImageUrl("https://bucket.s3.ap-northeast-2.amazonaws.com/lectures/1.png")
+                .status(LectureStatus.RECRUITING)
+                .lectureAuthStatus(LectureAuthStatus.APPROVED)
+                .averageScore(4.3)
+                .reviewCount(27L)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .updatedAt(LocalDateTime.of(2025, 1, 2, 10, 0))
+                .startAt(LocalDateTime.of(2025, 3, 1, 0, 0))
+                .endAt(LocalDateTime.of(2025, 8, 31, 0, 0))
+                .deadline(LocalDateTime.of(2025, 2, 28, 23, 59))
+                .totalDays(120)
+                .totalTimes(960)
+                .steps(List.of(
+                        LectureStep.builder().stepId(1L).lectureId(1L).stepType(SelectionStepType.DOCUMENT).stepOrder(1).build(),
+                        LectureStep.builder().stepId(2L).lectureId(1L).stepType(SelectionStepType.INTERVIEW).stepOrder(2).build()))
+                .adds(List.of(LectureAdd.builder().addId(1L).lectureId(1L).addName("노트북 지원").build()))
+                .quals(List.of(
+                        LectureQual.builder().qualId(1L).lectureId(1L).type(LectureQualType.REQUIRED).text("내일배움카드 소지자").build(),
+                        LectureQual.builder().qualId(2L).lectureId(1L).type(LectureQualType.PREFERRED).text("전공자 우대").build()))
+                .teachers(teachers)
+                .lectureCurriculums(curriculums)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.swcampus.infra.redis.auth;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.swcampus.domain.auth.RefreshToken;
+import com.swcampus.domain.auth.RefreshTokenRepository;
+import com.swcampus.domain.member.Role;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그인 세션별 Refresh Token 저장소 (Redis, 기본 저장소)
+ * - 세션: HASH(tokenHash, previousTokenHash, rotatedAt, email, role, expiresAt, createdAt), 만료 시각에 맞춰 PEXPIREAT
+ * - 회원별 세션 목록: ZSET(sessionId, score = 생성 시각)으로 세션 수 제한과 일괄 폐기에 사용
+ * - 회원 단위 hash tag({refresh:memberId})를 사용해 클러스터에서도 스크립트가 단일 슬롯에서 실행된다
+ * - 캐시가 아닌 원본 저장소이므로 Redis 오류를 삼키지 않는다 (갱신/로그인 실패로 드러나야 함)
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class RefreshTokenRedisRepository implements RefreshTokenRepository {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/auth/save_session.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/auth/rotate_session.lua"), Long.class);
+    private static final RedisScript<Long> REVOKE_MEMBER_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/auth/revoke_member.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void save(RefreshToken refreshToken, int maxSessions) {
+        Long memberId = refreshToken.getMemberId();
+        stringRedisTemplate.execute(SAVE_SCRIPT,
+                List.of(getSessionKey(memberId, refreshToken.getSessionId()), getSessionsKey(memberId)),
+                refreshToken.getSessionId(),
+                refreshToken.getTokenHash(),
+                refreshToken.getEmail() != null ? refreshToken.getEmail() : "",
+                refreshToken.getRole().name(),
+                String.valueOf(toEpochMilli(refreshToken.getExpiresAt())),
+                String.valueOf(toEpochMilli(refreshToken.getCreatedAt())),
+                String.valueOf(maxSessions),
+                getSessionKeyPrefix(memberId));
+    }
+
+    @Override
+    public Optional<RefreshToken> findBySessionId(Long memberId, String sessionId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(getSessionKey(memberId, sessionId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String email = (String) fields.get("email");
+        return Optional.of(RefreshToken.of(
+                sessionId,
+                memberId,
+                (String) fields.get("tokenHash"),
+                (String) fields.get("previousTokenHash"),
+                toLocalDateTime(fields.get("rotatedAt")),
+                email != null && !email.isEmpty() ? email : null,
+                Role.valueOf((String) fields.get("role")),
+                toLocalDateTime(fields.get("expiresAt")),
+                toLocalDateTime(fields.get("createdAt"))
+        ));
+    }
+
+    @Override
+    public boolean rotate(Long memberId, String sessionId, String expectedTokenHash, String newTokenHash,
+                          LocalDateTime expiresAt) {
+        Long rotated = stringRedisTemplate.execute(ROTATE_SCRIPT,
+                List.of(getSessionKey(memberId, sessionId), getSessionsKey(memberId)),
+                expectedTokenHash,
+                newTokenHash,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(toEpochMilli(expiresAt)));
+        return rotated != null && rotated == 1L;
+    }
+
+    @Override
+    public void deleteBySessionId(Long memberId, String sessionId) {
+        stringRedisTemplate.delete(getSessionKey(memberId, sessionId));
+        stringRedisTemplate.opsForZSet().remove(getSessionsKey(memberId), sessionId);
+    }
+
+    @Override
+    public void deleteByMemberId(Long memberId) {
+        stringRedisTemplate.execute(REVOKE_MEMBER_SCRIPT,
+                List.of(getSessionsKey(memberId)),
+                getSessionKeyPrefix(memberId));
+    }
+
+    private String getSessionKeyPrefix(Long memberId) {
+        return "{refresh:" + memberId + "}:session:";
+    }
+
+    private String getSessionKey(Long memberId, String sessionId) {
+        return getSessionKeyPrefix(memberId) + sessionId;
+    }
+
+    private String getSessionsKey(Long memberId) {
+        return "{refresh:" + memberId + "}:sessions";
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(Object epochMilli) {
+        if (epochMilli == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong((String) epochMilli)), ZONE);
+    }
+}
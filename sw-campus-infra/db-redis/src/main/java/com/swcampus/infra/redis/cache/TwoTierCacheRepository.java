@@ -0,0 +1,192 @@
+package com.swcampus.infra.redis.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단계 캐시 저장소 공통 구현 (L1: Caffeine, L2: Redis)
+ * - 조회: L1에서 찾고, 미스된 ID만 L2에서 조회해 L1을 채운다
+ * - 무효화: L2 삭제 후 Redis Pub/Sub으로 전파하여 모든 노드의 L1을 제거한다
+ *   (전파에 실패하면 다른 노드의 L1은 TTL 만료로 정리된다)
+ * - 메트릭: 계층별 hit/miss/eviction을 Micrometer로 노출한다 (cache={name}.local, {name}.redis)
+ * - 하위 클래스는 키 추출과 L2 저장소 호출만 구현한다
+ *
+ * @param <V> 캐시 값 타입 (Long ID로 식별)
+ */
+@Slf4j
+public abstract class TwoTierCacheRepository<V> implements MessageListener {
+
+    private final String name;
+    private final String invalidationTopic;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, V> localCache;
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Counter redisEvictionCounter;
+
+    /**
+     * @param name 메트릭과 로그에 쓰는 캐시 이름
+     * @param tags 메트릭 공통 태그
+     */
+    protected TwoTierCacheRepository(
+            String name,
+            String invalidationTopic,
+            Tags tags,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            long maximumSize,
+            long ttlSeconds) {
+        this.name = name;
+        this.invalidationTopic = invalidationTopic;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        String redisCacheName = name + ".redis";
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name + ".local", tags);
+        this.redisHitCounter = Counter.builder("cache.gets")
+                .tags(tags.and("cache", redisCacheName, "result", "hit"))
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("cache.gets")
+                .tags(tags.and("cache", redisCacheName, "result", "miss"))
+                .register(meterRegistry);
+        this.redisEvictionCounter = Counter.builder("cache.evictions")
+                .tags(tags.and("cache", redisCacheName))
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(invalidationTopic));
+    }
+
+    protected abstract Long keyOf(V value);
+
+    protected abstract Map<Long, V> loadAllRemote(List<Long> ids);
+
+    protected abstract void saveAllRemote(Collection<V> values);
+
+    protected abstract void deleteRemote(Long id);
+
+    /**
+     * L2 단건 조회 (단건 명령이 따로 있으면 재정의)
+     */
+    protected Optional<V> loadRemote(Long id) {
+        return Optional.ofNullable(loadAllRemote(List.of(id)).get(id));
+    }
+
+    /**
+     * L2 단건 저장 (단건 명령이 따로 있으면 재정의)
+     */
+    protected void saveRemote(V value) {
+        saveAllRemote(List.of(value));
+    }
+
+    protected final Optional<V> get(Long id) {
+        V local = localCache.getIfPresent(id);
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        Optional<V> remote = loadRemote(id);
+        if (remote.isPresent()) {
+            redisHitCounter.increment();
+            localCache.put(id, remote.get());
+        } else {
+            redisMissCounter.increment();
+        }
+        return remote;
+    }
+
+    protected final Map<Long, V> getAll(Collection<Long> ids) {
+        Map<Long, V> result = new HashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return result;
+        }
+
+        result.putAll(localCache.getAllPresent(ids));
+        List<Long> missedIds = new ArrayList<>();
+        for (Long id : ids) {
+            if (!result.containsKey(id)) {
+                missedIds.add(id);
+            }
+        }
+        if (missedIds.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, V> remote = loadAllRemote(missedIds);
+        redisHitCounter.increment(remote.size());
+        redisMissCounter.increment(missedIds.size() - remote.size());
+        localCache.putAll(remote);
+        result.putAll(remote);
+        return result;
+    }
+
+    protected final void put(V value) {
+        saveRemote(value);
+        localCache.put(keyOf(value), value);
+    }
+
+    protected final void putAll(Collection<V> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        saveAllRemote(values);
+        for (V value : values) {
+            localCache.put(keyOf(value), value);
+        }
+    }
+
+    protected final void evict(Long id) {
+        deleteRemote(id);
+        redisEvictionCounter.increment();
+        localCache.invalidate(id);
+        publishInvalidation(id);
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신 시 로컬 캐시 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.valueOf(body));
+            log.debug("Invalidated local {} cache by broadcast: {}", name, body);
+        } catch (NumberFormatException e) {
+            log.warn("Ignored malformed {} invalidation message: {}", name, body);
+        }
+    }
+
+    private void publishInvalidation(Long id) {
+        try {
+            stringRedisTemplate.convertAndSend(invalidationTopic, String.valueOf(id));
+        } catch (Exception e) {
+            log.error("Failed to publish {} cache invalidation: {}", name, id, e);
+        }
+    }
+}
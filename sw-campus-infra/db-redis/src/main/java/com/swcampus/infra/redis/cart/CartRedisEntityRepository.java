@@ -16,7 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CartRedisEntityRepository implements CartCacheRepository {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, List<Long>> cartRedisTemplate;
 
     private static final String KEY_PREFIX = "cart:";
     private static final long TTL_DAYS = 7;
@@ -25,7 +25,7 @@ public class CartRedisEntityRepository implements CartCacheRepository {
     public List<Long> getCartLectureIds(Long userId) {
         try {
             String key = getKey(userId);
-            Object value = redisTemplate.opsForValue().get(key);
+            Object value = cartRedisTemplate.opsForValue().get(key);
 
             if (value instanceof List<?>) {
                 List<?> list = (List<?>) value;
@@ -44,7 +44,7 @@ public class CartRedisEntityRepository implements CartCacheRepository {
     @Override
     public void saveCartLectureIds(Long userId, List<Long> lectureIds) {
         try {
-            redisTemplate.opsForValue().set(getKey(userId), lectureIds, TTL_DAYS, TimeUnit.DAYS);
+            cartRedisTemplate.opsForValue().set(getKey(userId), lectureIds, TTL_DAYS, TimeUnit.DAYS);
         } catch (Exception e) {
             log.error("Failed to save cart lecture ids for userId: {}", userId, e);
         }
@@ -53,7 +53,7 @@ public class CartRedisEntityRepository implements CartCacheRepository {
     @Override
     public void deleteCart(Long userId) {
         String key = getKey(userId);
-        redisTemplate.delete(key);
+        cartRedisTemplate.delete(key);
     }
 
     private String getKey(Long userId) {
@@ -0,0 +1,106 @@
+package com.swcampus.infra.redis.comment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.swcampus.domain.comment.CommentTree;
+import com.swcampus.domain.comment.CommentTreeCacheRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글별 댓글 트리 로컬 캐시 (Caffeine)
+ * - 변경은 이 노드의 트리에 증분 반영하고, Redis Pub/Sub으로 다른 노드에 알려 해당 트리를 제거하게 한다
+ * - 다른 노드는 다음 조회 시 DB에서 트리를 다시 구성한다 (메시지에 발행 노드 ID를 담아 자기 메시지는 무시)
+ */
+@Slf4j
+@Repository
+public class CommentTreeLocalCacheRepository implements CommentTreeCacheRepository, MessageListener {
+
+    static final String INVALIDATION_TOPIC = "comment:tree:invalidate";
+
+    private static final String LOCAL_CACHE_NAME = "comment.tree.local";
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, CommentTree> localCache;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CommentTreeLocalCacheRepository(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${cache.comment-tree.local.maximum-size:500}") long maximumSize,
+            @Value("${cache.comment-tree.local.ttl-seconds:600}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, LOCAL_CACHE_NAME, Tags.empty());
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_TOPIC));
+    }
+
+    @Override
+    public CommentTree get(Long postId, Function<Long, CommentTree> loader) {
+        return localCache.get(postId, loader);
+    }
+
+    @Override
+    public void update(Long postId, Consumer<CommentTree> change) {
+        // 구성 중인 트리가 있으면 구성이 끝난 뒤에 반영된다 (같은 키의 계산은 직렬화됨)
+        localCache.asMap().computeIfPresent(postId, (id, tree) -> {
+            change.accept(tree);
+            return tree;
+        });
+        publishInvalidation(postId);
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신 시 로컬 트리 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.lastIndexOf(MESSAGE_DELIMITER);
+        if (delimiter < 0) {
+            log.warn("Ignored malformed comment tree invalidation message: {}", body);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, delimiter))) {
+            return;
+        }
+        try {
+            localCache.invalidate(Long.valueOf(body.substring(delimiter + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignored malformed comment tree invalidation message: {}", body);
+        }
+    }
+
+    private void publishInvalidation(Long postId) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_TOPIC, nodeId + MESSAGE_DELIMITER + postId);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 트리는 TTL 만료로 정리됨
+            log.error("Failed to publish comment tree invalidation: {}", postId, e);
+        }
+    }
+}
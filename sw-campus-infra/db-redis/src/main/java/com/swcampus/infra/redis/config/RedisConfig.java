@@ -1,30 +1,107 @@
 package com.swcampus.infra.redis.config;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.swcampus.domain.lecture.Lecture;
+import com.swcampus.domain.member.ProfileSnapshot;
+import com.swcampus.infra.redis.serializer.LectureBinaryRedisSerializer;
+import com.swcampus.infra.redis.serializer.LongListBinaryRedisSerializer;
 
 @Configuration
 public class RedisConfig {
 
+    private static final String VALUE_FORMAT_BINARY = "binary";
+
+    // 캐시 값 포맷: json(기본) | binary (키 prefix별 전용 바이너리 직렬화기 사용)
+    @Value("${cache.redis.value-format:json}")
+    private String valueFormat;
+
+    // binary 포맷에서 이 크기(byte) 이상인 값은 압축 (0이면 비활성화)
+    @Value("${cache.redis.compression-threshold-bytes:1024}")
+    private int compressionThresholdBytes;
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
-        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        return createTemplate(redisConnectionFactory, jsonRedisSerializer());
+    }
+
+    /**
+     * 강의 캐시(lecture:*) 전용 템플릿
+     */
+    @Bean
+    public RedisTemplate<String, Lecture> lectureRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisSerializer<?> serializer = isBinaryFormat()
+                ? new LectureBinaryRedisSerializer(compressionThresholdBytes, jsonRedisSerializer())
+                : jsonRedisSerializer();
+        return createTemplate(redisConnectionFactory, serializer);
+    }
+
+    /**
+     * 장바구니 캐시(cart:*) 전용 템플릿
+     */
+    @Bean
+    public RedisTemplate<String, List<Long>> cartRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisSerializer<?> serializer = isBinaryFormat()
+                ? new LongListBinaryRedisSerializer(jsonRedisSerializer())
+                : jsonRedisSerializer();
+        return createTemplate(redisConnectionFactory, serializer);
+    }
+
+    /**
+     * 회원 프로필 캐시(member:profile:*) 전용 템플릿
+     * 값 타입이 고정되어 있으므로 타입 정보 없이 JSON으로 저장
+     */
+    @Bean
+    public RedisTemplate<String, ProfileSnapshot> memberProfileRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return createTemplate(redisConnectionFactory,
+                new Jackson2JsonRedisSerializer<>(new ObjectMapper(), ProfileSnapshot.class));
+    }
+
+    /**
+     * Redis Pub/Sub 구독 컨테이너
+     * 노드 간 로컬 캐시 무효화 메시지 수신에 사용
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    private <V> RedisTemplate<String, V> createTemplate(RedisConnectionFactory redisConnectionFactory,
+            RedisSerializer<?> valueSerializer) {
+        RedisTemplate<String, V> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory);
 
         // Key: String
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
 
-        // Value: JSON (JavaTimeModule 등록)
+        redisTemplate.setValueSerializer(valueSerializer);
+        redisTemplate.setHashValueSerializer(valueSerializer);
+
+        return redisTemplate;
+    }
+
+    /**
+     * Value: JSON (JavaTimeModule 등록, 타입 정보 포함)
+     */
+    private GenericJackson2JsonRedisSerializer jsonRedisSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -34,10 +111,10 @@ public class RedisConfig {
                         .build(),
                 ObjectMapper.DefaultTyping.NON_FINAL);
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-        redisTemplate.setValueSerializer(serializer);
-        redisTemplate.setHashValueSerializer(serializer);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
-        return redisTemplate;
+    private boolean isBinaryFormat() {
+        return VALUE_FORMAT_BINARY.equalsIgnoreCase(valueFormat);
     }
 }
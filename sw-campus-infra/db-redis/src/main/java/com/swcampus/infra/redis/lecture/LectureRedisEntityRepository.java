@@ -4,9 +4,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Repository;
 
 import com.swcampus.domain.lecture.Lecture;
@@ -17,24 +21,48 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Redis-based lecture cache repository implementation
+ * - TTL에 지터를 더해 동시에 저장된 키들이 한꺼번에 만료되지 않도록 한다
+ * - 조회 시 남은 TTL을 함께 확인해 만료 직전의 키는 확률적으로 미스 처리한다 (XFetch)
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class LectureRedisEntityRepository implements LectureCacheRepository {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, Lecture> lectureRedisTemplate;
 
     private static final String KEY_PREFIX = "lecture:";
-    private static final long TTL_MINUTES = 30;
+    private static final long TTL_SECONDS = TimeUnit.MINUTES.toSeconds(30);
+    private static final double TTL_JITTER_RATIO = 0.1;
+
+    // XFetch: 재계산 소요 시간(delta) 추정치와 조기 갱신 강도(beta)
+    @Value("${cache.lecture.early-refresh.delta-ms:1000}")
+    private long earlyRefreshDeltaMs;
+
+    @Value("${cache.lecture.early-refresh.beta:1.0}")
+    private double earlyRefreshBeta;
 
     @Override
     public Optional<Lecture> getLecture(Long lectureId) {
         try {
             String key = getKey(lectureId);
-            Object value = redisTemplate.opsForValue().get(key);
+            // GET + PTTL을 한 번의 왕복으로 조회
+            List<Object> results = lectureRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Lecture> ops = (RedisOperations<String, Lecture>) operations;
+                    ops.opsForValue().get(key);
+                    ops.getExpire(key, TimeUnit.MILLISECONDS);
+                    return null;
+                }
+            });
 
-            if (value instanceof Lecture lecture) {
+            if (results.get(0) instanceof Lecture lecture) {
+                if (results.get(1) instanceof Long ttlMillis && shouldRefreshEarly(ttlMillis)) {
+                    log.debug("Early refresh for lecture: {} (ttl {}ms)", lectureId, ttlMillis);
+                    return Optional.empty();
+                }
                 log.debug("Cache hit for lecture: {}", lectureId);
                 return Optional.of(lecture);
             }
@@ -49,7 +77,7 @@ public class LectureRedisEntityRepository implements LectureCacheRepository {
     public void saveLecture(Lecture lecture) {
         try {
             String key = getKey(lecture.getLectureId());
-            redisTemplate.opsForValue().set(key, lecture, TTL_MINUTES, TimeUnit.MINUTES);
+            lectureRedisTemplate.opsForValue().set(key, lecture, jitteredTtlSeconds(), TimeUnit.SECONDS);
             log.debug("Cached lecture: {}", lecture.getLectureId());
         } catch (Exception e) {
             log.error("Failed to cache lecture: {}", lecture.getLectureId(), e);
@@ -60,7 +88,7 @@ public class LectureRedisEntityRepository implements LectureCacheRepository {
     public void deleteLecture(Long lectureId) {
         try {
             String key = getKey(lectureId);
-            redisTemplate.delete(key);
+            lectureRedisTemplate.delete(key);
             log.debug("Deleted lecture cache: {}", lectureId);
         } catch (Exception e) {
             log.error("Failed to delete lecture cache: {}", lectureId, e);
@@ -78,7 +106,7 @@ public class LectureRedisEntityRepository implements LectureCacheRepository {
             List<String> keys = lectureIds.stream()
                     .map(this::getKey)
                     .toList();
-            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            List<?> values = lectureRedisTemplate.opsForValue().multiGet(keys);
             
             if (values != null) {
                 for (int i = 0; i < lectureIds.size(); i++) {
@@ -101,23 +129,42 @@ public class LectureRedisEntityRepository implements LectureCacheRepository {
             return;
         }
         try {
-            // Use multiSet for bulk save, then set TTL for each key
-            Map<String, Object> map = new HashMap<>();
-            for (Lecture lecture : lectures) {
-                map.put(getKey(lecture.getLectureId()), lecture);
-            }
-            redisTemplate.opsForValue().multiSet(map);
-            
-            // Set TTL for each key (Redis doesn't support TTL with MSET)
-            for (String key : map.keySet()) {
-                redisTemplate.expire(key, TTL_MINUTES, TimeUnit.MINUTES);
-            }
-            log.debug("Cached {} lectures via multiSet", lectures.size());
+            // SET EX를 파이프라인으로 묶어 한 번의 왕복으로 저장 (키마다 TTL이 원자적으로 설정됨)
+            lectureRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Lecture> ops = (RedisOperations<String, Lecture>) operations;
+                    for (Lecture lecture : lectures) {
+                        ops.opsForValue().set(getKey(lecture.getLectureId()), lecture,
+                                jitteredTtlSeconds(), TimeUnit.SECONDS);
+                    }
+                    return null;
+                }
+            });
+            log.debug("Cached {} lectures via pipeline", lectures.size());
         } catch (Exception e) {
             log.error("Failed to cache lectures", e);
         }
     }
 
+    /**
+     * XFetch 조기 갱신 판단: -delta * beta * ln(rand) >= 남은 TTL
+     * 만료가 가까울수록, 요청이 많을수록 한 요청이 먼저 갱신할 확률이 높아진다.
+     */
+    private boolean shouldRefreshEarly(long ttlMillis) {
+        if (ttlMillis < 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return -earlyRefreshDeltaMs * earlyRefreshBeta * Math.log(random) >= ttlMillis;
+    }
+
+    private long jitteredTtlSeconds() {
+        long jitter = (long) (TTL_SECONDS * TTL_JITTER_RATIO);
+        return TTL_SECONDS + ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+    }
+
     private String getKey(Long lectureId) {
         return KEY_PREFIX + lectureId;
     }
@@ -0,0 +1,98 @@
+package com.swcampus.infra.redis.lecture;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import com.swcampus.domain.lecture.Lecture;
+import com.swcampus.domain.lecture.LectureCacheRepository;
+import com.swcampus.infra.redis.cache.TwoTierCacheRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * 2단계 강의 캐시 저장소 (L1: Caffeine, L2: Redis, 메트릭 cache=lecture.local, lecture.redis)
+ */
+@Primary
+@Repository
+public class LectureTwoTierCacheRepository extends TwoTierCacheRepository<Lecture> implements LectureCacheRepository {
+
+    static final String INVALIDATION_TOPIC = "lecture:invalidate";
+
+    private final LectureRedisEntityRepository redisRepository;
+
+    public LectureTwoTierCacheRepository(
+            LectureRedisEntityRepository redisRepository,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${cache.lecture.local.maximum-size:1000}") long maximumSize,
+            @Value("${cache.lecture.local.ttl-seconds:60}") long ttlSeconds) {
+        super("lecture", INVALIDATION_TOPIC, Tags.of("cache.manager", "lectureCache"),
+                stringRedisTemplate, listenerContainer, meterRegistry, maximumSize, ttlSeconds);
+        this.redisRepository = redisRepository;
+    }
+
+    @Override
+    public Optional<Lecture> getLecture(Long lectureId) {
+        return get(lectureId);
+    }
+
+    @Override
+    public void saveLecture(Lecture lecture) {
+        put(lecture);
+    }
+
+    @Override
+    public void deleteLecture(Long lectureId) {
+        evict(lectureId);
+    }
+
+    @Override
+    public Map<Long, Lecture> getLectures(List<Long> lectureIds) {
+        return getAll(lectureIds);
+    }
+
+    @Override
+    public void saveLectures(List<Lecture> lectures) {
+        putAll(lectures);
+    }
+
+    @Override
+    protected Long keyOf(Lecture lecture) {
+        return lecture.getLectureId();
+    }
+
+    @Override
+    protected Optional<Lecture> loadRemote(Long lectureId) {
+        return redisRepository.getLecture(lectureId);
+    }
+
+    @Override
+    protected Map<Long, Lecture> loadAllRemote(List<Long> lectureIds) {
+        return redisRepository.getLectures(lectureIds);
+    }
+
+    @Override
+    protected void saveRemote(Lecture lecture) {
+        redisRepository.saveLecture(lecture);
+    }
+
+    @Override
+    protected void saveAllRemote(Collection<Lecture> lectures) {
+        redisRepository.saveLectures(List.copyOf(lectures));
+    }
+
+    @Override
+    protected void deleteRemote(Long lectureId) {
+        redisRepository.deleteLecture(lectureId);
+    }
+}
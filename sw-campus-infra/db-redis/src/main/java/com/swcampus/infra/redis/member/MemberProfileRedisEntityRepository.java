@@ -0,0 +1,105 @@
+package com.swcampus.infra.redis.member;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+import com.swcampus.domain.member.MemberProfileCacheRepository;
+import com.swcampus.domain.member.ProfileSnapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis-based member profile cache repository implementation
+ * - 다건 조회는 MGET, 다건 저장은 SET EX 파이프라인으로 한 번의 왕복에 처리한다
+ * - TTL에 지터를 더해 함께 저장된 키들이 한꺼번에 만료되지 않도록 한다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MemberProfileRedisEntityRepository implements MemberProfileCacheRepository {
+
+    private final RedisTemplate<String, ProfileSnapshot> memberProfileRedisTemplate;
+
+    private static final String KEY_PREFIX = "member:profile:";
+    private static final long TTL_SECONDS = TimeUnit.HOURS.toSeconds(1);
+    private static final double TTL_JITTER_RATIO = 0.1;
+
+    @Override
+    public Map<Long, ProfileSnapshot> getProfiles(Collection<Long> memberIds) {
+        Map<Long, ProfileSnapshot> result = new HashMap<>();
+        if (memberIds == null || memberIds.isEmpty()) {
+            return result;
+        }
+        try {
+            List<Long> ids = new ArrayList<>(memberIds);
+            List<String> keys = ids.stream()
+                    .map(this::getKey)
+                    .toList();
+            List<ProfileSnapshot> values = memberProfileRedisTemplate.opsForValue().multiGet(keys);
+
+            if (values != null) {
+                for (int i = 0; i < ids.size(); i++) {
+                    ProfileSnapshot value = values.get(i);
+                    if (value != null) {
+                        result.put(ids.get(i), value);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to get member profiles from cache", e);
+        }
+        return result;
+    }
+
+    @Override
+    public void saveProfiles(Collection<ProfileSnapshot> profiles) {
+        if (profiles == null || profiles.isEmpty()) {
+            return;
+        }
+        try {
+            memberProfileRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, ProfileSnapshot> ops = (RedisOperations<String, ProfileSnapshot>) operations;
+                    for (ProfileSnapshot profile : profiles) {
+                        ops.opsForValue().set(getKey(profile.memberId()), profile,
+                                jitteredTtlSeconds(), TimeUnit.SECONDS);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to cache member profiles", e);
+        }
+    }
+
+    @Override
+    public void deleteProfile(Long memberId) {
+        try {
+            memberProfileRedisTemplate.delete(getKey(memberId));
+        } catch (Exception e) {
+            log.error("Failed to delete member profile cache: {}", memberId, e);
+        }
+    }
+
+    private long jitteredTtlSeconds() {
+        long jitter = (long) (TTL_SECONDS * TTL_JITTER_RATIO);
+        return TTL_SECONDS + ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+    }
+
+    private String getKey(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
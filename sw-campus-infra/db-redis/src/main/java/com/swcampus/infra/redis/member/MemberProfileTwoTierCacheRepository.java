@@ -0,0 +1,79 @@
+package com.swcampus.infra.redis.member;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import com.swcampus.domain.member.MemberProfileCacheRepository;
+import com.swcampus.domain.member.ProfileSnapshot;
+import com.swcampus.infra.redis.cache.TwoTierCacheRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * 2단계 회원 프로필 캐시 저장소 (L1: Caffeine, L2: Redis, 메트릭 cache=member.profile.local, member.profile.redis)
+ * - L2 조회는 미스된 ID만 모아 한 번의 MGET으로 처리한다
+ */
+@Primary
+@Repository
+public class MemberProfileTwoTierCacheRepository extends TwoTierCacheRepository<ProfileSnapshot>
+        implements MemberProfileCacheRepository {
+
+    static final String INVALIDATION_TOPIC = "member:profile:invalidate";
+
+    private final MemberProfileRedisEntityRepository redisRepository;
+
+    public MemberProfileTwoTierCacheRepository(
+            MemberProfileRedisEntityRepository redisRepository,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${cache.member-profile.local.maximum-size:10000}") long maximumSize,
+            @Value("${cache.member-profile.local.ttl-seconds:300}") long ttlSeconds) {
+        super("member.profile", INVALIDATION_TOPIC, Tags.empty(),
+                stringRedisTemplate, listenerContainer, meterRegistry, maximumSize, ttlSeconds);
+        this.redisRepository = redisRepository;
+    }
+
+    @Override
+    public Map<Long, ProfileSnapshot> getProfiles(Collection<Long> memberIds) {
+        return getAll(memberIds);
+    }
+
+    @Override
+    public void saveProfiles(Collection<ProfileSnapshot> profiles) {
+        putAll(profiles);
+    }
+
+    @Override
+    public void deleteProfile(Long memberId) {
+        evict(memberId);
+    }
+
+    @Override
+    protected Long keyOf(ProfileSnapshot profile) {
+        return profile.memberId();
+    }
+
+    @Override
+    protected Map<Long, ProfileSnapshot> loadAllRemote(List<Long> memberIds) {
+        return redisRepository.getProfiles(memberIds);
+    }
+
+    @Override
+    protected void saveAllRemote(Collection<ProfileSnapshot> profiles) {
+        redisRepository.saveProfiles(profiles);
+    }
+
+    @Override
+    protected void deleteRemote(Long memberId) {
+        redisRepository.deleteProfile(memberId);
+    }
+}
@@ -0,0 +1,115 @@
+package com.swcampus.infra.redis.notification;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.swcampus.domain.notification.NotificationBus;
+import com.swcampus.domain.notification.NotificationDetail;
+import com.swcampus.domain.notification.NotificationType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Pub/Sub 기반 알림 버스
+ * - 채널: notification:user:{userId}
+ * - 수신자 연결이 있는 노드만 해당 채널을 구독하므로, 메시지는 필요한 노드에만 전달된다
+ * - Pub/Sub은 유실 가능(at-most-once)하며, 놓친 알림은 재연결 시 Last-Event-ID로 DB에서 재전송한다
+ */
+@Slf4j
+@Component
+public class NotificationRedisBus implements NotificationBus {
+
+    private static final String CHANNEL_PREFIX = "notification:user:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    public NotificationRedisBus(StringRedisTemplate stringRedisTemplate,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    public void publish(Long userId, NotificationDetail notification) {
+        try {
+            String payload = objectMapper.writeValueAsString(Payload.from(notification));
+            stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + userId, payload);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize notification: {}", notification.getId(), e);
+        } catch (Exception e) {
+            // 발행 실패 시 수신자는 다음 재연결 때 DB에서 재전송 받음
+            log.error("Failed to publish notification to user: {}", userId, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Long userId, Consumer<NotificationDetail> handler) {
+        MessageListener listener = (message, pattern) -> {
+            try {
+                handler.accept(objectMapper.readValue(message.getBody(), Payload.class).toDetail());
+            } catch (IOException e) {
+                log.warn("Ignored malformed notification message for user: {}", userId, e);
+            }
+        };
+
+        MessageListener previous = listeners.put(userId, listener);
+        if (previous != null) {
+            listenerContainer.removeMessageListener(previous);
+        }
+        listenerContainer.addMessageListener(listener, new ChannelTopic(CHANNEL_PREFIX + userId));
+    }
+
+    @Override
+    public void unsubscribe(Long userId) {
+        MessageListener listener = listeners.remove(userId);
+        if (listener != null) {
+            listenerContainer.removeMessageListener(listener);
+        }
+    }
+
+    private record Payload(
+            Long id,
+            NotificationType type,
+            Long targetId,
+            Long postId,
+            Long senderId,
+            String senderNickname,
+            boolean read,
+            LocalDateTime createdAt
+    ) {
+
+        static Payload from(NotificationDetail detail) {
+            return new Payload(detail.getId(), detail.getType(), detail.getTargetId(), detail.getPostId(),
+                    detail.getSenderId(), detail.getSenderNickname(), detail.isRead(), detail.getCreatedAt());
+        }
+
+        NotificationDetail toDetail() {
+            return NotificationDetail.builder()
+                    .id(id)
+                    .type(type)
+                    .targetId(targetId)
+                    .postId(postId)
+                    .senderId(senderId)
+                    .senderNickname(senderNickname)
+                    .read(read)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+}
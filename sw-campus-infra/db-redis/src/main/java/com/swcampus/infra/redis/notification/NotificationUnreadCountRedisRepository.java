@@ -0,0 +1,90 @@
+package com.swcampus.infra.redis.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.swcampus.domain.notification.NotificationUnreadCountRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽지 않은 알림 수 캐시 (Redis)
+ * - 증감은 스크립트로 키가 있을 때만 반영해, 캐시가 없는 사용자의 카운터가 부분 값으로 생기지 않게 한다
+ * - 조회 실패 시 null을 반환해 DB 재계산으로 넘어가고, 증감 실패는 TTL 만료로 복구된다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificationUnreadCountRedisRepository implements NotificationUnreadCountRepository {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final long TTL_SECONDS = TimeUnit.MINUTES.toSeconds(10);
+
+    private static final RedisScript<Long> ADJUST_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/notification/adjust_unread.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public Long get(Long userId) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(getKey(userId));
+            return value != null ? Long.valueOf(value) : null;
+        } catch (Exception e) {
+            log.error("Failed to get unread notification count for user: {}", userId, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void set(Long userId, long count) {
+        try {
+            stringRedisTemplate.opsForValue().set(getKey(userId), String.valueOf(count), TTL_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.error("Failed to cache unread notification count for user: {}", userId, e);
+        }
+    }
+
+    @Override
+    public void increment(Map<Long, Long> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+        // 파이프라인 안에서는 EVALSHA의 NOSCRIPT 오류가 닫을 때에야 드러나 EVAL로 재시도되지 않으므로,
+        // 스크립트 캐시 여부와 상관없이 실행되도록 본문을 EVAL로 보낸다
+        byte[] script = ADJUST_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                deltas.forEach((userId, delta) -> connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1,
+                        getKey(userId).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(delta).getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Failed to increment unread notification counts for users: {}", deltas.keySet(), e);
+        }
+    }
+
+    @Override
+    public void decrement(Long userId) {
+        try {
+            stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(getKey(userId)), "-1");
+        } catch (Exception e) {
+            log.error("Failed to decrement unread notification count for user: {}", userId, e);
+        }
+    }
+
+    private String getKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
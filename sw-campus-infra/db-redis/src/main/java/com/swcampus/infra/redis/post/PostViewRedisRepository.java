@@ -1,41 +1,168 @@
 package com.swcampus.infra.redis.post;
 
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import com.swcampus.domain.post.PostViewFlush;
 import com.swcampus.domain.post.PostViewRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 게시글 조회수 버퍼 (Redis)
+ * - 조회 기록: SET NX EX로 원자적 중복 체크
+ * - 증가분: HASH(postId → delta)에 HINCRBY로 누적, 반영 시 별도 HASH로 RENAME 후 DB에 일괄 반영
+ * - 반영 잠금에는 노드별 토큰을 기록하고, 연장/완료/취소는 토큰이 같을 때만 처리한다
+ * - 커밋 직전 반영 중 HASH를 커밋 중 HASH로 옮겨, 커밋 후 완료 처리 전까지 DB 값과 이중으로 더하지 않는다
+ * - 모든 키는 같은 hash tag({post-view})를 사용해 클러스터에서도 스크립트가 단일 슬롯에서 실행된다
+ */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class PostViewRedisRepository implements PostViewRepository {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final String VIEWED_KEY_PREFIX = "{post-view}:viewed:";
+    private static final String PENDING_KEY = "{post-view}:pending";
+    private static final String FLUSHING_KEY = "{post-view}:flushing";
+    private static final String COMMITTING_KEY = "{post-view}:committing";
+    private static final String FLUSH_LOCK_KEY = "{post-view}:flush-lock";
+    private static final long FLUSH_LOCK_TTL_SECONDS = 60;
 
-    private static final String KEY_PREFIX = "post:view:";
+    private static final RedisScript<Long> RECORD_VIEW_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/post/record_view.lua"), Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/post/drain_views.lua"), List.class);
+
+    private static final RedisScript<Long> PREPARE_FLUSH_COMMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/post/prepare_flush_commit.lua"), Long.class);
+
+    private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/post/complete_flush.lua"), Long.class);
+
+    private static final RedisScript<Long> ABORT_FLUSH_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/post/abort_flush.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long recordView(Long postId, Long userId, long ttlSeconds) {
+        String viewedKey = VIEWED_KEY_PREFIX + postId + ":" + userId;
+
+        try {
+            Long pending = stringRedisTemplate.execute(RECORD_VIEW_SCRIPT,
+                    List.of(viewedKey, PENDING_KEY, FLUSHING_KEY),
+                    String.valueOf(ttlSeconds), String.valueOf(postId));
+            return pending != null ? pending : 0L;
+        } catch (Exception e) {
+            // Redis 장애 시 조회수 반영 생략 (조회 자체는 허용)
+            log.error("Failed to record post view for key: {}", viewedKey, e);
+            return 0L;
+        }
+    }
 
     @Override
-    public boolean hasViewed(Long postId, Long userId, long ttlSeconds) {
-        String redisKey = KEY_PREFIX + postId + ":" + userId;
+    public long incrementPendingViewCount(Long postId) {
+        String field = String.valueOf(postId);
+
+        try {
+            Long pending = stringRedisTemplate.opsForHash().increment(PENDING_KEY, field, 1);
+            Object flushing = stringRedisTemplate.opsForHash().get(FLUSHING_KEY, field);
+            return pending + (flushing != null ? Long.parseLong((String) flushing) : 0L);
+        } catch (Exception e) {
+            log.error("Failed to increment pending view count for post: {}", postId, e);
+            return 0L;
+        }
+    }
+
+    @Override
+    public Map<Long, Long> getPendingViewCounts(List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Object> fields = new ArrayList<>(postIds.size());
+        for (Long postId : postIds) {
+            fields.add(String.valueOf(postId));
+        }
 
         try {
-            Boolean exists = redisTemplate.hasKey(redisKey);
-            if (Boolean.TRUE.equals(exists)) {
-                return true;
+            List<Object> pending = stringRedisTemplate.opsForHash().multiGet(PENDING_KEY, fields);
+            List<Object> flushing = stringRedisTemplate.opsForHash().multiGet(FLUSHING_KEY, fields);
+
+            Map<Long, Long> result = new HashMap<>();
+            for (int i = 0; i < postIds.size(); i++) {
+                long delta = parse(pending.get(i)) + parse(flushing.get(i));
+                if (delta > 0) {
+                    result.put(postIds.get(i), delta);
+                }
             }
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to get pending view counts for posts: {}", postIds, e);
+            return Collections.emptyMap();
+        }
+    }
 
-            // 조회 기록 저장 (TTL 설정)
-            redisTemplate.opsForValue().set(redisKey, "1", ttlSeconds, TimeUnit.SECONDS);
-            return false;
+    @Override
+    public PostViewFlush drainPendingViewCounts() {
+        String token = UUID.randomUUID().toString();
+        List<?> entries = stringRedisTemplate.execute(DRAIN_SCRIPT,
+                List.of(PENDING_KEY, FLUSHING_KEY, COMMITTING_KEY, FLUSH_LOCK_KEY),
+                String.valueOf(FLUSH_LOCK_TTL_SECONDS), token);
+        if (entries == null || entries.isEmpty()) {
+            return PostViewFlush.empty();
+        }
+
+        // HGETALL 결과: [field1, value1, field2, value2, ...]
+        Map<Long, Long> deltas = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            deltas.put(Long.valueOf((String) entries.get(i)), Long.valueOf((String) entries.get(i + 1)));
+        }
+        return new PostViewFlush(token, deltas);
+    }
+
+    @Override
+    public boolean prepareFlushCommit(String token) {
+        Long prepared = stringRedisTemplate.execute(PREPARE_FLUSH_COMMIT_SCRIPT,
+                List.of(FLUSH_LOCK_KEY, FLUSHING_KEY, COMMITTING_KEY),
+                token, String.valueOf(FLUSH_LOCK_TTL_SECONDS));
+        return prepared != null && prepared == 1L;
+    }
+
+    @Override
+    public void completeFlush(String token) {
+        Long completed = stringRedisTemplate.execute(COMPLETE_FLUSH_SCRIPT,
+                List.of(FLUSH_LOCK_KEY, COMMITTING_KEY), token);
+        if (completed == null || completed == 0L) {
+            // 커밋이 잠금 TTL보다 오래 걸린 경우: 다른 노드가 같은 증가분을 다시 반영할 수 있다
+            log.warn("Post view flush lock was lost after commit. Counts may be applied again.");
+        }
+    }
+
+    @Override
+    public void abortFlush(String token) {
+        try {
+            stringRedisTemplate.execute(ABORT_FLUSH_SCRIPT,
+                    List.of(FLUSH_LOCK_KEY, FLUSHING_KEY, COMMITTING_KEY), token);
         } catch (Exception e) {
-            log.error("Failed to check/set post view for key: {}", redisKey, e);
-            // Redis 장애 시 조회수 증가 허용 (fail-open)
-            return false;
+            // 잠금은 TTL이 지나면 풀리고, 증가분은 다음 반영 때 다시 가져간다
+            log.error("Failed to abort post view flush", e);
         }
     }
+
+    private long parse(Object value) {
+        return value != null ? Long.parseLong((String) value) : 0L;
+    }
 }
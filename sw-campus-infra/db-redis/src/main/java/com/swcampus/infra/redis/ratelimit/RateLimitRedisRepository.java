@@ -1,45 +1,66 @@
 package com.swcampus.infra.redis.ratelimit;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import com.swcampus.domain.ratelimit.RateLimitAlgorithm;
 import com.swcampus.domain.ratelimit.RateLimitRepository;
+import com.swcampus.domain.ratelimit.RateLimitResult;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Lua 스크립트 기반 Rate Limit 저장소
+ * - 판정과 사용량 반영을 스크립트 1회 실행(1 RTT)으로 원자적으로 처리한다
+ * - 알고리즘별 상태는 단일 HASH 키에 저장하고, 시각은 Redis 서버 시간(TIME)을 기준으로 한다
+ */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class RateLimitRedisRepository implements RateLimitRepository {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-
     private static final String KEY_PREFIX = "rate-limit:";
 
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SLIDING_WINDOW_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/ratelimit/sliding_window.lua"), List.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/ratelimit/token_bucket.lua"), List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
     @Override
-    public long incrementAndGet(String key, long windowSeconds) {
-        String redisKey = KEY_PREFIX + key;
+    public RateLimitResult tryAcquire(String key, RateLimitAlgorithm algorithm, int limit, long windowSeconds) {
+        String redisKey = KEY_PREFIX + algorithm.name().toLowerCase() + ":" + key;
+        @SuppressWarnings("rawtypes")
+        RedisScript<List> script = algorithm == RateLimitAlgorithm.TOKEN_BUCKET
+                ? TOKEN_BUCKET_SCRIPT
+                : SLIDING_WINDOW_SCRIPT;
 
         try {
-            Long count = redisTemplate.opsForValue().increment(redisKey);
-            if (count == null) {
-                log.warn("Redis increment returned null for key: {}. Assuming fail-open.", redisKey);
-                return 0L;
+            List<?> result = stringRedisTemplate.execute(script, List.of(redisKey),
+                    String.valueOf(limit), String.valueOf(windowSeconds * 1000));
+            if (result == null || result.size() < 3) {
+                log.warn("Rate limit script returned no result for key: {}. Assuming fail-open.", redisKey);
+                return RateLimitResult.allowed(limit);
             }
 
-            // 첫 번째 요청인 경우 TTL 설정
-            if (count == 1) {
-                redisTemplate.expire(redisKey, windowSeconds, TimeUnit.SECONDS);
+            boolean allowed = ((Number) result.get(0)).longValue() == 1L;
+            if (allowed) {
+                return RateLimitResult.allowed(((Number) result.get(1)).longValue());
             }
-
-            return count;
+            return RateLimitResult.rejected(((Number) result.get(2)).longValue());
         } catch (Exception e) {
-            log.error("Failed to increment rate limit counter for key: {}", key, e);
+            log.error("Failed to evaluate rate limit for key: {}", key, e);
             // Redis 장애 시 요청 허용 (fail-open)
-            return 0L;
+            return RateLimitResult.allowed(limit);
         }
     }
 }
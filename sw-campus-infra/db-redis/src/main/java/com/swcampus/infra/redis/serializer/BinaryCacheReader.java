@@ -0,0 +1,148 @@
+package com.swcampus.infra.redis.serializer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시 값 바이너리 디코더 ({@link BinaryCacheWriter}와 대칭)
+ */
+public final class BinaryCacheReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryCacheReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public long readVarLong() {
+        long zigzag = 0;
+        int shift = 0;
+        while (true) {
+            byte b = nextByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new SerializationException("Malformed varint in cache value");
+            }
+        }
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public Long readLong() {
+        return readNullMarker() ? readVarLong() : null;
+    }
+
+    public Integer readInteger() {
+        return readNullMarker() ? (int) readVarLong() : null;
+    }
+
+    public Boolean readBoolean() {
+        byte value = nextByte();
+        return value == 0 ? null : value == 2;
+    }
+
+    public Double readDouble() {
+        if (!readNullMarker()) {
+            return null;
+        }
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | (nextByte() & 0xFF);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() {
+        int length = (int) readVarLong();
+        if (length < 0) {
+            return null;
+        }
+        ensureAvailable(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public BigDecimal readBigDecimal() {
+        if (!readNullMarker()) {
+            return null;
+        }
+        int scale = (int) readVarLong();
+        int length = (int) readVarLong();
+        ensureAvailable(length);
+        BigInteger unscaled = new BigInteger(buffer, position, length);
+        position += length;
+        return new BigDecimal(unscaled, scale);
+    }
+
+    public LocalDateTime readDateTime() {
+        if (!readNullMarker()) {
+            return null;
+        }
+        long epochSecond = readVarLong();
+        int nano = (int) readVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    public LocalTime readTime() {
+        if (!readNullMarker()) {
+            return null;
+        }
+        long secondOfDay = readVarLong();
+        int nano = (int) readVarLong();
+        return LocalTime.ofSecondOfDay(secondOfDay).withNano(nano);
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        String name = readString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    public <E> List<E> readList(Function<BinaryCacheReader, E> elementReader) {
+        return readCollection(ArrayList::new, elementReader);
+    }
+
+    public <E, C extends Collection<E>> C readCollection(IntFunction<C> factory,
+            Function<BinaryCacheReader, E> elementReader) {
+        int size = (int) readVarLong();
+        if (size < 0) {
+            return null;
+        }
+        C values = factory.apply(size);
+        for (int i = 0; i < size; i++) {
+            values.add(elementReader.apply(this));
+        }
+        return values;
+    }
+
+    private boolean readNullMarker() {
+        return nextByte() != 0;
+    }
+
+    private byte nextByte() {
+        ensureAvailable(1);
+        return buffer[position++];
+    }
+
+    private void ensureAvailable(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new SerializationException("Truncated cache value");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.swcampus.infra.redis.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+/**
+ * 캐시 값 바이너리 인코더
+ * - 정수는 zigzag varint, 문자열은 길이(varint) + UTF-8 바이트로 기록
+ * - 모든 참조 타입은 null을 표현할 수 있다
+ */
+public final class BinaryCacheWriter {
+
+    private static final int NULL_LENGTH = -1;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+
+    public void writeVarLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    public void writeLong(Long value) {
+        if (writeNullMarker(value)) {
+            writeVarLong(value);
+        }
+    }
+
+    public void writeInteger(Integer value) {
+        if (writeNullMarker(value)) {
+            writeVarLong(value);
+        }
+    }
+
+    public void writeBoolean(Boolean value) {
+        out.write(value == null ? 0 : (value ? 2 : 1));
+    }
+
+    public void writeDouble(Double value) {
+        if (writeNullMarker(value)) {
+            long bits = Double.doubleToLongBits(value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) (bits >>> shift));
+            }
+        }
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    public void writeBigDecimal(BigDecimal value) {
+        if (writeNullMarker(value)) {
+            writeVarLong(value.scale());
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            writeVarLong(unscaled.length);
+            out.write(unscaled, 0, unscaled.length);
+        }
+    }
+
+    public void writeDateTime(LocalDateTime value) {
+        if (writeNullMarker(value)) {
+            writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(value.getNano());
+        }
+    }
+
+    public void writeTime(LocalTime value) {
+        if (writeNullMarker(value)) {
+            writeVarLong(value.toSecondOfDay());
+            writeVarLong(value.getNano());
+        }
+    }
+
+    public void writeEnum(Enum<?> value) {
+        // ordinal 대신 이름으로 기록하여 enum 상수 순서 변경에 안전하도록 한다
+        writeString(value == null ? null : value.name());
+    }
+
+    public <E> void writeCollection(Collection<E> values, BiConsumer<BinaryCacheWriter, E> elementWriter) {
+        if (values == null) {
+            writeVarLong(NULL_LENGTH);
+            return;
+        }
+        writeVarLong(values.size());
+        for (E value : values) {
+            elementWriter.accept(this, value);
+        }
+    }
+
+    public byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    private boolean writeNullMarker(Object value) {
+        out.write(value == null ? 0 : 1);
+        return value != null;
+    }
+}
@@ -0,0 +1,287 @@
+package com.swcampus.infra.redis.serializer;
+
+import java.util.EnumSet;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.swcampus.domain.category.Category;
+import com.swcampus.domain.category.Curriculum;
+import com.swcampus.domain.lecture.CurriculumLevel;
+import com.swcampus.domain.lecture.EquipmentType;
+import com.swcampus.domain.lecture.Lecture;
+import com.swcampus.domain.lecture.LectureAdd;
+import com.swcampus.domain.lecture.LectureAuthStatus;
+import com.swcampus.domain.lecture.LectureCurriculum;
+import com.swcampus.domain.lecture.LectureDay;
+import com.swcampus.domain.lecture.LectureLocation;
+import com.swcampus.domain.lecture.LectureQual;
+import com.swcampus.domain.lecture.LectureQualType;
+import com.swcampus.domain.lecture.LectureSpecialCurriculum;
+import com.swcampus.domain.lecture.LectureStatus;
+import com.swcampus.domain.lecture.LectureStep;
+import com.swcampus.domain.lecture.RecruitType;
+import com.swcampus.domain.lecture.SelectionStepType;
+import com.swcampus.domain.teacher.Teacher;
+
+/**
+ * 강의(lecture:*) 캐시 값 바이너리 직렬화기
+ * 필드를 선언 순서대로 기록하며, 필드 추가/삭제 시 SCHEMA_VERSION을 올리고 read에서 버전별로 분기한다.
+ */
+public class LectureBinaryRedisSerializer extends VersionedBinaryRedisSerializer<Lecture> {
+
+    private static final int SCHEMA_VERSION = 1;
+
+    public LectureBinaryRedisSerializer(int compressionThreshold, RedisSerializer<Object> legacySerializer) {
+        super(compressionThreshold, legacySerializer);
+    }
+
+    @Override
+    protected int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    protected void write(BinaryCacheWriter writer, Lecture lecture) {
+        writer.writeLong(lecture.getLectureId());
+        writer.writeLong(lecture.getOrgId());
+        writer.writeString(lecture.getOrgName());
+        writer.writeString(lecture.getCategoryName());
+        writer.writeString(lecture.getLectureName());
+        writer.writeCollection(lecture.getDays(), BinaryCacheWriter::writeEnum);
+        writer.writeTime(lecture.getStartTime());
+        writer.writeTime(lecture.getEndTime());
+        writer.writeEnum(lecture.getLectureLoc());
+        writer.writeString(lecture.getLocation());
+        writer.writeEnum(lecture.getRecruitType());
+        writer.writeBigDecimal(lecture.getSubsidy());
+        writer.writeBigDecimal(lecture.getLectureFee());
+        writer.writeBigDecimal(lecture.getEduSubsidy());
+        writer.writeString(lecture.getGoal());
+        writer.writeInteger(lecture.getMaxCapacity());
+        writer.writeEnum(lecture.getEquipPc());
+        writer.writeString(lecture.getEquipMerit());
+        writer.writeBoolean(lecture.getBooks());
+        writer.writeBoolean(lecture.getResume());
+        writer.writeBoolean(lecture.getMockInterview());
+        writer.writeBoolean(lecture.getEmploymentHelp());
+        writer.writeBoolean(lecture.getAfterCompletion());
+        writer.writeString(lecture.getUrl());
+        writer.writeString(lecture.getLectureImageUrl());
+        writer.writeEnum(lecture.getStatus());
+        writer.writeEnum(lecture.getLectureAuthStatus());
+        writer.writeDouble(lecture.getAverageScore());
+        writer.writeLong(lecture.getReviewCount());
+        writer.writeInteger(lecture.getProjectNum());
+        writer.writeInteger(lecture.getProjectTime());
+        writer.writeString(lecture.getProjectTeam());
+        writer.writeString(lecture.getProjectTool());
+        writer.writeBoolean(lecture.getProjectMentor());
+        writer.writeDateTime(lecture.getCreatedAt());
+        writer.writeDateTime(lecture.getUpdatedAt());
+        writer.writeDateTime(lecture.getStartAt());
+        writer.writeDateTime(lecture.getEndAt());
+        writer.writeDateTime(lecture.getDeadline());
+        writer.writeInteger(lecture.getTotalDays());
+        writer.writeInteger(lecture.getTotalTimes());
+        writer.writeCollection(lecture.getSteps(), LectureBinaryRedisSerializer::writeStep);
+        writer.writeCollection(lecture.getAdds(), LectureBinaryRedisSerializer::writeAdd);
+        writer.writeCollection(lecture.getQuals(), LectureBinaryRedisSerializer::writeQual);
+        writer.writeCollection(lecture.getTeachers(), LectureBinaryRedisSerializer::writeTeacher);
+        writer.writeCollection(lecture.getLectureCurriculums(), LectureBinaryRedisSerializer::writeLectureCurriculum);
+        writer.writeCollection(lecture.getSpecialCurriculums(), LectureBinaryRedisSerializer::writeSpecialCurriculum);
+    }
+
+    @Override
+    protected Lecture read(BinaryCacheReader reader, int schemaVersion) {
+        return Lecture.builder()
+                .lectureId(reader.readLong())
+                .orgId(reader.readLong())
+                .orgName(reader.readString())
+                .categoryName(reader.readString())
+                .lectureName(reader.readString())
+                .days(reader.readCollection(size -> EnumSet.noneOf(LectureDay.class),
+                        r -> r.readEnum(LectureDay.class)))
+                .startTime(reader.readTime())
+                .endTime(reader.readTime())
+                .lectureLoc(reader.readEnum(LectureLocation.class))
+                .location(reader.readString())
+                .recruitType(reader.readEnum(RecruitType.class))
+                .subsidy(reader.readBigDecimal())
+                .lectureFee(reader.readBigDecimal())
+                .eduSubsidy(reader.readBigDecimal())
+                .goal(reader.readString())
+                .maxCapacity(reader.readInteger())
+                .equipPc(reader.readEnum(EquipmentType.class))
+                .equipMerit(reader.readString())
+                .books(reader.readBoolean())
+                .resume(reader.readBoolean())
+                .mockInterview(reader.readBoolean())
+                .employmentHelp(reader.readBoolean())
+                .afterCompletion(reader.readBoolean())
+                .url(reader.readString())
+                .lectureImageUrl(reader.readString())
+                .status(reader.readEnum(LectureStatus.class))
+                .lectureAuthStatus(reader.readEnum(LectureAuthStatus.class))
+                .averageScore(reader.readDouble())
+                .reviewCount(reader.readLong())
+                .projectNum(reader.readInteger())
+                .projectTime(reader.readInteger())
+                .projectTeam(reader.readString())
+                .projectTool(reader.readString())
+                .projectMentor(reader.readBoolean())
+                .createdAt(reader.readDateTime())
+                .updatedAt(reader.readDateTime())
+                .startAt(reader.readDateTime())
+                .endAt(reader.readDateTime())
+                .deadline(reader.readDateTime())
+                .totalDays(reader.readInteger())
+                .totalTimes(reader.readInteger())
+                .steps(reader.readList(LectureBinaryRedisSerializer::readStep))
+                .adds(reader.readList(LectureBinaryRedisSerializer::readAdd))
+                .quals(reader.readList(LectureBinaryRedisSerializer::readQual))
+                .teachers(reader.readList(LectureBinaryRedisSerializer::readTeacher))
+                .lectureCurriculums(reader.readList(LectureBinaryRedisSerializer::readLectureCurriculum))
+                .specialCurriculums(reader.readList(LectureBinaryRedisSerializer::readSpecialCurriculum))
+                .build();
+    }
+
+    private static void writeStep(BinaryCacheWriter writer, LectureStep step) {
+        writer.writeLong(step.getStepId());
+        writer.writeLong(step.getLectureId());
+        writer.writeEnum(step.getStepType());
+        writer.writeInteger(step.getStepOrder());
+        writer.writeDateTime(step.getCreatedAt());
+        writer.writeDateTime(step.getUpdatedAt());
+    }
+
+    private static LectureStep readStep(BinaryCacheReader reader) {
+        return LectureStep.builder()
+                .stepId(reader.readLong())
+                .lectureId(reader.readLong())
+                .stepType(reader.readEnum(SelectionStepType.class))
+                .stepOrder(reader.readInteger())
+                .createdAt(reader.readDateTime())
+                .updatedAt(reader.readDateTime())
+                .build();
+    }
+
+    private static void writeAdd(BinaryCacheWriter writer, LectureAdd add) {
+        writer.writeLong(add.getAddId());
+        writer.writeLong(add.getLectureId());
+        writer.writeString(add.getAddName());
+    }
+
+    private static LectureAdd readAdd(BinaryCacheReader reader) {
+        return LectureAdd.builder()
+                .addId(reader.readLong())
+                .lectureId(reader.readLong())
+                .addName(reader.readString())
+                .build();
+    }
+
+    private static void writeQual(BinaryCacheWriter writer, LectureQual qual) {
+        writer.writeLong(qual.getQualId());
+        writer.writeLong(qual.getLectureId());
+        writer.writeEnum(qual.getType());
+        writer.writeString(qual.getText());
+    }
+
+    private static LectureQual readQual(BinaryCacheReader reader) {
+        return LectureQual.builder()
+                .qualId(reader.readLong())
+                .lectureId(reader.readLong())
+                .type(reader.readEnum(LectureQualType.class))
+                .text(reader.readString())
+                .build();
+    }
+
+    private static void writeTeacher(BinaryCacheWriter writer, Teacher teacher) {
+        writer.writeLong(teacher.getTeacherId());
+        writer.writeString(teacher.getTeacherName());
+        writer.writeString(teacher.getTeacherDescription());
+        writer.writeString(teacher.getTeacherImageUrl());
+    }
+
+    private static Teacher readTeacher(BinaryCacheReader reader) {
+        return Teacher.builder()
+                .teacherId(reader.readLong())
+                .teacherName(reader.readString())
+                .teacherDescription(reader.readString())
+                .teacherImageUrl(reader.readString())
+                .build();
+    }
+
+    private static void writeLectureCurriculum(BinaryCacheWriter writer, LectureCurriculum lectureCurriculum) {
+        writer.writeLong(lectureCurriculum.getLectureId());
+        writer.writeLong(lectureCurriculum.getCurriculumId());
+        writer.writeEnum(lectureCurriculum.getLevel());
+        writer.writeBoolean(lectureCurriculum.getCurriculum() != null);
+        if (lectureCurriculum.getCurriculum() != null) {
+            writeCurriculum(writer, lectureCurriculum.getCurriculum());
+        }
+    }
+
+    private static LectureCurriculum readLectureCurriculum(BinaryCacheReader reader) {
+        return LectureCurriculum.builder()
+                .lectureId(reader.readLong())
+                .curriculumId(reader.readLong())
+                .level(reader.readEnum(CurriculumLevel.class))
+                .curriculum(Boolean.TRUE.equals(reader.readBoolean()) ? readCurriculum(reader) : null)
+                .build();
+    }
+
+    private static void writeCurriculum(BinaryCacheWriter writer, Curriculum curriculum) {
+        writer.writeLong(curriculum.getCurriculumId());
+        writer.writeLong(curriculum.getCategoryId());
+        writer.writeString(curriculum.getCurriculumName());
+        writer.writeString(curriculum.getCurriculumDesc());
+        writer.writeBoolean(curriculum.getCategory() != null);
+        if (curriculum.getCategory() != null) {
+            writeCategory(writer, curriculum.getCategory());
+        }
+    }
+
+    private static Curriculum readCurriculum(BinaryCacheReader reader) {
+        return Curriculum.builder()
+                .curriculumId(reader.readLong())
+                .categoryId(reader.readLong())
+                .curriculumName(reader.readString())
+                .curriculumDesc(reader.readString())
+                .category(Boolean.TRUE.equals(reader.readBoolean()) ? readCategory(reader) : null)
+                .build();
+    }
+
+    private static void writeCategory(BinaryCacheWriter writer, Category category) {
+        writer.writeLong(category.getCategoryId());
+        writer.writeLong(category.getPid());
+        writer.writeString(category.getCategoryName());
+        writer.writeInteger(category.getSort());
+        writer.writeCollection(category.getChildren(), LectureBinaryRedisSerializer::writeCategory);
+    }
+
+    private static Category readCategory(BinaryCacheReader reader) {
+        return Category.builder()
+                .categoryId(reader.readLong())
+                .pid(reader.readLong())
+                .categoryName(reader.readString())
+                .sort(reader.readInteger())
+                .children(reader.readList(LectureBinaryRedisSerializer::readCategory))
+                .build();
+    }
+
+    private static void writeSpecialCurriculum(BinaryCacheWriter writer, LectureSpecialCurriculum special) {
+        writer.writeLong(special.getSpecialCurriculumId());
+        writer.writeLong(special.getLectureId());
+        writer.writeString(special.getTitle());
+        writer.writeInteger(special.getSortOrder());
+    }
+
+    private static LectureSpecialCurriculum readSpecialCurriculum(BinaryCacheReader reader) {
+        return LectureSpecialCurriculum.builder()
+                .specialCurriculumId(reader.readLong())
+                .lectureId(reader.readLong())
+                .title(reader.readString())
+                .sortOrder(reader.readInteger())
+                .build();
+    }
+}
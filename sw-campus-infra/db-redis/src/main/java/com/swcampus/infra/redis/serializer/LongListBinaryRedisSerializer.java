@@ -0,0 +1,33 @@
+package com.swcampus.infra.redis.serializer;
+
+import java.util.List;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * ID 목록(cart:* 등) 캐시 값 바이너리 직렬화기
+ */
+public class LongListBinaryRedisSerializer extends VersionedBinaryRedisSerializer<List<Long>> {
+
+    private static final int SCHEMA_VERSION = 1;
+
+    public LongListBinaryRedisSerializer(RedisSerializer<Object> legacySerializer) {
+        // ID 목록은 작고 압축 이득이 없으므로 압축하지 않는다
+        super(0, legacySerializer);
+    }
+
+    @Override
+    protected int schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    protected void write(BinaryCacheWriter writer, List<Long> values) {
+        writer.writeCollection(values, BinaryCacheWriter::writeVarLong);
+    }
+
+    @Override
+    protected List<Long> read(BinaryCacheReader reader, int schemaVersion) {
+        return reader.readList(BinaryCacheReader::readVarLong);
+    }
+}
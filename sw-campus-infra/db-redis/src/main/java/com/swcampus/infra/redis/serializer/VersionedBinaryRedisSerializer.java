@@ -0,0 +1,112 @@
+package com.swcampus.infra.redis.serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 스키마 버전이 붙은 바이너리 캐시 값 직렬화기
+ *
+ * <pre>
+ * [0] MAGIC (0xB1)  [1] 스키마 버전  [2] 플래그(bit0: 압축)  [3..] 페이로드
+ * </pre>
+ *
+ * - 페이로드가 임계값 이상이면 Deflate(BEST_SPEED)로 압축한다
+ * - MAGIC으로 시작하지 않는 값은 기존 JSON 포맷으로 보고 legacySerializer로 읽는다 (전환 기간 호환)
+ * - 현재보다 높은 스키마 버전은 null(캐시 미스)로 처리한다 (롤링 배포 중 신/구 노드 공존)
+ */
+public abstract class VersionedBinaryRedisSerializer<T> implements RedisSerializer<T> {
+
+    static final byte MAGIC = (byte) 0xB1;
+    private static final byte FLAG_DEFLATE = 0x01;
+    private static final int HEADER_SIZE = 3;
+
+    private final int compressionThreshold;
+    private final RedisSerializer<Object> legacySerializer;
+
+    protected VersionedBinaryRedisSerializer(int compressionThreshold, RedisSerializer<Object> legacySerializer) {
+        this.compressionThreshold = compressionThreshold;
+        this.legacySerializer = legacySerializer;
+    }
+
+    protected abstract int schemaVersion();
+
+    protected abstract void write(BinaryCacheWriter writer, T value);
+
+    protected abstract T read(BinaryCacheReader reader, int schemaVersion);
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        BinaryCacheWriter writer = new BinaryCacheWriter();
+        write(writer, value);
+        byte[] payload = writer.toByteArray();
+
+        byte flags = 0;
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+            payload = deflate(payload);
+            flags |= FLAG_DEFLATE;
+        }
+
+        byte[] result = new byte[HEADER_SIZE + payload.length];
+        result[0] = MAGIC;
+        result[1] = (byte) schemaVersion();
+        result[2] = flags;
+        System.arraycopy(payload, 0, result, HEADER_SIZE, payload.length);
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return legacySerializer != null ? (T) legacySerializer.deserialize(bytes) : null;
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("Truncated cache value header");
+        }
+
+        int version = bytes[1] & 0xFF;
+        if (version > schemaVersion()) {
+            return null;
+        }
+
+        if ((bytes[2] & FLAG_DEFLATE) != 0) {
+            return read(new BinaryCacheReader(inflate(bytes), 0), version);
+        }
+        return read(new BinaryCacheReader(bytes, HEADER_SIZE), version);
+    }
+
+    private static byte[] deflate(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2);
+        try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(payload);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to compress cache value", e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        ByteArrayInputStream in = new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+        try (InflaterInputStream inflaterIn = new InflaterInputStream(in)) {
+            return inflaterIn.readAllBytes();
+        } catch (IOException e) {
+            throw new SerializationException("Failed to decompress cache value", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- 회원의 모든 로그인 세션 폐기
+-- KEYS[1]: 회원 세션 ZSET
+-- ARGV[1]: 세션 키 prefix
+-- 반환: 폐기한 세션 수
+local sessions = redis.call('ZRANGE', KEYS[1], 0, -1)
+for _, sid in ipairs(sessions) do
+    redis.call('DEL', ARGV[1] .. sid)
+end
+redis.call('DEL', KEYS[1])
+return #sessions
@@ -0,0 +1,12 @@
+-- Refresh Token 회전 (compare-and-set)
+-- KEYS[1]: 세션 HASH, KEYS[2]: 회원 세션 ZSET
+-- ARGV[1]: 기대하는 현재 토큰 해시, ARGV[2]: 새 토큰 해시, ARGV[3]: 회전 시각(ms), ARGV[4]: 새 만료 시각(ms)
+-- 반환: 1 (회전 성공), 0 (다른 요청이 먼저 회전했거나 세션이 없음)
+if redis.call('HGET', KEYS[1], 'tokenHash') ~= ARGV[1] then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'previousTokenHash', ARGV[1], 'tokenHash', ARGV[2],
+        'rotatedAt', ARGV[3], 'expiresAt', ARGV[4])
+redis.call('PEXPIREAT', KEYS[1], ARGV[4])
+redis.call('PEXPIREAT', KEYS[2], ARGV[4])
+return 1
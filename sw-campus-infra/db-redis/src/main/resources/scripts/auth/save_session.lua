@@ -0,0 +1,27 @@
+-- 새 로그인 세션 저장 및 회원별 세션 수 제한
+-- KEYS[1]: 세션 HASH, KEYS[2]: 회원 세션 ZSET (score: 생성 시각)
+-- ARGV[1]: 세션 ID, ARGV[2]: 토큰 해시, ARGV[3]: email, ARGV[4]: role,
+-- ARGV[5]: 만료 시각(ms), ARGV[6]: 생성 시각(ms), ARGV[7]: 최대 세션 수, ARGV[8]: 세션 키 prefix
+-- 세션 키는 KEYS와 같은 hash tag를 쓰므로 스크립트 안에서 만들어도 단일 슬롯에서 실행된다
+redis.call('HSET', KEYS[1], 'tokenHash', ARGV[2], 'email', ARGV[3], 'role', ARGV[4],
+        'expiresAt', ARGV[5], 'createdAt', ARGV[6])
+redis.call('PEXPIREAT', KEYS[1], ARGV[5])
+redis.call('ZADD', KEYS[2], ARGV[6], ARGV[1])
+redis.call('PEXPIREAT', KEYS[2], ARGV[5])
+
+-- TTL로 사라진 세션 정리
+for _, sid in ipairs(redis.call('ZRANGE', KEYS[2], 0, -1)) do
+    if redis.call('EXISTS', ARGV[8] .. sid) == 0 then
+        redis.call('ZREM', KEYS[2], sid)
+    end
+end
+
+-- 최대 세션 수를 넘으면 오래된 세션부터 폐기
+local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[7])
+if overflow > 0 then
+    for _, sid in ipairs(redis.call('ZRANGE', KEYS[2], 0, overflow - 1)) do
+        redis.call('DEL', ARGV[8] .. sid)
+    end
+    redis.call('ZREMRANGEBYRANK', KEYS[2], 0, overflow - 1)
+end
+return overflow > 0 and overflow or 0
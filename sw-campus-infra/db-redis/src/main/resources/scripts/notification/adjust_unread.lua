@@ -0,0 +1,13 @@
+-- 읽지 않은 알림 수 증감 (캐시된 사용자에게만 반영, 0 미만으로 내려가지 않음)
+-- KEYS[1]: 카운터 키
+-- ARGV[1]: 증감분
+-- 반환: 반영 후 값 (키가 없으면 nil)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return nil
+end
+local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+if count < 0 then
+    redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+    return 0
+end
+return count
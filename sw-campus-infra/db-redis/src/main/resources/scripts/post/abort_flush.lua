@@ -0,0 +1,12 @@
+-- DB 반영 취소 (본인 잠금인 경우에만, 증가분은 다음 반영을 위해 남김)
+-- KEYS[1]: 반영 잠금 키, KEYS[2]: DB 반영 중인 증가분 HASH, KEYS[3]: 커밋 중인 증가분 HASH
+-- ARGV[1]: 잠금 소유 토큰
+-- 반환: 해제했으면 1, 잠금을 잃었으면 0
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    redis.call('RENAME', KEYS[3], KEYS[2])
+end
+redis.call('DEL', KEYS[1])
+return 1
@@ -0,0 +1,9 @@
+-- DB 반영 완료 처리 (본인 잠금인 경우에만)
+-- KEYS[1]: 반영 잠금 키, KEYS[2]: 커밋 중인 증가분 HASH
+-- ARGV[1]: 잠금 소유 토큰
+-- 반환: 삭제했으면 1, 잠금을 잃었으면 0
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+redis.call('DEL', KEYS[2], KEYS[1])
+return 1
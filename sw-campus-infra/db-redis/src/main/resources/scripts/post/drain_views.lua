@@ -0,0 +1,20 @@
+-- DB 반영할 증가분 가져오기 (노드 간 단일 실행)
+-- KEYS[1]: 증가분 HASH, KEYS[2]: DB 반영 중인 증가분 HASH, KEYS[3]: 커밋 중인 증가분 HASH, KEYS[4]: 반영 잠금 키
+-- ARGV[1]: 잠금 TTL(초), ARGV[2]: 잠금 소유 토큰
+-- 반환: HGETALL 결과 (다른 노드가 반영 중이거나 증가분이 없으면 빈 배열)
+if not redis.call('SET', KEYS[4], ARGV[2], 'NX', 'EX', ARGV[1]) then
+    return {}
+end
+-- 커밋 직전에 중단된 반영은 커밋 여부를 알 수 없으므로 다시 반영한다 (at-least-once)
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    redis.call('RENAME', KEYS[3], KEYS[2])
+end
+-- 이전 반영이 실패해 남아 있는 증가분이 있으면 그것부터 다시 반영
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('DEL', KEYS[4])
+        return {}
+    end
+    redis.call('RENAME', KEYS[1], KEYS[2])
+end
+return redis.call('HGETALL', KEYS[2])
@@ -0,0 +1,12 @@
+-- DB 커밋 직전 반영 잠금 확인
+-- KEYS[1]: 반영 잠금 키, KEYS[2]: DB 반영 중인 증가분 HASH, KEYS[3]: 커밋 중인 증가분 HASH
+-- ARGV[1]: 잠금 소유 토큰, ARGV[2]: 잠금 TTL(초)
+-- 반환: 잠금을 가지고 있으면 1 (잠금 연장, 증가분을 조회 합산에서 제외), 잃었으면 0
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('RENAME', KEYS[2], KEYS[3])
+end
+return 1
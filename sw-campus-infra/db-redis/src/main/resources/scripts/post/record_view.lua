@@ -0,0 +1,10 @@
+-- 조회 기록 + 조회수 증가분 누적 (1 RTT)
+-- KEYS[1]: 조회 기록 키, KEYS[2]: 증가분 HASH, KEYS[3]: DB 반영 중인 증가분 HASH
+-- ARGV[1]: 조회 기록 TTL(초), ARGV[2]: 게시글 ID
+-- 반환: DB에 아직 반영되지 않은 증가분 (누적 + 반영 중)
+if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then
+    redis.call('HINCRBY', KEYS[2], ARGV[2], 1)
+end
+local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[2])) or 0
+local flushing = tonumber(redis.call('HGET', KEYS[3], ARGV[2])) or 0
+return pending + flushing
@@ -0,0 +1,38 @@
+-- 슬라이딩 윈도우 카운터 (단일 HASH 키: w=현재 윈도우 번호, c=현재 윈도우 횟수, p=직전 윈도우 횟수)
+-- KEYS[1]: rate limit 키
+-- ARGV[1]: limit, ARGV[2]: 윈도우 크기(ms)
+-- 반환: {허용 여부(1/0), 남은 횟수, 재시도까지 남은 시간(ms)}
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local current = math.floor(now / window)
+local elapsed = now - current * window
+
+local state = redis.call('HMGET', KEYS[1], 'w', 'c', 'p')
+local storedWindow = tonumber(state[1])
+local currentCount = 0
+local previousCount = 0
+if storedWindow == current then
+    currentCount = tonumber(state[2])
+    previousCount = tonumber(state[3])
+elseif storedWindow == current - 1 then
+    previousCount = tonumber(state[2])
+end
+
+local estimated = previousCount * (window - elapsed) / window + currentCount
+if estimated + 1 > limit then
+    local retryAfter
+    if currentCount + 1 > limit then
+        -- 다음 윈도우에서 직전 횟수(currentCount)의 가중치가 충분히 줄어들 때까지 대기
+        retryAfter = (window - elapsed) + window * (1 - (limit - 1) / currentCount)
+    else
+        retryAfter = window - (limit - currentCount - 1) * window / previousCount - elapsed
+    end
+    return {0, 0, math.max(1, math.ceil(retryAfter))}
+end
+
+redis.call('HSET', KEYS[1], 'w', current, 'c', currentCount + 1, 'p', previousCount)
+redis.call('PEXPIRE', KEYS[1], window * 2)
+return {1, math.floor(limit - estimated - 1), 0}
@@ -0,0 +1,29 @@
+-- 토큰 버킷 (단일 HASH 키: t=남은 토큰, ts=마지막 충전 시각(ms))
+-- KEYS[1]: rate limit 키
+-- ARGV[1]: 버킷 용량(limit), ARGV[2]: 용량만큼 충전되는 시간(ms)
+-- 반환: {허용 여부(1/0), 남은 토큰, 재시도까지 남은 시간(ms)}
+local capacity = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local rate = capacity / window
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 't', 'ts')
+local tokens = tonumber(state[1])
+local refilledAt = tonumber(state[2])
+if tokens == nil or refilledAt == nil then
+    tokens = capacity
+    refilledAt = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - refilledAt) * rate)
+if tokens < 1 then
+    return {0, 0, math.max(1, math.ceil((1 - tokens) / rate))}
+end
+
+tokens = tokens - 1
+redis.call('HSET', KEYS[1], 't', tokens, 'ts', now)
+-- 버킷이 가득 차는 시점 이후에는 키가 없어도 동일하게 동작
+redis.call('PEXPIRE', KEYS[1], window)
+return {1, math.floor(tokens), 0}
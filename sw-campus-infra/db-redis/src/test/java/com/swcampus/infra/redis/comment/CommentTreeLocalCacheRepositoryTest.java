@@ -0,0 +1,101 @@
+package com.swcampus.infra.redis.comment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.swcampus.domain.comment.Comment;
+import com.swcampus.domain.comment.CommentTree;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CommentTreeLocalCacheRepositoryTest {
+
+	private StringRedisTemplate stringRedisTemplate;
+	private CommentTreeLocalCacheRepository repository;
+	private AtomicInteger loadCount;
+
+	@BeforeEach
+	void setUp() {
+		stringRedisTemplate = mock(StringRedisTemplate.class);
+		repository = new CommentTreeLocalCacheRepository(stringRedisTemplate,
+				mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(), 100, 60);
+		loadCount = new AtomicInteger();
+	}
+
+	@Test
+	@DisplayName("변경은 캐시된 트리에 증분 반영하고 다른 노드에 무효화를 발행한다")
+	void update_appliesChangeToCachedTree() {
+		// given
+		repository.get(1L, this::load);
+
+		// when
+		repository.update(1L, tree -> tree.add(comment(2L, 1L)));
+
+		// then
+		assertThat(repository.get(1L, this::load).getRoots()).extracting(Comment::getId).containsExactly(1L, 2L);
+		assertThat(loadCount).hasValue(1);
+		verify(stringRedisTemplate).convertAndSend(eq(CommentTreeLocalCacheRepository.INVALIDATION_TOPIC), any(String.class));
+	}
+
+	@Test
+	@DisplayName("다른 노드의 무효화 메시지를 받으면 트리를 제거해 다시 구성한다")
+	void onMessage_fromOtherNode_invalidates() {
+		// given
+		repository.get(1L, this::load);
+
+		// when
+		repository.onMessage(message("other-node:1"), null);
+		repository.get(1L, this::load);
+
+		// then
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("자기 노드가 발행한 무효화 메시지는 무시한다")
+	void onMessage_fromSelf_ignored() {
+		// given
+		repository.get(1L, this::load);
+		repository.update(1L, tree -> tree.add(comment(2L, 1L)));
+		ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+		verify(stringRedisTemplate).convertAndSend(eq(CommentTreeLocalCacheRepository.INVALIDATION_TOPIC), published.capture());
+
+		// when
+		repository.onMessage(message(published.getValue()), null);
+		repository.get(1L, this::load);
+
+		// then
+		assertThat(loadCount).hasValue(1);
+	}
+
+	private CommentTree load(Long postId) {
+		loadCount.incrementAndGet();
+		return CommentTree.of(List.of(comment(1L, postId)));
+	}
+
+	private Comment comment(Long id, Long postId) {
+		return Comment.of(id, postId, 1L, null, "댓글", null, 0L, false, LocalDateTime.now(), LocalDateTime.now());
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(
+				CommentTreeLocalCacheRepository.INVALIDATION_TOPIC.getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+}
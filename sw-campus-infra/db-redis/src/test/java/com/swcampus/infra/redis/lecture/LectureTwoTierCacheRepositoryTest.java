@@ -0,0 +1,112 @@
+package com.swcampus.infra.redis.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.swcampus.domain.lecture.Lecture;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LectureTwoTierCacheRepositoryTest {
+
+	private LectureRedisEntityRepository redisRepository;
+	private StringRedisTemplate stringRedisTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private LectureTwoTierCacheRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		redisRepository = mock(LectureRedisEntityRepository.class);
+		stringRedisTemplate = mock(StringRedisTemplate.class);
+		meterRegistry = new SimpleMeterRegistry();
+		repository = new LectureTwoTierCacheRepository(redisRepository, stringRedisTemplate,
+				mock(RedisMessageListenerContainer.class), meterRegistry, 100, 60);
+	}
+
+	@Test
+	@DisplayName("L2 히트 시 L1을 채워 다음 조회는 Redis를 거치지 않는다")
+	void getLecture_fillsLocalCacheOnRedisHit() {
+		// given
+		Lecture lecture = Lecture.builder().lectureId(1L).lectureName("강의").build();
+		given(redisRepository.getLecture(1L)).willReturn(Optional.of(lecture));
+
+		// when
+		repository.getLecture(1L);
+		Optional<Lecture> second = repository.getLecture(1L);
+
+		// then
+		assertThat(second).containsSame(lecture);
+		verify(redisRepository, times(1)).getLecture(1L);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "lecture.redis").tag("result", "hit")
+				.counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("삭제 시 L2를 지우고 무효화 메시지를 발행한다")
+	void deleteLecture_publishesInvalidation() {
+		// given
+		Lecture lecture = Lecture.builder().lectureId(1L).build();
+		repository.saveLecture(lecture);
+		given(redisRepository.getLecture(1L)).willReturn(Optional.empty());
+
+		// when
+		repository.deleteLecture(1L);
+
+		// then
+		verify(redisRepository).deleteLecture(1L);
+		verify(stringRedisTemplate).convertAndSend(eq(LectureTwoTierCacheRepository.INVALIDATION_TOPIC), any(String.class));
+		assertThat(repository.getLecture(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다른 노드의 무효화 메시지를 받으면 L1에서 제거한다")
+	void onMessage_invalidatesLocalCache() {
+		// given
+		Lecture lecture = Lecture.builder().lectureId(1L).build();
+		repository.saveLecture(lecture);
+		given(redisRepository.getLecture(1L)).willReturn(Optional.empty());
+
+		// when
+		repository.onMessage(new DefaultMessage(
+				LectureTwoTierCacheRepository.INVALIDATION_TOPIC.getBytes(StandardCharsets.UTF_8),
+				"1".getBytes(StandardCharsets.UTF_8)), null);
+
+		// then
+		assertThat(repository.getLecture(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다건 조회 시 L1 미스분만 Redis에서 조회한다")
+	void getLectures_queriesRedisOnlyForLocalMisses() {
+		// given
+		Lecture cached = Lecture.builder().lectureId(1L).build();
+		Lecture remote = Lecture.builder().lectureId(2L).build();
+		repository.saveLecture(cached);
+		given(redisRepository.getLectures(anyList())).willReturn(Map.of(2L, remote));
+
+		// when
+		Map<Long, Lecture> result = repository.getLectures(List.of(1L, 2L, 3L));
+
+		// then
+		assertThat(result).containsOnlyKeys(1L, 2L);
+		verify(redisRepository).getLectures(List.of(2L, 3L));
+	}
+}
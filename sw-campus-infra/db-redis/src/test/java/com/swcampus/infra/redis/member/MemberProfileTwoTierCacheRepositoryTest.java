@@ -0,0 +1,87 @@
+package com.swcampus.infra.redis.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.swcampus.domain.member.ProfileSnapshot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MemberProfileTwoTierCacheRepositoryTest {
+
+	private MemberProfileRedisEntityRepository redisRepository;
+	private StringRedisTemplate stringRedisTemplate;
+	private MemberProfileTwoTierCacheRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		redisRepository = mock(MemberProfileRedisEntityRepository.class);
+		stringRedisTemplate = mock(StringRedisTemplate.class);
+		repository = new MemberProfileTwoTierCacheRepository(redisRepository, stringRedisTemplate,
+				mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(), 100, 60);
+	}
+
+	@Test
+	@DisplayName("다건 조회 시 L1 미스분만 Redis에서 조회하고 L1을 채운다")
+	void getProfiles_queriesRedisOnlyForLocalMisses() {
+		// given
+		repository.saveProfiles(List.of(new ProfileSnapshot(1L, "사용자1")));
+		given(redisRepository.getProfiles(anyList())).willReturn(Map.of(2L, new ProfileSnapshot(2L, "사용자2")));
+
+		// when
+		Map<Long, ProfileSnapshot> result = repository.getProfiles(List.of(1L, 2L, 3L));
+		repository.getProfiles(List.of(1L, 2L));
+
+		// then
+		assertThat(result).containsOnlyKeys(1L, 2L);
+		verify(redisRepository).getProfiles(List.of(2L, 3L));
+		verify(redisRepository, never()).getProfiles(List.of(2L));
+	}
+
+	@Test
+	@DisplayName("삭제 시 L2를 지우고 무효화 메시지를 발행한다")
+	void deleteProfile_publishesInvalidation() {
+		// given
+		repository.saveProfiles(List.of(new ProfileSnapshot(1L, "사용자1")));
+
+		// when
+		repository.deleteProfile(1L);
+
+		// then
+		verify(redisRepository).deleteProfile(1L);
+		verify(stringRedisTemplate).convertAndSend(eq(MemberProfileTwoTierCacheRepository.INVALIDATION_TOPIC), any(String.class));
+		assertThat(repository.getProfiles(List.of(1L))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다른 노드의 무효화 메시지를 받으면 L1에서 제거한다")
+	void onMessage_invalidatesLocalCache() {
+		// given
+		repository.saveProfiles(List.of(new ProfileSnapshot(1L, "사용자1")));
+
+		// when
+		repository.onMessage(new DefaultMessage(
+				MemberProfileTwoTierCacheRepository.INVALIDATION_TOPIC.getBytes(StandardCharsets.UTF_8),
+				"1".getBytes(StandardCharsets.UTF_8)), null);
+
+		// then
+		assertThat(repository.getProfiles(List.of(1L))).isEmpty();
+	}
+}
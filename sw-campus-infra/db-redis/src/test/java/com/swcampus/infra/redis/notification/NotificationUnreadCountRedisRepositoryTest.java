@@ -0,0 +1,91 @@
+package com.swcampus.infra.redis.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import redis.embedded.RedisServer;
+
+/**
+ * 읽지 않은 알림 수 캐시 테스트 (임베디드 Redis)
+ * - 매 테스트 전에 SCRIPT FLUSH로 스크립트 캐시를 비워, 새로 뜨거나 재시작한 Redis와 같은 상태에서 실행한다
+ */
+class NotificationUnreadCountRedisRepositoryTest {
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate stringRedisTemplate;
+
+	private NotificationUnreadCountRedisRepository repository;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory("localhost", port);
+		connectionFactory.afterPropertiesSet();
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+			connection.serverCommands().flushAll();
+			connection.scriptingCommands().scriptFlush();
+			return null;
+		});
+		repository = new NotificationUnreadCountRedisRepository(stringRedisTemplate);
+	}
+
+	@Test
+	@DisplayName("스크립트 캐시가 빈 Redis에서도 일괄 증가가 반영된다")
+	void increment_withoutCachedScript_applies() {
+		// given
+		repository.set(1L, 5);
+		repository.set(2L, 1);
+
+		// when
+		repository.increment(Map.of(1L, 2L, 2L, -3L, 3L, 1L));
+
+		// then
+		assertThat(repository.get(1L)).isEqualTo(7L);
+		assertThat(repository.get(2L)).isZero();
+		assertThat(repository.get(3L)).isNull();
+	}
+
+	@Test
+	@DisplayName("스크립트 캐시가 빈 Redis에서도 감소가 반영된다")
+	void decrement_withoutCachedScript_applies() {
+		// given
+		repository.set(1L, 1);
+
+		// when
+		repository.decrement(1L);
+		repository.decrement(1L);
+
+		// then
+		assertThat(repository.get(1L)).isZero();
+	}
+}
@@ -0,0 +1,186 @@
+package com.swcampus.infra.redis.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import com.swcampus.domain.category.Category;
+import com.swcampus.domain.category.Curriculum;
+import com.swcampus.domain.lecture.CurriculumLevel;
+import com.swcampus.domain.lecture.Lecture;
+import com.swcampus.domain.lecture.LectureAuthStatus;
+import com.swcampus.domain.lecture.LectureCurriculum;
+import com.swcampus.domain.lecture.LectureDay;
+import com.swcampus.domain.lecture.LectureLocation;
+import com.swcampus.domain.lecture.LectureQual;
+import com.swcampus.domain.lecture.LectureQualType;
+import com.swcampus.domain.lecture.LectureStatus;
+import com.swcampus.domain.lecture.LectureStep;
+import com.swcampus.domain.lecture.RecruitType;
+import com.swcampus.domain.lecture.SelectionStepType;
+import com.swcampus.domain.teacher.Teacher;
+
+/**
+ * 강의 캐시 바이너리 직렬화/역직렬화 테스트
+ */
+class LectureBinaryRedisSerializerTest {
+
+	private GenericJackson2JsonRedisSerializer jsonSerializer;
+	private LectureBinaryRedisSerializer serializer;
+
+	@BeforeEach
+	void setUp() {
+		// RedisConfig와 동일한 JSON 설정 (레거시 포맷 호환 확인용)
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JavaTimeModule());
+		objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		objectMapper.activateDefaultTyping(
+				BasicPolymorphicTypeValidator.builder()
+						.allowIfBaseType(Object.class)
+						.build(),
+				ObjectMapper.DefaultTyping.NON_FINAL);
+		jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+		serializer = new LectureBinaryRedisSerializer(0, jsonSerializer);
+	}
+
+	@Test
+	@DisplayName("Lecture 객체와 중첩 객체를 바이너리로 직렬화/역직렬화한다")
+	void roundTrip() {
+		// given
+		Lecture lecture = createFullLecture();
+
+		// when
+		Lecture deserialized = serializer.deserialize(serializer.serialize(lecture));
+
+		// then
+		assertThat(deserialized).usingRecursiveComparison().isEqualTo(lecture);
+	}
+
+	@Test
+	@DisplayName("바이너리 포맷은 JSON 포맷보다 작다")
+	void smallerThanJson() {
+		// given
+		Lecture lecture = createFullLecture();
+
+		// when & then
+		assertThat(serializer.serialize(lecture).length)
+				.isLessThan(jsonSerializer.serialize(lecture).length);
+	}
+
+	@Test
+	@DisplayName("임계값 이상이면 압축하여 저장하고 그대로 복원한다")
+	void compressAboveThreshold() {
+		// given
+		LectureBinaryRedisSerializer compressing = new LectureBinaryRedisSerializer(1, jsonSerializer);
+		Lecture lecture = createFullLecture().toBuilder()
+				.goal("반복되는 훈련 목표 ".repeat(100))
+				.build();
+
+		// when
+		byte[] bytes = compressing.serialize(lecture);
+
+		// then
+		assertThat(bytes.length).isLessThan(serializer.serialize(lecture).length);
+		assertThat(compressing.deserialize(bytes).getGoal()).isEqualTo(lecture.getGoal());
+	}
+
+	@Test
+	@DisplayName("기존 JSON 포맷으로 저장된 값도 읽을 수 있다")
+	void readLegacyJson() {
+		// given
+		Lecture lecture = createFullLecture();
+		byte[] json = jsonSerializer.serialize(lecture);
+
+		// when
+		Lecture deserialized = serializer.deserialize(json);
+
+		// then
+		assertThat(deserialized.getLectureName()).isEqualTo(lecture.getLectureName());
+	}
+
+	@Test
+	@DisplayName("현재보다 높은 스키마 버전의 값은 캐시 미스로 처리한다")
+	void newerSchemaVersionIsMiss() {
+		// given
+		byte[] bytes = serializer.serialize(createFullLecture());
+		bytes[1] = (byte) (bytes[1] + 1);
+
+		// when & then
+		assertThat(serializer.deserialize(bytes)).isNull();
+	}
+
+	private Lecture createFullLecture() {
+		Category category = Category.builder()
+				.categoryId(1L)
+				.pid(0L)
+				.categoryName("백엔드")
+				.sort(1)
+				.build();
+
+		Curriculum curriculum = Curriculum.builder()
+				.curriculumId(1L)
+				.categoryId(1L)
+				.curriculumName("Spring Boot")
+				.category(category)
+				.build();
+
+		return Lecture.builder()
+				.lectureId(19L)
+				.orgId(1L)
+				.orgName("테스트 기관")
+				.lectureName("Spring Boot 마스터")
+				.days(Set.of(LectureDay.MONDAY, LectureDay.WEDNESDAY, LectureDay.FRIDAY))
+				.startTime(LocalTime.of(9, 0))
+				.endTime(LocalTime.of(18, 0))
+				.lectureLoc(LectureLocation.OFFLINE)
+				.location("서울시 강남구")
+				.recruitType(RecruitType.CARD_REQUIRED)
+				.subsidy(BigDecimal.valueOf(1000000))
+				.lectureFee(new BigDecimal("5000000.50"))
+				.status(LectureStatus.RECRUITING)
+				.lectureAuthStatus(LectureAuthStatus.APPROVED)
+				.averageScore(4.5)
+				.reviewCount(12L)
+				.books(true)
+				.startAt(LocalDateTime.of(2025, 3, 1, 0, 0))
+				.endAt(LocalDateTime.of(2025, 6, 30, 0, 0))
+				.deadline(LocalDateTime.of(2025, 2, 28, 23, 59, 59, 123_000_000))
+				.steps(List.of(LectureStep.builder()
+						.stepId(1L)
+						.lectureId(19L)
+						.stepType(SelectionStepType.DOCUMENT)
+						.stepOrder(1)
+						.build()))
+				.quals(List.of(LectureQual.builder()
+						.qualId(1L)
+						.lectureId(19L)
+						.type(LectureQualType.REQUIRED)
+						.text("프로그래밍 기초 지식")
+						.build()))
+				.teachers(List.of(Teacher.builder()
+						.teacherId(1L)
+						.teacherName("홍길동")
+						.teacherDescription("10년차 개발자")
+						.build()))
+				.lectureCurriculums(List.of(LectureCurriculum.builder()
+						.lectureId(19L)
+						.curriculumId(1L)
+						.level(CurriculumLevel.BASIC)
+						.curriculum(curriculum)
+						.build()))
+				.build();
+	}
+}